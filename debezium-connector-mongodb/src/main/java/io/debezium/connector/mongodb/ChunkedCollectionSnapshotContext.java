@@ -0,0 +1,205 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mongodb;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.bson.BsonArray;
+import org.bson.BsonBoolean;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonType;
+import org.bson.BsonValue;
+import org.bson.conversions.Bson;
+import org.bson.json.JsonMode;
+import org.bson.json.JsonWriterSettings;
+
+import com.mongodb.client.model.Filters;
+
+import io.debezium.annotation.ThreadSafe;
+
+/**
+ * Keeps track of the {@code _id} ranges, called chunks, into which the collections of a replica set are split by the
+ * initial snapshot, and of the chunks and collections whose documents have already been exported, so that a snapshot
+ * which got interrupted can be resumed instead of starting all collections over.
+ * <p>
+ * A collection with the boundaries {@code b1 < ... < bn} is split into the chunks {@code _id < b1},
+ * {@code b1 <= _id < b2}, ..., {@code _id >= bn}, followed by a chunk with the documents whose {@code _id} is of a
+ * different type than the boundaries, as range queries only match values of the same type. A collection without
+ * boundaries consists of a single chunk. Only the boundaries of the collections being exported are kept, completed
+ * collections are just recorded by name.
+ */
+@ThreadSafe
+public class ChunkedCollectionSnapshotContext {
+
+    public static final String SNAPSHOT_CHUNKS_KEY = "snapshot_chunks";
+
+    private static final String BOUNDARIES = "boundaries";
+    private static final String COMPLETED = "completed";
+    private static final String DONE = "done";
+    private static final String ID = "_id";
+    private static final JsonWriterSettings JSON_SETTINGS = JsonWriterSettings.builder().outputMode(JsonMode.EXTENDED).build();
+
+    private final Map<String, List<BsonValue>> boundariesByCollection = new HashMap<>();
+    private final Map<String, Set<Integer>> completedChunksByCollection = new HashMap<>();
+    private final Set<String> completedCollections = new HashSet<>();
+
+    /**
+     * The serialized state, as offsets are stored for every snapshot record; {@code null} when it has changed since.
+     */
+    private String json;
+
+    /**
+     * Returns the chunk boundaries of the given collection.
+     *
+     * @return the boundaries in ascending order, or {@code null} if the collection has not been split yet
+     */
+    public synchronized List<BsonValue> boundaries(CollectionId collectionId) {
+        return boundariesByCollection.get(collectionId.namespace());
+    }
+
+    /**
+     * Records the chunk boundaries of the given collection, which must all be of the same type.
+     */
+    public synchronized void collectionSplit(CollectionId collectionId, List<BsonValue> boundaries) {
+        boundariesByCollection.put(collectionId.namespace(), Collections.unmodifiableList(new ArrayList<>(boundaries)));
+        json = null;
+    }
+
+    /**
+     * Records that all documents of the given chunk of the given collection have been exported.
+     */
+    public synchronized void chunkCompleted(CollectionId collectionId, int chunk) {
+        completedChunksByCollection.computeIfAbsent(collectionId.namespace(), k -> new TreeSet<>()).add(chunk);
+        json = null;
+    }
+
+    public synchronized boolean isChunkCompleted(CollectionId collectionId, int chunk) {
+        final Set<Integer> completed = completedChunksByCollection.get(collectionId.namespace());
+        return completed != null && completed.contains(chunk);
+    }
+
+    /**
+     * Records that all documents of the given collection have been exported, discarding its chunks.
+     */
+    public synchronized void collectionCompleted(CollectionId collectionId) {
+        final String namespace = collectionId.namespace();
+        boundariesByCollection.remove(namespace);
+        completedChunksByCollection.remove(namespace);
+        completedCollections.add(namespace);
+        json = null;
+    }
+
+    public synchronized boolean isCollectionCompleted(CollectionId collectionId) {
+        return completedCollections.contains(collectionId.namespace());
+    }
+
+    /**
+     * Returns the number of chunks of a collection split at the given boundaries.
+     */
+    public static int chunkCount(List<BsonValue> boundaries) {
+        return boundaries.isEmpty() ? 1 : boundaries.size() + 2;
+    }
+
+    /**
+     * Returns the query filter selecting the documents of the given chunk of a collection split at the given boundaries.
+     */
+    public static Bson chunkFilter(List<BsonValue> boundaries, int chunk) {
+        final int n = boundaries.size();
+        if (n == 0) {
+            return new BsonDocument();
+        }
+        if (chunk == 0) {
+            return Filters.lt(ID, boundaries.get(0));
+        }
+        if (chunk < n) {
+            return Filters.and(Filters.gte(ID, boundaries.get(chunk - 1)), Filters.lt(ID, boundaries.get(chunk)));
+        }
+        if (chunk == n) {
+            return Filters.gte(ID, boundaries.get(n - 1));
+        }
+        return Filters.not(typeFilter(boundaries.get(0)));
+    }
+
+    /**
+     * Returns whether the given values are compared with each other by range queries; all numeric types are.
+     */
+    public static boolean isSameTypeBracket(BsonValue value1, BsonValue value2) {
+        return isNumber(value1) ? isNumber(value2) : value1.getBsonType() == value2.getBsonType();
+    }
+
+    private static Bson typeFilter(BsonValue value) {
+        return isNumber(value) ? Filters.type(ID, "number") : Filters.type(ID, value.getBsonType());
+    }
+
+    private static boolean isNumber(BsonValue value) {
+        return value.isNumber() || value.getBsonType() == BsonType.DECIMAL128;
+    }
+
+    public synchronized Map<String, Object> store(Map<String, Object> offset) {
+        if (boundariesByCollection.isEmpty() && completedChunksByCollection.isEmpty() && completedCollections.isEmpty()) {
+            return offset;
+        }
+        if (json == null) {
+            final BsonDocument document = new BsonDocument();
+            completedCollections.forEach(collection -> document.put(collection, new BsonDocument(DONE, BsonBoolean.TRUE)));
+            boundariesByCollection.forEach((collection, boundaries) -> collectionDocument(document, collection).put(BOUNDARIES, new BsonArray(boundaries)));
+            completedChunksByCollection.forEach((collection, chunks) -> {
+                final BsonArray completed = new BsonArray();
+                chunks.forEach(chunk -> completed.add(new BsonInt32(chunk)));
+                collectionDocument(document, collection).put(COMPLETED, completed);
+            });
+            json = document.toJson(JSON_SETTINGS);
+        }
+        offset.put(SNAPSHOT_CHUNKS_KEY, json);
+        return offset;
+    }
+
+    public static ChunkedCollectionSnapshotContext load(Map<String, ?> offset) {
+        final ChunkedCollectionSnapshotContext context = new ChunkedCollectionSnapshotContext();
+        final Object chunks = offset.get(SNAPSHOT_CHUNKS_KEY);
+        if (chunks == null) {
+            return context;
+        }
+        final BsonDocument document = BsonDocument.parse((String) chunks);
+        document.forEach((collection, value) -> {
+            final BsonDocument collectionDocument = value.asDocument();
+            if (collectionDocument.getBoolean(DONE, BsonBoolean.FALSE).getValue()) {
+                context.completedCollections.add(collection);
+                return;
+            }
+            if (collectionDocument.containsKey(BOUNDARIES)) {
+                context.boundariesByCollection.put(collection, Collections.unmodifiableList(new ArrayList<>(collectionDocument.getArray(BOUNDARIES))));
+            }
+            if (collectionDocument.containsKey(COMPLETED)) {
+                final Set<Integer> completed = new TreeSet<>();
+                collectionDocument.getArray(COMPLETED).forEach(chunk -> completed.add(chunk.asInt32().getValue()));
+                context.completedChunksByCollection.put(collection, completed);
+            }
+        });
+        return context;
+    }
+
+    private static BsonDocument collectionDocument(BsonDocument document, String collection) {
+        if (!document.containsKey(collection)) {
+            document.put(collection, new BsonDocument());
+        }
+        return document.getDocument(collection);
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "ChunkedCollectionSnapshotContext [boundaries=" + boundariesByCollection + ", completedChunks=" + completedChunksByCollection
+                + ", completedCollections=" + completedCollections + "]";
+    }
+}
@@ -30,6 +30,7 @@
 import com.mongodb.connection.ClusterType;
 
 import io.debezium.config.Configuration;
+import io.debezium.connector.mongodb.MongoDbConnectorConfig.ConnectionMode;
 import io.debezium.function.BlockingConsumer;
 import io.debezium.util.Clock;
 import io.debezium.util.DelayStrategy;
@@ -53,6 +54,7 @@ public class ConnectionContext implements AutoCloseable {
     protected final MongoClients pool;
     protected final DelayStrategy primaryBackoffStrategy;
     protected final boolean useHostsAsSeeds;
+    protected final ConnectionMode connectionMode;
 
     /**
      * @param config the configuration
@@ -61,6 +63,8 @@ public ConnectionContext(Configuration config) {
         this.config = config;
 
         this.useHostsAsSeeds = config.getBoolean(MongoDbConnectorConfig.AUTO_DISCOVER_MEMBERS);
+        this.connectionMode = ConnectionMode.parse(config.getString(MongoDbConnectorConfig.CONNECTION_MODE),
+                MongoDbConnectorConfig.CONNECTION_MODE.defaultValueAsString());
         final String username = config.getString(MongoDbConnectorConfig.USER);
         final String password = config.getString(MongoDbConnectorConfig.PASSWORD);
         final String adminDbName = config.getString(MongoDbConnectorConfig.AUTH_SOURCE);
@@ -473,6 +477,10 @@ protected MongoClient clientForPrimary(ReplicaSet replicaSet) {
             throw new ConnectException("The MongoDB server(s) at '" + replicaSet +
                     "' is not a valid replica set and cannot be used");
         }
+        if (clusterDescription.getType() == ClusterType.SHARDED && connectionMode == ConnectionMode.SHARDED) {
+            // The routers forward the operations to the primaries of the shards ...
+            return replicaSetClient;
+        }
         // It is a replica set ...
         ServerAddress primaryAddress = MongoUtil.getPrimaryAddress(replicaSetClient);
         if (primaryAddress != null) {
@@ -19,6 +19,8 @@
 import org.apache.kafka.common.config.ConfigException;
 import org.bson.BsonDocument;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
 
 import io.debezium.annotation.ThreadSafe;
 import io.debezium.util.Strings;
@@ -205,8 +207,9 @@ public String apply(String field) {
 
                     @Override
                     public BsonDocument apply(BsonDocument doc) {
-                        path.modify((Map) doc, null, null);
-                        return doc;
+                        final BsonDocument modifiable = toModifiable(doc);
+                        path.modify((Map) modifiable, null, null);
+                        return modifiable;
                     }
 
                     @Override
@@ -239,8 +242,9 @@ public String apply(String field) {
 
                     @Override
                     public BsonDocument apply(BsonDocument doc) {
-                        pathsApplyingToCollection.forEach(path -> path.modify((Map) doc, null, null));
-                        return doc;
+                        final BsonDocument modifiable = toModifiable(doc);
+                        pathsApplyingToCollection.forEach(path -> path.modify((Map) modifiable, null, null));
+                        return modifiable;
                     }
 
                     @Override
@@ -283,6 +287,13 @@ public BsonDocument applyChange(BsonDocument doc) {
         };
     }
 
+    /**
+     * Returns a modifiable copy of the given document if it is backed by raw BSON, as read from change streams.
+     */
+    private static BsonDocument toModifiable(BsonDocument doc) {
+        return doc instanceof RawBsonDocument ? ((RawBsonDocument) doc).decode(new BsonDocumentCodec()) : doc;
+    }
+
     private static final class FieldNameAndValue {
 
         private final String key;
@@ -5,13 +5,30 @@
  */
 package io.debezium.connector.mongodb;
 
+import static com.mongodb.client.model.Filters.not;
+import static com.mongodb.client.model.Filters.or;
+import static com.mongodb.client.model.Filters.regex;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.bson.Document;
+import org.bson.conversions.Bson;
+
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Field;
+import com.mongodb.client.model.Projections;
 
 import io.debezium.config.Configuration;
 import io.debezium.connector.mongodb.FieldSelector.FieldFilter;
 import io.debezium.function.Predicates;
 import io.debezium.util.Collect;
+import io.debezium.util.Strings;
 
 /**
  * A utility that is contains various filters for acceptable database names, {@link CollectionId}s, and fields.
@@ -22,9 +39,15 @@ public final class Filters {
 
     protected static final Set<String> BUILT_IN_DB_NAMES = Collect.unmodifiableSet("local", "admin", "config");
 
+    /**
+     * The field holding the namespace of a change stream event while it is matched against the collection filters.
+     */
+    private static final String NAMESPACE_FIELD = "__dbz_namespace";
+
     private final Predicate<String> databaseFilter;
     private final Predicate<CollectionId> collectionFilter;
     private final FieldSelector fieldSelector;
+    private final List<Bson> changeStreamStages;
 
     /**
      * Create an instance of the filters.
@@ -34,11 +57,14 @@ public final class Filters {
     public Filters(Configuration config) {
         String dbIncludeList = config.getString(MongoDbConnectorConfig.DATABASE_INCLUDE_LIST);
         String dbExcludeList = config.getString(MongoDbConnectorConfig.DATABASE_EXCLUDE_LIST);
+        Bson databaseMatch = null;
         if (dbIncludeList != null && !dbIncludeList.trim().isEmpty()) {
             databaseFilter = Predicates.includes(dbIncludeList);
+            databaseMatch = regex("ns.db", toServerRegex(dbIncludeList), "i");
         }
         else if (dbExcludeList != null && !dbExcludeList.trim().isEmpty()) {
             databaseFilter = Predicates.excludes(dbExcludeList);
+            databaseMatch = not(regex("ns.db", toServerRegex(dbExcludeList), "i"));
         }
         else {
             databaseFilter = (db) -> true;
@@ -47,11 +73,14 @@ else if (dbExcludeList != null && !dbExcludeList.trim().isEmpty()) {
         String collectionIncludeList = config.getString(MongoDbConnectorConfig.COLLECTION_INCLUDE_LIST);
         String collectionExcludeList = config.getString(MongoDbConnectorConfig.COLLECTION_EXCLUDE_LIST);
         final Predicate<CollectionId> collectionFilter;
+        Bson collectionMatch = null;
         if (collectionIncludeList != null && !collectionIncludeList.trim().isEmpty()) {
             collectionFilter = Predicates.includes(collectionIncludeList, CollectionId::namespace);
+            collectionMatch = regex(NAMESPACE_FIELD, toServerRegex(collectionIncludeList), "i");
         }
         else if (collectionExcludeList != null && !collectionExcludeList.trim().isEmpty()) {
             collectionFilter = Predicates.excludes(collectionExcludeList, CollectionId::namespace);
+            collectionMatch = not(regex(NAMESPACE_FIELD, toServerRegex(collectionExcludeList), "i"));
         }
         else {
             collectionFilter = (id) -> true;
@@ -64,9 +93,14 @@ else if (collectionExcludeList != null && !collectionExcludeList.trim().isEmpty(
             if (!finalCollectionFilter.test(signalDataCollectionId)) {
                 final Predicate<CollectionId> signalDataCollectionPredicate = Predicates.includes(signalDataCollectionId.namespace(), CollectionId::namespace);
                 finalCollectionFilter = finalCollectionFilter.or(signalDataCollectionPredicate);
+                if (collectionMatch != null) {
+                    collectionMatch = or(collectionMatch,
+                            regex(NAMESPACE_FIELD, toServerRegex(signalDataCollectionId.namespace()), "i"));
+                }
             }
         }
         this.collectionFilter = finalCollectionFilter;
+        this.changeStreamStages = createChangeStreamStages(databaseMatch, collectionMatch);
 
         // Define the field selector that provides the field filter to exclude or rename fields in a document ...
         fieldSelector = FieldSelector.builder()
@@ -103,7 +137,43 @@ public FieldFilter fieldFilterFor(CollectionId id) {
         return fieldSelector.fieldFilterFor(id);
     }
 
+    /**
+     * Get the change stream aggregation stages that discard the events of databases and collections that are not
+     * included on the server, so that they are not sent to the connector. The stages are an optimization only; the
+     * {@link #databaseFilter()} and {@link #collectionFilter()} must still be applied to the events received.
+     *
+     * @return the aggregation stages; never null but possibly empty if all databases and collections are included
+     */
+    public List<Bson> changeStreamStages() {
+        return changeStreamStages;
+    }
+
     protected boolean isNotBuiltIn(CollectionId id) {
         return !BUILT_IN_DB_NAMES.contains(id.dbName());
     }
+
+    private static List<Bson> createChangeStreamStages(Bson databaseMatch, Bson collectionMatch) {
+        final List<Bson> stages = new ArrayList<>();
+        if (databaseMatch != null) {
+            stages.add(Aggregates.match(databaseMatch));
+        }
+        if (collectionMatch != null) {
+            // collection filters match the full namespace, which the server has to compose from the database and collection names
+            stages.add(Aggregates.addFields(new Field<>(NAMESPACE_FIELD,
+                    new Document("$concat", List.of("$ns.db", ".", "$ns.coll")))));
+            stages.add(Aggregates.match(collectionMatch));
+            stages.add(Aggregates.project(Projections.exclude(NAMESPACE_FIELD)));
+        }
+        return Collections.unmodifiableList(stages);
+    }
+
+    /**
+     * Converts a comma-separated list of regular expressions into a single expression that matches the whole value,
+     * the same way as the client-side {@link Predicates#includes(String)} does.
+     */
+    private static String toServerRegex(String regexList) {
+        return Strings.listOfRegex(regexList, Pattern.CASE_INSENSITIVE).stream()
+                .map(pattern -> "(?:" + pattern.pattern() + ")")
+                .collect(Collectors.joining("|", "^(?:", ")$"));
+    }
 }
@@ -10,7 +10,7 @@
 import java.util.Map;
 
 import org.apache.kafka.connect.data.Struct;
-import org.bson.BsonDocument;
+import org.bson.RawBsonDocument;
 
 import com.mongodb.client.model.changestream.ChangeStreamDocument;
 import com.mongodb.client.model.changestream.OperationType;
@@ -29,7 +29,7 @@
  */
 public class MongoDbChangeRecordEmitter extends AbstractChangeRecordEmitter<MongoDbPartition, MongoDbCollectionSchema> {
 
-    private final ChangeStreamDocument<BsonDocument> changeStreamEvent;
+    private final ChangeStreamDocument<RawBsonDocument> changeStreamEvent;
 
     @Immutable
     private static final Map<OperationType, Operation> OPERATION_LITERALS;
@@ -46,7 +46,7 @@ public class MongoDbChangeRecordEmitter extends AbstractChangeRecordEmitter<Mong
     }
 
     public MongoDbChangeRecordEmitter(MongoDbPartition partition, OffsetContext offsetContext, Clock clock,
-                                      ChangeStreamDocument<BsonDocument> changeStreamEvent) {
+                                      ChangeStreamDocument<RawBsonDocument> changeStreamEvent) {
         super(partition, offsetContext, clock);
         this.changeStreamEvent = changeStreamEvent;
     }
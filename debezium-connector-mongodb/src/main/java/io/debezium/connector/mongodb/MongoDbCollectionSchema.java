@@ -13,6 +13,7 @@
 import org.apache.kafka.connect.data.Schema;
 import org.apache.kafka.connect.data.Struct;
 import org.bson.BsonDocument;
+import org.bson.RawBsonDocument;
 
 import com.mongodb.client.model.changestream.ChangeStreamDocument;
 import com.mongodb.client.model.changestream.TruncatedArray;
@@ -103,7 +104,7 @@ public Struct valueFromDocumentOplog(BsonDocument document, BsonDocument filter,
         return value;
     }
 
-    public Struct valueFromDocumentChangeStream(ChangeStreamDocument<BsonDocument> document, Envelope.Operation operation) {
+    public Struct valueFromDocumentChangeStream(ChangeStreamDocument<RawBsonDocument> document, Envelope.Operation operation) {
         Struct value = new Struct(valueSchema);
         switch (operation) {
             case CREATE:
@@ -168,12 +169,12 @@ public Struct valueFromDocumentChangeStream(ChangeStreamDocument<BsonDocument> d
         return value;
     }
 
-    private void extractFullDocument(ChangeStreamDocument<BsonDocument> document, Struct value) {
+    private void extractFullDocument(ChangeStreamDocument<RawBsonDocument> document, Struct value) {
         final String fullDocStr = valueGenerator.apply(fieldFilter.apply(document.getFullDocument()));
         value.put(FieldName.AFTER, fullDocStr);
     }
 
-    private void extractFullDocumentBeforeChange(ChangeStreamDocument<BsonDocument> document, Struct value) {
+    private void extractFullDocumentBeforeChange(ChangeStreamDocument<RawBsonDocument> document, Struct value) {
         final String fullDocBeforeChangeStr = valueGenerator.apply(fieldFilter.apply(document.getFullDocumentBeforeChange()));
         value.put(FieldName.BEFORE, fullDocBeforeChangeStr);
     }
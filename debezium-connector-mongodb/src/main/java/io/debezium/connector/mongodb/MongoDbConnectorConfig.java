@@ -32,6 +32,7 @@
 import io.debezium.connector.AbstractSourceInfo;
 import io.debezium.connector.SourceInfoStructMaker;
 import io.debezium.data.Envelope;
+import io.debezium.heartbeat.Heartbeat;
 import io.debezium.schema.DefaultTopicNamingStrategy;
 import io.debezium.spi.schema.DataCollectionId;
 
@@ -212,7 +213,73 @@ public boolean isIncludePreImage() {
         }
     }
 
+    /**
+     * The set of predefined ConnectionMode options or aliases.
+     */
+    public static enum ConnectionMode implements EnumeratedValue {
+
+        /**
+         * Connect to the replica set, or to each replica set of a sharded cluster, and capture their changes separately.
+         */
+        REPLICA_SET("replica_set"),
+
+        /**
+         * Connect to the routers (mongos) of a sharded cluster and capture the changes of all shards by a single change stream.
+         */
+        SHARDED("sharded");
+
+        private final String value;
+
+        private ConnectionMode(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public String getValue() {
+            return value;
+        }
+
+        /**
+         * Determine if the supplied value is one of the predefined options.
+         *
+         * @param value the configuration property value; may not be null
+         * @return the matching option, or null if no match is found
+         */
+        public static ConnectionMode parse(String value) {
+            if (value == null) {
+                return null;
+            }
+            value = value.trim();
+
+            for (ConnectionMode option : ConnectionMode.values()) {
+                if (option.getValue().equalsIgnoreCase(value)) {
+                    return option;
+                }
+            }
+
+            return null;
+        }
+
+        /**
+         * Determine if the supplied value is one of the predefined options.
+         *
+         * @param value the configuration property value; may not be null
+         * @param defaultValue the default value; may be null
+         * @return the matching option, or null if no match is found and the non-null default is invalid
+         */
+        public static ConnectionMode parse(String value, String defaultValue) {
+            ConnectionMode mode = parse(value);
+
+            if (mode == null && defaultValue != null) {
+                mode = parse(defaultValue);
+            }
+
+            return mode;
+        }
+    }
+
     protected static final int DEFAULT_SNAPSHOT_FETCH_SIZE = 0;
+    protected static final int DEFAULT_CURSOR_AWAIT_TIME_MS = 500;
 
     public static final Field CONNECTION_STRING = Field.create("mongodb.connection.string")
             .withDisplayName("Connection String")
@@ -276,6 +343,19 @@ public boolean isIncludePreImage() {
             .withValidation(Field::isPositiveInteger)
             .withDescription("Interval for looking for new, removed, or changed replica sets, given in milliseconds. Defaults to 30 seconds (30,000 ms).");
 
+    public static final Field CONNECTION_MODE = Field.create("mongodb.connection.mode")
+            .withDisplayName("Connection mode")
+            .withEnum(ConnectionMode.class, ConnectionMode.REPLICA_SET)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTION, 7))
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.MEDIUM)
+            .withDescription("The method used to connect to a MongoDB cluster. "
+                    + "Options include: "
+                    + "'replica_set' (the default) to connect to each replica set (shard) of the cluster, streaming the changes of each "
+                    + "replica set separately; "
+                    + "'sharded' to connect to the routers (mongos) of a sharded cluster, streaming the changes of all shards "
+                    + "through a single change stream with one resume token");
+
     public static final Field SSL_ENABLED = Field.create("mongodb.ssl.enabled")
             .withDisplayName("Enable SSL connection to MongoDB")
             .withType(Type.BOOLEAN)
@@ -491,6 +571,20 @@ public boolean isIncludePreImage() {
                     + " the initial snapshot may be a subset of data present in the data source. The subset would be defined"
                     + " by mongodb filter query specified as value for property snapshot.collection.filter.override.<dbname>.<collectionName>");
 
+    public static final Field SNAPSHOT_CHUNK_SIZE = Field.create("snapshot.chunk.size")
+            .withDisplayName("Snapshot chunk size")
+            .withType(Type.INT)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_SNAPSHOT, 2))
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDefault(0)
+            .withValidation(Field::isNonNegativeInteger)
+            .withDescription("The approximate number of documents per chunk when splitting collections into ranges of '_id' "
+                    + "for the initial snapshot. The chunks of all collections are copied in parallel by up to "
+                    + "'snapshot.max.threads' threads, and an interrupted snapshot resumes with the chunks that were not "
+                    + "completed yet, as long as the oplog still contains the position where the snapshot started. "
+                    + "When set to 0 (the default), each collection is copied as a whole.");
+
     public static final Field CURSOR_MAX_AWAIT_TIME_MS = Field.create("cursor.max.await.time.ms")
             .withDisplayName("Server's oplog streaming cursor max await time")
             .withType(Type.INT)
@@ -498,6 +592,32 @@ public boolean isIncludePreImage() {
             .withImportance(Importance.LOW)
             .withDescription("The maximum processing time in milliseconds to wait for the oplog cursor to process a single poll request");
 
+    public static final Field CURSOR_PAUSE_INTERVAL_MS = Field.create("cursor.pause.interval.ms")
+            .withDisplayName("Pause between change stream polls without events")
+            .withType(Type.INT)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDefault(500)
+            .withValidation(Field::isNonNegativeInteger)
+            .withDescription("The number of milliseconds the connector pauses when the change stream cursor returned no event. "
+                    + "When set to 0, the connector does not pause, and instead waits on the server for new events for up to '"
+                    + CURSOR_MAX_AWAIT_TIME_MS.name() + "' (or " + DEFAULT_CURSOR_AWAIT_TIME_MS + " ms if not set) per request, "
+                    + "so that events are received as soon as they are available.");
+
+    public static final Field CHANGE_STREAM_FILTERS_PUSHDOWN = Field.create("change.stream.filters.pushdown")
+            .withDisplayName("Apply database and collection filters on the server")
+            .withType(Type.BOOLEAN)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDefault(false)
+            .withDescription("Whether the database and collection include/exclude lists are added to the change stream pipeline, "
+                    + "so that the server discards the events of excluded collections instead of sending them to the connector. "
+                    + "The filters are still applied by the connector as well. While no captured collection changes, the offset "
+                    + "is advanced to the resume token of the change stream, but it is only committed with heartbeats, so '"
+                    + Heartbeat.HEARTBEAT_INTERVAL_PROPERTY_NAME + "' should be set when enabling this option; otherwise the "
+                    + "committed resume token may fall off the oplog. Keep disabled if a filter uses a regular expression "
+                    + "construct that the server interprets differently from Java.");
+
     public static final Field TOPIC_NAMING_STRATEGY = Field.create("topic.naming.strategy")
             .withDisplayName("Topic naming strategy class")
             .withType(Type.CLASS)
@@ -522,11 +642,13 @@ public boolean isIncludePreImage() {
                     SOCKET_TIMEOUT_MS,
                     SERVER_SELECTION_TIMEOUT_MS,
                     MONGODB_POLL_INTERVAL_MS,
+                    CONNECTION_MODE,
                     MAX_FAILED_CONNECTIONS,
                     AUTO_DISCOVER_MEMBERS,
                     SSL_ENABLED,
                     SSL_ALLOW_INVALID_HOSTNAMES,
-                    CURSOR_MAX_AWAIT_TIME_MS)
+                    CURSOR_MAX_AWAIT_TIME_MS,
+                    CURSOR_PAUSE_INTERVAL_MS)
             .events(
                     DATABASE_INCLUDE_LIST,
                     DATABASE_EXCLUDE_LIST,
@@ -534,9 +656,11 @@ public boolean isIncludePreImage() {
                     COLLECTION_EXCLUDE_LIST,
                     FIELD_EXCLUDE_LIST,
                     FIELD_RENAMES,
-                    SNAPSHOT_FILTER_QUERY_BY_COLLECTION)
+                    SNAPSHOT_FILTER_QUERY_BY_COLLECTION,
+                    CHANGE_STREAM_FILTERS_PUSHDOWN)
             .connector(
                     SNAPSHOT_MODE,
+                    SNAPSHOT_CHUNK_SIZE,
                     CAPTURE_MODE,
                     SCHEMA_NAME_ADJUSTMENT_MODE)
             .create();
@@ -554,8 +678,12 @@ public static ConfigDef configDef() {
 
     private final SnapshotMode snapshotMode;
     private CaptureMode captureMode;
+    private final ConnectionMode connectionMode;
     private final int snapshotMaxThreads;
+    private final int snapshotChunkSize;
     private final int cursorMaxAwaitTimeMs;
+    private final int cursorPauseIntervalMs;
+    private final boolean changeStreamFiltersPushdown;
 
     public MongoDbConnectorConfig(Configuration config) {
         super(config, DEFAULT_SNAPSHOT_FETCH_SIZE);
@@ -566,8 +694,14 @@ public MongoDbConnectorConfig(Configuration config) {
         String captureModeValue = config.getString(MongoDbConnectorConfig.CAPTURE_MODE);
         this.captureMode = CaptureMode.parse(captureModeValue, MongoDbConnectorConfig.CAPTURE_MODE.defaultValueAsString());
 
+        String connectionModeValue = config.getString(MongoDbConnectorConfig.CONNECTION_MODE);
+        this.connectionMode = ConnectionMode.parse(connectionModeValue, MongoDbConnectorConfig.CONNECTION_MODE.defaultValueAsString());
+
         this.snapshotMaxThreads = resolveSnapshotMaxThreads(config);
+        this.snapshotChunkSize = config.getInteger(MongoDbConnectorConfig.SNAPSHOT_CHUNK_SIZE);
         this.cursorMaxAwaitTimeMs = config.getInteger(MongoDbConnectorConfig.CURSOR_MAX_AWAIT_TIME_MS, 0);
+        this.cursorPauseIntervalMs = config.getInteger(MongoDbConnectorConfig.CURSOR_PAUSE_INTERVAL_MS);
+        this.changeStreamFiltersPushdown = config.getBoolean(MongoDbConnectorConfig.CHANGE_STREAM_FILTERS_PUSHDOWN);
     }
 
     private static int validateHosts(Configuration config, Field field, ValidationOutput problems) {
@@ -677,15 +811,31 @@ public CaptureMode getCaptureMode() {
         return captureMode;
     }
 
+    public ConnectionMode getConnectionMode() {
+        return connectionMode;
+    }
+
     public int getCursorMaxAwaitTime() {
         return cursorMaxAwaitTimeMs;
     }
 
+    public int getCursorPauseInterval() {
+        return cursorPauseIntervalMs;
+    }
+
+    public boolean isChangeStreamFiltersPushdown() {
+        return changeStreamFiltersPushdown;
+    }
+
     @Override
     public int getSnapshotMaxThreads() {
         return snapshotMaxThreads;
     }
 
+    public int getSnapshotChunkSize() {
+        return snapshotChunkSize;
+    }
+
     @Override
     protected SourceInfoStructMaker<? extends AbstractSourceInfo> getSourceInfoStructMaker(Version version) {
         return new MongoDbSourceInfoStructMaker(Module.name(), Module.version(), this);
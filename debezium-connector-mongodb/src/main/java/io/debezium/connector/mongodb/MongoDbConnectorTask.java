@@ -90,6 +90,9 @@ public ChangeEventSourceCoordinator<MongoDbPartition, MongoDbOffsetContext> star
                     .maxBatchSize(connectorConfig.getMaxBatchSize())
                     .maxQueueSize(connectorConfig.getMaxQueueSize())
                     .maxQueueSizeInBytes(connectorConfig.getMaxQueueSizeInBytes())
+                    .adaptiveBatching(connectorConfig.isAdaptiveBatchingEnabled())
+                    .minBatchSize(connectorConfig.getAdaptiveBatchingMinBatchSize())
+                    .minPollInterval(connectorConfig.getAdaptiveBatchingMinPollInterval())
                     .loggingContextSupplier(() -> taskContext.configureLoggingContext(CONTEXT_NAME))
                     .build();
 
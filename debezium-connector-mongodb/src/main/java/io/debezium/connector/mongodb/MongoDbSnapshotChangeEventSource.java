@@ -6,6 +6,7 @@
 package io.debezium.connector.mongodb;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
@@ -17,11 +18,13 @@
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 import org.apache.kafka.connect.errors.ConnectException;
 import org.bson.BsonDocument;
 import org.bson.BsonTimestamp;
+import org.bson.BsonValue;
 import org.bson.Document;
 import org.bson.conversions.Bson;
 import org.slf4j.Logger;
@@ -30,6 +33,10 @@
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoCursor;
 import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.Sorts;
 
 import io.debezium.connector.SnapshotRecord;
 import io.debezium.connector.mongodb.ConnectionContext.MongoPrimary;
@@ -56,6 +63,9 @@ public class MongoDbSnapshotChangeEventSource extends AbstractSnapshotChangeEven
     private static final Logger LOGGER = LoggerFactory.getLogger(MongoDbSnapshotChangeEventSource.class);
 
     private static final String AUTHORIZATION_FAILURE_MESSAGE = "Command failed with error 13";
+    private static final String DOCUMENT_ID = "_id";
+    private static final int SAMPLES_PER_CHUNK = 10;
+    private static final int MAX_CHUNKS_PER_COLLECTION = 1000;
 
     private final MongoDbConnectorConfig connectorConfig;
     private final MongoDbTaskContext taskContext;
@@ -98,7 +108,7 @@ protected SnapshotResult<MongoDbOffsetContext> doExecute(ChangeEventSourceContex
         }
 
         LOGGER.info("Snapshot step 2 - Determining snapshot offsets");
-        determineSnapshotOffsets(mongoDbSnapshotContext, replicaSets);
+        determineSnapshotOffsets(mongoDbSnapshotContext, replicaSets, previousOffset);
 
         List<ReplicaSet> replicaSetsToSnapshot = mongoDbSnapshottingTask.getReplicaSetsToSnapshot();
 
@@ -250,6 +260,11 @@ private boolean isSnapshotExpected(MongoPrimary primaryClient, ReplicaSetOffsetC
                 LOGGER.info("The previous snapshot was incomplete for '{}', so restarting the snapshot", offsetContext.getReplicaSetName());
                 performSnapshot = true;
             }
+            else if (connectorConfig.getConnectionMode() == MongoDbConnectorConfig.ConnectionMode.SHARDED) {
+                // The oplogs of the shards cannot be read through the routers, the change stream fails when its
+                // resume token is no longer available
+                LOGGER.info("The oplog is not checked in sharded connection mode, so no snapshot will be performed");
+            }
             else {
                 // todo: Right now we implement when needed snapshot by default. In the future we should provide the
                 // same options as other connectors and this is where when_needed functionality would go.
@@ -285,14 +300,35 @@ else if (lastRecordedTs.compareTo(firstAvailableTs) < 0) {
         return performSnapshot;
     }
 
-    protected void determineSnapshotOffsets(MongoDbSnapshotContext ctx, ReplicaSets replicaSets) {
+    protected void determineSnapshotOffsets(MongoDbSnapshotContext ctx, ReplicaSets replicaSets, MongoDbOffsetContext previousOffset) {
         final Map<ReplicaSet, BsonDocument> positions = new LinkedHashMap<>();
+        final Map<ReplicaSet, BsonTimestamp> resumedPositions = new LinkedHashMap<>();
+        final Map<ReplicaSet, BsonDocument> resumeTokens = new LinkedHashMap<>();
         replicaSets.onEachReplicaSet(replicaSet -> {
             LOGGER.info("Determine Snapshot Offset for replica-set {}", replicaSet.replicaSetName());
             MongoPrimary primaryClient = establishConnectionToPrimary(ctx.partition, replicaSet);
             if (primaryClient != null) {
                 try {
+                    if (connectorConfig.getConnectionMode() == MongoDbConnectorConfig.ConnectionMode.SHARDED) {
+                        // the oplogs of the shards cannot be read through the routers
+                        primaryClient.execute("get change stream position", primary -> {
+                            resumeTokens.put(replicaSet, MongoUtil.getChangeStreamResumeToken(primary));
+                        });
+                        return;
+                    }
+                    final BsonTimestamp interruptedTs = getInterruptedSnapshotTimestamp(previousOffset, replicaSet);
                     primaryClient.execute("get oplog position", primary -> {
+                        if (interruptedTs != null) {
+                            // the interrupted snapshot can only be continued if no changes since its start were lost
+                            final BsonTimestamp firstAvailableTs = SourceInfo.extractEventTimestamp(MongoUtil.getOplogEntry(primary, 1, LOGGER));
+                            if (firstAvailableTs != null && firstAvailableTs.compareTo(interruptedTs) <= 0) {
+                                LOGGER.info("Resuming the interrupted snapshot of replica set '{}' started at {}", replicaSet.replicaSetName(), interruptedTs);
+                                resumedPositions.put(replicaSet, interruptedTs);
+                                return;
+                            }
+                            LOGGER.info("The oplog for replica set '{}' starts at {}, which is later than the start of the interrupted snapshot {}, "
+                                    + "so restarting the snapshot", replicaSet.replicaSetName(), firstAvailableTs, interruptedTs);
+                        }
                         positions.put(replicaSet, MongoUtil.getOplogEntry(primary, -1, LOGGER));
                     });
                 }
@@ -305,6 +341,16 @@ protected void determineSnapshotOffsets(MongoDbSnapshotContext ctx, ReplicaSets
 
         ctx.offset = new MongoDbOffsetContext(new SourceInfo(connectorConfig), new TransactionContext(),
                 new MongoDbIncrementalSnapshotContext<>(false), positions);
+        resumeTokens.forEach((replicaSet, resumeToken) -> ctx.offset.initialReplicaSetChangeStreamPosition(replicaSet.replicaSetName(), resumeToken));
+        resumedPositions.forEach((replicaSet, ts) -> ctx.offset.resumeReplicaSetSnapshot(replicaSet.replicaSetName(), ts,
+                previousOffset.getReplicaSetSnapshotChunks(replicaSet.replicaSetName())));
+    }
+
+    private BsonTimestamp getInterruptedSnapshotTimestamp(MongoDbOffsetContext previousOffset, ReplicaSet replicaSet) {
+        if (previousOffset == null || connectorConfig.getSnapshotChunkSize() == 0 || !replicaSet.hasReplicaSetName()) {
+            return null;
+        }
+        return previousOffset.interruptedReplicaSetSnapshotTimestamp(replicaSet.replicaSetName());
     }
 
     private void createDataEvents(ChangeEventSourceContext sourceContext, MongoDbSnapshotContext snapshotContext, ReplicaSet replicaSet,
@@ -341,11 +387,17 @@ private void createDataEventsForReplicaSet(ChangeEventSourceContext sourceContex
 
         final List<CollectionId> collections = determineDataCollectionsToBeSnapshotted(primaryClient.collections()).collect(Collectors.toList());
         snapshotProgressListener.monitoredDataCollectionsDetermined(snapshotContext.partition, collections);
+
+        final ChunkedCollectionSnapshotContext snapshotChunks = connectorConfig.getSnapshotChunkSize() > 0
+                ? offsetContext.getReplicaSetSnapshotChunks(rsName)
+                : null;
+        final List<CollectionChunk> chunks = determineChunks(snapshotContext, collections, snapshotChunks, primaryClient);
+
         if (connectorConfig.getSnapshotMaxThreads() > 1) {
             // Since multiple snapshot threads are to be used, create a thread pool and initiate the snapshot.
             // The current thread will wait until the snapshot threads either have completed or an error occurred.
-            final int numThreads = Math.min(collections.size(), connectorConfig.getSnapshotMaxThreads());
-            final Queue<CollectionId> collectionsToCopy = new ConcurrentLinkedQueue<>(collections);
+            final int numThreads = Math.min(chunks.size(), connectorConfig.getSnapshotMaxThreads());
+            final Queue<CollectionChunk> chunksToCopy = new ConcurrentLinkedQueue<>(chunks);
 
             final String snapshotThreadName = "snapshot-" + (replicaSet.hasReplicaSetName() ? replicaSet.replicaSetName() : "main");
             final ExecutorService snapshotThreads = Threads.newFixedThreadPool(MongoDbConnector.class, taskContext.serverName(),
@@ -354,29 +406,30 @@ private void createDataEventsForReplicaSet(ChangeEventSourceContext sourceContex
             final AtomicBoolean aborted = new AtomicBoolean(false);
             final AtomicInteger threadCounter = new AtomicInteger(0);
 
-            LOGGER.info("Preparing to use {} thread(s) to snapshot {} collection(s): {}", numThreads, collections.size(),
-                    Strings.join(", ", collections));
+            LOGGER.info("Preparing to use {} thread(s) to snapshot {} chunk(s) of {} collection(s): {}", numThreads, chunks.size(),
+                    collections.size(), Strings.join(", ", collections));
 
             for (int i = 0; i < numThreads; ++i) {
                 snapshotThreads.submit(() -> {
                     taskContext.configureLoggingContext(replicaSet.replicaSetName() + "-snapshot" + threadCounter.incrementAndGet());
                     try {
-                        CollectionId id = null;
-                        while (!aborted.get() && (id = collectionsToCopy.poll()) != null) {
+                        CollectionChunk chunk = null;
+                        while (!aborted.get() && (chunk = chunksToCopy.poll()) != null) {
                             if (!sourceContext.isRunning()) {
                                 throw new InterruptedException("Interrupted while snapshotting replica set " + replicaSet.replicaSetName());
                             }
 
-                            if (collectionsToCopy.isEmpty()) {
+                            if (chunksToCopy.isEmpty()) {
                                 snapshotContext.lastCollection = true;
                             }
 
-                            createDataEventsForCollection(
+                            createDataEventsForChunk(
                                     sourceContext,
                                     snapshotContext,
                                     snapshotReceiver,
                                     replicaSet,
-                                    id,
+                                    chunk,
+                                    snapshotChunks,
                                     primaryClient);
                         }
                     }
@@ -405,8 +458,8 @@ private void createDataEventsForReplicaSet(ChangeEventSourceContext sourceContex
             // Only 1 thread should be used for snapshotting collections.
             // In this use case since the replica-set snapshot is already in a separate thread, there is not
             // a real reason to spawn additional threads but instead just run within the current thread.
-            for (Iterator<CollectionId> it = collections.iterator(); it.hasNext();) {
-                final CollectionId collectionId = it.next();
+            for (Iterator<CollectionChunk> it = chunks.iterator(); it.hasNext();) {
+                final CollectionChunk chunk = it.next();
 
                 if (!sourceContext.isRunning()) {
                     throw new InterruptedException("Interrupted while snapshotting replica set " + replicaSet.replicaSetName());
@@ -416,12 +469,13 @@ private void createDataEventsForReplicaSet(ChangeEventSourceContext sourceContex
                     snapshotContext.lastCollection = true;
                 }
 
-                createDataEventsForCollection(
+                createDataEventsForChunk(
                         sourceContext,
                         snapshotContext,
                         snapshotReceiver,
                         replicaSet,
-                        collectionId,
+                        chunk,
+                        snapshotChunks,
                         primaryClient);
             }
         }
@@ -429,14 +483,115 @@ private void createDataEventsForReplicaSet(ChangeEventSourceContext sourceContex
         offsetContext.stopReplicaSetSnapshot(replicaSet.replicaSetName());
     }
 
-    private void createDataEventsForCollection(ChangeEventSourceContext sourceContext,
-                                               MongoDbSnapshotContext snapshotContext,
-                                               SnapshotReceiver<MongoDbPartition> snapshotReceiver,
-                                               ReplicaSet replicaSet, CollectionId collectionId, MongoPrimary primaryClient)
+    /**
+     * Splits the given collections into the chunks to be copied, leaving out the chunks which were already copied by an
+     * interrupted snapshot. Collections are copied as a whole if no chunk context is given.
+     */
+    private List<CollectionChunk> determineChunks(MongoDbSnapshotContext snapshotContext, List<CollectionId> collections,
+                                                  ChunkedCollectionSnapshotContext snapshotChunks, MongoPrimary primaryClient) {
+        final List<CollectionChunk> chunks = new ArrayList<>();
+        for (CollectionId collectionId : collections) {
+            if (snapshotChunks == null) {
+                chunks.add(new CollectionChunk(collectionId, Collections.emptyList(), 0, new CollectionProgress(1)));
+                continue;
+            }
+            if (snapshotChunks.isCollectionCompleted(collectionId)) {
+                LOGGER.info("\t Skipping collection '{}' which was copied by the interrupted snapshot", collectionId);
+                snapshotProgressListener.dataCollectionSnapshotCompleted(snapshotContext.partition, collectionId, 0);
+                continue;
+            }
+
+            List<BsonValue> boundaries = snapshotChunks.boundaries(collectionId);
+            if (boundaries == null) {
+                boundaries = determineChunkBoundaries(collectionId, primaryClient);
+            }
+            final int chunkCount = ChunkedCollectionSnapshotContext.chunkCount(boundaries);
+            final List<Integer> pending = new ArrayList<>(chunkCount);
+            for (int chunk = 0; chunk < chunkCount; chunk++) {
+                if (!snapshotChunks.isChunkCompleted(collectionId, chunk)) {
+                    pending.add(chunk);
+                }
+            }
+            LOGGER.info("\t Splitting collection '{}' into {} chunk(s), {} of which remain to be copied", collectionId, chunkCount, pending.size());
+            if (pending.isEmpty()) {
+                snapshotChunks.collectionCompleted(collectionId);
+                snapshotProgressListener.dataCollectionSnapshotCompleted(snapshotContext.partition, collectionId, 0);
+                continue;
+            }
+
+            final CollectionProgress progress = new CollectionProgress(pending.size());
+            for (int chunk : pending) {
+                chunks.add(new CollectionChunk(collectionId, boundaries, chunk, progress));
+            }
+        }
+        return chunks;
+    }
+
+    /**
+     * Determines the boundaries of the chunks of a collection from a sample of the document ids, picking the values of
+     * the id type used by most of the sampled documents.
+     */
+    private List<BsonValue> determineChunkBoundaries(CollectionId collectionId, MongoPrimary primaryClient) {
+        final int chunkSize = connectorConfig.getSnapshotChunkSize();
+        final List<BsonValue> samples = primaryClient.execute("split '" + collectionId + "'", primary -> {
+            final MongoCollection<BsonDocument> collection = primary.getDatabase(collectionId.dbName())
+                    .getCollection(collectionId.name(), BsonDocument.class);
+            final long chunkCount = Math.min(collection.estimatedDocumentCount() / chunkSize, MAX_CHUNKS_PER_COLLECTION);
+            final List<BsonValue> ids = new ArrayList<>();
+            if (chunkCount > 1) {
+                collection.aggregate(Arrays.asList(
+                        Aggregates.sample((int) chunkCount * SAMPLES_PER_CHUNK),
+                        Aggregates.project(Projections.include(DOCUMENT_ID)),
+                        Aggregates.sort(Sorts.ascending(DOCUMENT_ID))))
+                        .forEach(document -> ids.add(document.get(DOCUMENT_ID)));
+            }
+            return ids;
+        });
+
+        // the samples are sorted by type first, so the ids of the most common type form the longest run
+        int runStart = 0;
+        int bestStart = 0;
+        int bestEnd = 0;
+        for (int i = 1; i <= samples.size(); i++) {
+            if (i == samples.size() || !ChunkedCollectionSnapshotContext.isSameTypeBracket(samples.get(runStart), samples.get(i))) {
+                if (i - runStart > bestEnd - bestStart) {
+                    bestStart = runStart;
+                    bestEnd = i;
+                }
+                runStart = i;
+            }
+        }
+
+        final List<BsonValue> boundaries = new ArrayList<>();
+        for (int i = bestStart + SAMPLES_PER_CHUNK; i < bestEnd; i += SAMPLES_PER_CHUNK) {
+            final BsonValue boundary = samples.get(i);
+            if (boundaries.isEmpty() || !boundaries.get(boundaries.size() - 1).equals(boundary)) {
+                boundaries.add(boundary);
+            }
+        }
+        return boundaries;
+    }
+
+    private void createDataEventsForChunk(ChangeEventSourceContext sourceContext,
+                                          MongoDbSnapshotContext snapshotContext,
+                                          SnapshotReceiver<MongoDbPartition> snapshotReceiver,
+                                          ReplicaSet replicaSet, CollectionChunk chunk,
+                                          ChunkedCollectionSnapshotContext snapshotChunks, MongoPrimary primaryClient)
             throws InterruptedException {
 
+        final CollectionId collectionId = chunk.collectionId;
+        final int chunkCount = ChunkedCollectionSnapshotContext.chunkCount(chunk.boundaries);
+
         long exportStart = clock.currentTimeInMillis();
-        LOGGER.info("\t Exporting data for collection '{}'", collectionId);
+        if (chunkCount > 1) {
+            LOGGER.info("\t Exporting data for chunk {} of {} of collection '{}'", chunk.chunk + 1, chunkCount, collectionId);
+        }
+        else {
+            LOGGER.info("\t Exporting data for collection '{}'", collectionId);
+        }
+        if (snapshotChunks != null && snapshotChunks.boundaries(collectionId) == null) {
+            snapshotChunks.collectionSplit(collectionId, chunk.boundaries);
+        }
 
         primaryClient.executeBlocking("sync '" + collectionId + "'", primary -> {
             final MongoDatabase database = primary.getDatabase(collectionId.dbName());
@@ -446,6 +601,9 @@ private void createDataEventsForCollection(ChangeEventSourceContext sourceContex
 
             long docs = 0;
             Bson filterQuery = Document.parse(connectorConfig.getSnapshotFilterQueryForCollection(collectionId).orElseGet(() -> "{}"));
+            if (chunkCount > 1) {
+                filterQuery = Filters.and(filterQuery, ChunkedCollectionSnapshotContext.chunkFilter(chunk.boundaries, chunk.chunk));
+            }
 
             try (MongoCursor<BsonDocument> cursor = collection.find(filterQuery).batchSize(batchSize).iterator()) {
                 snapshotContext.lastRecordInCollection = false;
@@ -473,10 +631,26 @@ else if (snapshotContext.lastCollection) {
                     // if the last collection does not contain any records we still need to mark the last processed event as last one
                     snapshotContext.offset.markSnapshotRecord(SnapshotRecord.LAST);
                 }
+            }
 
-                LOGGER.info("\t Finished snapshotting {} records for collection '{}'; total duration '{}'", docs, collectionId,
-                        Strings.duration(clock.currentTimeInMillis() - exportStart));
-                snapshotProgressListener.dataCollectionSnapshotCompleted(snapshotContext.partition, collectionId, docs);
+            final long totalDocs = chunk.progress.docs.addAndGet(docs);
+            final boolean collectionCompleted = chunk.progress.remainingChunks.decrementAndGet() == 0;
+            if (chunkCount > 1) {
+                LOGGER.info("\t Finished snapshotting {} records for chunk {} of {} of collection '{}'; duration '{}'", docs, chunk.chunk + 1,
+                        chunkCount, collectionId, Strings.duration(clock.currentTimeInMillis() - exportStart));
+            }
+            if (snapshotChunks != null) {
+                if (collectionCompleted) {
+                    snapshotChunks.collectionCompleted(collectionId);
+                }
+                else {
+                    snapshotChunks.chunkCompleted(collectionId, chunk.chunk);
+                }
+            }
+            if (collectionCompleted) {
+                LOGGER.info("\t Finished snapshotting {} records for collection '{}'; total duration '{}'", totalDocs, collectionId,
+                        Strings.duration(clock.currentTimeInMillis() - chunk.progress.exportStart));
+                snapshotProgressListener.dataCollectionSnapshotCompleted(snapshotContext.partition, collectionId, totalDocs);
             }
         });
     }
@@ -526,6 +700,36 @@ public String toString() {
         }
     }
 
+    /**
+     * A range of the documents of a collection that is copied as one unit of work.
+     */
+    private static class CollectionChunk {
+        private final CollectionId collectionId;
+        private final List<BsonValue> boundaries;
+        private final int chunk;
+        private final CollectionProgress progress;
+
+        CollectionChunk(CollectionId collectionId, List<BsonValue> boundaries, int chunk, CollectionProgress progress) {
+            this.collectionId = collectionId;
+            this.boundaries = boundaries;
+            this.chunk = chunk;
+            this.progress = progress;
+        }
+    }
+
+    /**
+     * The progress of the chunks of a collection, which may be copied by several threads.
+     */
+    private class CollectionProgress {
+        private final AtomicInteger remainingChunks;
+        private final AtomicLong docs = new AtomicLong();
+        private final long exportStart = clock.currentTimeInMillis();
+
+        CollectionProgress(int chunks) {
+            this.remainingChunks = new AtomicInteger(chunks);
+        }
+    }
+
     /**
      * Mutable context that is populated in the course of snapshotting.
      */
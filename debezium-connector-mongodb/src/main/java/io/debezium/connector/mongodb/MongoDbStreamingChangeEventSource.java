@@ -7,7 +7,6 @@
 
 import java.time.Duration;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -21,14 +20,15 @@
 import org.bson.BsonDocument;
 import org.bson.BsonString;
 import org.bson.BsonTimestamp;
+import org.bson.RawBsonDocument;
 import org.bson.conversions.Bson;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.mongodb.ServerAddress;
 import com.mongodb.client.ChangeStreamIterable;
+import com.mongodb.client.MongoChangeStreamCursor;
 import com.mongodb.client.MongoClient;
-import com.mongodb.client.MongoCursor;
 import com.mongodb.client.model.Aggregates;
 import com.mongodb.client.model.Filters;
 import com.mongodb.client.model.changestream.ChangeStreamDocument;
@@ -199,8 +199,13 @@ private void readChangeStream(MongoClient primary, MongoPrimary primaryClient, R
 
         ReplicaSetChangeStreamsContext oplogContext = new ReplicaSetChangeStreamsContext(rsPartition, rsOffsetContext, primaryClient, replicaSet);
 
-        final ServerAddress primaryAddress = MongoUtil.getPrimaryAddress(primary);
-        LOGGER.info("Reading change stream for '{}' primary {} starting at {}", replicaSet, primaryAddress, oplogStart);
+        if (connectorConfig.getConnectionMode() == MongoDbConnectorConfig.ConnectionMode.SHARDED) {
+            LOGGER.info("Reading change stream of the sharded cluster through routers {} starting at {}", replicaSet.addresses(), oplogStart);
+        }
+        else {
+            final ServerAddress primaryAddress = MongoUtil.getPrimaryAddress(primary);
+            LOGGER.info("Reading change stream for '{}' primary {} starting at {}", replicaSet, primaryAddress, oplogStart);
+        }
 
         Bson filters = Filters.in("operationType", getChangeStreamSkippedOperationsFilter());
         if (rsOffsetContext.lastResumeToken() == null) {
@@ -208,8 +213,13 @@ private void readChangeStream(MongoClient primary, MongoPrimary primaryClient, R
             // It must be filtered-out
             filters = Filters.and(filters, Filters.ne("clusterTime", oplogStart));
         }
-        final ChangeStreamIterable<BsonDocument> rsChangeStream = primary.watch(
-                Arrays.asList(Aggregates.match(filters)), BsonDocument.class);
+        final List<Bson> pipeline = new ArrayList<>();
+        pipeline.add(Aggregates.match(filters));
+        if (connectorConfig.isChangeStreamFiltersPushdown()) {
+            pipeline.addAll(taskContext.filters().changeStreamStages());
+        }
+        // Documents are kept as raw BSON, which is only parsed for the fields accessed and serialized to JSON directly
+        final ChangeStreamIterable<RawBsonDocument> rsChangeStream = primary.watch(pipeline, RawBsonDocument.class);
         if (taskContext.getCaptureMode().isFullUpdate()) {
             rsChangeStream.fullDocument(FullDocument.UPDATE_LOOKUP);
         }
@@ -228,19 +238,26 @@ else if (oplogStart.getTime() > 0) {
             rsChangeStream.startAtOperationTime(oplogStart);
         }
 
+        final int pauseInterval = connectorConfig.getCursorPauseInterval();
         if (connectorConfig.getCursorMaxAwaitTime() > 0) {
             rsChangeStream.maxAwaitTime(connectorConfig.getCursorMaxAwaitTime(), TimeUnit.MILLISECONDS);
         }
+        else if (pauseInterval == 0) {
+            // Without pauses, the server-side wait bounds how long a stop request goes unnoticed
+            rsChangeStream.maxAwaitTime(MongoDbConnectorConfig.DEFAULT_CURSOR_AWAIT_TIME_MS, TimeUnit.MILLISECONDS);
+        }
 
-        try (MongoCursor<ChangeStreamDocument<BsonDocument>> cursor = rsChangeStream.iterator()) {
+        try (MongoChangeStreamCursor<ChangeStreamDocument<RawBsonDocument>> cursor = rsChangeStream.cursor()) {
             // In Replicator, this used cursor.hasNext() but this is a blocking call and I observed that this can
             // delay the shutdown of the connector by up to 15 seconds or longer. By introducing a Metronome, we
             // can respond to the stop request much faster and without much overhead.
-            Metronome pause = Metronome.sleeper(Duration.ofMillis(500), clock);
+            // If pauses are disabled, tryNext waits on the server for up to the max await time instead, and returns
+            // as soon as an event is available.
+            final Metronome pause = pauseInterval > 0 ? Metronome.sleeper(Duration.ofMillis(pauseInterval), clock) : null;
             while (context.isRunning()) {
                 // Use tryNext which will return null if no document is yet available from the cursor.
                 // In this situation if not document is available, we'll pause.
-                final ChangeStreamDocument<BsonDocument> event = cursor.tryNext();
+                final ChangeStreamDocument<RawBsonDocument> event = cursor.tryNext();
                 if (event != null) {
                     LOGGER.trace("Arrived Change Stream event: {}", event);
 
@@ -283,11 +300,28 @@ else if (oplogStart.getTime() > 0) {
                     }
                 }
                 else {
+                    // The server may have discarded the events of excluded collections, so the offset is advanced to
+                    // the resume token of the batch; otherwise it might fall off the oplog if no captured collection changes
+                    final BsonDocument resumeToken = cursor.getResumeToken();
+                    if (resumeToken != null && oplogContext.getOffset().noEvent(resumeToken)) {
+                        LOGGER.trace("No change stream event, advancing to resume token {}", resumeToken);
+                    }
                     try {
-                        pause.pause();
+                        dispatcher.dispatchHeartbeatEvent(oplogContext.getPartition(), oplogContext.getOffset());
                     }
                     catch (InterruptedException e) {
-                        break;
+                        LOGGER.info("Replicator thread is interrupted");
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+
+                    if (pause != null) {
+                        try {
+                            pause.pause();
+                        }
+                        catch (InterruptedException e) {
+                            break;
+                        }
                     }
                 }
             }
@@ -297,11 +331,19 @@ else if (oplogStart.getTime() > 0) {
     protected MongoDbOffsetContext initializeOffsets(MongoDbConnectorConfig connectorConfig, MongoDbPartition partition,
                                                      ReplicaSets replicaSets) {
         final Map<ReplicaSet, BsonDocument> positions = new LinkedHashMap<>();
+        final Map<ReplicaSet, BsonDocument> resumeTokens = new LinkedHashMap<>();
         replicaSets.onEachReplicaSet(replicaSet -> {
             LOGGER.info("Determine Snapshot Offset for replica-set {}", replicaSet.replicaSetName());
             MongoPrimary primaryClient = establishConnectionToPrimary(partition, replicaSet);
             if (primaryClient != null) {
                 try {
+                    if (connectorConfig.getConnectionMode() == MongoDbConnectorConfig.ConnectionMode.SHARDED) {
+                        // the oplogs of the shards cannot be read through the routers
+                        primaryClient.execute("get change stream position", primary -> {
+                            resumeTokens.put(replicaSet, MongoUtil.getChangeStreamResumeToken(primary));
+                        });
+                        return;
+                    }
                     primaryClient.execute("get oplog position", primary -> {
                         positions.put(replicaSet, MongoUtil.getOplogEntry(primary, -1, LOGGER));
                     });
@@ -313,8 +355,10 @@ protected MongoDbOffsetContext initializeOffsets(MongoDbConnectorConfig connecto
             }
         });
 
-        return new MongoDbOffsetContext(new SourceInfo(connectorConfig), new TransactionContext(),
+        final MongoDbOffsetContext offsetContext = new MongoDbOffsetContext(new SourceInfo(connectorConfig), new TransactionContext(),
                 new MongoDbIncrementalSnapshotContext<>(false), positions);
+        resumeTokens.forEach((replicaSet, resumeToken) -> offsetContext.initialReplicaSetChangeStreamPosition(replicaSet.replicaSetName(), resumeToken));
+        return offsetContext;
     }
 
     /**
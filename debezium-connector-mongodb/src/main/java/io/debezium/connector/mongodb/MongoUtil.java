@@ -15,13 +15,16 @@
 import java.util.regex.Pattern;
 
 import org.bson.BsonDocument;
+import org.bson.BsonTimestamp;
 import org.bson.BsonValue;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
 import org.slf4j.Logger;
 
 import com.mongodb.MongoQueryException;
 import com.mongodb.ReadPreference;
 import com.mongodb.ServerAddress;
+import com.mongodb.client.MongoChangeStreamCursor;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoCursor;
@@ -34,6 +37,7 @@
 
 import io.debezium.DebeziumException;
 import io.debezium.function.BlockingConsumer;
+import io.debezium.util.HexConverter;
 import io.debezium.util.Strings;
 
 /**
@@ -55,6 +59,11 @@ public class MongoUtil {
      */
     private static final Pattern ADDRESS_PATTERN = Pattern.compile("([^:]+)(:(\\d+))?");
 
+    /**
+     * The type byte with which the timestamp is encoded at the start of the resume token.
+     */
+    private static final int RESUME_TOKEN_TIMESTAMP_TYPE = 130;
+
     /**
      * Regular expression that gets the IPv6 host and (optional) port, where the IPv6 address must be surrounded
      * by square brackets. The raw expression is {@code (\[[^]]+\])(:(\d+))?}.
@@ -270,7 +279,7 @@ public static String getOplogSessionTransactionId(BsonDocument oplogEvent) {
      * @param event the Change Stream event
      * @return the session transaction id from the event
      */
-    public static SourceInfo.SessionTransactionId getChangeStreamSessionTransactionId(ChangeStreamDocument<BsonDocument> event) {
+    public static SourceInfo.SessionTransactionId getChangeStreamSessionTransactionId(ChangeStreamDocument<RawBsonDocument> event) {
         if (event.getLsid() == null || event.getTxnNumber() == null) {
             return null;
         }
@@ -279,6 +288,41 @@ public static SourceInfo.SessionTransactionId getChangeStreamSessionTransactionI
                 event.getTxnNumber() == null ? null : event.getTxnNumber().longValue());
     }
 
+    /**
+     * Opens a change stream on the whole cluster to obtain the resume token of its current position.
+     *
+     * @param client the connection to the cluster, usually to its routers
+     * @return the resume token; never null
+     */
+    public static BsonDocument getChangeStreamResumeToken(MongoClient client) {
+        try (MongoChangeStreamCursor<ChangeStreamDocument<BsonDocument>> cursor = client.watch(BsonDocument.class).cursor()) {
+            final BsonDocument resumeToken = cursor.getResumeToken();
+            if (resumeToken == null) {
+                throw new DebeziumException("Unable to obtain the resume token of the change stream, MongoDB 4.0.7 or later is required");
+            }
+            return resumeToken;
+        }
+    }
+
+    /**
+     * Helper function to extract the cluster time from a change stream resume token, whose {@code _data} starts with
+     * the timestamp encoded as a type byte followed by the seconds and increment in big-endian order.
+     *
+     * @param resumeToken the resume token
+     * @return the cluster time of the resume token
+     */
+    public static BsonTimestamp getChangeStreamResumeTokenTimestamp(BsonDocument resumeToken) {
+        final byte[] data = HexConverter.convertFromHex(resumeToken.getString("_data").getValue());
+        if (data.length < 9 || (data[0] & 0xff) != RESUME_TOKEN_TIMESTAMP_TYPE) {
+            throw new DebeziumException("Unable to read the timestamp of resume token " + resumeToken.toJson());
+        }
+        long value = 0;
+        for (int i = 1; i < 9; i++) {
+            value = (value << 8) | (data[i] & 0xff);
+        }
+        return new BsonTimestamp(value);
+    }
+
     /**
      * Parse the comma-separated list of server addresses. The format of the supplied string is one of the following:
      *
@@ -19,6 +19,11 @@
 @Immutable
 public final class ReplicaSet implements Comparable<ReplicaSet> {
 
+    /**
+     * The name used for a sharded cluster that is connected to through its routers (mongos) as a whole.
+     */
+    public static final String CLUSTER_REPLICA_SET_NAME = "sharded";
+
     /**
      * Regular expression that extracts the hosts for the replica sets. The raw expression is
      * {@code ((([^=]+)[=])?(([^/]+)\/))?(.+)}.
@@ -70,7 +70,19 @@ public ReplicaSets getReplicaSets() {
 
         final ClusterDescription clusterDescription = MongoUtil.clusterDescription(client);
 
-        if (clusterDescription.getType() == ClusterType.SHARDED) {
+        if (clusterDescription.getType() == ClusterType.SHARDED
+                && context.getConnectorConfig().getConnectionMode() == MongoDbConnectorConfig.ConnectionMode.SHARDED) {
+            // The whole cluster is captured through the routers, so that shards can be added without changing the tasks
+            LOGGER.info("Using the routers of the sharded cluster at {}", connectionSeed);
+            final List<ServerAddress> addresses = connectedServerAddresses(clusterDescription);
+            if (addresses.isEmpty()) {
+                LOGGER.warn("Server descriptions not available, got '{}'", clusterDescription.getServerDescriptions());
+            }
+            else {
+                replicaSetSpecs.add(new ReplicaSet(addresses, ReplicaSet.CLUSTER_REPLICA_SET_NAME, null));
+            }
+        }
+        else if (clusterDescription.getType() == ClusterType.SHARDED) {
             // First see if the addresses are for a config server replica set ...
             String shardsCollection = "shards";
             try {
@@ -115,4 +127,11 @@ public ReplicaSets getReplicaSets() {
         }
         return new ReplicaSets(replicaSetSpecs);
     }
+
+    private static List<ServerAddress> connectedServerAddresses(ClusterDescription clusterDescription) {
+        return clusterDescription.getServerDescriptions().stream()
+                .filter(x -> x.getState() == ServerConnectionState.CONNECTED)
+                .map(ServerDescription::getAddress)
+                .collect(Collectors.toList());
+    }
 }
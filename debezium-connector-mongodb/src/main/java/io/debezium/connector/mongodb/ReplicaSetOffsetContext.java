@@ -11,6 +11,7 @@
 import org.apache.kafka.connect.data.Schema;
 import org.bson.BsonDocument;
 import org.bson.BsonTimestamp;
+import org.bson.RawBsonDocument;
 
 import com.mongodb.client.model.changestream.ChangeStreamDocument;
 
@@ -101,10 +102,14 @@ public void readEvent(CollectionId collectionId, Instant timestamp) {
         sourceInfo.lastOffset(replicaSetName);
     }
 
-    public void changeStreamEvent(ChangeStreamDocument<BsonDocument> changeStreamEvent) {
+    public void changeStreamEvent(ChangeStreamDocument<RawBsonDocument> changeStreamEvent) {
         sourceInfo.changeStreamEvent(replicaSetName, changeStreamEvent);
     }
 
+    public boolean noEvent(BsonDocument resumeToken) {
+        return sourceInfo.noEvent(replicaSetName, resumeToken);
+    }
+
     public BsonTimestamp lastOffsetTimestamp() {
         return sourceInfo.lastOffsetTimestamp(replicaSetName);
     }
@@ -17,6 +17,7 @@
 import org.apache.kafka.connect.errors.ConnectException;
 import org.bson.BsonDocument;
 import org.bson.BsonTimestamp;
+import org.bson.RawBsonDocument;
 import org.bson.types.BSONTimestamp;
 
 import com.mongodb.client.model.changestream.ChangeStreamDocument;
@@ -90,6 +91,8 @@ public final class SourceInfo extends BaseSourceInfo {
     private final ConcurrentMap<String, Map<String, String>> sourcePartitionsByReplicaSetName = new ConcurrentHashMap<>();
     private final ConcurrentMap<String, Position> positionsByReplicaSetName = new ConcurrentHashMap<>();
     private final Set<String> initialSyncReplicaSets = Collections.newSetFromMap(new ConcurrentHashMap<>());
+    private final ConcurrentMap<String, ChunkedCollectionSnapshotContext> snapshotChunksByReplicaSetName = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, BsonTimestamp> interruptedInitialSyncTimestampsByReplicaSetName = new ConcurrentHashMap<>();
 
     private String replicaSetName;
 
@@ -239,9 +242,14 @@ public Position lastPosition(String replicaSetName) {
             existing = INITIAL_POSITION;
         }
         if (isInitialSyncOngoing(replicaSetName)) {
-            return addSessionTxnIdToOffset(existing, Collect.hashMapOf(TIMESTAMP, Integer.valueOf(existing.getTime()),
+            Map<String, Object> offset = Collect.hashMapOf(TIMESTAMP, Integer.valueOf(existing.getTime()),
                     ORDER, Integer.valueOf(existing.getInc()),
-                    INITIAL_SYNC, true));
+                    INITIAL_SYNC, true);
+            ChunkedCollectionSnapshotContext snapshotChunks = snapshotChunksByReplicaSetName.get(replicaSetName);
+            if (snapshotChunks != null) {
+                snapshotChunks.store(offset);
+            }
+            return addSessionTxnIdToOffset(existing, offset);
         }
         Map<String, Object> offset = Collect.hashMapOf(TIMESTAMP, Integer.valueOf(existing.getTime()),
                 ORDER, Integer.valueOf(existing.getInc()));
@@ -295,7 +303,54 @@ public void initialPosition(String replicaSetName, BsonDocument oplogEvent) {
         onEvent(replicaSetName, CollectionId.parse(replicaSetName, namespace), position);
     }
 
-    public void changeStreamEvent(String replicaSetName, ChangeStreamDocument<BsonDocument> changeStreamEvent) {
+    /**
+     * Continues an initial sync that was interrupted, starting from the position where it was originally started.
+     *
+     * @param replicaSetName the name of the replica set; may not be null
+     * @param ts the timestamp of the position where the interrupted initial sync started; may not be null
+     * @param snapshotChunks the chunks of the interrupted initial sync; may not be null
+     * @see #interruptedInitialSyncTimestamp(String)
+     */
+    public void resumeInitialSync(String replicaSetName, BsonTimestamp ts, ChunkedCollectionSnapshotContext snapshotChunks) {
+        Position position = Position.snapshotPosition(ts);
+        positionsByReplicaSetName.put(replicaSetName, position);
+        snapshotChunksByReplicaSetName.put(replicaSetName, snapshotChunks);
+
+        onEvent(replicaSetName, CollectionId.parse(replicaSetName, ""), position);
+    }
+
+    /**
+     * Sets the position after which the capturing should start to the given change stream resume token.
+     *
+     * @param replicaSetName the name of the replica set name for which the new offset is to be obtained; may not be null
+     * @param resumeToken the resume token of the current position of the change stream; may not be null
+     */
+    public void initialChangeStreamPosition(String replicaSetName, BsonDocument resumeToken) {
+        Position position = Position.changeStreamPosition(MongoUtil.getChangeStreamResumeTokenTimestamp(resumeToken),
+                resumeToken.getString("_data").getValue(), null);
+        positionsByReplicaSetName.put(replicaSetName, position);
+
+        onEvent(replicaSetName, CollectionId.parse(replicaSetName, ""), position);
+    }
+
+    /**
+     * Advances the position to the given resume token of a change stream which has not returned an event, e.g. as the
+     * server has discarded the events of all collections which are not captured.
+     *
+     * @param replicaSetName the name of the replica set name for which the new offset is to be obtained; may not be null
+     * @param resumeToken the resume token of the position of the change stream; may not be null
+     * @return {@code true} if the position has been advanced, {@code false} if it is at the given resume token already
+     */
+    public boolean noEvent(String replicaSetName, BsonDocument resumeToken) {
+        final String tokenData = resumeToken.getString("_data").getValue();
+        if (tokenData.equals(lastResumeToken(replicaSetName))) {
+            return false;
+        }
+        initialChangeStreamPosition(replicaSetName, resumeToken);
+        return true;
+    }
+
+    public void changeStreamEvent(String replicaSetName, ChangeStreamDocument<RawBsonDocument> changeStreamEvent) {
         Position position = INITIAL_POSITION;
         String namespace = "";
         if (changeStreamEvent != null) {
@@ -355,6 +410,12 @@ public boolean setOffsetFor(String replicaSetName, Map<String, ?> sourceOffset)
         // We have previously recorded at least one offset for this database ...
         boolean initSync = booleanOffsetValue(sourceOffset, INITIAL_SYNC);
         if (initSync) {
+            // the initial sync has to be taken again, though the chunks completed so far may be kept
+            if (sourceOffset.containsKey(ChunkedCollectionSnapshotContext.SNAPSHOT_CHUNKS_KEY)) {
+                interruptedInitialSyncTimestampsByReplicaSetName.put(replicaSetName,
+                        new BsonTimestamp(intOffsetValue(sourceOffset, TIMESTAMP), intOffsetValue(sourceOffset, ORDER)));
+                snapshotChunksByReplicaSetName.put(replicaSetName, ChunkedCollectionSnapshotContext.load(sourceOffset));
+            }
             return false;
         }
         int time = intOffsetValue(sourceOffset, TIMESTAMP);
@@ -401,6 +462,28 @@ public void startInitialSync(String replicaSetName) {
      */
     public void stopInitialSync(String replicaSetName) {
         initialSyncReplicaSets.remove(replicaSetName);
+        snapshotChunksByReplicaSetName.remove(replicaSetName);
+    }
+
+    /**
+     * Get the chunks of the initial sync of the given replica set, recording an empty set of chunks if there is none yet.
+     *
+     * @param replicaSetName the name of the replica set; never null
+     * @return the chunks; never null
+     */
+    public ChunkedCollectionSnapshotContext snapshotChunks(String replicaSetName) {
+        return snapshotChunksByReplicaSetName.computeIfAbsent(replicaSetName, rsName -> new ChunkedCollectionSnapshotContext());
+    }
+
+    /**
+     * Get the timestamp of the position where an initial sync started that was interrupted after having split the
+     * collections of the given replica set into chunks.
+     *
+     * @param replicaSetName the name of the replica set; never null
+     * @return the timestamp, or {@code null} if there is no such initial sync
+     */
+    public BsonTimestamp interruptedInitialSyncTimestamp(String replicaSetName) {
+        return interruptedInitialSyncTimestampsByReplicaSetName.get(replicaSetName);
     }
 
     /**
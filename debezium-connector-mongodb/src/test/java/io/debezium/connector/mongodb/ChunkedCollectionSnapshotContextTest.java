@@ -0,0 +1,99 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mongodb;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonInt64;
+import org.bson.BsonObjectId;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.conversions.Bson;
+import org.bson.types.ObjectId;
+import org.junit.Test;
+
+import com.mongodb.MongoClientSettings;
+
+public class ChunkedCollectionSnapshotContextTest {
+
+    private static final CollectionId COLLECTION_A = new CollectionId("rs0", "dbA", "collectA");
+    private static final CollectionId COLLECTION_B = new CollectionId("rs0", "dbA", "collectB");
+
+    @Test
+    public void shouldHaveSingleChunkWithoutBoundaries() {
+        assertThat(ChunkedCollectionSnapshotContext.chunkCount(Collections.emptyList())).isEqualTo(1);
+        assertThat(toJson(ChunkedCollectionSnapshotContext.chunkFilter(Collections.emptyList(), 0))).isEqualTo("{}");
+    }
+
+    @Test
+    public void shouldSplitIntoRangesAndOtherTypes() {
+        final List<BsonValue> boundaries = Arrays.asList(new BsonInt32(10), new BsonInt64(20));
+        assertThat(ChunkedCollectionSnapshotContext.chunkCount(boundaries)).isEqualTo(4);
+
+        assertThat(toJson(ChunkedCollectionSnapshotContext.chunkFilter(boundaries, 0)))
+                .isEqualTo("{\"_id\": {\"$lt\": 10}}");
+        assertThat(toJson(ChunkedCollectionSnapshotContext.chunkFilter(boundaries, 1)))
+                .isEqualTo("{\"$and\": [{\"_id\": {\"$gte\": 10}}, {\"_id\": {\"$lt\": 20}}]}");
+        assertThat(toJson(ChunkedCollectionSnapshotContext.chunkFilter(boundaries, 2)))
+                .isEqualTo("{\"_id\": {\"$gte\": 20}}");
+        assertThat(toJson(ChunkedCollectionSnapshotContext.chunkFilter(boundaries, 3)))
+                .isEqualTo("{\"_id\": {\"$not\": {\"$type\": \"number\"}}}");
+    }
+
+    @Test
+    public void shouldCompareNumbersOfDifferentTypes() {
+        assertThat(ChunkedCollectionSnapshotContext.isSameTypeBracket(new BsonInt32(1), new BsonInt64(2))).isTrue();
+        assertThat(ChunkedCollectionSnapshotContext.isSameTypeBracket(new BsonInt32(1), new BsonString("2"))).isFalse();
+        assertThat(ChunkedCollectionSnapshotContext.isSameTypeBracket(new BsonString("1"), new BsonString("2"))).isTrue();
+    }
+
+    @Test
+    public void shouldStoreAndLoadChunks() {
+        final ChunkedCollectionSnapshotContext context = new ChunkedCollectionSnapshotContext();
+        final Map<String, Object> offset = new HashMap<>();
+        assertThat(context.store(offset)).isEmpty();
+
+        final List<BsonValue> boundaries = Arrays.asList(new BsonObjectId(new ObjectId("5f5a7d5b9c3d4e0001a1b2c3")),
+                new BsonObjectId(new ObjectId("5f5a7d5b9c3d4e0001a1b2c4")));
+        context.collectionSplit(COLLECTION_A, boundaries);
+        context.chunkCompleted(COLLECTION_A, 2);
+        context.collectionSplit(COLLECTION_B, Collections.emptyList());
+        context.collectionCompleted(COLLECTION_B);
+
+        final ChunkedCollectionSnapshotContext loaded = ChunkedCollectionSnapshotContext.load(context.store(offset));
+        assertThat(loaded.boundaries(COLLECTION_A)).isEqualTo(boundaries);
+        assertThat(loaded.isChunkCompleted(COLLECTION_A, 0)).isFalse();
+        assertThat(loaded.isChunkCompleted(COLLECTION_A, 2)).isTrue();
+        assertThat(loaded.isCollectionCompleted(COLLECTION_A)).isFalse();
+        assertThat(loaded.boundaries(COLLECTION_B)).isNull();
+        assertThat(loaded.isCollectionCompleted(COLLECTION_B)).isTrue();
+    }
+
+    @Test
+    public void shouldUpdateStoredChunks() {
+        final ChunkedCollectionSnapshotContext context = new ChunkedCollectionSnapshotContext();
+        context.collectionSplit(COLLECTION_A, Collections.singletonList(new BsonInt32(10)));
+        final Object before = context.store(new HashMap<>()).get(ChunkedCollectionSnapshotContext.SNAPSHOT_CHUNKS_KEY);
+        assertThat(context.store(new HashMap<>()).get(ChunkedCollectionSnapshotContext.SNAPSHOT_CHUNKS_KEY)).isSameAs(before);
+
+        context.chunkCompleted(COLLECTION_A, 0);
+        final Map<String, Object> offset = context.store(new HashMap<>());
+        assertThat(offset.get(ChunkedCollectionSnapshotContext.SNAPSHOT_CHUNKS_KEY)).isNotEqualTo(before);
+        assertThat(ChunkedCollectionSnapshotContext.load(offset).isChunkCompleted(COLLECTION_A, 0)).isTrue();
+    }
+
+    private static String toJson(Bson filter) {
+        return filter.toBsonDocument(BsonDocument.class, MongoClientSettings.getDefaultCodecRegistry()).toJson();
+    }
+}
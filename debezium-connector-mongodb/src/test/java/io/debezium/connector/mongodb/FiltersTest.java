@@ -8,10 +8,17 @@
 import static org.fest.assertions.Assertions.assertThat;
 import static org.junit.Assert.assertEquals;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.bson.BsonDocument;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
 import org.junit.Before;
 import org.junit.Test;
 
+import com.mongodb.MongoClientSettings;
+
 /**
  * @author Randall Hauch
  */
@@ -214,6 +221,17 @@ public void excludeFilterShouldRemoveMatchingFieldWithTrailingWhiteSpaces() {
                 filters.fieldFilterFor(id).apply(Document.parse(" { \"key1\" : \"value1\", \"key2\" : \"value2\", \"key3\" : \"value3\" }")));
     }
 
+    @Test
+    public void excludeFilterShouldRemoveMatchingFieldFromRawDocument() {
+        filters = build.excludeFields("db1.collectionA.key1,db1.collectionA.key3").createFilters();
+        CollectionId id = CollectionId.parse("rs1.", "db1.collectionA");
+        final RawBsonDocument raw = RawBsonDocument.parse(" { \"key1\" : \"value1\", \"key2\" : \"value2\", \"key3\" : \"value3\" }");
+        assertEquals(
+                BsonDocument.parse(" { \"key2\" : \"value2\" }"),
+                filters.fieldFilterFor(id).apply(raw));
+        assertThat(raw.containsKey("key1")).isTrue();
+    }
+
     @Test
     public void renameFilterShouldRenameMatchingField() {
         filters = build.renameFields("db1.collectionA.key1:key2").createFilters();
@@ -241,6 +259,49 @@ public void renameFilterShouldRenameMatchingFieldWithTrailingWhiteSpaces() {
                 filters.fieldFilterFor(id).apply(Document.parse(" { \"key1\" : \"valueA\", \"key3\" : \"valueB\" }")));
     }
 
+    @Test
+    public void changeStreamStagesShouldBeEmptyWithoutFilters() {
+        filters = build.createFilters();
+        assertThat(filters.changeStreamStages()).isEmpty();
+    }
+
+    @Test
+    public void changeStreamStagesShouldMatchIncludedDatabases() {
+        filters = build.includeDatabases("db1,db.*").createFilters();
+        assertThat(changeStreamStages()).containsExactly(
+                "{\"$match\": {\"ns.db\": {\"$regularExpression\": {\"pattern\": \"^(?:(?:db1)|(?:db.*))$\", \"options\": \"i\"}}}}");
+    }
+
+    @Test
+    public void changeStreamStagesShouldNotMatchExcludedDatabases() {
+        filters = build.excludeDatabases("db1").createFilters();
+        assertThat(changeStreamStages()).containsExactly(
+                "{\"$match\": {\"ns.db\": {\"$not\": {\"$regularExpression\": {\"pattern\": \"^(?:(?:db1))$\", \"options\": \"i\"}}}}}");
+    }
+
+    @Test
+    public void changeStreamStagesShouldMatchNamespaceOfIncludedCollections() {
+        filters = build.includeCollections("db1\\.coll.*").createFilters();
+        assertThat(changeStreamStages()).containsExactly(
+                "{\"$addFields\": {\"__dbz_namespace\": {\"$concat\": [\"$ns.db\", \".\", \"$ns.coll\"]}}}",
+                "{\"$match\": {\"__dbz_namespace\": {\"$regularExpression\": {\"pattern\": \"^(?:(?:db1\\\\.coll.*))$\", \"options\": \"i\"}}}}",
+                "{\"$project\": {\"__dbz_namespace\": 0}}");
+    }
+
+    @Test
+    public void changeStreamStagesShouldMatchSignalCollectionOfExcludedCollections() {
+        filters = build.excludeCollections("db1\\..*").signalingCollection("db1.signals").createFilters();
+        assertThat(changeStreamStages().get(1)).isEqualTo(
+                "{\"$match\": {\"$or\": [{\"__dbz_namespace\": {\"$not\": {\"$regularExpression\": {\"pattern\": \"^(?:(?:db1\\\\..*))$\", \"options\": \"i\"}}}}, "
+                        + "{\"__dbz_namespace\": {\"$regularExpression\": {\"pattern\": \"^(?:(?:db1.signals))$\", \"options\": \"i\"}}}]}}");
+    }
+
+    private List<String> changeStreamStages() {
+        return filters.changeStreamStages().stream()
+                .map(stage -> stage.toBsonDocument(BsonDocument.class, MongoClientSettings.getDefaultCodecRegistry()).toJson())
+                .collect(Collectors.toList());
+    }
+
     protected void assertCollectionIncluded(String fullyQualifiedCollectionName) {
         CollectionId id = CollectionId.parse("rs1.", fullyQualifiedCollectionName);
         assertThat(id).isNotNull();
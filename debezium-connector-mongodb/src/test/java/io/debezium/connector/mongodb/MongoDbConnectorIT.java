@@ -23,6 +23,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
@@ -31,7 +32,9 @@
 import org.apache.kafka.connect.data.Struct;
 import org.apache.kafka.connect.errors.ConnectException;
 import org.apache.kafka.connect.source.SourceRecord;
+import org.awaitility.Awaitility;
 import org.bson.BsonDocument;
+import org.bson.BsonTimestamp;
 import org.bson.Document;
 import org.bson.conversions.Bson;
 import org.bson.types.Decimal128;
@@ -1545,6 +1548,107 @@ public void shouldEmitHeartbeatMessages() throws InterruptedException, IOExcepti
         stopConnector();
     }
 
+    @Test
+    public void shouldAdvanceOffsetWhileOnlyExcludedCollectionsChange() throws InterruptedException, IOException {
+        config = TestHelper.getConfiguration().edit()
+                .with(MongoDbConnectorConfig.POLL_INTERVAL_MS, 10)
+                .with(MongoDbConnectorConfig.COLLECTION_INCLUDE_LIST, "dbit.mhb")
+                .with(MongoDbConnectorConfig.CHANGE_STREAM_FILTERS_PUSHDOWN, true)
+                .with(CommonConnectorConfig.TOPIC_PREFIX, "mongo")
+                .with(Heartbeat.HEARTBEAT_INTERVAL, "1")
+                .build();
+
+        context = new MongoDbTaskContext(config);
+
+        TestHelper.cleanDatabase(primary(), "dbit");
+
+        primary().execute("create", mongo -> {
+            MongoDatabase db1 = mongo.getDatabase("dbit");
+            db1.getCollection("mhb").drop();
+            db1.getCollection("nmhb").drop();
+        });
+
+        start(MongoDbConnector.class, config);
+        waitForStreamingRunning("mongodb", "mongo");
+
+        primary().execute("insert-monitored", mongo -> {
+            mongo.getDatabase("dbit").getCollection("mhb").insertOne(Document.parse("{\"a\": 1}"));
+        });
+        SourceRecords records = consumeRecordsByTopic(1);
+        assertThat(records.recordsForTopic("mongo.dbit.mhb")).hasSize(1);
+        final Map<String, ?> monitoredOffset = records.recordsForTopic("mongo.dbit.mhb").get(0).sourceOffset();
+        final BsonTimestamp monitoredTs = new BsonTimestamp((Integer) monitoredOffset.get(SourceInfo.TIMESTAMP),
+                (Integer) monitoredOffset.get(SourceInfo.ORDER));
+        consumeAvailableRecords(record -> {
+        });
+
+        // the server discards the events of the excluded collection, so only heartbeats are emitted
+        primary().execute("insert-nonmonitored", mongo -> {
+            for (int i = 0; i < 10; i++) {
+                mongo.getDatabase("dbit").getCollection("nmhb").insertOne(Document.parse("{\"a\": " + i + "}"));
+            }
+        });
+
+        final AtomicReference<BsonTimestamp> heartbeatTs = new AtomicReference<>(monitoredTs);
+        Awaitility.await().atMost(waitTimeForRecords() * 30, TimeUnit.SECONDS).until(() -> {
+            consumeAvailableRecords(record -> {
+                assertThat(record.topic()).isEqualTo("__debezium-heartbeat.mongo");
+                final Map<String, ?> offset = record.sourceOffset();
+                heartbeatTs.set(new BsonTimestamp((Integer) offset.get(SourceInfo.TIMESTAMP), (Integer) offset.get(SourceInfo.ORDER)));
+            });
+            return heartbeatTs.get().compareTo(monitoredTs) > 0;
+        });
+
+        stopConnector();
+    }
+
+    @Test
+    public void shouldWaitOnServerForChangesWhenCursorPausesAreDisabled() throws InterruptedException, IOException {
+        config = TestHelper.getConfiguration().edit()
+                .with(MongoDbConnectorConfig.POLL_INTERVAL_MS, 10)
+                .with(MongoDbConnectorConfig.COLLECTION_INCLUDE_LIST, "dbit.mhb")
+                .with(MongoDbConnectorConfig.CURSOR_PAUSE_INTERVAL_MS, 0)
+                .with(CommonConnectorConfig.TOPIC_PREFIX, "mongo")
+                .with(Heartbeat.HEARTBEAT_INTERVAL, "1")
+                .build();
+
+        context = new MongoDbTaskContext(config);
+
+        TestHelper.cleanDatabase(primary(), "dbit");
+
+        primary().execute("create", mongo -> {
+            mongo.getDatabase("dbit").getCollection("mhb").drop();
+        });
+
+        start(MongoDbConnector.class, config);
+        waitForStreamingRunning("mongodb", "mongo");
+
+        primary().execute("insert-monitored", mongo -> {
+            mongo.getDatabase("dbit").getCollection("mhb").insertOne(Document.parse("{\"a\": 1}"));
+        });
+        SourceRecords records = consumeRecordsByTopic(1);
+        assertThat(records.recordsForTopic("mongo.dbit.mhb")).hasSize(1);
+        consumeAvailableRecords(record -> {
+        });
+
+        // Each loop without an event emits a heartbeat, so their number shows how often the cursor returned;
+        // without the wait on the server the loop would spin and emit thousands of them
+        final long idleMs = 5_000;
+        Thread.sleep(idleMs);
+        final List<SourceRecord> heartbeats = new ArrayList<>();
+        consumeAvailableRecords(record -> {
+            assertThat(record.topic()).isEqualTo("__debezium-heartbeat.mongo");
+            heartbeats.add(record);
+        });
+        assertThat(heartbeats).isNotEmpty();
+        assertThat(heartbeats.size()).isLessThanOrEqualTo((int) (2 * idleMs / MongoDbConnectorConfig.DEFAULT_CURSOR_AWAIT_TIME_MS));
+
+        // A stop request is noticed once the pending wait on the server has ended
+        final long stopStart = System.currentTimeMillis();
+        stopConnector();
+        assertThat(System.currentTimeMillis() - stopStart).isLessThan(TimeUnit.SECONDS.toMillis(5));
+    }
+
     @Test
     @FixFor("DBZ-1292")
     public void shouldOutputRecordsInCloudEventsFormat() throws Exception {
@@ -10,6 +10,9 @@
 import java.util.ArrayList;
 import java.util.List;
 
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonTimestamp;
 import org.junit.Test;
 
 import com.mongodb.ServerAddress;
@@ -163,4 +166,9 @@ public void shouldNotParseReplicaSetName() {
         assertThat(MongoUtil.replicaSetUsedIn("[::1/128]")).isNull();
     }
 
+    @Test
+    public void shouldReadTimestampOfResumeToken() {
+        final BsonDocument resumeToken = new BsonDocument("_data", new BsonString("8263F0A1B2000000012B0229296E04"));
+        assertThat(MongoUtil.getChangeStreamResumeTokenTimestamp(resumeToken)).isEqualTo(new BsonTimestamp(0x63F0A1B2, 1));
+    }
 }
@@ -23,6 +23,10 @@
 import com.mongodb.connection.ClusterType;
 import com.mongodb.connection.ServerConnectionState;
 import com.mongodb.connection.ServerDescription;
+import com.mongodb.connection.ServerType;
+
+import io.debezium.config.CommonConnectorConfig;
+import io.debezium.config.Configuration;
 
 public class ReplicaSetDiscoveryTest {
 
@@ -77,4 +81,40 @@ public void shouldGetFirstValidReplicaSetName() {
         assertThat(replicaSets.validReplicaSets().get(0).replicaSetName()).isEqualTo("my_rs");
         assertThat(replicaSets.validReplicaSets().get(0).addresses()).isEqualTo(List.of(host2Address));
     }
+
+    @Test
+    public void shouldUseRoutersOfShardedClusterInShardedConnectionMode() {
+        when(context.getConnectorConfig()).thenReturn(new MongoDbConnectorConfig(Configuration.create()
+                .with(CommonConnectorConfig.TOPIC_PREFIX, "serverX")
+                .with(MongoDbConnectorConfig.CONNECTION_MODE, MongoDbConnectorConfig.ConnectionMode.SHARDED.getValue())
+                .build()));
+
+        ServerAddress router1Address = new ServerAddress("router1");
+        ServerAddress router2Address = new ServerAddress("router2");
+
+        List<ServerDescription> serverDescriptions = List.of(
+                ServerDescription.builder()
+                        .address(router1Address)
+                        .state(ServerConnectionState.CONNECTED)
+                        .type(ServerType.SHARD_ROUTER)
+                        .build(),
+                ServerDescription.builder()
+                        .address(router2Address)
+                        .state(ServerConnectionState.CONNECTED)
+                        .type(ServerType.SHARD_ROUTER)
+                        .build());
+
+        ClusterDescription clusterDescription = new ClusterDescription(
+                ClusterConnectionMode.MULTIPLE,
+                ClusterType.SHARDED,
+                serverDescriptions);
+
+        when(mongoClient.getClusterDescription()).thenReturn(clusterDescription);
+
+        ReplicaSets replicaSets = replicaSetDiscovery.getReplicaSets();
+        assertThat(replicaSets.validReplicaSets().size()).isEqualTo(1);
+        assertThat(replicaSets.validReplicaSets().get(0).replicaSetName()).isEqualTo(ReplicaSet.CLUSTER_REPLICA_SET_NAME);
+        assertThat(replicaSets.validReplicaSets().get(0).addresses()).isEqualTo(List.of(router1Address, router2Address));
+        assertThat(ReplicaSets.parse(replicaSets.hosts())).isEqualTo(replicaSets);
+    }
 }
@@ -8,6 +8,7 @@
 import static io.debezium.data.VerifyRecord.assertConnectSchemasAreEqual;
 import static org.fest.assertions.Assertions.assertThat;
 
+import java.util.Collections;
 import java.util.Map;
 
 import org.apache.kafka.connect.data.Schema;
@@ -220,6 +221,58 @@ public void shouldReturnRecordedOffsetForUsedReplicaNameDuringInitialSync() {
         assertThat(struct.getString(SourceInfo.SNAPSHOT_KEY)).isEqualTo("true");
     }
 
+    @Test
+    public void shouldResumeInterruptedInitialSyncWithSnapshotChunks() {
+        final BsonDocument event = new BsonDocument().append("ts", new BsonTimestamp(100, 2))
+                .append("h", new BsonInt64(Long.valueOf(1987654321)))
+                .append("ns", new BsonString("dbA.collectA"));
+        final CollectionId collectionId = new CollectionId(REPLICA_SET_NAME, "dbA", "collectA");
+        source.initialPosition(REPLICA_SET_NAME, event);
+        source.startInitialSync(REPLICA_SET_NAME);
+        source.snapshotChunks(REPLICA_SET_NAME).collectionSplit(collectionId, Collections.singletonList(new BsonInt64(10)));
+        source.snapshotChunks(REPLICA_SET_NAME).chunkCompleted(collectionId, 1);
+
+        final Map<String, ?> offset = source.lastOffset(REPLICA_SET_NAME);
+        assertThat(offset.get(SourceInfo.INITIAL_SYNC)).isEqualTo(true);
+        assertThat(offset.get(ChunkedCollectionSnapshotContext.SNAPSHOT_CHUNKS_KEY)).isNotNull();
+
+        // An interrupted initial sync is not an offset to stream from ...
+        Map<String, String> partition = source.partition(REPLICA_SET_NAME);
+        source = new SourceInfo(new MongoDbConnectorConfig(
+                Configuration.create()
+                        .with(CommonConnectorConfig.TOPIC_PREFIX, "serverX")
+                        .build()));
+        assertThat(source.setOffsetFor(partition, offset)).isFalse();
+        assertThat(source.hasOffset(REPLICA_SET_NAME)).isFalse();
+
+        // ... but it can be resumed from where it was started
+        final BsonTimestamp ts = source.interruptedInitialSyncTimestamp(REPLICA_SET_NAME);
+        assertThat(ts).isEqualTo(new BsonTimestamp(100, 2));
+        final ChunkedCollectionSnapshotContext snapshotChunks = source.snapshotChunks(REPLICA_SET_NAME);
+        assertThat(snapshotChunks.boundaries(collectionId)).isEqualTo(Collections.singletonList(new BsonInt64(10)));
+        assertThat(snapshotChunks.isChunkCompleted(collectionId, 0)).isFalse();
+        assertThat(snapshotChunks.isChunkCompleted(collectionId, 1)).isTrue();
+
+        source.resumeInitialSync(REPLICA_SET_NAME, ts, snapshotChunks);
+        assertThat(source.lastOffsetTimestamp(REPLICA_SET_NAME)).isEqualTo(ts);
+    }
+
+    @Test
+    public void shouldAdvanceToResumeTokenWithoutEvent() {
+        final BsonDocument resumeToken = new BsonDocument("_data", new BsonString("8263F0A1B2000000012B0229296E04"));
+        assertThat(source.noEvent(REPLICA_SET_NAME, resumeToken)).isTrue();
+        assertThat(source.lastResumeToken(REPLICA_SET_NAME)).isEqualTo("8263F0A1B2000000012B0229296E04");
+        assertThat(source.lastOffsetTimestamp(REPLICA_SET_NAME)).isEqualTo(new BsonTimestamp(0x63F0A1B2, 1));
+
+        // the same resume token does not advance the position
+        assertThat(source.noEvent(REPLICA_SET_NAME, resumeToken)).isFalse();
+
+        final BsonDocument laterResumeToken = new BsonDocument("_data", new BsonString("8263F0A1B3000000012B0229296E04"));
+        assertThat(source.noEvent(REPLICA_SET_NAME, laterResumeToken)).isTrue();
+        assertThat(source.lastOffsetTimestamp(REPLICA_SET_NAME)).isEqualTo(new BsonTimestamp(0x63F0A1B3, 1));
+        assertThat(source.lastOffset(REPLICA_SET_NAME).get(SourceInfo.TIMESTAMP)).isEqualTo(0x63F0A1B3);
+    }
+
     @Test
     public void versionIsPresent() {
         final BsonDocument event = new BsonDocument().append("ts", new BsonTimestamp(100, 2))
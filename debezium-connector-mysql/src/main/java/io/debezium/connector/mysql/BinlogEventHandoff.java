@@ -0,0 +1,166 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mysql;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.shyiko.mysql.binlog.BinaryLogClient;
+import com.github.shyiko.mysql.binlog.event.Event;
+
+import io.debezium.DebeziumException;
+import io.debezium.annotation.ThreadSafe;
+import io.debezium.connector.base.ChangeEventQueue;
+import io.debezium.pipeline.ErrorHandler;
+import io.debezium.util.Clock;
+import io.debezium.util.Threads;
+
+/**
+ * A bounded hand-off of binlog events between the thread of the {@link BinaryLogClient}, which reads and deserializes
+ * the events, and a dedicated thread which processes them. This allows the client to keep reading from the network
+ * while events are being converted and dispatched, instead of the server-side dump thread blocking whenever the
+ * processing of an event stalls.
+ * <p>
+ * Events are processed strictly in the order in which they have been read. Once the queue is full, the reading thread
+ * blocks until the processing thread catches up, similar to the {@link ChangeEventQueue}.
+ */
+@ThreadSafe
+class BinlogEventHandoff implements BinaryLogClient.EventListener {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BinlogEventHandoff.class);
+
+    private static final long POLL_INTERVAL_MS = 100;
+
+    private final int capacity;
+    private final BlockingQueue<QueuedEvent> queue;
+    private final BinaryLogClient.EventListener processor;
+    private final MySqlTaskContext taskContext;
+    private final ErrorHandler errorHandler;
+    private final Clock clock;
+    private final ExecutorService executor;
+    private final AtomicLong milliSecondsBehindReader = new AtomicLong(-1);
+
+    private volatile boolean running;
+
+    /**
+     * @param capacity the maximum number of events waiting to be processed
+     * @param processor the listener processing the events on the processing thread
+     */
+    BinlogEventHandoff(int capacity, BinaryLogClient.EventListener processor, MySqlConnectorConfig connectorConfig, MySqlTaskContext taskContext,
+                       ErrorHandler errorHandler, Clock clock) {
+        this.capacity = capacity;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.processor = processor;
+        this.taskContext = taskContext;
+        this.errorHandler = errorHandler;
+        this.clock = clock;
+        this.executor = Threads.newSingleThreadExecutor(MySqlConnector.class, connectorConfig.getLogicalName(), "binlog-processor");
+    }
+
+    /**
+     * Starts the thread processing the events.
+     */
+    void start() {
+        running = true;
+        executor.submit(this::processEvents);
+    }
+
+    /**
+     * Stops the thread processing the events, discarding the events that have not been processed yet. A reading
+     * thread blocked on a full queue is released.
+     */
+    void stop() {
+        running = false;
+        executor.shutdownNow();
+        try {
+            if (!executor.awaitTermination(POLL_INTERVAL_MS * 10, TimeUnit.MILLISECONDS)) {
+                LOGGER.warn("Binlog event processing thread did not stop in time");
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        queue.clear();
+    }
+
+    @Override
+    public void onEvent(Event event) {
+        final QueuedEvent queuedEvent = new QueuedEvent(event, clock.currentTimeInMillis());
+        try {
+            while (running) {
+                if (queue.offer(queuedEvent, POLL_INTERVAL_MS, TimeUnit.MILLISECONDS)) {
+                    return;
+                }
+            }
+            LOGGER.debug("Binlog event processing has stopped, discarding event {}", event);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.info("Stopped handing off binlog events due to thread interruption");
+        }
+    }
+
+    private void processEvents() {
+        taskContext.configureLoggingContext("binlog");
+        try {
+            while (running) {
+                final QueuedEvent queuedEvent = queue.poll(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                if (queuedEvent != null) {
+                    milliSecondsBehindReader.set(clock.currentTimeInMillis() - queuedEvent.readTimestamp);
+                    processor.onEvent(queuedEvent.event);
+                }
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.info("Stopped processing binlog events due to thread interruption");
+        }
+        catch (Throwable t) {
+            // release the reading thread; the connector will be stopped by the error handler
+            running = false;
+            errorHandler.setProducerThrowable(new DebeziumException("Error processing binlog event", t));
+        }
+    }
+
+    /**
+     * @return the maximum number of events waiting to be processed
+     */
+    int getTotalCapacity() {
+        return capacity;
+    }
+
+    /**
+     * @return the number of events that can be handed off before the reading thread blocks
+     */
+    int getRemainingCapacity() {
+        return queue.remainingCapacity();
+    }
+
+    /**
+     * @return the time the most recently processed event spent between having been read and being processed, or
+     *         {@code -1} if no event has been processed yet
+     */
+    long getMilliSecondsBehindReader() {
+        return milliSecondsBehindReader.get();
+    }
+
+    private static final class QueuedEvent {
+
+        private final Event event;
+        private final long readTimestamp;
+
+        QueuedEvent(Event event, long readTimestamp) {
+            this.event = event;
+            this.readTimestamp = readTimestamp;
+        }
+    }
+}
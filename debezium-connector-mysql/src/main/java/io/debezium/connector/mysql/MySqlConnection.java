@@ -80,6 +80,14 @@ public MySqlConnection(MySqlConnectionConfiguration connectionConfig) {
         this(connectionConfig, new MySqlTextProtocolFieldReader(null));
     }
 
+    /**
+     * Creates a new connection using the same configuration and field reader as this connection.
+     * The new connection is not opened until it is used for the first time.
+     */
+    public MySqlConnection newConnection() {
+        return new MySqlConnection(connectionConfig, mysqlFieldReader);
+    }
+
     @Override
     public void close() throws SQLException {
         try {
@@ -522,6 +522,7 @@ public static SecureConnectionMode parse(String value, String defaultValue) {
      * client.
      */
     private static final int DEFAULT_BINLOG_BUFFER_SIZE = 0;
+    private static final int DEFAULT_BINLOG_PROCESSING_QUEUE_SIZE = 0;
 
     public static final Field PORT = RelationalDatabaseConnectorConfig.PORT
             .withDefault(DEFAULT_PORT);
@@ -731,6 +732,21 @@ public static SecureConnectionMode parse(String value, String defaultValue) {
             .withDefault(DEFAULT_BINLOG_BUFFER_SIZE)
             .withValidation(Field::isNonNegativeInteger);
 
+    public static final Field BINLOG_PROCESSING_QUEUE_SIZE = Field.create("binlog.processing.queue.size")
+            .withDisplayName("Binlog processing queue size")
+            .withType(Type.INT)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_ADVANCED, 4))
+            .withWidth(Width.MEDIUM)
+            .withImportance(Importance.LOW)
+            .withDescription("The maximum number of binlog events that are queued between the thread reading and deserializing "
+                    + "events from the binlog and a separate thread processing them, so that reading from the network can continue "
+                    + "while events are being processed. "
+                    + "Use 0 to process events on the thread reading the binlog. "
+                    + "Not used when the look-ahead buffer of '" + BUFFER_SIZE_FOR_BINLOG_READER.name() + "' is enabled. "
+                    + "Defaults to " + DEFAULT_BINLOG_PROCESSING_QUEUE_SIZE + " (i.e. events are processed on the reading thread).")
+            .withDefault(DEFAULT_BINLOG_PROCESSING_QUEUE_SIZE)
+            .withValidation(Field::isNonNegativeInteger);
+
     /**
      * The database schema history class is hidden in the {@link #configDef()} since that is designed to work with a user interface,
      * and in these situations using Kafka is the only way to go.
@@ -920,6 +936,7 @@ public static SecureConnectionMode parse(String value, String defaultValue) {
                     GTID_SOURCE_EXCLUDES,
                     GTID_SOURCE_FILTER_DML_EVENTS,
                     BUFFER_SIZE_FOR_BINLOG_READER,
+                    BINLOG_PROCESSING_QUEUE_SIZE,
                     EVENT_DESERIALIZATION_FAILURE_HANDLING_MODE,
                     INCONSISTENT_SCHEMA_HANDLING_MODE)
             .create();
@@ -1132,6 +1149,10 @@ public int bufferSizeForStreamingChangeEventSource() {
         return config.getInteger(MySqlConnectorConfig.BUFFER_SIZE_FOR_BINLOG_READER);
     }
 
+    public int getBinlogProcessingQueueSize() {
+        return config.getInteger(MySqlConnectorConfig.BINLOG_PROCESSING_QUEUE_SIZE);
+    }
+
     /**
      * Get the predicate function that will return {@code true} if a GTID source is to be included, or {@code false} if
      * a GTID source is to be excluded.
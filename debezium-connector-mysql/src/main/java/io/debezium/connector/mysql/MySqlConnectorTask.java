@@ -29,6 +29,7 @@
 import io.debezium.pipeline.ErrorHandler;
 import io.debezium.pipeline.EventDispatcher;
 import io.debezium.pipeline.spi.Offsets;
+import io.debezium.relational.RelationalDatabaseConnectorConfig.QueueImplementation;
 import io.debezium.relational.TableId;
 import io.debezium.spi.topic.TopicNamingStrategy;
 import io.debezium.util.Clock;
@@ -123,6 +124,11 @@ public ChangeEventSourceCoordinator<MySqlPartition, MySqlOffsetContext> start(Co
                 .maxBatchSize(connectorConfig.getMaxBatchSize())
                 .maxQueueSize(connectorConfig.getMaxQueueSize())
                 .maxQueueSizeInBytes(connectorConfig.getMaxQueueSizeInBytes())
+                .adaptiveBatching(connectorConfig.isAdaptiveBatchingEnabled())
+                .minBatchSize(connectorConfig.getAdaptiveBatchingMinBatchSize())
+                .minPollInterval(connectorConfig.getAdaptiveBatchingMinPollInterval())
+                .ringBuffer(connectorConfig.getQueueImplementation() == QueueImplementation.RING_BUFFER)
+                .conversionThreads(connectorConfig.getConversionThreads(), MySqlConnector.class, connectorConfig.getLogicalName())
                 .loggingContextSupplier(() -> taskContext.configureLoggingContext(CONTEXT_NAME))
                 .buffering()
                 .build();
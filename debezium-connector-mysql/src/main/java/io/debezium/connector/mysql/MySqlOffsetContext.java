@@ -15,6 +15,7 @@
 
 import io.debezium.connector.SnapshotRecord;
 import io.debezium.pipeline.CommonOffsetContext;
+import io.debezium.pipeline.source.snapshot.ChunkedSnapshotContext;
 import io.debezium.pipeline.source.snapshot.incremental.IncrementalSnapshotContext;
 import io.debezium.pipeline.source.snapshot.incremental.SignalBasedIncrementalSnapshotContext;
 import io.debezium.pipeline.spi.OffsetContext;
@@ -34,6 +35,7 @@ public class MySqlOffsetContext extends CommonOffsetContext<SourceInfo> {
     private boolean snapshotCompleted;
     private final TransactionContext transactionContext;
     private final IncrementalSnapshotContext<TableId> incrementalSnapshotContext;
+    private final ChunkedSnapshotContext chunkedSnapshotContext;
     private String restartGtidSet;
     private String currentGtidSet;
     private String restartBinlogFilename;
@@ -46,6 +48,12 @@ public class MySqlOffsetContext extends CommonOffsetContext<SourceInfo> {
 
     public MySqlOffsetContext(boolean snapshot, boolean snapshotCompleted, TransactionContext transactionContext,
                               IncrementalSnapshotContext<TableId> incrementalSnapshotContext, SourceInfo sourceInfo) {
+        this(snapshot, snapshotCompleted, transactionContext, incrementalSnapshotContext, new ChunkedSnapshotContext(), sourceInfo);
+    }
+
+    public MySqlOffsetContext(boolean snapshot, boolean snapshotCompleted, TransactionContext transactionContext,
+                              IncrementalSnapshotContext<TableId> incrementalSnapshotContext, ChunkedSnapshotContext chunkedSnapshotContext,
+                              SourceInfo sourceInfo) {
         super(sourceInfo);
         sourceInfoSchema = sourceInfo.schema();
 
@@ -58,6 +66,7 @@ public MySqlOffsetContext(boolean snapshot, boolean snapshotCompleted, Transacti
         }
         this.transactionContext = transactionContext;
         this.incrementalSnapshotContext = incrementalSnapshotContext;
+        this.chunkedSnapshotContext = chunkedSnapshotContext;
     }
 
     public MySqlOffsetContext(MySqlConnectorConfig connectorConfig, boolean snapshot, boolean snapshotCompleted, SourceInfo sourceInfo) {
@@ -72,6 +81,7 @@ public MySqlOffsetContext(MySqlConnectorConfig connectorConfig, boolean snapshot
         if (sourceInfo.isSnapshot()) {
             if (!snapshotCompleted) {
                 offset.put(SourceInfo.SNAPSHOT_KEY, true);
+                chunkedSnapshotContext.store(offset);
             }
         }
         else {
@@ -184,7 +194,7 @@ public MySqlOffsetContext load(Map<String, ?> offset) {
                 incrementalSnapshotContext = SignalBasedIncrementalSnapshotContext.load(offset);
             }
             final MySqlOffsetContext offsetContext = new MySqlOffsetContext(snapshot, snapshotCompleted,
-                    TransactionContext.load(offset), incrementalSnapshotContext,
+                    TransactionContext.load(offset), incrementalSnapshotContext, ChunkedSnapshotContext.load(offset),
                     new SourceInfo(connectorConfig));
             offsetContext.setBinlogStartPoint(binlogFilename, binlogPosition);
             offsetContext.setInitialSkips(longOffsetValue(offset, EVENTS_TO_SKIP_OFFSET_KEY),
@@ -238,6 +248,11 @@ public IncrementalSnapshotContext<?> getIncrementalSnapshotContext() {
         return incrementalSnapshotContext;
     }
 
+    @Override
+    public ChunkedSnapshotContext getChunkedSnapshotContext() {
+        return chunkedSnapshotContext;
+    }
+
     /**
      * Set the position in the MySQL binlog where we will start reading.
      *
@@ -424,6 +439,7 @@ public String toString() {
                 + restartBinlogPosition + ", restartRowsToSkip=" + restartRowsToSkip + ", restartEventsToSkip="
                 + restartEventsToSkip + ", currentEventLengthInBytes=" + currentEventLengthInBytes + ", inTransaction="
                 + inTransaction + ", transactionId=" + transactionId
-                + ", incrementalSnapshotContext =" + incrementalSnapshotContext + "]";
+                + ", incrementalSnapshotContext =" + incrementalSnapshotContext
+                + ", chunkedSnapshotContext =" + chunkedSnapshotContext + "]";
     }
 }
@@ -33,6 +33,7 @@
 import io.debezium.connector.mysql.MySqlConnection.DatabaseLocales;
 import io.debezium.data.Envelope;
 import io.debezium.function.BlockingConsumer;
+import io.debezium.jdbc.JdbcConnection;
 import io.debezium.pipeline.EventDispatcher;
 import io.debezium.relational.RelationalSnapshotChangeEventSource;
 import io.debezium.relational.RelationalTableFilters;
@@ -107,6 +108,29 @@ protected void connectionCreated(RelationalSnapshotContext<MySqlPartition, MySql
             throws Exception {
     }
 
+    @Override
+    protected Optional<JdbcConnection> createSnapshotWorkerConnection(RelationalSnapshotContext<MySqlPartition, MySqlOffsetContext> snapshotContext)
+            throws SQLException {
+        // Only while reads are locked is it guaranteed that a consistent snapshot started now sees the same
+        // data as the main connection at the binlog position recorded in the offsets
+        if (!isGloballyLocked() && !isTablesLocked()) {
+            LOGGER.info("No read lock is held, multiple snapshot connections cannot be used");
+            return Optional.empty();
+        }
+
+        final MySqlConnection workerConnection = connection.newConnection();
+        try {
+            workerConnection.setAutoCommit(false);
+            workerConnection.connection().setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+            workerConnection.executeWithoutCommitting("START TRANSACTION WITH CONSISTENT SNAPSHOT");
+        }
+        catch (SQLException e) {
+            workerConnection.close();
+            throw e;
+        }
+        return Optional.of(workerConnection);
+    }
+
     @Override
     protected Set<TableId> getAllTableIds(RelationalSnapshotContext<MySqlPartition, MySqlOffsetContext> ctx)
             throws Exception {
@@ -472,11 +496,16 @@ protected OptionalLong rowCountForTable(TableId tableId) {
 
     @Override
     protected Statement readTableStatement(OptionalLong rowCount) throws SQLException {
+        return readTableStatement(connection, rowCount);
+    }
+
+    @Override
+    protected Statement readTableStatement(JdbcConnection jdbcConnection, OptionalLong rowCount) throws SQLException {
         final long largeTableRowCount = connectorConfig.rowCountForLargeTable();
         if (!rowCount.isPresent() || largeTableRowCount == 0 || rowCount.getAsLong() <= largeTableRowCount) {
-            return super.readTableStatement(rowCount);
+            return jdbcConnection.readTableStatement(connectorConfig, rowCount);
         }
-        return createStatementWithLargeResultSet();
+        return createStatementWithLargeResultSet(jdbcConnection);
     }
 
     /**
@@ -494,12 +523,13 @@ protected Statement readTableStatement(OptionalLong rowCount) throws SQLExceptio
      * and {@link ResultSet#CONCUR_READ_ONLY read-only concurrency} flags, and with a {@link Integer#MIN_VALUE minimum value}
      * {@link Statement#setFetchSize(int) fetch size hint}.
      *
+     * @param jdbcConnection the connection to create the statement on
      * @return the statement; never null
      * @throws SQLException if there is a problem creating the statement
      */
-    private Statement createStatementWithLargeResultSet() throws SQLException {
+    private Statement createStatementWithLargeResultSet(JdbcConnection jdbcConnection) throws SQLException {
         int fetchSize = connectorConfig.getSnapshotFetchSize();
-        Statement stmt = connection.connection().createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        Statement stmt = jdbcConnection.connection().createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
         stmt.setFetchSize(fetchSize);
         return stmt;
     }
@@ -77,6 +77,7 @@
 import io.debezium.pipeline.EventDispatcher;
 import io.debezium.pipeline.source.spi.StreamingChangeEventSource;
 import io.debezium.relational.TableId;
+import io.debezium.relational.Tables.TableFilter;
 import io.debezium.schema.SchemaChangeEvent;
 import io.debezium.time.Conversions;
 import io.debezium.util.Clock;
@@ -117,7 +118,7 @@ public class MySqlStreamingChangeEventSource implements StreamingChangeEventSour
     private final EventDispatcher<MySqlPartition, TableId> eventDispatcher;
     private final ErrorHandler errorHandler;
 
-    @SingleThreadAccess("binlog client thread")
+    @SingleThreadAccess("binlog event processing thread")
     private Instant eventTimestamp;
 
     public static class BinlogPosition {
@@ -287,23 +288,25 @@ public Event nextEvent(ByteArrayInputStream inputStream) throws IOException {
         };
 
         // Add our custom deserializers ...
+        // The rows of tables that are not captured are skipped rather than decoded ...
+        final TableFilter tableFilter = connectorConfig.getTableFilters().dataCollectionFilter();
         eventDeserializer.setEventDataDeserializer(EventType.STOP, new StopEventDataDeserializer());
         eventDeserializer.setEventDataDeserializer(EventType.GTID, new GtidEventDataDeserializer());
         eventDeserializer.setEventDataDeserializer(EventType.WRITE_ROWS,
-                new RowDeserializers.WriteRowsDeserializer(tableMapEventByTableId, eventDeserializationFailureHandlingMode));
+                new RowDeserializers.WriteRowsDeserializer(tableMapEventByTableId, eventDeserializationFailureHandlingMode, tableFilter));
         eventDeserializer.setEventDataDeserializer(EventType.UPDATE_ROWS,
-                new RowDeserializers.UpdateRowsDeserializer(tableMapEventByTableId, eventDeserializationFailureHandlingMode));
+                new RowDeserializers.UpdateRowsDeserializer(tableMapEventByTableId, eventDeserializationFailureHandlingMode, tableFilter));
         eventDeserializer.setEventDataDeserializer(EventType.DELETE_ROWS,
-                new RowDeserializers.DeleteRowsDeserializer(tableMapEventByTableId, eventDeserializationFailureHandlingMode));
+                new RowDeserializers.DeleteRowsDeserializer(tableMapEventByTableId, eventDeserializationFailureHandlingMode, tableFilter));
         eventDeserializer.setEventDataDeserializer(EventType.EXT_WRITE_ROWS,
                 new RowDeserializers.WriteRowsDeserializer(
-                        tableMapEventByTableId, eventDeserializationFailureHandlingMode).setMayContainExtraInformation(true));
+                        tableMapEventByTableId, eventDeserializationFailureHandlingMode, tableFilter).setMayContainExtraInformation(true));
         eventDeserializer.setEventDataDeserializer(EventType.EXT_UPDATE_ROWS,
                 new RowDeserializers.UpdateRowsDeserializer(
-                        tableMapEventByTableId, eventDeserializationFailureHandlingMode).setMayContainExtraInformation(true));
+                        tableMapEventByTableId, eventDeserializationFailureHandlingMode, tableFilter).setMayContainExtraInformation(true));
         eventDeserializer.setEventDataDeserializer(EventType.EXT_DELETE_ROWS,
                 new RowDeserializers.DeleteRowsDeserializer(
-                        tableMapEventByTableId, eventDeserializationFailureHandlingMode).setMayContainExtraInformation(true));
+                        tableMapEventByTableId, eventDeserializationFailureHandlingMode, tableFilter).setMayContainExtraInformation(true));
         client.setEventDeserializer(eventDeserializer);
     }
 
@@ -919,6 +922,20 @@ public void execute(ChangeEventSourceContext context, MySqlPartition partition,
             EventBuffer buffer = new EventBuffer(connectorConfig.bufferSizeForStreamingChangeEventSource(), this, context);
             listener = (event) -> buffer.add(partition, effectiveOffsetContext, event);
         }
+
+        BinlogEventHandoff handoff = null;
+        if (connectorConfig.getBinlogProcessingQueueSize() > 0) {
+            if (connectorConfig.bufferSizeForStreamingChangeEventSource() == 0) {
+                // Process the events on a separate thread, so that the client can keep reading from the binlog ...
+                handoff = new BinlogEventHandoff(connectorConfig.getBinlogProcessingQueueSize(), listener, connectorConfig, taskContext, errorHandler, clock);
+                listener = handoff;
+            }
+            else {
+                // The look-ahead buffer rewinds the client while processing events, which requires a single thread ...
+                LOGGER.warn("The binlog processing queue is not used because the binlog look-ahead buffer is enabled");
+            }
+        }
+        metrics.setBinlogEventHandoff(handoff);
         client.registerEventListener(listener);
 
         client.registerLifecycleListener(new ReaderThreadLifecycleListener(effectiveOffsetContext));
@@ -977,6 +994,9 @@ public void execute(ChangeEventSourceContext context, MySqlPartition partition,
         skipEvent = false;
 
         try {
+            if (handoff != null) {
+                handoff.start();
+            }
             // Start the log reader, which starts background threads ...
             if (context.isRunning()) {
                 long timeout = connectorConfig.getConnectionTimeout().toMillis();
@@ -1029,6 +1049,9 @@ public void execute(ChangeEventSourceContext context, MySqlPartition partition,
             }
         }
         finally {
+            if (handoff != null) {
+                handoff.stop();
+            }
             try {
                 client.disconnect();
             }
@@ -35,6 +35,7 @@ public class MySqlStreamingChangeEventSourceMetrics extends DefaultStreamingChan
     private final AtomicBoolean isGtidModeEnabled = new AtomicBoolean(false);
     private final AtomicLong milliSecondsBehindMaster = new AtomicLong();
     private final AtomicReference<String> lastTransactionId = new AtomicReference<>();
+    private volatile BinlogEventHandoff binlogEventHandoff;
 
     public MySqlStreamingChangeEventSourceMetrics(MySqlTaskContext taskContext, ChangeEventQueueMetrics changeEventQueueMetrics, EventMetadataProvider metadataProvider) {
         super(taskContext, changeEventQueueMetrics, metadataProvider);
@@ -153,6 +154,28 @@ public void setMilliSecondsBehindSource(long value) {
         milliSecondsBehindMaster.set(value);
     }
 
+    void setBinlogEventHandoff(BinlogEventHandoff binlogEventHandoff) {
+        this.binlogEventHandoff = binlogEventHandoff;
+    }
+
+    @Override
+    public int getBinlogProcessingQueueTotalCapacity() {
+        final BinlogEventHandoff handoff = binlogEventHandoff;
+        return handoff != null ? handoff.getTotalCapacity() : 0;
+    }
+
+    @Override
+    public int getBinlogProcessingQueueRemainingCapacity() {
+        final BinlogEventHandoff handoff = binlogEventHandoff;
+        return handoff != null ? handoff.getRemainingCapacity() : 0;
+    }
+
+    @Override
+    public long getMilliSecondsBehindBinlogReader() {
+        final BinlogEventHandoff handoff = binlogEventHandoff;
+        return handoff != null ? handoff.getMilliSecondsBehindReader() : -1;
+    }
+
     @Override
     public String[] getCapturedTables() {
         return schema.capturedTablesAsStringArray();
@@ -66,4 +66,22 @@ public interface MySqlStreamingChangeEventSourceMetricsMXBean extends StreamingC
      * @return true if using Gtids, false if not.
      */
     boolean getIsGtidModeEnabled();
+
+    /**
+     * The maximum number of events queued between the thread reading the binlog and the thread processing the events,
+     * or 0 if events are processed on the reading thread.
+     */
+    int getBinlogProcessingQueueTotalCapacity();
+
+    /**
+     * The number of events that can be queued before the thread reading the binlog blocks, or 0 if events are
+     * processed on the reading thread.
+     */
+    int getBinlogProcessingQueueRemainingCapacity();
+
+    /**
+     * The time in milliseconds the most recently processed event spent between having been read from the binlog and
+     * being processed, or -1 if events are processed on the reading thread or no event has been processed yet.
+     */
+    long getMilliSecondsBehindBinlogReader();
 }
@@ -17,13 +17,20 @@
 import java.time.Year;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.github.shyiko.mysql.binlog.event.DeleteRowsEventData;
 import com.github.shyiko.mysql.binlog.event.TableMapEventData;
+import com.github.shyiko.mysql.binlog.event.UpdateRowsEventData;
+import com.github.shyiko.mysql.binlog.event.WriteRowsEventData;
 import com.github.shyiko.mysql.binlog.event.deserialization.AbstractRowsEventDataDeserializer;
 import com.github.shyiko.mysql.binlog.event.deserialization.DeleteRowsEventDataDeserializer;
 import com.github.shyiko.mysql.binlog.event.deserialization.UpdateRowsEventDataDeserializer;
@@ -32,6 +39,8 @@
 
 import io.debezium.DebeziumException;
 import io.debezium.config.CommonConnectorConfig.EventProcessingFailureHandlingMode;
+import io.debezium.relational.TableId;
+import io.debezium.relational.Tables.TableFilter;
 
 /**
  * Custom deserializers for the MySQL Binlog Client library.
@@ -49,6 +58,10 @@
  * methods on all 3 classes. It's ugly, but it works.
  * <p>
  * See the <a href="https://dev.mysql.com/doc/refman/5.0/en/datetime.html">MySQL Date Time</a> documentation.
+ * <p>
+ * The deserializers also accept a {@link TableFilter}: the rows of events for tables that are excluded by the filter are
+ * skipped without being decoded, as the connector would discard them anyway. The resulting event data only carries the
+ * table number and the included columns of the event, and an empty list of rows.
  *
  * @author Randall Hauch
  */
@@ -62,12 +75,48 @@ public class RowDeserializers {
      * {@link OffsetDateTime} objects, respectively.
      */
     public static class DeleteRowsDeserializer extends DeleteRowsEventDataDeserializer {
+        private final Map<Long, TableMapEventData> tableMapEventByTableId;
+        private final TableFilter tableFilter;
         private EventProcessingFailureHandlingMode eventProcessingFailureHandlingMode;
+        private boolean mayContainExtraInformation;
 
         public DeleteRowsDeserializer(Map<Long, TableMapEventData> tableMapEventByTableId,
                                       EventProcessingFailureHandlingMode eventProcessingFailureHandlingMode) {
+            this(tableMapEventByTableId, eventProcessingFailureHandlingMode, TableFilter.includeAll());
+        }
+
+        public DeleteRowsDeserializer(Map<Long, TableMapEventData> tableMapEventByTableId,
+                                      EventProcessingFailureHandlingMode eventProcessingFailureHandlingMode, TableFilter tableFilter) {
             super(tableMapEventByTableId);
+            this.tableMapEventByTableId = tableMapEventByTableId;
             this.eventProcessingFailureHandlingMode = eventProcessingFailureHandlingMode;
+            this.tableFilter = tableFilter;
+        }
+
+        @Override
+        public DeleteRowsDeserializer setMayContainExtraInformation(boolean mayContainExtraInformation) {
+            super.setMayContainExtraInformation(mayContainExtraInformation);
+            this.mayContainExtraInformation = mayContainExtraInformation;
+            return this;
+        }
+
+        @Override
+        public DeleteRowsEventData deserialize(ByteArrayInputStream inputStream) throws IOException {
+            final DeleteRowsEventData eventData = new DeleteRowsEventData();
+            eventData.setTableId(deserializeRowsEventHeader(mayContainExtraInformation, inputStream));
+            final int numberOfColumns = inputStream.readPackedInteger();
+            eventData.setIncludedColumns(inputStream.readBitSet(numberOfColumns, true));
+            if (isExcluded(tableMapEventByTableId, tableFilter, eventData.getTableId(), inputStream)) {
+                eventData.setRows(Collections.emptyList());
+            }
+            else {
+                final List<Serializable[]> rows = new ArrayList<>();
+                while (inputStream.available() > 0) {
+                    rows.add(deserializeRow(eventData.getTableId(), eventData.getIncludedColumns(), inputStream));
+                }
+                eventData.setRows(rows);
+            }
+            return eventData;
         }
 
         @Override
@@ -127,12 +176,51 @@ protected Serializable deserializeYear(ByteArrayInputStream inputStream) throws
      * {@link OffsetDateTime} objects, respectively.
      */
     public static class UpdateRowsDeserializer extends UpdateRowsEventDataDeserializer {
+        private final Map<Long, TableMapEventData> tableMapEventByTableId;
+        private final TableFilter tableFilter;
         private EventProcessingFailureHandlingMode eventProcessingFailureHandlingMode;
+        private boolean mayContainExtraInformation;
 
         public UpdateRowsDeserializer(Map<Long, TableMapEventData> tableMapEventByTableId,
                                       EventProcessingFailureHandlingMode eventProcessingFailureHandlingMode) {
+            this(tableMapEventByTableId, eventProcessingFailureHandlingMode, TableFilter.includeAll());
+        }
+
+        public UpdateRowsDeserializer(Map<Long, TableMapEventData> tableMapEventByTableId,
+                                      EventProcessingFailureHandlingMode eventProcessingFailureHandlingMode, TableFilter tableFilter) {
             super(tableMapEventByTableId);
+            this.tableMapEventByTableId = tableMapEventByTableId;
             this.eventProcessingFailureHandlingMode = eventProcessingFailureHandlingMode;
+            this.tableFilter = tableFilter;
+        }
+
+        @Override
+        public UpdateRowsDeserializer setMayContainExtraInformation(boolean mayContainExtraInformation) {
+            super.setMayContainExtraInformation(mayContainExtraInformation);
+            this.mayContainExtraInformation = mayContainExtraInformation;
+            return this;
+        }
+
+        @Override
+        public UpdateRowsEventData deserialize(ByteArrayInputStream inputStream) throws IOException {
+            final UpdateRowsEventData eventData = new UpdateRowsEventData();
+            eventData.setTableId(deserializeRowsEventHeader(mayContainExtraInformation, inputStream));
+            final int numberOfColumns = inputStream.readPackedInteger();
+            eventData.setIncludedColumnsBeforeUpdate(inputStream.readBitSet(numberOfColumns, true));
+            eventData.setIncludedColumns(inputStream.readBitSet(numberOfColumns, true));
+            if (isExcluded(tableMapEventByTableId, tableFilter, eventData.getTableId(), inputStream)) {
+                eventData.setRows(Collections.emptyList());
+            }
+            else {
+                final List<Map.Entry<Serializable[], Serializable[]>> rows = new ArrayList<>();
+                while (inputStream.available() > 0) {
+                    rows.add(new AbstractMap.SimpleEntry<>(
+                            deserializeRow(eventData.getTableId(), eventData.getIncludedColumnsBeforeUpdate(), inputStream),
+                            deserializeRow(eventData.getTableId(), eventData.getIncludedColumns(), inputStream)));
+                }
+                eventData.setRows(rows);
+            }
+            return eventData;
         }
 
         @Override
@@ -192,12 +280,48 @@ protected Serializable deserializeYear(ByteArrayInputStream inputStream) throws
      * {@link OffsetDateTime} objects, respectively.
      */
     public static class WriteRowsDeserializer extends WriteRowsEventDataDeserializer {
+        private final Map<Long, TableMapEventData> tableMapEventByTableId;
+        private final TableFilter tableFilter;
         private EventProcessingFailureHandlingMode eventProcessingFailureHandlingMode;
+        private boolean mayContainExtraInformation;
 
         public WriteRowsDeserializer(Map<Long, TableMapEventData> tableMapEventByTableId,
                                      EventProcessingFailureHandlingMode eventProcessingFailureHandlingMode) {
+            this(tableMapEventByTableId, eventProcessingFailureHandlingMode, TableFilter.includeAll());
+        }
+
+        public WriteRowsDeserializer(Map<Long, TableMapEventData> tableMapEventByTableId,
+                                     EventProcessingFailureHandlingMode eventProcessingFailureHandlingMode, TableFilter tableFilter) {
             super(tableMapEventByTableId);
+            this.tableMapEventByTableId = tableMapEventByTableId;
             this.eventProcessingFailureHandlingMode = eventProcessingFailureHandlingMode;
+            this.tableFilter = tableFilter;
+        }
+
+        @Override
+        public WriteRowsDeserializer setMayContainExtraInformation(boolean mayContainExtraInformation) {
+            super.setMayContainExtraInformation(mayContainExtraInformation);
+            this.mayContainExtraInformation = mayContainExtraInformation;
+            return this;
+        }
+
+        @Override
+        public WriteRowsEventData deserialize(ByteArrayInputStream inputStream) throws IOException {
+            final WriteRowsEventData eventData = new WriteRowsEventData();
+            eventData.setTableId(deserializeRowsEventHeader(mayContainExtraInformation, inputStream));
+            final int numberOfColumns = inputStream.readPackedInteger();
+            eventData.setIncludedColumns(inputStream.readBitSet(numberOfColumns, true));
+            if (isExcluded(tableMapEventByTableId, tableFilter, eventData.getTableId(), inputStream)) {
+                eventData.setRows(Collections.emptyList());
+            }
+            else {
+                final List<Serializable[]> rows = new ArrayList<>();
+                while (inputStream.available() > 0) {
+                    rows.add(deserializeRow(eventData.getTableId(), eventData.getIncludedColumns(), inputStream));
+                }
+                eventData.setRows(rows);
+            }
+            return eventData;
         }
 
         @Override
@@ -251,6 +375,40 @@ protected Serializable deserializeYear(ByteArrayInputStream inputStream) throws
         }
     }
 
+    /**
+     * Reads the post-header of a rows event up to the number of columns, i.e. the table number, the flags and the
+     * extra data of version 2 rows events.
+     *
+     * @return the number of the table the event belongs to
+     */
+    protected static long deserializeRowsEventHeader(boolean mayContainExtraInformation, ByteArrayInputStream inputStream) throws IOException {
+        final long tableId = inputStream.readLong(6);
+        inputStream.skip(2); // flags
+        if (mayContainExtraInformation) {
+            final int extraInfoLength = inputStream.readInteger(2);
+            inputStream.skip(extraInfoLength - 2);
+        }
+        return tableId;
+    }
+
+    /**
+     * Determines whether the rows of an event are excluded by the given filter, in which case the remaining bytes of the
+     * event are skipped. Events without a preceding table map event are never considered excluded, so that they fail
+     * when decoding their rows just as they would without a filter.
+     *
+     * @return {@code true} if the rows of the event have been skipped, {@code false} otherwise
+     */
+    protected static boolean isExcluded(Map<Long, TableMapEventData> tableMapEventByTableId, TableFilter tableFilter, long tableNumber,
+                                        ByteArrayInputStream inputStream)
+            throws IOException {
+        final TableMapEventData tableMapEvent = tableMapEventByTableId.get(tableNumber);
+        if (tableMapEvent == null || tableFilter.isIncluded(new TableId(tableMapEvent.getDatabase(), null, tableMapEvent.getTable()))) {
+            return false;
+        }
+        inputStream.skipToTheEndOfTheBlock();
+        return true;
+    }
+
     private static final int MASK_10_BITS = (1 << 10) - 1;
     private static final int MASK_6_BITS = (1 << 6) - 1;
 
@@ -0,0 +1,96 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mysql;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.List;
+
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.debezium.config.Configuration;
+import io.debezium.data.Envelope;
+import io.debezium.embedded.AbstractConnectorTest;
+import io.debezium.jdbc.JdbcConnection;
+import io.debezium.util.Testing;
+
+/**
+ * Integration test for streaming with events handed off from the binlog reading thread to a processing thread.
+ */
+public class BinlogEventHandoffIT extends AbstractConnectorTest {
+
+    private static final Path SCHEMA_HISTORY_PATH = Testing.Files.createTestingPath("file-schema-history-handoff.txt").toAbsolutePath();
+    private static final int INSERT_COUNT = 50;
+
+    private final UniqueDatabase DATABASE = new UniqueDatabase("handoff", "connector_test")
+            .withDbHistoryPath(SCHEMA_HISTORY_PATH);
+
+    private Configuration config;
+
+    @Before
+    public void beforeEach() {
+        stopConnector();
+        DATABASE.createAndInitialize();
+        initializeConnectorTestFramework();
+        Testing.Files.delete(SCHEMA_HISTORY_PATH);
+    }
+
+    @After
+    public void afterEach() {
+        try {
+            stopConnector();
+        }
+        finally {
+            Testing.Files.delete(SCHEMA_HISTORY_PATH);
+        }
+    }
+
+    @Test
+    public void shouldStreamEventsInOrderWhenHandedOffToProcessingThread() throws SQLException, InterruptedException {
+        config = DATABASE.defaultConfig()
+                .with(MySqlConnectorConfig.INCLUDE_SCHEMA_CHANGES, false)
+                .with(MySqlConnectorConfig.BINLOG_PROCESSING_QUEUE_SIZE, 4)
+                .build();
+
+        start(MySqlConnector.class, config);
+        consumeRecordsByTopic(5 + 9 + 9 + 4);
+
+        insertProducts(0);
+        assertProductsInOrder(consumeRecordsByTopic(INSERT_COUNT).recordsForTopic(DATABASE.topicForTable("products")), 0);
+
+        // Restarting stops and recreates the processing thread ...
+        stopConnector();
+        insertProducts(INSERT_COUNT);
+        start(MySqlConnector.class, config);
+
+        assertProductsInOrder(consumeRecordsByTopic(INSERT_COUNT).recordsForTopic(DATABASE.topicForTable("products")), INSERT_COUNT);
+        assertNoRecordsToConsume();
+    }
+
+    private void insertProducts(int offset) throws SQLException {
+        try (MySqlTestConnection db = MySqlTestConnection.forTestDatabase(DATABASE.getDatabaseName())) {
+            try (JdbcConnection connection = db.connect()) {
+                for (int i = offset; i < offset + INSERT_COUNT; i++) {
+                    connection.execute("INSERT INTO products VALUES (default,'robot-" + i + "','Toy robot',1.304)");
+                }
+            }
+        }
+    }
+
+    private void assertProductsInOrder(List<SourceRecord> records, int offset) {
+        assertThat(records).hasSize(INSERT_COUNT);
+        for (int i = 0; i < INSERT_COUNT; i++) {
+            final Struct after = ((Struct) records.get(i).value()).getStruct(Envelope.FieldName.AFTER);
+            assertThat(after.getString("name")).isEqualTo("robot-" + (offset + i));
+        }
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mysql;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.github.shyiko.mysql.binlog.event.DeleteRowsEventData;
+import com.github.shyiko.mysql.binlog.event.TableMapEventData;
+import com.github.shyiko.mysql.binlog.event.UpdateRowsEventData;
+import com.github.shyiko.mysql.binlog.event.WriteRowsEventData;
+import com.github.shyiko.mysql.binlog.event.deserialization.ColumnType;
+import com.github.shyiko.mysql.binlog.event.deserialization.MissingTableMapEventException;
+import com.github.shyiko.mysql.binlog.io.ByteArrayInputStream;
+
+import io.debezium.config.CommonConnectorConfig.EventProcessingFailureHandlingMode;
+import io.debezium.relational.Tables.TableFilter;
+
+public class RowDeserializersTest {
+
+    private static final long CAPTURED_TABLE_NUMBER = 1;
+    private static final long EXCLUDED_TABLE_NUMBER = 2;
+
+    private final Map<Long, TableMapEventData> tableMapEventByTableId = new HashMap<>();
+    private final TableFilter tableFilter = TableFilter.fromPredicate(tableId -> tableId.table().equals("captured"));
+
+    @Before
+    public void beforeEach() {
+        tableMapEventByTableId.put(CAPTURED_TABLE_NUMBER, tableMapEvent(CAPTURED_TABLE_NUMBER, "captured"));
+        tableMapEventByTableId.put(EXCLUDED_TABLE_NUMBER, tableMapEvent(EXCLUDED_TABLE_NUMBER, "excluded"));
+    }
+
+    @Test
+    public void shouldDeserializeRowsOfCapturedTable() throws IOException {
+        final WriteRowsEventData data = new RowDeserializers.WriteRowsDeserializer(tableMapEventByTableId,
+                EventProcessingFailureHandlingMode.FAIL, tableFilter).deserialize(rowsEvent(CAPTURED_TABLE_NUMBER, false, 1, 2, 3));
+
+        assertThat(data.getTableId()).isEqualTo(CAPTURED_TABLE_NUMBER);
+        assertThat(data.getRows()).hasSize(3);
+        assertThat(data.getRows().get(2)).isEqualTo(new Serializable[]{ 3 });
+    }
+
+    @Test
+    public void shouldSkipRowsOfExcludedTable() throws IOException {
+        final ByteArrayInputStream inputStream = rowsEvent(EXCLUDED_TABLE_NUMBER, false, 1, 2, 3);
+        final WriteRowsEventData data = new RowDeserializers.WriteRowsDeserializer(tableMapEventByTableId,
+                EventProcessingFailureHandlingMode.FAIL, tableFilter).deserialize(inputStream);
+
+        assertThat(data.getTableId()).isEqualTo(EXCLUDED_TABLE_NUMBER);
+        assertThat(data.getIncludedColumns().get(0)).isTrue();
+        assertThat(data.getRows()).isEmpty();
+        assertThat(inputStream.available()).isEqualTo(0);
+    }
+
+    @Test
+    public void shouldDeserializeRowsOfAllTablesWithoutFilter() throws IOException {
+        final DeleteRowsEventData data = new RowDeserializers.DeleteRowsDeserializer(tableMapEventByTableId,
+                EventProcessingFailureHandlingMode.FAIL).deserialize(rowsEvent(EXCLUDED_TABLE_NUMBER, false, 1, 2));
+
+        assertThat(data.getRows()).hasSize(2);
+        assertThat(data.getRows().get(0)).isEqualTo(new Serializable[]{ 1 });
+    }
+
+    @Test
+    public void shouldHandleExtraInformationOfVersion2Events() throws IOException {
+        final RowDeserializers.DeleteRowsDeserializer deserializer = new RowDeserializers.DeleteRowsDeserializer(tableMapEventByTableId,
+                EventProcessingFailureHandlingMode.FAIL, tableFilter).setMayContainExtraInformation(true);
+
+        assertThat(deserializer.deserialize(rowsEvent(CAPTURED_TABLE_NUMBER, true, 7)).getRows().get(0)).isEqualTo(new Serializable[]{ 7 });
+        assertThat(deserializer.deserialize(rowsEvent(EXCLUDED_TABLE_NUMBER, true, 7)).getRows()).isEmpty();
+    }
+
+    @Test
+    public void shouldDeserializeUpdatesOfCapturedTableOnly() throws IOException {
+        final RowDeserializers.UpdateRowsDeserializer deserializer = new RowDeserializers.UpdateRowsDeserializer(tableMapEventByTableId,
+                EventProcessingFailureHandlingMode.FAIL, tableFilter);
+
+        final UpdateRowsEventData captured = deserializer.deserialize(updateRowsEvent(CAPTURED_TABLE_NUMBER, 1, 2, 3, 4));
+        assertThat(captured.getRows()).hasSize(2);
+        assertThat(captured.getRows().get(1).getKey()).isEqualTo(new Serializable[]{ 3 });
+        assertThat(captured.getRows().get(1).getValue()).isEqualTo(new Serializable[]{ 4 });
+
+        assertThat(deserializer.deserialize(updateRowsEvent(EXCLUDED_TABLE_NUMBER, 1, 2, 3, 4)).getRows()).isEmpty();
+    }
+
+    @Test(expected = MissingTableMapEventException.class)
+    public void shouldNotSkipRowsOfTableWithoutTableMapEvent() throws IOException {
+        tableMapEventByTableId.remove(EXCLUDED_TABLE_NUMBER);
+
+        new RowDeserializers.WriteRowsDeserializer(tableMapEventByTableId, EventProcessingFailureHandlingMode.FAIL, tableId -> false)
+                .deserialize(rowsEvent(EXCLUDED_TABLE_NUMBER, false, 1));
+    }
+
+    private static TableMapEventData tableMapEvent(long tableNumber, String table) {
+        final TableMapEventData tableMapEvent = new TableMapEventData();
+        tableMapEvent.setTableId(tableNumber);
+        tableMapEvent.setDatabase("db");
+        tableMapEvent.setTable(table);
+        tableMapEvent.setColumnTypes(new byte[]{ (byte) ColumnType.LONG.getCode() });
+        tableMapEvent.setColumnMetadata(new int[]{ 0 });
+        tableMapEvent.setColumnNullability(new BitSet());
+        return tableMapEvent;
+    }
+
+    /**
+     * Creates the body of a rows event for a table with a single {@code INT} column, with one row per value.
+     */
+    private static ByteArrayInputStream rowsEvent(long tableNumber, boolean withExtraInformation, int... values) {
+        final ByteArrayOutputStream body = new ByteArrayOutputStream();
+        writeHeader(body, tableNumber, withExtraInformation);
+        body.write(0b1); // included columns
+        for (int value : values) {
+            writeRow(body, value);
+        }
+        return block(body);
+    }
+
+    /**
+     * Creates the body of an update rows event for a table with a single {@code INT} column, from pairs of before and
+     * after values.
+     */
+    private static ByteArrayInputStream updateRowsEvent(long tableNumber, int... values) {
+        final ByteArrayOutputStream body = new ByteArrayOutputStream();
+        writeHeader(body, tableNumber, false);
+        body.write(0b1); // included columns before update
+        body.write(0b1); // included columns after update
+        for (int value : values) {
+            writeRow(body, value);
+        }
+        return block(body);
+    }
+
+    private static void writeHeader(ByteArrayOutputStream body, long tableNumber, boolean withExtraInformation) {
+        writeLittleEndian(body, tableNumber, 6);
+        writeLittleEndian(body, 0, 2); // flags
+        if (withExtraInformation) {
+            writeLittleEndian(body, 2, 2); // length of extra information, including the length itself
+        }
+        body.write(1); // number of columns
+    }
+
+    private static void writeRow(ByteArrayOutputStream body, int value) {
+        body.write(0); // null bitmap
+        writeLittleEndian(body, value, 4);
+    }
+
+    private static void writeLittleEndian(ByteArrayOutputStream body, long value, int length) {
+        for (int i = 0; i < length; i++) {
+            body.write((int) (value >>> (8 * i)) & 0xFF);
+        }
+    }
+
+    private static ByteArrayInputStream block(ByteArrayOutputStream body) {
+        final ByteArrayInputStream inputStream = new ByteArrayInputStream(body.toByteArray());
+        inputStream.enterBlock(body.size());
+        return inputStream;
+    }
+}
@@ -5,6 +5,8 @@
  */
 package io.debezium.connector.oracle;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
@@ -34,6 +36,7 @@
 import io.debezium.connector.oracle.logminer.processor.LogMinerEventProcessor;
 import io.debezium.connector.oracle.logminer.processor.infinispan.EmbeddedInfinispanLogMinerEventProcessor;
 import io.debezium.connector.oracle.logminer.processor.infinispan.RemoteInfinispanLogMinerEventProcessor;
+import io.debezium.connector.oracle.logminer.processor.mapped.MappedLogMinerEventProcessor;
 import io.debezium.connector.oracle.logminer.processor.memory.MemoryLogMinerEventProcessor;
 import io.debezium.jdbc.JdbcConfiguration;
 import io.debezium.pipeline.EventDispatcher;
@@ -64,6 +67,7 @@ public class OracleConnectorConfig extends HistorizedRelationalDatabaseConnector
     protected final static int DEFAULT_SCN_GAP_TIME_INTERVAL = 20_000;
 
     protected final static int DEFAULT_TRANSACTION_EVENTS_THRESHOLD = 0;
+    protected final static int DEFAULT_MEMORY_MAPPED_SEGMENT_SIZE = 64 * 1024 * 1024;
 
     protected final static Duration MAX_SLEEP_TIME = Duration.ofMillis(3_000);
     protected final static Duration DEFAULT_SLEEP_TIME = Duration.ofMillis(1_000);
@@ -333,7 +337,9 @@ public class OracleConnectorConfig extends HistorizedRelationalDatabaseConnector
                     System.lineSeparator() +
                     "infinispan_embedded - This option uses an embedded Infinispan cache to buffer transaction data and persist it to disk." + System.lineSeparator() +
                     System.lineSeparator() +
-                    "infinispan_remote - This option uses a remote Infinispan cluster to buffer transaction data and persist it to disk.");
+                    "infinispan_remote - This option uses a remote Infinispan cluster to buffer transaction data and persist it to disk." + System.lineSeparator() +
+                    System.lineSeparator() +
+                    "memory_mapped - Uses memory-mapped files on local disk to buffer transaction events, keeping only an index of each transaction's events on the JVM heap.");
 
     public static final Field LOG_MINING_BUFFER_TRANSACTION_EVENTS_THRESHOLD = Field.create("log.mining.buffer.transaction.events.threshold")
             .withDisplayName("The maximum number of events a transaction can have before being discarded.")
@@ -346,6 +352,60 @@ public class OracleConnectorConfig extends HistorizedRelationalDatabaseConnector
                     "This is useful for managing buffer memory and/or space when dealing with very large transactions. " +
                     "Defaults to 0, meaning that no threshold is applied and transactions can have unlimited events.");
 
+    public static final Field LOG_MINING_DML_PARSER_THREADS = Field.create("log.mining.dml.parser.threads")
+            .withDisplayName("Number of threads parsing DML statements")
+            .withType(Type.INT)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDefault(0)
+            .withValidation(Field::isNonNegativeInteger)
+            .withDescription("The number of threads parsing the redo SQL of DML events buffered in the 'memory' transaction buffer. " +
+                    "All events of a transaction are parsed by the same thread, and events are still emitted in commit order. " +
+                    "Defaults to 0, meaning that the events are parsed by the thread reading the LogMiner results.");
+
+    public static final Field LOG_MINING_QUERY_PREFETCH_SIZE = Field.create("log.mining.query.prefetch.size")
+            .withDisplayName("Number of LogMiner rows to prefetch")
+            .withType(Type.INT)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDefault(0)
+            .withValidation(Field::isNonNegativeInteger)
+            .withDescription("The maximum number of LogMiner rows that are read ahead by a separate thread while the rows fetched before " +
+                    "are processed. When enabled, the fetch size of the LogMiner query is adjusted between the configured '" + QUERY_FETCH_SIZE.name() +
+                    "' and this value based on the observed round-trip latency, processing time and row size. " +
+                    "Defaults to 0, meaning that rows are fetched by the thread processing them, using a fixed fetch size.");
+
+    public static final Field LOG_MINING_TABLE_METADATA_CACHE_SIZE = Field.create("log.mining.table.metadata.cache.size")
+            .withDisplayName("Number of tables whose metadata is prefetched")
+            .withType(Type.INT)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDefault(0)
+            .withValidation(Field::isNonNegativeInteger)
+            .withDescription("The maximum number of captured tables unknown to the connector whose metadata is fetched by a separate thread " +
+                    "ahead of their first change. Tables are prefetched when they are found to be newly created by periodically polling " +
+                    "ALL_OBJECTS, or when a DDL event for them is mined. " +
+                    "Defaults to 0, meaning that the metadata of a table is fetched when its first change is processed.");
+
+    public static final Field LOG_MINING_BUFFER_MEMORY_MAPPED_DIRECTORY = Field.create("log.mining.buffer.memory.mapped.directory")
+            .withDisplayName("Directory of the memory-mapped buffer files")
+            .withType(Type.STRING)
+            .withWidth(Width.LONG)
+            .withImportance(Importance.LOW)
+            .withDescription("The directory in which the 'memory_mapped' buffer creates the files holding transaction events. " +
+                    "The files are removed once their events are no longer needed and when the connector is stopped. " +
+                    "Defaults to the temporary directory of the JVM process.");
+
+    public static final Field LOG_MINING_BUFFER_MEMORY_MAPPED_SEGMENT_SIZE = Field.create("log.mining.buffer.memory.mapped.segment.size.bytes")
+            .withDisplayName("Size of the memory-mapped buffer files")
+            .withType(Type.INT)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDefault(DEFAULT_MEMORY_MAPPED_SEGMENT_SIZE)
+            .withValidation(Field::isPositiveInteger)
+            .withDescription("The size in bytes of each file created by the 'memory_mapped' buffer. " +
+                    "A file is removed once all of its events have been committed or rolled back.");
+
     public static final Field LOG_MINING_BUFFER_INFINISPAN_CACHE_TRANSACTIONS = Field.create("log.mining.buffer.infinispan.cache.transactions")
             .withDisplayName("Infinispan 'transactions' cache configuration")
             .withType(Type.STRING)
@@ -450,6 +510,17 @@ public class OracleConnectorConfig extends HistorizedRelationalDatabaseConnector
             .withDescription(
                     "The maximum number of milliseconds that a LogMiner session lives for before being restarted. Defaults to 0 (indefinite until a log switch occurs)");
 
+    public static final Field LOG_MINING_SESSION_PER_REDO_THREAD = Field.create("log.mining.session.per.redo.thread")
+            .withDisplayName("Mine each redo thread in a separate LogMiner session")
+            .withType(Type.BOOLEAN)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDefault(false)
+            .withDescription("When set to `true`, the logs of each redo thread, i.e. of each Oracle RAC node, are mined by a separate " +
+                    "LogMiner session on a separate database connection, and the changes of all threads are merged by SCN. " +
+                    "Only applies when using the 'online_catalog' mining strategy without continuous mining. " +
+                    "Defaults to false, meaning that the logs of all redo threads are mined by a single LogMiner session.");
+
     public static final Field LOG_MINING_TRANSACTION_SNAPSHOT_BOUNDARY_MODE = Field.createInternal("log.mining.transaction.snapshot.boundary.mode")
             .withEnum(TransactionSnapshotBoundaryMode.class, TransactionSnapshotBoundaryMode.SKIP)
             .withWidth(Width.SHORT)
@@ -503,6 +574,9 @@ public class OracleConnectorConfig extends HistorizedRelationalDatabaseConnector
                     LOG_MINING_BUFFER_INFINISPAN_CACHE_PROCESSED_TRANSACTIONS,
                     LOG_MINING_BUFFER_INFINISPAN_CACHE_SCHEMA_CHANGES,
                     LOG_MINING_BUFFER_TRANSACTION_EVENTS_THRESHOLD,
+                    LOG_MINING_DML_PARSER_THREADS,
+                    LOG_MINING_BUFFER_MEMORY_MAPPED_DIRECTORY,
+                    LOG_MINING_BUFFER_MEMORY_MAPPED_SEGMENT_SIZE,
                     LOG_MINING_ARCHIVE_LOG_ONLY_SCN_POLL_INTERVAL_MS,
                     LOG_MINING_SCN_GAP_DETECTION_GAP_SIZE_MIN,
                     LOG_MINING_SCN_GAP_DETECTION_TIME_INTERVAL_MAX_MS,
@@ -513,6 +587,9 @@ public class OracleConnectorConfig extends HistorizedRelationalDatabaseConnector
                     LOG_MINING_LOG_BACKOFF_INITIAL_DELAY_MS,
                     LOG_MINING_LOG_BACKOFF_MAX_DELAY_MS,
                     LOG_MINING_SESSION_MAX_MS,
+                    LOG_MINING_SESSION_PER_REDO_THREAD,
+                    LOG_MINING_QUERY_PREFETCH_SIZE,
+                    LOG_MINING_TABLE_METADATA_CACHE_SIZE,
                     LOG_MINING_TRANSACTION_SNAPSHOT_BOUNDARY_MODE)
             .create();
 
@@ -562,6 +639,12 @@ public static ConfigDef configDef() {
     private final String logMiningArchiveDestinationName;
     private final LogMiningBufferType logMiningBufferType;
     private final long logMiningBufferTransactionEventsThreshold;
+    private final int logMiningDmlParserThreads;
+    private final boolean logMiningSessionPerRedoThread;
+    private final int logMiningQueryPrefetchSize;
+    private final int logMiningTableMetadataCacheSize;
+    private final Path logMiningBufferMemoryMappedDirectory;
+    private final int logMiningBufferMemoryMappedSegmentSize;
     private final boolean logMiningBufferDropOnStop;
     private final int logMiningScnGapDetectionGapSizeMin;
     private final int logMiningScnGapDetectionTimeIntervalMaxMs;
@@ -613,6 +696,12 @@ public OracleConnectorConfig(Configuration config) {
         this.logMiningArchiveDestinationName = config.getString(LOG_MINING_ARCHIVE_DESTINATION_NAME);
         this.logMiningBufferType = LogMiningBufferType.parse(config.getString(LOG_MINING_BUFFER_TYPE));
         this.logMiningBufferTransactionEventsThreshold = config.getLong(LOG_MINING_BUFFER_TRANSACTION_EVENTS_THRESHOLD);
+        this.logMiningDmlParserThreads = config.getInteger(LOG_MINING_DML_PARSER_THREADS);
+        this.logMiningSessionPerRedoThread = config.getBoolean(LOG_MINING_SESSION_PER_REDO_THREAD);
+        this.logMiningQueryPrefetchSize = config.getInteger(LOG_MINING_QUERY_PREFETCH_SIZE);
+        this.logMiningTableMetadataCacheSize = config.getInteger(LOG_MINING_TABLE_METADATA_CACHE_SIZE);
+        this.logMiningBufferMemoryMappedDirectory = Paths.get(config.getString(LOG_MINING_BUFFER_MEMORY_MAPPED_DIRECTORY, System.getProperty("java.io.tmpdir")));
+        this.logMiningBufferMemoryMappedSegmentSize = config.getInteger(LOG_MINING_BUFFER_MEMORY_MAPPED_SEGMENT_SIZE);
         this.logMiningBufferDropOnStop = config.getBoolean(LOG_MINING_BUFFER_DROP_ON_STOP);
         this.archiveLogOnlyScnPollTime = Duration.ofMillis(config.getInteger(LOG_MINING_ARCHIVE_LOG_ONLY_SCN_POLL_INTERVAL_MS));
         this.logMiningScnGapDetectionGapSizeMin = config.getInteger(LOG_MINING_SCN_GAP_DETECTION_GAP_SIZE_MIN);
@@ -1122,6 +1211,21 @@ public LogMinerEventProcessor createProcessor(ChangeEventSourceContext context,
             }
         },
 
+        MEMORY_MAPPED("memory_mapped") {
+            @Override
+            public LogMinerEventProcessor createProcessor(ChangeEventSourceContext context,
+                                                          OracleConnectorConfig connectorConfig,
+                                                          OracleConnection connection,
+                                                          EventDispatcher<OraclePartition, TableId> dispatcher,
+                                                          OraclePartition partition,
+                                                          OracleOffsetContext offsetContext,
+                                                          OracleDatabaseSchema schema,
+                                                          OracleStreamingChangeEventSourceMetrics metrics) {
+                return new MappedLogMinerEventProcessor(context, connectorConfig, connection, dispatcher, partition,
+                        offsetContext, schema, metrics);
+            }
+        },
+
         INFINISPAN_EMBEDDED("infinispan_embedded") {
             @Override
             public LogMinerEventProcessor createProcessor(ChangeEventSourceContext context,
@@ -1173,7 +1277,7 @@ public String getValue() {
         }
 
         public boolean isInfinispan() {
-            return !MEMORY.equals(this);
+            return INFINISPAN_EMBEDDED.equals(this) || INFINISPAN_REMOTE.equals(this);
         }
 
         public boolean isInfinispanEmbedded() {
@@ -1407,6 +1511,27 @@ public long getLogMiningBufferTransactionEventsThreshold() {
         return logMiningBufferTransactionEventsThreshold;
     }
 
+    /**
+     * @return the number of threads parsing DML events buffered in memory, {@code 0} to parse them on the mining thread.
+     */
+    public int getLogMiningDmlParserThreads() {
+        return logMiningDmlParserThreads;
+    }
+
+    /**
+     * @return the directory in which the memory-mapped buffer creates its files, never {@code null}
+     */
+    public Path getLogMiningBufferMemoryMappedDirectory() {
+        return logMiningBufferMemoryMappedDirectory;
+    }
+
+    /**
+     * @return the size in bytes of the files created by the memory-mapped buffer
+     */
+    public int getLogMiningBufferMemoryMappedSegmentSize() {
+        return logMiningBufferMemoryMappedSegmentSize;
+    }
+
     /**
      * @return whether buffer cache should be dropped on connector stop.
      */
@@ -1450,6 +1575,27 @@ public Optional<Duration> getLogMiningMaximumSession() {
         return logMiningMaximumSession.toMillis() == 0L ? Optional.empty() : Optional.of(logMiningMaximumSession);
     }
 
+    /**
+     * @return whether the logs of each redo thread are mined by a separate LogMiner session
+     */
+    public boolean isLogMiningSessionPerRedoThread() {
+        return logMiningSessionPerRedoThread;
+    }
+
+    /**
+     * @return the maximum number of LogMiner rows read ahead of their processing, {@code 0} if rows are not prefetched
+     */
+    public int getLogMiningQueryPrefetchSize() {
+        return logMiningQueryPrefetchSize;
+    }
+
+    /**
+     * @return the maximum number of tables whose metadata is prefetched, {@code 0} if table metadata is not prefetched
+     */
+    public int getLogMiningTableMetadataCacheSize() {
+        return logMiningTableMetadataCacheSize;
+    }
+
     /**
      * @return how in-progress transactions are the snapshot boundary are to be handled.
      */
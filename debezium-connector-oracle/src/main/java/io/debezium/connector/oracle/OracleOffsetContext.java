@@ -16,6 +16,7 @@
 
 import io.debezium.connector.SnapshotRecord;
 import io.debezium.pipeline.CommonOffsetContext;
+import io.debezium.pipeline.source.snapshot.ChunkedSnapshotContext;
 import io.debezium.pipeline.source.snapshot.incremental.IncrementalSnapshotContext;
 import io.debezium.pipeline.txmetadata.TransactionContext;
 import io.debezium.relational.TableId;
@@ -31,6 +32,7 @@ public class OracleOffsetContext extends CommonOffsetContext<SourceInfo> {
 
     private final TransactionContext transactionContext;
     private final IncrementalSnapshotContext<TableId> incrementalSnapshotContext;
+    private final ChunkedSnapshotContext chunkedSnapshotContext;
 
     /**
      * SCN that was used for the initial consistent snapshot.
@@ -56,7 +58,16 @@ public OracleOffsetContext(OracleConnectorConfig connectorConfig, Scn scn, Commi
                                Scn snapshotScn, Map<String, Scn> snapshotPendingTransactions,
                                boolean snapshot, boolean snapshotCompleted, TransactionContext transactionContext,
                                IncrementalSnapshotContext<TableId> incrementalSnapshotContext) {
-        this(connectorConfig, scn, lcrPosition, snapshotScn, snapshotPendingTransactions, snapshot, snapshotCompleted, transactionContext, incrementalSnapshotContext);
+        this(connectorConfig, scn, commitScn, lcrPosition, snapshotScn, snapshotPendingTransactions, snapshot, snapshotCompleted, transactionContext,
+                incrementalSnapshotContext, new ChunkedSnapshotContext());
+    }
+
+    public OracleOffsetContext(OracleConnectorConfig connectorConfig, Scn scn, CommitScn commitScn, String lcrPosition,
+                               Scn snapshotScn, Map<String, Scn> snapshotPendingTransactions,
+                               boolean snapshot, boolean snapshotCompleted, TransactionContext transactionContext,
+                               IncrementalSnapshotContext<TableId> incrementalSnapshotContext, ChunkedSnapshotContext chunkedSnapshotContext) {
+        this(connectorConfig, scn, lcrPosition, snapshotScn, snapshotPendingTransactions, snapshot, snapshotCompleted, transactionContext,
+                incrementalSnapshotContext, chunkedSnapshotContext);
         sourceInfo.setCommitScn(commitScn);
     }
 
@@ -64,6 +75,14 @@ public OracleOffsetContext(OracleConnectorConfig connectorConfig, Scn scn, Strin
                                Scn snapshotScn, Map<String, Scn> snapshotPendingTransactions,
                                boolean snapshot, boolean snapshotCompleted, TransactionContext transactionContext,
                                IncrementalSnapshotContext<TableId> incrementalSnapshotContext) {
+        this(connectorConfig, scn, lcrPosition, snapshotScn, snapshotPendingTransactions, snapshot, snapshotCompleted, transactionContext,
+                incrementalSnapshotContext, new ChunkedSnapshotContext());
+    }
+
+    public OracleOffsetContext(OracleConnectorConfig connectorConfig, Scn scn, String lcrPosition,
+                               Scn snapshotScn, Map<String, Scn> snapshotPendingTransactions,
+                               boolean snapshot, boolean snapshotCompleted, TransactionContext transactionContext,
+                               IncrementalSnapshotContext<TableId> incrementalSnapshotContext, ChunkedSnapshotContext chunkedSnapshotContext) {
         super(new SourceInfo(connectorConfig));
         sourceInfo.setScn(scn);
         // It is safe to set this value to the supplied SCN, specifically for snapshots.
@@ -81,6 +100,7 @@ public OracleOffsetContext(OracleConnectorConfig connectorConfig, Scn scn, Strin
 
         this.transactionContext = transactionContext;
         this.incrementalSnapshotContext = incrementalSnapshotContext;
+        this.chunkedSnapshotContext = chunkedSnapshotContext;
 
         this.snapshotCompleted = snapshotCompleted;
         if (this.snapshotCompleted) {
@@ -176,6 +196,9 @@ public static Builder create() {
             }
             offset.put(SNAPSHOT_SCN_KEY, snapshotScn != null ? snapshotScn.isNull() ? null : snapshotScn.toString() : null);
 
+            if (!snapshotCompleted) {
+                chunkedSnapshotContext.store(offset);
+            }
             return offset;
         }
         else {
@@ -335,6 +358,11 @@ public IncrementalSnapshotContext<?> getIncrementalSnapshotContext() {
         return incrementalSnapshotContext;
     }
 
+    @Override
+    public ChunkedSnapshotContext getChunkedSnapshotContext() {
+        return chunkedSnapshotContext;
+    }
+
     /**
      * Helper method to resolve a {@link Scn} by key from the offset map.
      *
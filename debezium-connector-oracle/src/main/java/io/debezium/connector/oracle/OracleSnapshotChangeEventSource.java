@@ -21,6 +21,7 @@
 import org.slf4j.LoggerFactory;
 
 import io.debezium.DebeziumException;
+import io.debezium.jdbc.JdbcConnection;
 import io.debezium.pipeline.EventDispatcher;
 import io.debezium.pipeline.source.spi.SnapshotProgressListener;
 import io.debezium.pipeline.source.spi.StreamingChangeEventSource;
@@ -89,6 +90,24 @@ protected SnapshotContext<OraclePartition, OracleOffsetContext> prepare(OraclePa
         return new OracleSnapshotContext(partition, connectorConfig.getCatalogName());
     }
 
+    @Override
+    protected Optional<JdbcConnection> createSnapshotWorkerConnection(RelationalSnapshotContext<OraclePartition, OracleOffsetContext> snapshotContext)
+            throws SQLException {
+        // All snapshot queries are flashback queries "AS OF SCN", so any connection reads the same consistent data
+        final OracleConnection workerConnection = new OracleConnection(connectorConfig.getJdbcConfig(), false);
+        try {
+            workerConnection.setAutoCommit(false);
+            if (connectorConfig.getPdbName() != null) {
+                workerConnection.setSessionToPdb(connectorConfig.getPdbName());
+            }
+        }
+        catch (SQLException | RuntimeException e) {
+            workerConnection.close();
+            throw e;
+        }
+        return Optional.of(workerConnection);
+    }
+
     @Override
     protected Set<TableId> getAllTableIds(RelationalSnapshotContext<OraclePartition, OracleOffsetContext> ctx)
             throws Exception {
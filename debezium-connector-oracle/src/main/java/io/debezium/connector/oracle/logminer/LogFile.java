@@ -90,6 +90,10 @@ public Type getType() {
         return type;
     }
 
+    public int getThread() {
+        return thread;
+    }
+
     public boolean isScnInLogFileRange(Scn scn) {
         return getFirstScn().compareTo(scn) <= 0 && (getNextScn().compareTo(scn) > 0 || getNextScn().equals(Scn.MAX));
     }
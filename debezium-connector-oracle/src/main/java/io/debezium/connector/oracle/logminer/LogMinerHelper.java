@@ -58,6 +58,33 @@ public static List<LogFile> setLogFilesForMining(OracleConnection connection, Sc
             throws SQLException {
         removeLogFilesFromMining(connection);
 
+        final List<LogFile> logFilesForMining = getLogFilesForMining(connection, lastProcessedScn, archiveLogRetention, archiveLogOnlyMode,
+                archiveDestinationName, maxRetries, initialDelay, maxDelay);
+        addLogFilesForMining(connection, logFilesForMining);
+
+        LOGGER.debug("Last mined SCN: {}, Log file list to mine: {}", lastProcessedScn,
+                logFilesForMining.stream().map(LogFile::getFileName).collect(Collectors.toList()));
+        return logFilesForMining;
+    }
+
+    /**
+     * Get the log files that need to be mined from the given offset onwards, waiting for them to become available.
+     *
+     * @param connection connection
+     * @param lastProcessedScn current offset
+     * @param archiveLogRetention the duration that archive logs will be mined
+     * @param archiveLogOnlyMode true to mine only archive lgos, false to mine all available logs
+     * @param archiveDestinationName configured archive log destination name to use, may be {@code null}
+     * @param maxRetries the number of retry attempts before giving up and throwing an exception about log state
+     * @param initialDelay the initial delay
+     * @param maxDelay the maximum delay
+     * @throws SQLException if anything unexpected happens
+     * @return log files that need to be mined
+     */
+    public static List<LogFile> getLogFilesForMining(OracleConnection connection, Scn lastProcessedScn, Duration archiveLogRetention,
+                                                     boolean archiveLogOnlyMode, String archiveDestinationName, int maxRetries,
+                                                     Duration initialDelay, Duration maxDelay)
+            throws SQLException {
         // Restrict max attempts to 0 or greater values (sanity-check)
         // the code will do at least 1 attempt and up to maxAttempts extra polls based on configuration
         final int maxAttempts = Math.max(maxRetries, 0);
@@ -79,14 +106,6 @@ public static List<LogFile> setLogFilesForMining(OracleConnection connection, Sc
                 continue;
             }
 
-            List<String> logFilesNames = logFilesForMining.stream().map(LogFile::getFileName).collect(Collectors.toList());
-            for (String file : logFilesNames) {
-                LOGGER.trace("Adding log file {} to mining session", file);
-                String addLogFileStatement = SqlUtils.addLogFileStatement("DBMS_LOGMNR.ADDFILE", file);
-                executeCallableStatement(connection, addLogFileStatement);
-            }
-
-            LOGGER.debug("Last mined SCN: {}, Log file list to mine: {}", lastProcessedScn, logFilesNames);
             return logFilesForMining;
         }
 
@@ -99,6 +118,21 @@ public static List<LogFile> setLogFilesForMining(OracleConnection connection, Sc
         throw new IllegalStateException("None of log files contains offset SCN: " + lastProcessedScn + ", re-snapshot is required.");
     }
 
+    /**
+     * Adds the given log files to the mining session of the connection.
+     *
+     * @param connection connection
+     * @param logFiles the log files to be mined
+     * @throws SQLException if anything unexpected happens
+     */
+    public static void addLogFilesForMining(OracleConnection connection, List<LogFile> logFiles) throws SQLException {
+        for (LogFile logFile : logFiles) {
+            LOGGER.trace("Adding log file {} to mining session", logFile.getFileName());
+            String addLogFileStatement = SqlUtils.addLogFileStatement("DBMS_LOGMNR.ADDFILE", logFile.getFileName());
+            executeCallableStatement(connection, addLogFileStatement);
+        }
+    }
+
     private static boolean hasLogFilesStartingBeforeOrAtScn(List<LogFile> logs, Scn scn) {
         return logs.stream().anyMatch(l -> l.getFirstScn().compareTo(scn) <= 0);
     }
@@ -12,6 +12,7 @@
 import io.debezium.connector.oracle.OracleOffsetContext;
 import io.debezium.connector.oracle.Scn;
 import io.debezium.connector.oracle.SourceInfo;
+import io.debezium.pipeline.source.snapshot.ChunkedSnapshotContext;
 import io.debezium.pipeline.source.snapshot.incremental.SignalBasedIncrementalSnapshotContext;
 import io.debezium.pipeline.spi.OffsetContext;
 import io.debezium.pipeline.txmetadata.TransactionContext;
@@ -38,7 +39,8 @@ public OracleOffsetContext load(Map<String, ?> offset) {
         Scn snapshotScn = OracleOffsetContext.loadSnapshotScn(offset);
         return new OracleOffsetContext(connectorConfig, scn, commitScn, null, snapshotScn, snapshotPendingTransactions, snapshot, snapshotCompleted,
                 TransactionContext.load(offset),
-                SignalBasedIncrementalSnapshotContext.load(offset));
+                SignalBasedIncrementalSnapshotContext.load(offset),
+                ChunkedSnapshotContext.load(offset));
     }
 
 }
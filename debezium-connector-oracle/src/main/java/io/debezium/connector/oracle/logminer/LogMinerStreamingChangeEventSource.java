@@ -5,8 +5,6 @@
  */
 package io.debezium.connector.oracle.logminer;
 
-import static io.debezium.connector.oracle.logminer.LogMinerHelper.setLogFilesForMining;
-
 import java.math.BigInteger;
 import java.sql.SQLException;
 import java.text.DecimalFormat;
@@ -85,6 +83,7 @@ public class LogMinerStreamingChangeEventSource implements StreamingChangeEventS
     private Scn snapshotScn;
     private List<LogFile> currentLogFiles;
     private List<BigInteger> currentRedoLogSequences;
+    private RedoThreadMiningSessions redoThreadSessions;
 
     public LogMinerStreamingChangeEventSource(OracleConnectorConfig connectorConfig,
                                               OracleConnection jdbcConnection, EventDispatcher<OraclePartition, TableId> dispatcher,
@@ -145,7 +144,9 @@ public void execute(ChangeEventSourceContext context, OraclePartition partition,
                 setNlsSessionParameters(jdbcConnection);
                 checkDatabaseAndTableState(jdbcConnection, connectorConfig.getPdbName(), schema);
 
-                try (LogMinerEventProcessor processor = createProcessor(context, partition, offsetContext)) {
+                try (LogMinerEventProcessor processor = createProcessor(context, partition, offsetContext);
+                        RedoThreadMiningSessions sessions = createRedoThreadMiningSessions()) {
+                    redoThreadSessions = sessions;
 
                     if (archiveLogOnlyMode && !waitForStartScnInArchiveLogs(context, startScn)) {
                         return;
@@ -193,7 +194,7 @@ public void execute(ChangeEventSourceContext context, OraclePartition partition,
                             // This is the way to mitigate PGA leaks.
                             // With one mining session, it grows and maybe there is another way to flush PGA.
                             // At this point we use a new mining session
-                            endMiningSession(jdbcConnection, offsetContext);
+                            endMiningSessions(offsetContext);
                             initializeRedoLogsForMining(jdbcConnection, true, startScn);
 
                             // log switch or restart required, re-create a new stop watch
@@ -201,12 +202,14 @@ public void execute(ChangeEventSourceContext context, OraclePartition partition,
                         }
 
                         if (context.isRunning()) {
-                            if (!startMiningSession(jdbcConnection, startScn, endScn, retryAttempts)) {
+                            if (!startMiningSessions(startScn, endScn, retryAttempts)) {
                                 retryAttempts++;
                             }
                             else {
                                 retryAttempts = 1;
-                                startScn = processor.process(startScn, endScn);
+                                startScn = redoThreadSessions == null
+                                        ? processor.process(startScn, endScn)
+                                        : processor.process(startScn, endScn, redoThreadSessions);
                                 streamingMetrics.setCurrentBatchProcessingTime(Duration.between(start, Instant.now()));
                                 captureSessionMemoryStatistics(jdbcConnection);
                             }
@@ -222,6 +225,7 @@ public void execute(ChangeEventSourceContext context, OraclePartition partition,
             errorHandler.setProducerThrowable(t);
         }
         finally {
+            redoThreadSessions = null;
             LOGGER.info("startScn={}, endScn={}", startScn, endScn);
             LOGGER.info("Streaming metrics dump: {}", streamingMetrics.toString());
             LOGGER.info("Offsets: {}", offsetContext);
@@ -332,8 +336,7 @@ private void initializeRedoLogsForMining(OracleConnection connection, boolean po
                 buildDataDictionary(connection);
             }
             if (!isContinuousMining) {
-                currentLogFiles = setLogFilesForMining(connection, startScn, archiveLogRetention, archiveLogOnlyMode,
-                        archiveDestinationName, logFileQueryMaxRetries, initialDelay, maxDelay);
+                currentLogFiles = registerLogFilesForMining(connection, startScn);
                 currentRedoLogSequences = getCurrentLogFileSequences(currentLogFiles);
             }
         }
@@ -342,8 +345,7 @@ private void initializeRedoLogsForMining(OracleConnection connection, boolean po
                 if (OracleConnectorConfig.LogMiningStrategy.CATALOG_IN_REDO.equals(strategy)) {
                     buildDataDictionary(connection);
                 }
-                currentLogFiles = setLogFilesForMining(connection, startScn, archiveLogRetention, archiveLogOnlyMode,
-                        archiveDestinationName, logFileQueryMaxRetries, initialDelay, maxDelay);
+                currentLogFiles = registerLogFilesForMining(connection, startScn);
                 currentRedoLogSequences = getCurrentLogFileSequences(currentLogFiles);
             }
         }
@@ -351,6 +353,26 @@ private void initializeRedoLogsForMining(OracleConnection connection, boolean po
         updateRedoLogMetrics();
     }
 
+    /**
+     * Registers the log files to be mined with the LogMiner session, or with the sessions of their redo threads when
+     * mining each redo thread in a separate session.
+     *
+     * @param connection database connection, should not be {@code null}
+     * @param startScn the offset from which on logs are mined
+     * @return the log files to be mined, never {@code null}
+     * @throws SQLException if a database exception occurred
+     */
+    private List<LogFile> registerLogFilesForMining(OracleConnection connection, Scn startScn) throws SQLException {
+        if (redoThreadSessions == null) {
+            return LogMinerHelper.setLogFilesForMining(connection, startScn, archiveLogRetention, archiveLogOnlyMode,
+                    archiveDestinationName, logFileQueryMaxRetries, initialDelay, maxDelay);
+        }
+        final List<LogFile> logFiles = LogMinerHelper.getLogFilesForMining(connection, startScn, archiveLogRetention, archiveLogOnlyMode,
+                archiveDestinationName, logFileQueryMaxRetries, initialDelay, maxDelay);
+        redoThreadSessions.setLogFiles(logFiles);
+        return logFiles;
+    }
+
     /**
      * Get the current log file sequences from the supplied list of log files.
      *
@@ -509,7 +531,7 @@ private void pauseBetweenMiningSessions() throws InterruptedException {
      * @param connection database connection, should not be {@code null}
      * @throws SQLException if a database exception occurred
      */
-    private void setNlsSessionParameters(OracleConnection connection) throws SQLException {
+    static void setNlsSessionParameters(OracleConnection connection) throws SQLException {
         final String NLS_SESSION_PARAMETERS = "ALTER SESSION SET "
                 + "  NLS_DATE_FORMAT = 'YYYY-MM-DD HH24:MI:SS'"
                 + "  NLS_TIMESTAMP_FORMAT = 'YYYY-MM-DD HH24:MI:SS.FF'"
@@ -572,6 +594,44 @@ public boolean startMiningSession(OracleConnection connection, Scn startScn, Scn
         }
     }
 
+    /**
+     * Starts the LogMiner session, or the sessions of all redo threads having logs within the range when mining
+     * each redo thread in a separate session.
+     *
+     * @param startScn mining session's starting system change number (exclusive), should not be {@code null}
+     * @param endScn mining session's ending system change number (inclusive), should not be {@code null}
+     * @param attempts the number of mining start attempts
+     * @return true if the sessions were started successfully, false if it should be retried
+     * @throws SQLException if a mining session failed to start
+     */
+    private boolean startMiningSessions(Scn startScn, Scn endScn, int attempts) throws SQLException {
+        if (redoThreadSessions == null) {
+            return startMiningSession(jdbcConnection, startScn, endScn, attempts);
+        }
+        for (RedoThreadMiningSession session : redoThreadSessions.setMiningRange(startScn, endScn)) {
+            if (!startMiningSession(session.getConnection(), session.getMiningStartScn(), session.getMiningEndScn(), attempts)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Ends the LogMiner session, or the sessions of all redo threads when mining each redo thread in a separate session.
+     *
+     * @param offsetContext connector offset context, should not be {@code null}
+     * @throws SQLException if a mining session cannot be ended gracefully
+     */
+    private void endMiningSessions(OracleOffsetContext offsetContext) throws SQLException {
+        if (redoThreadSessions == null) {
+            endMiningSession(jdbcConnection, offsetContext);
+            return;
+        }
+        for (RedoThreadMiningSession session : redoThreadSessions.getSessions()) {
+            endMiningSession(session.getConnection(), offsetContext);
+        }
+    }
+
     /**
      * End the current Oracle LogMiner session, if one is in progress.  If the current session does not
      * have an active mining session, a log message is recorded and the method is a no-op.
@@ -819,6 +879,26 @@ private boolean isTableAllColumnsSupplementalLoggingEnabled(OracleConnection con
         });
     }
 
+    /**
+     * Creates the sessions mining each redo thread separately, if configured and supported by the mining strategy.
+     *
+     * @return the redo thread sessions, or {@code null} if all redo threads are mined by a single session
+     */
+    private RedoThreadMiningSessions createRedoThreadMiningSessions() {
+        if (!connectorConfig.isLogMiningSessionPerRedoThread()) {
+            return null;
+        }
+        // The data dictionary is only written to the logs of one redo thread, and continuous mining adds the logs
+        // of all redo threads to the session by itself
+        if (isContinuousMining || !OracleConnectorConfig.LogMiningStrategy.ONLINE_CATALOG.equals(strategy)) {
+            LOGGER.warn("Mining each redo thread in a separate LogMiner session requires the '{}' mining strategy without continuous mining, " +
+                    "mining all redo threads in a single session instead.", OracleConnectorConfig.LogMiningStrategy.ONLINE_CATALOG.getValue());
+            return null;
+        }
+        LOGGER.info("Mining the logs of each redo thread in a separate LogMiner session.");
+        return new RedoThreadMiningSessions(connectorConfig, jdbcConfiguration);
+    }
+
     /**
      * Resolves the Oracle LGWR buffer flushing strategy.
      *
@@ -0,0 +1,233 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.DebeziumException;
+import io.debezium.annotation.NotThreadSafe;
+import io.debezium.connector.oracle.logminer.events.LogMinerEventRow;
+
+/**
+ * Reads the results of the LogMiner query of several {@link RedoThreadMiningSession}s concurrently, one reader thread
+ * per session, and merges them by SCN. Rows with the same SCN are ordered by their redo thread.
+ * <p>
+ * Each reader buffers a bounded number of rows ahead of the merge. If a reader fails because a mined log is no
+ * longer available (ORA-00310), the merged rows end at that point, just like the results of a single session would.
+ */
+@NotThreadSafe
+public class RedoThreadEventRowMerger implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RedoThreadEventRowMerger.class);
+
+    private static final int MIN_QUEUE_CAPACITY = 1024;
+    private static final long OFFER_TIMEOUT_MS = 100;
+    private static final Object END = new Object();
+
+    private final List<Reader> readers = new ArrayList<>();
+    private final PriorityQueue<Head> heads = new PriorityQueue<>(
+            Comparator.<Head, LogMinerEventRow> comparing(head -> head.row, Comparator.comparing(LogMinerEventRow::getScn))
+                    .thenComparingInt(head -> head.row.getThread()));
+
+    private volatile boolean closed;
+    private boolean started;
+    private boolean ended;
+    private SQLException logUnavailableException;
+
+    RedoThreadEventRowMerger(List<RedoThreadMiningSession> sessions, String query, int fetchSize, String catalogName, boolean isTxIdRawValue) {
+        final int queueCapacity = Math.max(fetchSize, MIN_QUEUE_CAPACITY);
+        for (RedoThreadMiningSession session : sessions) {
+            final Reader reader = new Reader(session, query, fetchSize, catalogName, isTxIdRawValue, queueCapacity);
+            reader.future = session.getReader().submit(reader);
+            readers.add(reader);
+        }
+    }
+
+    /**
+     * Waits until each session's query has returned its first row or no rows at all.
+     *
+     * @throws SQLException if a database exception occurred
+     * @throws InterruptedException if the thread was interrupted while waiting
+     */
+    public void awaitFirstRows() throws SQLException, InterruptedException {
+        if (!started) {
+            started = true;
+            for (Reader reader : readers) {
+                advance(reader);
+            }
+        }
+    }
+
+    /**
+     * Returns the row with the lowest SCN among the rows not yet returned, waiting for the reader threads as needed.
+     *
+     * @return the next row, or {@code null} if there are no more rows
+     * @throws SQLException if a database exception occurred
+     * @throws InterruptedException if the thread was interrupted while waiting
+     */
+    public LogMinerEventRow next() throws SQLException, InterruptedException {
+        awaitFirstRows();
+        if (ended) {
+            return null;
+        }
+        final Head head = heads.poll();
+        if (head == null) {
+            return null;
+        }
+        advance(head.reader);
+        return head.row;
+    }
+
+    /**
+     * @return the ORA-00310 error that ended the merged rows early, or {@code null} if all rows have been read
+     */
+    public SQLException getLogUnavailableException() {
+        return logUnavailableException;
+    }
+
+    private void advance(Reader reader) throws SQLException, InterruptedException {
+        final Object item = reader.queue.take();
+        if (item instanceof LogMinerEventRow) {
+            heads.add(new Head((LogMinerEventRow) item, reader));
+        }
+        else if (item instanceof SQLException) {
+            final SQLException e = (SQLException) item;
+            if (e.getMessage() == null || !e.getMessage().startsWith("ORA-00310")) {
+                throw e;
+            }
+            LOGGER.debug("A mined log of redo thread {} is no longer available: {}", reader.session.getThread(), e.getMessage());
+            logUnavailableException = e;
+            ended = true;
+        }
+        else if (item instanceof RuntimeException) {
+            throw (RuntimeException) item;
+        }
+        else if (item instanceof Throwable) {
+            throw new DebeziumException("Failed to read the LogMiner results of redo thread " + reader.session.getThread(), (Throwable) item);
+        }
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        for (Reader reader : readers) {
+            final PreparedStatement statement = reader.statement;
+            if (statement != null && !reader.future.isDone()) {
+                try {
+                    statement.cancel();
+                }
+                catch (SQLException e) {
+                    LOGGER.debug("Failed to cancel the LogMiner query of redo thread {}", reader.session.getThread(), e);
+                }
+            }
+        }
+        // The session's connection must no longer be used by the reader before it is used to start the next session
+        for (Reader reader : readers) {
+            try {
+                reader.future.get();
+            }
+            catch (ExecutionException e) {
+                LOGGER.debug("The LogMiner reader of redo thread {} failed", reader.session.getThread(), e.getCause());
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private static class Head {
+
+        private final LogMinerEventRow row;
+        private final Reader reader;
+
+        Head(LogMinerEventRow row, Reader reader) {
+            this.row = row;
+            this.reader = reader;
+        }
+    }
+
+    private class Reader implements Runnable {
+
+        private final RedoThreadMiningSession session;
+        private final String query;
+        private final int fetchSize;
+        private final String catalogName;
+        private final boolean isTxIdRawValue;
+        private final BlockingQueue<Object> queue;
+        private volatile PreparedStatement statement;
+        private Future<?> future;
+
+        Reader(RedoThreadMiningSession session, String query, int fetchSize, String catalogName, boolean isTxIdRawValue, int queueCapacity) {
+            this.session = session;
+            this.query = query;
+            this.fetchSize = fetchSize;
+            this.catalogName = catalogName;
+            this.isTxIdRawValue = isTxIdRawValue;
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        }
+
+        @Override
+        public void run() {
+            try (PreparedStatement statement = session.getConnection().connection().prepareStatement(query,
+                    ResultSet.TYPE_FORWARD_ONLY,
+                    ResultSet.CONCUR_READ_ONLY,
+                    ResultSet.HOLD_CURSORS_OVER_COMMIT)) {
+                this.statement = statement;
+                statement.setFetchSize(fetchSize);
+                statement.setFetchDirection(ResultSet.FETCH_FORWARD);
+                statement.setString(1, session.getMiningStartScn().toString());
+                statement.setString(2, session.getMiningEndScn().toString());
+
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (!closed && resultSet.next()) {
+                        if (!offer(LogMinerEventRow.fromResultSet(resultSet, catalogName, isTxIdRawValue))) {
+                            return;
+                        }
+                    }
+                }
+                offer(END);
+            }
+            catch (Throwable e) {
+                // any failure, including errors, must be handed over as the merge would wait for further rows otherwise
+                if (!closed) {
+                    offer(e);
+                }
+            }
+            finally {
+                this.statement = null;
+            }
+        }
+
+        private boolean offer(Object item) {
+            try {
+                while (!closed) {
+                    if (queue.offer(item, OFFER_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                        return true;
+                    }
+                }
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.annotation.NotThreadSafe;
+import io.debezium.connector.oracle.OracleConnection;
+import io.debezium.connector.oracle.OracleConnector;
+import io.debezium.connector.oracle.Scn;
+import io.debezium.util.Threads;
+
+/**
+ * A LogMiner session that mines the logs of a single redo thread on its own database connection, and whose
+ * results are read by a dedicated reader thread.
+ *
+ * @see RedoThreadMiningSessions
+ */
+@NotThreadSafe
+public class RedoThreadMiningSession implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RedoThreadMiningSession.class);
+
+    private final int thread;
+    private final OracleConnection connection;
+    private final ExecutorService reader;
+
+    private Scn firstScn = Scn.NULL;
+    private Scn nextScn = Scn.NULL;
+    private Scn miningStartScn = Scn.NULL;
+    private Scn miningEndScn = Scn.NULL;
+
+    RedoThreadMiningSession(int thread, OracleConnection connection, String connectorId) {
+        this.thread = thread;
+        this.connection = connection;
+        this.reader = Threads.newSingleThreadExecutor(OracleConnector.class, connectorId, "logminer-redo-thread-" + thread);
+    }
+
+    /**
+     * @return the redo thread whose logs are mined by this session
+     */
+    public int getThread() {
+        return thread;
+    }
+
+    /**
+     * @return the database connection of this session, never {@code null}
+     */
+    public OracleConnection getConnection() {
+        return connection;
+    }
+
+    ExecutorService getReader() {
+        return reader;
+    }
+
+    /**
+     * Registers the logs of this session's redo thread with the session, replacing the ones registered before.
+     *
+     * @param logFiles the log files of this session's redo thread, must not be empty
+     * @throws SQLException if a database exception occurred
+     */
+    void setLogFiles(List<LogFile> logFiles) throws SQLException {
+        LogMinerHelper.removeLogFilesFromMining(connection);
+        LogMinerHelper.addLogFilesForMining(connection, logFiles);
+
+        firstScn = Scn.NULL;
+        nextScn = Scn.NULL;
+        for (LogFile logFile : logFiles) {
+            if (firstScn.isNull() || logFile.getFirstScn().compareTo(firstScn) < 0) {
+                firstScn = logFile.getFirstScn();
+            }
+            if (logFile.isCurrent() || Scn.MAX.equals(nextScn)) {
+                nextScn = Scn.MAX;
+            }
+            else if (nextScn.isNull() || logFile.getNextScn().compareTo(nextScn) > 0) {
+                nextScn = logFile.getNextScn();
+            }
+        }
+        LOGGER.debug("Registered {} log files of redo thread {} covering SCN [{}, {})", logFiles.size(), thread, firstScn, nextScn);
+    }
+
+    /**
+     * Restricts the given mining range to the range covered by the logs of this session's redo thread, as the logs
+     * of a thread that has been opened or closed in between may only cover a part of the range.
+     *
+     * @param startScn the exclusive lower bound of the range to be mined, must not be {@code null}
+     * @param endScn the inclusive upper bound of the range to be mined, must not be {@code null}
+     * @return {@code true} if this session has anything to mine within the range, {@code false} otherwise
+     */
+    boolean setMiningRange(Scn startScn, Scn endScn) {
+        miningStartScn = startScn;
+        if (!firstScn.isNull() && firstScn.subtract(Scn.ONE).compareTo(startScn) > 0) {
+            miningStartScn = firstScn.subtract(Scn.ONE);
+        }
+        miningEndScn = endScn;
+        if (!nextScn.isNull() && !Scn.MAX.equals(nextScn) && nextScn.compareTo(endScn) < 0) {
+            miningEndScn = nextScn;
+        }
+        if (miningStartScn.compareTo(miningEndScn) >= 0) {
+            LOGGER.trace("Redo thread {} has no logs within SCN ({}, {}]", thread, startScn, endScn);
+            miningStartScn = Scn.NULL;
+            miningEndScn = Scn.NULL;
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * @return whether this session mines a range in the current iteration
+     */
+    public boolean isMining() {
+        return !miningStartScn.isNull();
+    }
+
+    /**
+     * @return the exclusive lower bound of the range mined in the current iteration
+     */
+    public Scn getMiningStartScn() {
+        return miningStartScn;
+    }
+
+    /**
+     * @return the inclusive upper bound of the range mined in the current iteration
+     */
+    public Scn getMiningEndScn() {
+        return miningEndScn;
+    }
+
+    @Override
+    public void close() {
+        reader.shutdownNow();
+        try {
+            connection.executeWithoutCommitting("BEGIN SYS.DBMS_LOGMNR.END_LOGMNR(); END;");
+        }
+        catch (SQLException e) {
+            // Most likely there is no LogMiner session in progress, i.e. ORA-01307
+            LOGGER.debug("Failed to end LogMiner session of redo thread {}: {}", thread, e.getMessage());
+        }
+        try {
+            connection.close();
+        }
+        catch (SQLException e) {
+            LOGGER.warn("Failed to close the connection of the LogMiner session of redo thread {}", thread, e);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.annotation.NotThreadSafe;
+import io.debezium.annotation.VisibleForTesting;
+import io.debezium.connector.oracle.OracleConnection;
+import io.debezium.connector.oracle.OracleConnectorConfig;
+import io.debezium.connector.oracle.Scn;
+import io.debezium.jdbc.JdbcConfiguration;
+
+/**
+ * Manages one {@link RedoThreadMiningSession} per redo thread, e.g. per Oracle RAC node, so that the logs of each
+ * thread are mined in parallel rather than by a single LogMiner session and cursor.
+ * <p>
+ * Each session only registers the logs of its own redo thread. As all changes of a transaction are recorded by the
+ * thread of the instance it is executed on, and the changes of a thread are recorded in SCN order, merging the
+ * results of all sessions by SCN yields the changes in the same order a single session would.
+ *
+ * @see RedoThreadEventRowMerger
+ */
+@NotThreadSafe
+public class RedoThreadMiningSessions implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RedoThreadMiningSessions.class);
+
+    private final OracleConnectorConfig connectorConfig;
+    private final JdbcConfiguration jdbcConfiguration;
+    private final Map<Integer, RedoThreadMiningSession> sessions = new TreeMap<>();
+
+    public RedoThreadMiningSessions(OracleConnectorConfig connectorConfig, JdbcConfiguration jdbcConfiguration) {
+        this.connectorConfig = connectorConfig;
+        this.jdbcConfiguration = jdbcConfiguration;
+    }
+
+    /**
+     * Registers the given logs with the sessions of their redo threads. Sessions are opened for redo threads that
+     * were not mined before, and closed for redo threads that no longer have any logs to be mined.
+     *
+     * @param logFiles the log files to be mined, must not be {@code null}
+     * @throws SQLException if a database exception occurred
+     */
+    public void setLogFiles(List<LogFile> logFiles) throws SQLException {
+        final Map<Integer, List<LogFile>> logFilesByThread = logFiles.stream()
+                .collect(Collectors.groupingBy(LogFile::getThread, TreeMap::new, Collectors.toList()));
+
+        for (Iterator<Map.Entry<Integer, RedoThreadMiningSession>> iterator = sessions.entrySet().iterator(); iterator.hasNext();) {
+            final Map.Entry<Integer, RedoThreadMiningSession> entry = iterator.next();
+            if (!logFilesByThread.containsKey(entry.getKey())) {
+                LOGGER.info("Closing LogMiner session of redo thread {} as it has no more logs to be mined.", entry.getKey());
+                entry.getValue().close();
+                iterator.remove();
+            }
+        }
+
+        for (Map.Entry<Integer, List<LogFile>> entry : logFilesByThread.entrySet()) {
+            RedoThreadMiningSession session = sessions.get(entry.getKey());
+            if (session == null) {
+                session = createSession(entry.getKey());
+                sessions.put(entry.getKey(), session);
+            }
+            session.setLogFiles(entry.getValue());
+        }
+    }
+
+    /**
+     * Sets the range to be mined by the sessions in the upcoming iteration.
+     *
+     * @param startScn the exclusive lower bound of the range, must not be {@code null}
+     * @param endScn the inclusive upper bound of the range, must not be {@code null}
+     * @return the sessions which have any logs within the range, never {@code null}
+     */
+    public List<RedoThreadMiningSession> setMiningRange(Scn startScn, Scn endScn) {
+        final List<RedoThreadMiningSession> miningSessions = new ArrayList<>(sessions.size());
+        for (RedoThreadMiningSession session : sessions.values()) {
+            if (session.setMiningRange(startScn, endScn)) {
+                miningSessions.add(session);
+            }
+        }
+        return miningSessions;
+    }
+
+    /**
+     * @return all sessions, ordered by their redo thread, never {@code null}
+     */
+    public Collection<RedoThreadMiningSession> getSessions() {
+        return sessions.values();
+    }
+
+    /**
+     * Executes the given LogMiner query in each session that mines a range in the current iteration.
+     *
+     * @param query the LogMiner query, whose two bind parameters are bound to each session's mining range
+     * @param fetchSize the JDBC fetch size
+     * @param catalogName the catalog name of the mined rows
+     * @param isTxIdRawValue whether the transaction id is to be read as raw value
+     * @return the rows of all sessions merged by SCN, to be closed by the caller
+     */
+    public RedoThreadEventRowMerger mine(String query, int fetchSize, String catalogName, boolean isTxIdRawValue) {
+        final List<RedoThreadMiningSession> miningSessions = sessions.values().stream()
+                .filter(RedoThreadMiningSession::isMining)
+                .collect(Collectors.toList());
+        return new RedoThreadEventRowMerger(miningSessions, query, fetchSize, catalogName, isTxIdRawValue);
+    }
+
+    @Override
+    public void close() {
+        for (RedoThreadMiningSession session : sessions.values()) {
+            session.close();
+        }
+        sessions.clear();
+    }
+
+    @VisibleForTesting
+    RedoThreadMiningSession createSession(int thread) throws SQLException {
+        LOGGER.info("Opening LogMiner session for redo thread {}.", thread);
+        final OracleConnection connection = new OracleConnection(jdbcConfiguration, false);
+        try {
+            // We explicitly expect auto-commit to be disabled
+            connection.setAutoCommit(false);
+            LogMinerStreamingChangeEventSource.setNlsSessionParameters(connection);
+        }
+        catch (SQLException e) {
+            connection.close();
+            throw e;
+        }
+        return new RedoThreadMiningSession(thread, connection, connectorConfig.getLogicalName());
+    }
+}
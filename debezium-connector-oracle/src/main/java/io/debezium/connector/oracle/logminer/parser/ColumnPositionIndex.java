@@ -0,0 +1,118 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer.parser;
+
+import java.util.List;
+
+import io.debezium.DebeziumException;
+import io.debezium.annotation.Immutable;
+import io.debezium.relational.Column;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableId;
+import io.debezium.relational.Tables.ColumnNameFilter;
+
+/**
+ * A precomputed index of the columns of a relational table, which resolves the position of a column whose name is
+ * given by a region of a SQL statement without creating a string for the name.
+ * <p>
+ * Column names are matched case-insensitively, just like {@link Table#columnWithName(String)} does.
+ */
+@Immutable
+final class ColumnPositionIndex {
+
+    private final Table table;
+    private final String[] names;
+    private final boolean[] captured;
+    private final int[] slots;
+    private final int mask;
+
+    ColumnPositionIndex(Table table, ColumnNameFilter columnFilter) {
+        final List<Column> columns = table.columns();
+        final TableId tableId = table.id();
+
+        this.table = table;
+        this.names = new String[columns.size()];
+        this.captured = new boolean[columns.size()];
+
+        int size = Integer.highestOneBit(Math.max(columns.size(), 1) * 2) * 2;
+        this.slots = new int[size];
+        this.mask = size - 1;
+
+        for (Column column : columns) {
+            // column positions are 1-based
+            final int position = column.position() - 1;
+            names[position] = column.name();
+            // key values identify the rows of LOB events, even if the key columns are excluded
+            captured[position] = columnFilter == null
+                    || columnFilter.matches(tableId.catalog(), tableId.schema(), tableId.table(), column.name())
+                    || table.isPrimaryKeyColumn(column.name());
+
+            int slot = hash(column.name(), 0, column.name().length()) & mask;
+            while (slots[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = position + 1;
+        }
+    }
+
+    /**
+     * @return the table this index was built for
+     */
+    Table table() {
+        return table;
+    }
+
+    /**
+     * Returns the position of the column whose name is given by a region of the SQL statement.
+     *
+     * @param sql the sql statement
+     * @param start the index of the first character of the column name
+     * @param end the index after the last character of the column name
+     * @param hint the position of the column expected to match, checked before any lookup
+     * @return the 0-based position of the column
+     * @throws DebeziumException if the table has no such column
+     */
+    int positionOf(String sql, int start, int end, int hint) {
+        if (hint >= 0 && hint < names.length && matches(names[hint], sql, start, end)) {
+            return hint;
+        }
+        int slot = hash(sql, start, end) & mask;
+        while (slots[slot] != 0) {
+            final int position = slots[slot] - 1;
+            if (matches(names[position], sql, start, end)) {
+                return position;
+            }
+            slot = (slot + 1) & mask;
+        }
+        // names equal ignoring case may still differ by their lower-case characters, e.g. for the dotless i
+        for (int position = 0; position < names.length; ++position) {
+            if (matches(names[position], sql, start, end)) {
+                return position;
+            }
+        }
+        throw new DebeziumException("No column '" + sql.substring(start, end) + "' found in table '" + table.id() + "'");
+    }
+
+    /**
+     * @param position the 0-based position of the column
+     * @return whether the values of the column are captured, i.e. whether they need to be parsed
+     */
+    boolean isCaptured(int position) {
+        return captured[position];
+    }
+
+    private static boolean matches(String name, String sql, int start, int end) {
+        return name.length() == end - start && sql.regionMatches(true, start, name, 0, name.length());
+    }
+
+    private static int hash(String value, int start, int end) {
+        int hash = 0;
+        for (int i = start; i < end; ++i) {
+            hash = 31 * hash + Character.toLowerCase(value.charAt(i));
+        }
+        return hash ^ (hash >>> 16);
+    }
+}
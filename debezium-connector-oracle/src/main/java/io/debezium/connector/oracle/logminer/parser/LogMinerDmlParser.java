@@ -5,9 +5,13 @@
  */
 package io.debezium.connector.oracle.logminer.parser;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 import io.debezium.DebeziumException;
-import io.debezium.connector.oracle.logminer.LogMinerHelper;
 import io.debezium.relational.Table;
+import io.debezium.relational.TableId;
+import io.debezium.relational.Tables.ColumnNameFilter;
 
 /**
  * A simple DML parser implementation specifically for Oracle LogMiner.
@@ -36,6 +40,10 @@
  * The new value for {@code C1} would be {@code TO_TIMESTAMP('2020-02-02 00:00:00', 'YYYY-MM-DD HH24:MI:SS')}.
  * The old value for {@code C1} would be {@code TO_TIMESTAMP('2020-02-01 00:00:00', 'YYYY-MM-DD HH24:MI:SS')}.
  *
+ * Column names and values are located by their offsets within the SQL statement. Column names are resolved through
+ * a {@link ColumnPositionIndex} computed once per table, and strings are only created for the values of columns
+ * that are captured.
+ *
  * @author Chris Cranford
  */
 public class LogMinerDmlParser implements DmlParser {
@@ -62,6 +70,23 @@ public class LogMinerDmlParser implements DmlParser {
     private static final int SET_LENGTH = SET.length();
     private static final int WHERE_LENGTH = WHERE.length();
 
+    private final ColumnNameFilter columnFilter;
+    private final ConcurrentMap<TableId, ColumnPositionIndex> columnIndexes = new ConcurrentHashMap<>();
+
+    public LogMinerDmlParser() {
+        this(null);
+    }
+
+    /**
+     * Creates a parser that only parses the values of the columns matched by the given filter. The values of all
+     * other columns are {@code null} in the parsed entries.
+     *
+     * @param columnFilter the filter of the captured columns, may be {@code null} to parse the values of all columns
+     */
+    public LogMinerDmlParser(ColumnNameFilter columnFilter) {
+        this.columnFilter = columnFilter;
+    }
+
     @Override
     public LogMinerDmlEntry parse(String sql, Table table) {
         if (table == null) {
@@ -80,6 +105,21 @@ public LogMinerDmlEntry parse(String sql, Table table) {
         throw new DmlParserException("Unknown supported SQL '" + sql + "'");
     }
 
+    /**
+     * Returns the column index of the given table, computing it if the table is new or has changed.
+     *
+     * @param table the relational table
+     * @return the column index, never {@code null}
+     */
+    private ColumnPositionIndex getColumnIndex(Table table) {
+        ColumnPositionIndex columns = columnIndexes.get(table.id());
+        if (columns == null || columns.table() != table) {
+            columns = new ColumnPositionIndex(table, columnFilter);
+            columnIndexes.put(table.id(), columns);
+        }
+        return columns;
+    }
+
     /**
      * Parse an {@code INSERT} SQL statement.
      *
@@ -95,13 +135,14 @@ private LogMinerDmlEntry parseInsert(String sql, Table table) {
             // parse table
             index = parseTableName(sql, index);
 
-            // capture column names
-            String[] columnNames = new String[table.columns().size()];
-            index = parseColumnListClause(sql, index, columnNames);
+            // capture column positions
+            final ColumnPositionIndex columns = getColumnIndex(table);
+            int[] columnPositions = new int[table.columns().size()];
+            index = parseColumnListClause(sql, index, columnPositions, columns);
 
             // capture values
             Object[] newValues = new Object[table.columns().size()];
-            parseColumnValuesClause(sql, index, columnNames, newValues, table);
+            parseColumnValuesClause(sql, index, columnPositions, newValues, columns);
 
             return LogMinerDmlEntryImpl.forInsert(newValues);
         }
@@ -126,12 +167,13 @@ private LogMinerDmlEntry parseUpdate(String sql, Table table) {
             index = parseTableName(sql, index);
 
             // parse set
+            final ColumnPositionIndex columns = getColumnIndex(table);
             Object[] newValues = new Object[table.columns().size()];
-            index = parseSetClause(sql, index, newValues, table);
+            index = parseSetClause(sql, index, newValues, columns);
 
             // parse where
             Object[] oldValues = new Object[table.columns().size()];
-            parseWhereClause(sql, index, oldValues, table);
+            parseWhereClause(sql, index, oldValues, columns);
 
             // For each after state field that is either a NULL_SENTINEL (explicitly wants NULL) or
             // that wasn't specified and therefore remained null, correctly adapt the after state
@@ -173,7 +215,7 @@ private LogMinerDmlEntry parseDelete(String sql, Table table) {
 
             // parse where
             Object[] oldValues = new Object[table.columns().size()];
-            parseWhereClause(sql, index, oldValues, table);
+            parseWhereClause(sql, index, oldValues, getColumnIndex(table));
 
             // Check and update unavailable column values
             ParserUtils.setColumnUnavailableValues(oldValues, table);
@@ -217,10 +259,11 @@ else if ((c == ' ' || c == '(') && !inQuote) {
      *
      * @param sql the sql statement
      * @param start the index into the sql statement to begin parsing
-     * @param columnNames the list that will be populated with the column names
+     * @param columnPositions the array that will be populated with the positions of the listed columns
+     * @param columns the column index of the relational table
      * @return the index into the sql string where the column-list clause ended
      */
-    private int parseColumnListClause(String sql, int start, String[] columnNames) {
+    private int parseColumnListClause(String sql, int start, int[] columnPositions, ColumnPositionIndex columns) {
         int index = start;
         boolean inQuote = false;
         int columnIndex = 0;
@@ -236,7 +279,9 @@ else if (c == ')' && !inQuote) {
             else if (c == '"') {
                 if (inQuote) {
                     inQuote = false;
-                    columnNames[columnIndex++] = sql.substring(start + 1, index);
+                    // LogMiner usually lists the columns in the order of the table
+                    int hint = columnIndex == 0 ? 0 : columnPositions[columnIndex - 1] + 1;
+                    columnPositions[columnIndex++] = columns.positionOf(sql, start + 1, index, hint);
                     start = index + 2;
                     continue;
                 }
@@ -251,12 +296,12 @@ else if (c == '"') {
      *
      * @param sql the sql statement
      * @param start the index into the sql statement to begin parsing
-     * @param columnNames the column names array, already indexed based on relational table column order
+     * @param columnPositions the positions of the columns, in the order of the column-list clause
      * @param values the values array that will be populated with column values
-     * @param table the relational table
+     * @param columns the column index of the relational table
      * @return the index into the sql string where the column-values clause ended
      */
-    private int parseColumnValuesClause(String sql, int start, String[] columnNames, Object[] values, Table table) {
+    private int parseColumnValuesClause(String sql, int start, int[] columnPositions, Object[] values, ColumnPositionIndex columns) {
         int index = start;
         int nested = 0;
         boolean inQuote = false;
@@ -269,21 +314,16 @@ private int parseColumnValuesClause(String sql, int start, String[] columnNames,
         index += VALUES_LENGTH;
 
         int columnIndex = 0;
-        StringBuilder collectedValue = null;
+        int valueStart = 0;
+        int valueEnd = 0;
+        boolean escaped = false;
         for (; index < sql.length(); ++index) {
             char c = sql.charAt(index);
 
-            if (inQuote) {
-                if (c != '\'') {
-                    collectedValue.append(c);
-                }
-                else {
-                    if (sql.charAt(index + 1) == '\'') {
-                        collectedValue.append('\'');
-                        index = index + 1;
-                        continue;
-                    }
-                }
+            if (inQuote && c == '\'' && sql.charAt(index + 1) == '\'') {
+                escaped = true;
+                index = index + 1;
+                continue;
             }
 
             if (c == '(' && !inQuote && !inValues) {
@@ -296,10 +336,12 @@ else if (c == '(' && !inQuote) {
             else if (c == '\'') {
                 if (inQuote) {
                     inQuote = false;
+                    valueEnd = index;
                     continue;
                 }
                 inQuote = true;
-                collectedValue = new StringBuilder();
+                valueStart = index + 1;
+                escaped = false;
             }
             else if (!inQuote && (c == ',' || c == ')')) {
                 if (c == ')' && nested != 0) {
@@ -310,18 +352,17 @@ else if (!inQuote && (c == ',' || c == ')')) {
                     continue;
                 }
 
+                int position = columnPositions[columnIndex];
                 if (sql.charAt(start) == '\'' && sql.charAt(index - 1) == '\'') {
                     // value is single-quoted at the start/end, substring without the quotes.
-                    int position = LogMinerHelper.getColumnIndexByName(columnNames[columnIndex], table);
-                    values[position] = collectedValue.toString();
-                    collectedValue = null;
+                    if (columns.isCaptured(position)) {
+                        values[position] = quotedValue(sql, valueStart, valueEnd, escaped);
+                    }
                 }
-                else {
+                else if (!regionEquals(sql, start, index, UNSUPPORTED_TYPE) && !regionEquals(sql, start, index, NULL)) {
                     // use value as-is
-                    String s = sql.substring(start, index);
-                    if (!s.equals(UNSUPPORTED_TYPE) && !s.equals(NULL)) {
-                        int position = LogMinerHelper.getColumnIndexByName(columnNames[columnIndex], table);
-                        values[position] = s;
+                    if (columns.isCaptured(position)) {
+                        values[position] = sql.substring(start, index);
                     }
                 }
 
@@ -340,10 +381,10 @@ else if (!inQuote && (c == ',' || c == ')')) {
      * @param sql the sql statement
      * @param start the index into the sql statement to begin parsing
      * @param newValues the new values array to be populated
-     * @param table the relational table
+     * @param columns the column index of the relational table
      * @return the index into the sql string where the set-clause ended
      */
-    private int parseSetClause(String sql, int start, Object[] newValues, Table table) {
+    private int parseSetClause(String sql, int start, Object[] newValues, ColumnPositionIndex columns) {
         boolean inDoubleQuote = false;
         boolean inSingleQuote = false;
         boolean inColumnName = true;
@@ -363,30 +404,24 @@ else if (set != start) {
         start += SET_LENGTH;
 
         int index = start;
-        String currentColumnName = null;
-        StringBuilder collectedValue = null;
+        int position = -1;
+        int valueStart = 0;
+        boolean escaped = false;
         for (; index < sql.length(); ++index) {
             char c = sql.charAt(index);
             char lookAhead = (index + 1 < sql.length()) ? sql.charAt(index + 1) : 0;
 
-            if (inSingleQuote) {
-                if (c != '\'') {
-                    collectedValue.append(c);
-                }
-                else {
-                    if (lookAhead == '\'') {
-                        collectedValue.append('\'');
-                        index = index + 1;
-                        continue;
-                    }
-                }
+            if (inSingleQuote && c == '\'' && lookAhead == '\'') {
+                escaped = true;
+                index = index + 1;
+                continue;
             }
 
             if (c == '"' && inColumnName) {
                 // Set clause column names are double-quoted
                 if (inDoubleQuote) {
                     inDoubleQuote = false;
-                    currentColumnName = sql.substring(start + 1, index);
+                    position = columns.positionOf(sql, start + 1, index, position + 1);
                     start = index + 1;
                     inColumnName = false;
                     continue;
@@ -423,9 +458,9 @@ else if (c == '\'' && inColumnValue) {
                 if (inSingleQuote) {
                     inSingleQuote = false;
                     if (nested == 0) {
-                        int position = LogMinerHelper.getColumnIndexByName(currentColumnName, table);
-                        newValues[position] = collectedValue.toString();
-                        collectedValue = null;
+                        if (columns.isCaptured(position)) {
+                            newValues[position] = quotedValue(sql, valueStart, index, escaped);
+                        }
                         start = index + 1;
                         inColumnValue = false;
                         inColumnName = false;
@@ -436,7 +471,8 @@ else if (c == '\'' && inColumnValue) {
                     start = index;
                 }
                 inSingleQuote = true;
-                collectedValue = new StringBuilder();
+                valueStart = index + 1;
+                escaped = false;
             }
             else if (c == ',' && !inColumnValue && !inColumnName) {
                 // Set clause uses ', ' skip following space
@@ -457,15 +493,14 @@ else if (c == ')' && nested > 0) {
                     nested--;
                 }
                 else if ((c == ',' || c == ' ' || c == ';') && nested == 0) {
-                    String value = sql.substring(start, index);
-                    if (value.equals(NULL) || value.equals(UNSUPPORTED_TYPE)) {
-                        if (value.equals(NULL)) {
+                    final boolean isNull = regionEquals(sql, start, index, NULL);
+                    if (isNull || regionEquals(sql, start, index, UNSUPPORTED_TYPE)) {
+                        if (isNull) {
                             // In order to identify when a field is not present in the set-clause or when
                             // a field is explicitly set to null, the NULL_SENTINEL value is used to then
                             // indicate that the field is explicitly being cleared to NULL.
                             // This sentinel value will be cleared later when we reconcile before/after
                             // state in parseUpdate()
-                            int position = LogMinerHelper.getColumnIndexByName(currentColumnName, table);
                             newValues[position] = NULL_SENTINEL;
                         }
                         start = index + 1;
@@ -474,11 +509,12 @@ else if (c == ')' && nested > 0) {
                         inColumnName = true;
                         continue;
                     }
-                    else if (value.equals(UNSUPPORTED)) {
+                    else if (regionEquals(sql, start, index, UNSUPPORTED)) {
                         continue;
                     }
-                    int position = LogMinerHelper.getColumnIndexByName(currentColumnName, table);
-                    newValues[position] = value;
+                    if (columns.isCaptured(position)) {
+                        newValues[position] = sql.substring(start, index);
+                    }
                     start = index + 1;
                     inColumnValue = false;
                     inSpecial = false;
@@ -502,10 +538,10 @@ else if (!inDoubleQuote && !inSingleQuote) {
      * @param sql the sql statement
      * @param start the index into the sql statement to begin parsing
      * @param values the column values to be parsed from the where clause
-     * @param table the relational table
+     * @param columns the column index of the relational table
      * @return the index into the sql string to continue parsing
      */
-    private int parseWhereClause(String sql, int start, Object[] values, Table table) {
+    private int parseWhereClause(String sql, int start, Object[] values, ColumnPositionIndex columns) {
         int nested = 0;
         boolean inColumnName = true;
         boolean inColumnValue = false;
@@ -532,28 +568,22 @@ else if (where != start) {
         start += WHERE_LENGTH;
 
         int index = start;
-        String currentColumnName = null;
-        StringBuilder collectedValue = null;
+        int position = -1;
+        int valueStart = 0;
+        boolean escaped = false;
         for (; index < sql.length(); ++index) {
             char c = sql.charAt(index);
             char lookAhead = (index + 1 < sql.length()) ? sql.charAt(index + 1) : 0;
-            if (inSingleQuote) {
-                if (c != '\'') {
-                    collectedValue.append(c);
-                }
-                else {
-                    if (lookAhead == '\'') {
-                        collectedValue.append('\'');
-                        index = index + 1;
-                        continue;
-                    }
-                }
+            if (inSingleQuote && c == '\'' && lookAhead == '\'') {
+                escaped = true;
+                index = index + 1;
+                continue;
             }
             if (c == '"' && inColumnName) {
                 // Where clause column names are double-quoted
                 if (inDoubleQuote) {
                     inDoubleQuote = false;
-                    currentColumnName = sql.substring(start + 1, index);
+                    position = columns.positionOf(sql, start + 1, index, position + 1);
                     start = index + 1;
                     inColumnName = false;
                     continue;
@@ -584,9 +614,9 @@ else if (c == '\'' && inColumnValue) {
                 if (inSingleQuote) {
                     inSingleQuote = false;
                     if (nested == 0) {
-                        int position = LogMinerHelper.getColumnIndexByName(currentColumnName, table);
-                        values[position] = collectedValue.toString();
-                        collectedValue = null;
+                        if (columns.isCaptured(position)) {
+                            values[position] = quotedValue(sql, valueStart, index, escaped);
+                        }
                         start = index + 1;
                         inColumnValue = false;
                         inColumnName = false;
@@ -597,7 +627,8 @@ else if (c == '\'' && inColumnValue) {
                     start = index;
                 }
                 inSingleQuote = true;
-                collectedValue = new StringBuilder();
+                valueStart = index + 1;
+                escaped = false;
             }
             else if (inColumnValue && !inSingleQuote) {
                 if (!inSpecial) {
@@ -624,19 +655,19 @@ else if (nested == 0 && c == '|' && lookAhead == '|') {
                     }
                 }
                 else if ((c == ';' || c == ' ') && nested == 0) {
-                    String value = sql.substring(start, index);
-                    if (value.equals(NULL) || value.equals(UNSUPPORTED_TYPE)) {
+                    if (regionEquals(sql, start, index, NULL) || regionEquals(sql, start, index, UNSUPPORTED_TYPE)) {
                         start = index + 1;
                         inColumnValue = false;
                         inSpecial = false;
                         inColumnName = true;
                         continue;
                     }
-                    else if (value.equals(UNSUPPORTED)) {
+                    else if (regionEquals(sql, start, index, UNSUPPORTED)) {
                         continue;
                     }
-                    int position = LogMinerHelper.getColumnIndexByName(currentColumnName, table);
-                    values[position] = value;
+                    if (columns.isCaptured(position)) {
+                        values[position] = sql.substring(start, index);
+                    }
                     start = index + 1;
                     inColumnValue = false;
                     inSpecial = false;
@@ -659,4 +690,22 @@ else if (c == 'o' && lookAhead == 'r' && sql.indexOf(OR, index) == index) {
 
         return index;
     }
+
+    /**
+     * Returns a single-quoted value, given by the offsets of its content within the SQL statement.
+     *
+     * @param sql the sql statement
+     * @param start the index of the first character after the opening quote
+     * @param end the index of the closing quote
+     * @param escaped whether the value contains escaped single quotes
+     * @return the value without quotes and escapes
+     */
+    private static String quotedValue(String sql, int start, int end, boolean escaped) {
+        final String value = sql.substring(start, end);
+        return escaped ? value.replace("''", "'") : value;
+    }
+
+    private static boolean regionEquals(String sql, int start, int end, String value) {
+        return end - start == value.length() && sql.startsWith(value, start);
+    }
 }
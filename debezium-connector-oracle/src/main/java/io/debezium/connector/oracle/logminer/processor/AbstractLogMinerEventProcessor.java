@@ -14,6 +14,7 @@
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -24,6 +25,7 @@
 import io.debezium.DebeziumException;
 import io.debezium.connector.oracle.OracleConnection;
 import io.debezium.connector.oracle.OracleConnection.NonRelationalTableException;
+import io.debezium.connector.oracle.OracleConnector;
 import io.debezium.connector.oracle.OracleConnectorConfig;
 import io.debezium.connector.oracle.OracleDatabaseSchema;
 import io.debezium.connector.oracle.OracleOffsetContext;
@@ -32,6 +34,9 @@
 import io.debezium.connector.oracle.OracleStreamingChangeEventSourceMetrics;
 import io.debezium.connector.oracle.Scn;
 import io.debezium.connector.oracle.logminer.LogMinerChangeRecordEmitter;
+import io.debezium.connector.oracle.logminer.LogMinerQueryBuilder;
+import io.debezium.connector.oracle.logminer.RedoThreadEventRowMerger;
+import io.debezium.connector.oracle.logminer.RedoThreadMiningSessions;
 import io.debezium.connector.oracle.logminer.events.DmlEvent;
 import io.debezium.connector.oracle.logminer.events.EventType;
 import io.debezium.connector.oracle.logminer.events.LobEraseEvent;
@@ -52,6 +57,7 @@
 import io.debezium.relational.TableId;
 import io.debezium.util.Clock;
 import io.debezium.util.Strings;
+import io.debezium.util.Threads;
 
 /**
  * An abstract implementation of {@link LogMinerEventProcessor} that all processors should extend.
@@ -72,6 +78,8 @@
     private final OracleStreamingChangeEventSourceMetrics metrics;
     private final LogMinerDmlParser dmlParser;
     private final SelectLobParser selectLobParser;
+    private final ExecutorService prefetcher;
+    private final TableMetadataPrefetcher tableMetadataPrefetcher;
 
     protected final Counters counters;
 
@@ -95,8 +103,24 @@ public AbstractLogMinerEventProcessor(ChangeEventSourceContext context,
         this.dispatcher = dispatcher;
         this.metrics = metrics;
         this.counters = new Counters();
-        this.dmlParser = new LogMinerDmlParser();
+        this.dmlParser = new LogMinerDmlParser(connectorConfig.getColumnFilter());
         this.selectLobParser = new SelectLobParser();
+        this.prefetcher = connectorConfig.getLogMiningQueryPrefetchSize() > 0
+                ? Threads.newSingleThreadExecutor(OracleConnector.class, connectorConfig.getLogicalName(), "logminer-prefetcher")
+                : null;
+        this.tableMetadataPrefetcher = connectorConfig.getLogMiningTableMetadataCacheSize() > 0
+                ? new TableMetadataPrefetcher(connectorConfig, schema)
+                : null;
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (prefetcher != null) {
+            prefetcher.shutdownNow();
+        }
+        if (tableMetadataPrefetcher != null) {
+            tableMetadataPrefetcher.close();
+        }
     }
 
     protected OracleConnectorConfig getConfig() {
@@ -173,6 +197,7 @@ protected boolean isTrxIdRawValue() {
     @Override
     public Scn process(Scn startScn, Scn endScn) throws SQLException, InterruptedException {
         counters.reset();
+        pollNewTables();
 
         try (PreparedStatement statement = createQueryStatement()) {
             LOGGER.debug("Fetching results for SCN [{}, {}]", startScn, endScn);
@@ -188,28 +213,79 @@ public Scn process(Scn startScn, Scn endScn) throws SQLException, InterruptedExc
                 Instant startProcessTime = Instant.now();
                 processResults(this.partition, resultSet);
 
-                Duration totalTime = Duration.between(startProcessTime, Instant.now());
-                metrics.setLastCapturedDmlCount(counters.dmlCount);
+                return completeProcessing(endScn, startProcessTime);
+            }
+        }
+    }
+
+    @Override
+    public Scn process(Scn startScn, Scn endScn, RedoThreadMiningSessions sessions) throws SQLException, InterruptedException {
+        counters.reset();
+        pollNewTables();
 
-                if (counters.dmlCount > 0 || counters.commitCount > 0 || counters.rollbackCount > 0) {
-                    warnPotentiallyStuckScn(currentOffsetScn, currentOffsetCommitScns);
+        LOGGER.debug("Fetching results for SCN [{}, {}] from {} redo thread sessions", startScn, endScn, sessions.getSessions().size());
+        final String query = LogMinerQueryBuilder.build(getConfig(), getSchema());
 
-                    currentOffsetScn = offsetContext.getScn();
-                    if (offsetContext.getCommitScn() != null) {
-                        currentOffsetCommitScns = offsetContext.getCommitScn().getCommitScnForAllRedoThreads();
-                    }
+        Instant queryStart = Instant.now();
+        try (RedoThreadEventRowMerger rows = sessions.mine(query, getConfig().getQueryFetchSize(), getConfig().getCatalogName(), isTrxIdRawValue())) {
+            rows.awaitFirstRows();
+            metrics.setLastDurationOfBatchCapturing(Duration.between(queryStart, Instant.now()));
+
+            Instant startProcessTime = Instant.now();
+            LogMinerEventRow row;
+            while (context.isRunning() && (row = rows.next()) != null) {
+                counters.rows++;
+                processRow(this.partition, row);
+            }
+
+            // Same handling of unavailable logs as when reading the results of a single session
+            if (rows.getLogUnavailableException() != null) {
+                if (sequenceUnavailable) {
+                    LOGGER.error("The log availability error '{}' wasn't cleared, stop requested.", rows.getLogUnavailableException().getMessage());
+                    throw rows.getLogUnavailableException();
                 }
+                LOGGER.warn("Restarting mining session after a log became unavailable.");
+                sequenceUnavailable = true;
+            }
+            else if (sequenceUnavailable) {
+                LOGGER.debug("The previous batch's unavailable log problem has been cleared.");
+                sequenceUnavailable = false;
+            }
+
+            return completeProcessing(endScn, startProcessTime);
+        }
+    }
+
+    private void pollNewTables() {
+        if (tableMetadataPrefetcher != null) {
+            tableMetadataPrefetcher.pollNewTables();
+        }
+    }
+
+    private Scn completeProcessing(Scn endScn, Instant startProcessTime) throws InterruptedException {
+        Duration totalTime = Duration.between(startProcessTime, Instant.now());
+        metrics.setLastCapturedDmlCount(counters.dmlCount);
 
-                LOGGER.debug("{}.", counters);
-                LOGGER.debug("Processed in {} ms. Lag: {}. Offset SCN: {}, Offset Commit SCN: {}, Active Transactions: {}, Sleep: {}",
-                        totalTime.toMillis(), metrics.getLagFromSourceInMilliseconds(), offsetContext.getScn(),
-                        offsetContext.getCommitScn(), metrics.getNumberOfActiveTransactions(),
-                        metrics.getMillisecondToSleepBetweenMiningQuery());
+        if (counters.dmlCount > 0 || counters.commitCount > 0 || counters.rollbackCount > 0) {
+            warnPotentiallyStuckScn(currentOffsetScn, currentOffsetCommitScns);
 
-                metrics.addProcessedRows(counters.rows);
-                return calculateNewStartScn(endScn, offsetContext.getCommitScn().getMaxCommittedScn());
+            currentOffsetScn = offsetContext.getScn();
+            if (offsetContext.getCommitScn() != null) {
+                currentOffsetCommitScns = offsetContext.getCommitScn().getCommitScnForAllRedoThreads();
             }
         }
+
+        LOGGER.debug("{}.", counters);
+        if (tableMetadataPrefetcher != null) {
+            LOGGER.debug("{}.", tableMetadataPrefetcher);
+        }
+        LOGGER.debug("Processed in {} ms. Lag: {}. Offset SCN: {}, Offset Commit SCN: {}, Active Transactions: {}, Sleep: {}",
+                totalTime.toMillis(), metrics.getLagFromSourceInMilliseconds(), offsetContext.getScn(),
+                offsetContext.getCommitScn(), metrics.getNumberOfActiveTransactions(),
+                metrics.getMillisecondToSleepBetweenMiningQuery());
+
+        metrics.addProcessedRows(counters.rows);
+        return calculateNewStartScn(endScn, offsetContext.getCommitScn().getMaxCommittedScn());
     }
 
     /**
@@ -238,12 +314,51 @@ public Scn process(Scn startScn, Scn endScn) throws SQLException, InterruptedExc
      * @throws InterruptedException if the dispatcher was interrupted sending an event
      */
     protected void processResults(OraclePartition partition, ResultSet resultSet) throws SQLException, InterruptedException {
+        if (prefetcher != null) {
+            processPrefetchedResults(partition, resultSet);
+            return;
+        }
         while (context.isRunning() && hasNextWithMetricsUpdate(resultSet)) {
             counters.rows++;
             processRow(partition, LogMinerEventRow.fromResultSet(resultSet, getConfig().getCatalogName(), isTrxIdRawValue()));
         }
     }
 
+    /**
+     * Processes the LogMiner results while the following rows are fetched by the prefetcher thread.
+     *
+     * @param resultSet the result set from a LogMiner query
+     * @throws SQLException if a database exception occurred
+     * @throws InterruptedException if the dispatcher was interrupted sending an event
+     */
+    private void processPrefetchedResults(OraclePartition partition, ResultSet resultSet) throws SQLException, InterruptedException {
+        final String catalogName = getConfig().getCatalogName();
+        final boolean isTrxIdRawValue = isTrxIdRawValue();
+        try (LogMinerEventRowPrefetcher rows = new LogMinerEventRowPrefetcher(resultSet,
+                rs -> LogMinerEventRow.fromResultSet(rs, catalogName, isTrxIdRawValue),
+                prefetcher,
+                getConfig().getLogMiningQueryPrefetchSize(),
+                getConfig().getQueryFetchSize(),
+                metrics)) {
+            while (context.isRunning()) {
+                final LogMinerEventRow row;
+                try {
+                    row = rows.next();
+                    clearSequenceUnavailable();
+                }
+                catch (SQLException e) {
+                    handleResultSetException(e);
+                    return;
+                }
+                if (row == null) {
+                    return;
+                }
+                counters.rows++;
+                processRow(partition, row);
+            }
+        }
+    }
+
     /**
      * Processes a single LogMinerEventRow.
      *
@@ -604,6 +719,12 @@ else if (activeTransactions == 1) {
                             row.getChangeTime(),
                             metrics,
                             () -> processTruncateEvent(row)));
+
+            if (tableMetadataPrefetcher != null) {
+                // Prefetched metadata may predate the DDL; fetch it again if the table is still unknown to the schema
+                tableMetadataPrefetcher.invalidate(tableId);
+                tableMetadataPrefetcher.prefetch(tableId);
+            }
         }
     }
 
@@ -766,16 +887,60 @@ protected void handleDataEvent(LogMinerEventRow row) throws SQLException, Interr
             return;
         }
 
-        addToTransaction(row.getTransactionId(), row, () -> {
-            final LogMinerDmlEntry dmlEntry = parseDmlStatement(row.getRedoSql(), table);
-            dmlEntry.setObjectName(row.getTableName());
-            dmlEntry.setObjectOwner(row.getTablespaceName());
-            return new DmlEvent(row, dmlEntry);
-        });
+        addToTransaction(row.getTransactionId(), row, () -> createDataEvent(row, table));
 
         metrics.incrementRegisteredDmlCount();
     }
 
+    /**
+     * Creates the event for a LogMinerEventRow of an {@code INSERT}, {@code UPDATE}, or {@code DELETE} event,
+     * which is about to be added to its transaction.
+     *
+     * @param row the result set row
+     * @param table the relational table the event is for
+     * @return the event to add to the transaction, never {@code null}
+     */
+    protected LogMinerEvent createDataEvent(LogMinerEventRow row, Table table) {
+        final Instant parseStart = Instant.now();
+        final LogMinerDmlEntry dmlEntry = parseDmlEntry(row, table);
+        updateDmlParseMetrics(row.getRedoSql(), dmlEntry, Duration.between(parseStart, Instant.now()));
+        return new DmlEvent(row, dmlEntry);
+    }
+
+    /**
+     * Parses the redo SQL of a LogMinerEventRow for a {@code INSERT}, {@code UPDATE}, or {@code DELETE} event.
+     * This method may be called from any thread, as it doesn't update the streaming metrics; callers have to
+     * pass the outcome to {@link #updateDmlParseMetrics(String, LogMinerDmlEntry, Duration)} on the mining thread.
+     *
+     * @param row the result set row
+     * @param table the relational table the event is for
+     * @return the parsed DML entry, never {@code null}
+     */
+    protected LogMinerDmlEntry parseDmlEntry(LogMinerEventRow row, Table table) {
+        final LogMinerDmlEntry dmlEntry = parseDmlStatement(row.getRedoSql(), table);
+        dmlEntry.setObjectName(row.getTableName());
+        dmlEntry.setObjectOwner(row.getTablespaceName());
+        return dmlEntry;
+    }
+
+    /**
+     * Updates the streaming metrics for a parsed DML redo SQL statement.
+     * This method must only be called from the mining thread.
+     *
+     * @param redoSql the redo SQL statement
+     * @param dmlEntry the parsed DML entry
+     * @param parseTime the time it took to parse the statement
+     */
+    protected void updateDmlParseMetrics(String redoSql, LogMinerDmlEntry dmlEntry, Duration parseTime) {
+        metrics.addCurrentParseTime(parseTime);
+        if (dmlEntry.getOldValues().length == 0) {
+            if (EventType.UPDATE == dmlEntry.getEventType() || EventType.DELETE == dmlEntry.getEventType()) {
+                LOGGER.warn("The DML event '{}' contained no before state.", redoSql);
+                metrics.incrementWarningCount();
+            }
+        }
+    }
+
     protected void handleUnsupportedEvent(LogMinerEventRow row) {
         if (!Strings.isNullOrEmpty(row.getTableName())) {
             LOGGER.warn("An unsupported operation detected for table '{}' in transaction {} with SCN {} on redo thread {}.",
@@ -843,47 +1008,61 @@ private boolean hasNextWithMetricsUpdate(ResultSet resultSet) throws SQLExceptio
             }
 
             // Reset sequence unavailability on successful read from the result set
-            if (sequenceUnavailable) {
-                LOGGER.debug("The previous batch's unavailable log problem has been cleared.");
-                sequenceUnavailable = false;
-            }
+            clearSequenceUnavailable();
         }
         catch (SQLException e) {
-            // Oracle's online redo logs can be defined with dynamic names using the instance
-            // configuration property LOG_ARCHIVE_FORMAT.
-            //
-            // Dynamically named online redo logs can lead to ORA-00310 errors if a log switch
-            // happens while the processor is iterating the LogMiner session's result set and
-            // LogMiner can no longer read the next batch of records from the log.
-            //
-            // LogMiner only validates that there are no gaps and that the logs are available
-            // when the session is first started and any change in the logs later will raise
-            // these types of errors.
-            //
-            // Catching the ORA-00310 and treating it as the end of the result set will allow
-            // the connector's outer loop to re-evaluate the log state and start a new LogMiner
-            // session with the new logs. The connector will then begin streaming from where
-            // it left off. If any other exception is caught here, it'll be thrown.
-            if (!e.getMessage().startsWith("ORA-00310")) {
-                // throw any non ORA-00310 error, old behavior
-                throw e;
-            }
-            else if (sequenceUnavailable) {
-                // If an ORA-00310 error was raised on the previous iteration and wasn't cleared
-                // after re-evaluation of the log availability and the mining session, we will
-                // explicitly stop the connector to avoid an infinite loop.
-                LOGGER.error("The log availability error '{}' wasn't cleared, stop requested.", e.getMessage());
-                throw e;
-            }
+            handleResultSetException(e);
+        }
+        return result;
+    }
 
-            LOGGER.debug("A mined log is no longer available: {}", e.getMessage());
-            LOGGER.warn("Restarting mining session after a log became unavailable.");
+    private void clearSequenceUnavailable() {
+        if (sequenceUnavailable) {
+            LOGGER.debug("The previous batch's unavailable log problem has been cleared.");
+            sequenceUnavailable = false;
+        }
+    }
 
-            // Track that we gracefully stopped due to a ORA-00310.
-            // Will be used to detect an infinite loop of this error across sequential iterations
-            sequenceUnavailable = true;
+    /**
+     * Handles an exception raised while reading the next row of the LogMiner results.
+     *
+     * @param e the exception, must not be {@code null}
+     * @throws SQLException if the exception is not caused by an unavailable log, or if such an error was not cleared
+     */
+    private void handleResultSetException(SQLException e) throws SQLException {
+        // Oracle's online redo logs can be defined with dynamic names using the instance
+        // configuration property LOG_ARCHIVE_FORMAT.
+        //
+        // Dynamically named online redo logs can lead to ORA-00310 errors if a log switch
+        // happens while the processor is iterating the LogMiner session's result set and
+        // LogMiner can no longer read the next batch of records from the log.
+        //
+        // LogMiner only validates that there are no gaps and that the logs are available
+        // when the session is first started and any change in the logs later will raise
+        // these types of errors.
+        //
+        // Catching the ORA-00310 and treating it as the end of the result set will allow
+        // the connector's outer loop to re-evaluate the log state and start a new LogMiner
+        // session with the new logs. The connector will then begin streaming from where
+        // it left off. If any other exception is caught here, it'll be thrown.
+        if (!e.getMessage().startsWith("ORA-00310")) {
+            // throw any non ORA-00310 error, old behavior
+            throw e;
         }
-        return result;
+        else if (sequenceUnavailable) {
+            // If an ORA-00310 error was raised on the previous iteration and wasn't cleared
+            // after re-evaluation of the log availability and the mining session, we will
+            // explicitly stop the connector to avoid an infinite loop.
+            LOGGER.error("The log availability error '{}' wasn't cleared, stop requested.", e.getMessage());
+            throw e;
+        }
+
+        LOGGER.debug("A mined log is no longer available: {}", e.getMessage());
+        LOGGER.warn("Restarting mining session after a log became unavailable.");
+
+        // Track that we gracefully stopped due to a ORA-00310.
+        // Will be used to detect an infinite loop of this error across sequential iterations
+        sequenceUnavailable = true;
     }
 
     /**
@@ -946,9 +1125,17 @@ private Table dispatchSchemaChangeEventAndGetTableForNewCapturedTable(TableId ta
      * @return the table's create DDL statement, never {@code null}
      * @throws SQLException if an exception occurred obtaining the DDL statement
      * @throws NonRelationalTableException if the table is not a relational table
+     * @throws InterruptedException if the thread was interrupted while waiting for prefetched metadata
      */
-    private String getTableMetadataDdl(TableId tableId) throws SQLException, NonRelationalTableException {
+    private String getTableMetadataDdl(TableId tableId) throws SQLException, NonRelationalTableException, InterruptedException {
         counters.tableMetadataCount++;
+        if (tableMetadataPrefetcher != null) {
+            final String tableDdl = tableMetadataPrefetcher.take(tableId);
+            if (tableDdl != null) {
+                LOGGER.info("Using prefetched database metadata for table '{}'", tableId);
+                return tableDdl;
+            }
+        }
         LOGGER.info("Getting database metadata for table '{}'", tableId);
         // A separate connection must be used for this out-of-bands query while processing LogMiner results.
         // This should have negligible overhead since this use case should happen rarely.
@@ -970,26 +1157,14 @@ private String getTableMetadataDdl(TableId tableId) throws SQLException, NonRela
      * @return a parse object for the redo SQL statement
      */
     private LogMinerDmlEntry parseDmlStatement(String redoSql, Table table) {
-        LogMinerDmlEntry dmlEntry;
         try {
-            Instant parseStart = Instant.now();
-            dmlEntry = dmlParser.parse(redoSql, table);
-            metrics.addCurrentParseTime(Duration.between(parseStart, Instant.now()));
+            return dmlParser.parse(redoSql, table);
         }
         catch (DmlParserException e) {
             String message = "DML statement couldn't be parsed." +
                     " Please open a Jira issue with the statement '" + redoSql + "'.";
             throw new DmlParserException(message, e);
         }
-
-        if (dmlEntry.getOldValues().length == 0) {
-            if (EventType.UPDATE == dmlEntry.getEventType() || EventType.DELETE == dmlEntry.getEventType()) {
-                LOGGER.warn("The DML event '{}' contained no before state.", redoSql);
-                metrics.incrementWarningCount();
-            }
-        }
-
-        return dmlEntry;
     }
 
     private static Pattern LOB_WRITE_SQL_PATTERN = Pattern.compile(
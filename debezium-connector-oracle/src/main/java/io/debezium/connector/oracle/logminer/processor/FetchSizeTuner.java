@@ -0,0 +1,90 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer.processor;
+
+import io.debezium.annotation.NotThreadSafe;
+
+/**
+ * Adapts the JDBC fetch size of the LogMiner query to the observed round-trip latency, processing time and row width.
+ * <p>
+ * A round trip fetches enough rows to keep the processor busy for twice the duration of the round trip, so that the
+ * next round trip completes before the prefetched rows have been processed. The fetch size is bounded by the given
+ * limits and by the number of rows whose estimated size fits into {@link #TARGET_FETCH_BYTES}.
+ */
+@NotThreadSafe
+class FetchSizeTuner {
+
+    /**
+     * The approximate number of bytes to be fetched per round trip at most.
+     */
+    static final long TARGET_FETCH_BYTES = 4 * 1024 * 1024;
+
+    /**
+     * The approximate size of all columns of a row other than its redo SQL.
+     */
+    static final int ROW_OVERHEAD_BYTES = 512;
+
+    private final int minFetchSize;
+    private final int maxFetchSize;
+
+    private int fetchSize;
+    private int rows;
+    private long rowBytes;
+    private long roundTripNanos;
+
+    FetchSizeTuner(int minFetchSize, int maxFetchSize) {
+        this.minFetchSize = Math.max(minFetchSize, 1);
+        this.maxFetchSize = Math.max(maxFetchSize, this.minFetchSize);
+        this.fetchSize = this.minFetchSize;
+    }
+
+    /**
+     * @return the fetch size to be used for the next round trip
+     */
+    int getFetchSize() {
+        return fetchSize;
+    }
+
+    /**
+     * Records a row read from the result set.
+     *
+     * @param nextNanos the time spent in {@code ResultSet#next()}, including any round trip
+     * @param redoSqlLength the length of the row's redo SQL
+     * @return {@code true} if the rows of a round trip have been read and the fetch size can be adjusted
+     */
+    boolean rowFetched(long nextNanos, int redoSqlLength) {
+        rows++;
+        rowBytes += ROW_OVERHEAD_BYTES + 2L * redoSqlLength;
+        // only one call per round trip waits on the database, all others return buffered rows
+        roundTripNanos = Math.max(roundTripNanos, nextNanos);
+        return rows >= fetchSize;
+    }
+
+    /**
+     * Adjusts the fetch size based on the rows recorded since the last adjustment.
+     *
+     * @param processingNanosPerRow the average time the processor spends per row, or {@code 0} if not yet known
+     * @return the fetch size to be used for the next round trip
+     */
+    int adjust(double processingNanosPerRow) {
+        if (rows == 0) {
+            return fetchSize;
+        }
+        final long widthLimit = Math.max(TARGET_FETCH_BYTES / Math.max(rowBytes / rows, 1), minFetchSize);
+        final long limit = Math.min(maxFetchSize, widthLimit);
+
+        long desired = fetchSize;
+        if (processingNanosPerRow > 0) {
+            desired = (long) Math.ceil(2 * roundTripNanos / processingNanosPerRow);
+        }
+        fetchSize = (int) Math.max(minFetchSize, Math.min(desired, limit));
+
+        rows = 0;
+        rowBytes = 0;
+        roundTripNanos = 0;
+        return fetchSize;
+    }
+}
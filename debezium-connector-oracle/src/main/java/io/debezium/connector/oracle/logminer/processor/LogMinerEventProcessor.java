@@ -9,6 +9,7 @@
 import java.time.Duration;
 
 import io.debezium.connector.oracle.Scn;
+import io.debezium.connector.oracle.logminer.RedoThreadMiningSessions;
 
 /**
  * Contract that defines the interface for processing events from Oracle LogMiner.
@@ -25,6 +26,17 @@ public interface LogMinerEventProcessor extends AutoCloseable {
      */
     Scn process(Scn startScn, Scn endScn) throws SQLException, InterruptedException;
 
+    /**
+     * Process Oracle LogMiner events for a given system change number range, mined by a separate LogMiner session
+     * per redo thread. The events of all sessions are processed in the order of their system change numbers.
+     *
+     * @param startScn the starting system change number, must not be {@code null}
+     * @param endScn the ending system change number, must not be {@code null}
+     * @param sessions the mining sessions of the redo threads, whose mining ranges have been started, must not be {@code null}
+     * @return the next iteration's starting system change number, never {@code null}
+     */
+    Scn process(Scn startScn, Scn endScn, RedoThreadMiningSessions sessions) throws SQLException, InterruptedException;
+
     /**
      * A callback for the event processor to abandon long running transactions.
      *
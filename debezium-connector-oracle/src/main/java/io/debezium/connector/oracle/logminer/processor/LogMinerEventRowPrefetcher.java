@@ -0,0 +1,172 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer.processor;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.DebeziumException;
+import io.debezium.annotation.NotThreadSafe;
+import io.debezium.connector.oracle.OracleStreamingChangeEventSourceMetrics;
+import io.debezium.connector.oracle.logminer.events.LogMinerEventRow;
+
+/**
+ * Reads the rows of a LogMiner result set on a separate thread into a bounded buffer, so that the database round trips
+ * overlap with the processing of the rows fetched before. The fetch size of the result set is adjusted after each
+ * round trip by a {@link FetchSizeTuner}.
+ * <p>
+ * The result set must not be used by the caller until the prefetcher has been closed.
+ */
+@NotThreadSafe
+class LogMinerEventRowPrefetcher implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LogMinerEventRowPrefetcher.class);
+
+    private static final long OFFER_TIMEOUT_MS = 100;
+    private static final Object END = new Object();
+
+    @FunctionalInterface
+    interface RowReader {
+        LogMinerEventRow read(ResultSet resultSet) throws SQLException;
+    }
+
+    private final ResultSet resultSet;
+    private final RowReader rowReader;
+    private final OracleStreamingChangeEventSourceMetrics metrics;
+    private final FetchSizeTuner tuner;
+    private final BlockingQueue<Object> queue;
+    private final AtomicLong processingNanos = new AtomicLong();
+    private final AtomicLong processedRows = new AtomicLong();
+    private final Future<?> future;
+
+    private volatile boolean closed;
+    private boolean ended;
+    private long lastRowReturnedAt;
+
+    LogMinerEventRowPrefetcher(ResultSet resultSet, RowReader rowReader, ExecutorService executor, int bufferSize, int minFetchSize,
+                               OracleStreamingChangeEventSourceMetrics metrics) {
+        this.resultSet = resultSet;
+        this.rowReader = rowReader;
+        this.metrics = metrics;
+        this.tuner = new FetchSizeTuner(minFetchSize, bufferSize);
+        this.queue = new ArrayBlockingQueue<>(bufferSize);
+        this.future = executor.submit(this::read);
+    }
+
+    /**
+     * Returns the next row, waiting for the reader thread if no row has been prefetched yet.
+     *
+     * @return the next row, or {@code null} if there are no more rows
+     * @throws SQLException if reading the result set failed
+     * @throws InterruptedException if the thread was interrupted while waiting
+     */
+    LogMinerEventRow next() throws SQLException, InterruptedException {
+        if (ended) {
+            return null;
+        }
+        final long now = System.nanoTime();
+        if (lastRowReturnedAt != 0) {
+            processingNanos.addAndGet(now - lastRowReturnedAt);
+            processedRows.incrementAndGet();
+        }
+
+        final Object item = queue.take();
+        lastRowReturnedAt = System.nanoTime();
+        if (item instanceof LogMinerEventRow) {
+            return (LogMinerEventRow) item;
+        }
+        ended = true;
+        if (item instanceof SQLException) {
+            throw (SQLException) item;
+        }
+        else if (item instanceof RuntimeException) {
+            throw (RuntimeException) item;
+        }
+        else if (item instanceof Throwable) {
+            throw new DebeziumException("Failed to read the LogMiner results", (Throwable) item);
+        }
+        return null;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        try {
+            // the result set must no longer be used by the reader when it is closed by the caller
+            future.get();
+        }
+        catch (ExecutionException e) {
+            LOGGER.debug("The LogMiner result reader failed", e.getCause());
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void read() {
+        try {
+            resultSet.setFetchSize(tuner.getFetchSize());
+            while (!closed) {
+                final long start = System.nanoTime();
+                if (!resultSet.next()) {
+                    break;
+                }
+                final long nextNanos = System.nanoTime() - start;
+                metrics.addCurrentResultSetNext(Duration.ofNanos(nextNanos));
+
+                final LogMinerEventRow row = rowReader.read(resultSet);
+                if (tuner.rowFetched(nextNanos, row.getRedoSql() == null ? 0 : row.getRedoSql().length())) {
+                    adjustFetchSize();
+                }
+                if (!offer(row)) {
+                    return;
+                }
+            }
+            offer(END);
+        }
+        catch (Throwable e) {
+            // any failure, including errors, must be handed over as the consumer would wait for further rows otherwise
+            if (!closed) {
+                offer(e);
+            }
+        }
+    }
+
+    private void adjustFetchSize() throws SQLException {
+        final long rows = processedRows.get();
+        final int previous = tuner.getFetchSize();
+        final int fetchSize = tuner.adjust(rows == 0 ? 0 : (double) processingNanos.get() / rows);
+        if (fetchSize != previous) {
+            LOGGER.debug("Adjusting LogMiner query fetch size from {} to {}", previous, fetchSize);
+            resultSet.setFetchSize(fetchSize);
+        }
+    }
+
+    private boolean offer(Object item) {
+        try {
+            while (!closed) {
+                if (queue.offer(item, OFFER_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                    return true;
+                }
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return false;
+    }
+}
@@ -0,0 +1,274 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer.processor;
+
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.annotation.ThreadSafe;
+import io.debezium.annotation.VisibleForTesting;
+import io.debezium.connector.oracle.OracleConnection;
+import io.debezium.connector.oracle.OracleConnection.NonRelationalTableException;
+import io.debezium.connector.oracle.OracleConnector;
+import io.debezium.connector.oracle.OracleConnectorConfig;
+import io.debezium.connector.oracle.OracleDatabaseSchema;
+import io.debezium.relational.TableId;
+import io.debezium.util.Clock;
+import io.debezium.util.Threads;
+
+/**
+ * Fetches the DDL metadata of captured tables unknown to the schema on a separate thread and connection, ahead of the
+ * first change of such a table, so that the processing of the LogMiner results does not wait for the metadata queries.
+ * <p>
+ * Tables are prefetched when they are reported as newly created by {@code ALL_OBJECTS}, which is polled periodically,
+ * or when a DDL event of a table is seen that leaves the table unknown to the schema. The metadata is held in a cache
+ * bounded by the number of tables, and the cached metadata of a table is discarded whenever a DDL event of the table
+ * is seen, as it may no longer be current.
+ */
+@ThreadSafe
+class TableMetadataPrefetcher implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TableMetadataPrefetcher.class);
+
+    private static final Duration POLL_INTERVAL = Duration.ofSeconds(10);
+    // tables created within the same second as the previous poll are reported again rather than missed
+    private static final long POLL_OVERLAP_MS = 1000;
+
+    private final OracleConnectorConfig connectorConfig;
+    private final OracleDatabaseSchema schema;
+    private final int cacheSize;
+    private final ExecutorService executor;
+    private final Clock clock;
+    private final Map<TableId, Future<String>> cache;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    // only accessed by the prefetcher thread
+    private OracleConnection connection;
+    private Timestamp lastPollTime;
+
+    private Future<?> poll = CompletableFuture.completedFuture(null);
+    private long nextPollTime;
+
+    TableMetadataPrefetcher(OracleConnectorConfig connectorConfig, OracleDatabaseSchema schema) {
+        this(connectorConfig, schema, Clock.system());
+    }
+
+    @VisibleForTesting
+    TableMetadataPrefetcher(OracleConnectorConfig connectorConfig, OracleDatabaseSchema schema, Clock clock) {
+        this.connectorConfig = connectorConfig;
+        this.schema = schema;
+        this.clock = clock;
+        this.cacheSize = connectorConfig.getLogMiningTableMetadataCacheSize();
+        this.executor = Threads.newSingleThreadExecutor(OracleConnector.class, connectorConfig.getLogicalName(), "table-metadata-prefetcher");
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<TableId, Future<String>> eldest) {
+                if (size() > cacheSize) {
+                    eldest.getValue().cancel(false);
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Polls {@code ALL_OBJECTS} for newly created tables in the background, unless it has been polled recently or a
+     * poll is still in progress.
+     */
+    synchronized void pollNewTables() {
+        final long now = clock.currentTimeInMillis();
+        if (now < nextPollTime || !poll.isDone()) {
+            return;
+        }
+        nextPollTime = now + POLL_INTERVAL.toMillis();
+        poll = executor.submit(() -> {
+            try {
+                for (TableId tableId : queryNewTables()) {
+                    prefetch(tableId);
+                }
+            }
+            catch (SQLException e) {
+                LOGGER.warn("Failed to poll for new tables to be captured", e);
+                closeConnection();
+            }
+        });
+    }
+
+    /**
+     * Fetches the metadata of the given table in the background, if it is captured and unknown to the schema.
+     *
+     * @param tableId the table identifier, must not be {@code null}
+     */
+    synchronized void prefetch(TableId tableId) {
+        if (cache.containsKey(tableId) || !isUnknownCapturedTable(tableId)) {
+            return;
+        }
+        LOGGER.debug("Prefetching database metadata for table '{}'", tableId);
+        cache.put(tableId, executor.submit(() -> fetchTableMetadataDdl(tableId)));
+    }
+
+    /**
+     * Discards the cached metadata of the given table.
+     *
+     * @param tableId the table identifier, must not be {@code null}
+     */
+    synchronized void invalidate(TableId tableId) {
+        final Future<String> ddl = cache.remove(tableId);
+        if (ddl != null) {
+            ddl.cancel(false);
+        }
+    }
+
+    /**
+     * Removes the prefetched metadata of the given table from the cache, waiting for the prefetch if it is in progress.
+     *
+     * @param tableId the table identifier, must not be {@code null}
+     * @return the table's create DDL statement, or {@code null} if the table was not prefetched successfully
+     * @throws NonRelationalTableException if the table is not a relational table
+     * @throws InterruptedException if the thread was interrupted while waiting
+     */
+    String take(TableId tableId) throws NonRelationalTableException, InterruptedException {
+        final Future<String> ddl;
+        synchronized (this) {
+            ddl = cache.remove(tableId);
+        }
+        if (ddl == null || ddl.isCancelled()) {
+            misses.incrementAndGet();
+            return null;
+        }
+        try {
+            final String result = ddl.get();
+            hits.incrementAndGet();
+            return result;
+        }
+        catch (ExecutionException e) {
+            if (e.getCause() instanceof NonRelationalTableException) {
+                hits.incrementAndGet();
+                throw (NonRelationalTableException) e.getCause();
+            }
+            LOGGER.debug("Failed to prefetch database metadata for table '{}'", tableId, e.getCause());
+            misses.incrementAndGet();
+            return null;
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+        try {
+            // the connection must no longer be used by the prefetcher thread when it is closed
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        closeConnection();
+    }
+
+    /**
+     * @return the identifiers of the tables with cached metadata, least recently used first
+     */
+    @VisibleForTesting
+    synchronized List<TableId> getCachedTables() {
+        return new ArrayList<>(cache.keySet());
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "TableMetadataPrefetcher{" +
+                "size=" + cache.size() +
+                ", hits=" + hits.get() +
+                ", misses=" + misses.get() +
+                ", evictions=" + evictions.get() +
+                '}';
+    }
+
+    private boolean isUnknownCapturedTable(TableId tableId) {
+        return connectorConfig.getTableFilters().dataCollectionFilter().isIncluded(tableId) && schema.tableFor(tableId) == null;
+    }
+
+    private List<TableId> queryNewTables() throws SQLException {
+        final OracleConnection connection = getConnection();
+        if (lastPollTime == null) {
+            // only tables created from now on are of interest
+            lastPollTime = connection.queryAndMap("SELECT SYSDATE FROM DUAL", rs -> rs.next() ? rs.getTimestamp(1) : null);
+            return new ArrayList<>();
+        }
+
+        final Timestamp since = new Timestamp(lastPollTime.getTime() - POLL_OVERLAP_MS);
+        final List<TableId> tableIds = new ArrayList<>();
+        connection.prepareQuery("SELECT OWNER, OBJECT_NAME, SYSDATE FROM ALL_OBJECTS WHERE OBJECT_TYPE = 'TABLE' AND CREATED >= ?",
+                ps -> ps.setTimestamp(1, since),
+                rs -> {
+                    while (rs.next()) {
+                        tableIds.add(new TableId(connectorConfig.getCatalogName(), rs.getString(1), rs.getString(2)));
+                        lastPollTime = rs.getTimestamp(3);
+                    }
+                });
+        if (!tableIds.isEmpty()) {
+            LOGGER.debug("Found {} newly created tables: {}", tableIds.size(), tableIds);
+        }
+        return tableIds;
+    }
+
+    private String fetchTableMetadataDdl(TableId tableId) throws SQLException, NonRelationalTableException {
+        try {
+            return getConnection().getTableMetadataDdl(tableId);
+        }
+        catch (SQLException e) {
+            closeConnection();
+            throw e;
+        }
+    }
+
+    private OracleConnection getConnection() throws SQLException {
+        if (connection == null) {
+            connection = createConnection();
+        }
+        return connection;
+    }
+
+    @VisibleForTesting
+    OracleConnection createConnection() throws SQLException {
+        final OracleConnection connection = new OracleConnection(connectorConfig.getJdbcConfig(), false);
+        connection.setAutoCommit(false);
+        if (connectorConfig.getPdbName() != null) {
+            connection.setSessionToPdb(connectorConfig.getPdbName());
+        }
+        return connection;
+    }
+
+    private void closeConnection() {
+        if (connection != null) {
+            try {
+                connection.close();
+            }
+            catch (SQLException e) {
+                LOGGER.debug("Failed to close the table metadata prefetcher connection", e);
+            }
+            connection = null;
+        }
+    }
+}
@@ -84,6 +84,7 @@ public EmbeddedInfinispanLogMinerEventProcessor(ChangeEventSourceContext context
 
     @Override
     public void close() throws Exception {
+        super.close();
         if (dropBufferOnStop) {
             LOGGER.info("Clearing infinispan caches");
             transactionCache.clear();
@@ -98,6 +98,7 @@ public RemoteInfinispanLogMinerEventProcessor(ChangeEventSourceContext context,
 
     @Override
     public void close() throws Exception {
+        super.close();
         if (dropBufferOnStop) {
             LOGGER.info("Clearing infinispan caches");
             transactionCache.clear();
@@ -0,0 +1,126 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer.processor.mapped;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import io.debezium.connector.oracle.logminer.events.LogMinerEvent;
+
+/**
+ * The events of a single transaction, stored in a {@link MappedEventLog}. Only the positions of the events are kept
+ * on the heap, while the events themselves are read from the log whenever they are accessed.
+ */
+class MappedEventList extends AbstractList<LogMinerEvent> {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final MappedEventLog log;
+    private long[] positions = new long[INITIAL_CAPACITY];
+    private int size;
+
+    MappedEventList(MappedEventLog log) {
+        this.log = log;
+    }
+
+    @Override
+    public LogMinerEvent get(int index) {
+        return log.read(positions[checkIndex(index)]);
+    }
+
+    @Override
+    public boolean add(LogMinerEvent event) {
+        if (size == positions.length) {
+            positions = Arrays.copyOf(positions, size * 2);
+        }
+        positions[size++] = log.append(event);
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public LogMinerEvent remove(int index) {
+        final LogMinerEvent event = get(index);
+        final long position = positions[index];
+        System.arraycopy(positions, index + 1, positions, index, size - index - 1);
+        size--;
+        modCount++;
+        log.release(position);
+        return event;
+    }
+
+    /**
+     * Removes the matching events in a single pass, compacting the remaining positions instead of shifting them
+     * for every removed event. The list is left unchanged if the filter fails.
+     */
+    @Override
+    public boolean removeIf(Predicate<? super LogMinerEvent> filter) {
+        Objects.requireNonNull(filter);
+        final BitSet removed = new BitSet(size);
+        for (int i = 0; i < size; i++) {
+            if (filter.test(log.read(positions[i]))) {
+                removed.set(i);
+            }
+        }
+        if (removed.isEmpty()) {
+            return false;
+        }
+
+        int retained = 0;
+        for (int i = 0; i < size; i++) {
+            if (removed.get(i)) {
+                log.release(positions[i]);
+            }
+            else {
+                positions[retained++] = positions[i];
+            }
+        }
+        size = retained;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        Objects.requireNonNull(c);
+        return removeIf(c::contains);
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        Objects.requireNonNull(c);
+        return removeIf(event -> !c.contains(event));
+    }
+
+    /**
+     * Releases all events of this list from the log without reading them.
+     */
+    @Override
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            log.release(positions[i]);
+        }
+        positions = new long[INITIAL_CAPACITY];
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    private int checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+        }
+        return index;
+    }
+}
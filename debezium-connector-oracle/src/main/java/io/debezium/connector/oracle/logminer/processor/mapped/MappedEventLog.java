@@ -0,0 +1,233 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer.processor.mapped;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.kafka.common.utils.ByteBufferUnmapper;
+import org.infinispan.protostream.ProtobufUtil;
+import org.infinispan.protostream.SerializationContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.DebeziumException;
+import io.debezium.annotation.NotThreadSafe;
+import io.debezium.connector.oracle.logminer.events.LogMinerEvent;
+import io.debezium.connector.oracle.logminer.processor.infinispan.marshalling.LogMinerEventMarshallerImpl;
+
+/**
+ * An append-only log of serialized {@link LogMinerEvent}s, stored in memory-mapped segment files.
+ * <p>
+ * Events are serialized with the ProtoStream marshallers that are also used by the Infinispan buffers, and each event
+ * is addressed by a position made up of its segment's identifier and its offset within that segment. A segment keeps
+ * track of the number of events that are still referenced, and it is unmapped and its file deleted once all of them
+ * have been released and no further events are appended to it.
+ */
+@NotThreadSafe
+class MappedEventLog implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MappedEventLog.class);
+
+    private static final int RECORD_HEADER_SIZE = Integer.BYTES;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final SerializationContext serializationContext;
+    private final Map<Integer, Segment> segments = new HashMap<>();
+
+    private Segment currentSegment;
+    private int nextSegmentId;
+
+    /**
+     * @param parentDirectory the directory in which the log's own directory is created, must not be {@code null}
+     * @param segmentSize the size of the segment files in bytes; events larger than that get a segment of their own
+     */
+    MappedEventLog(Path parentDirectory, int segmentSize) {
+        try {
+            Files.createDirectories(parentDirectory);
+            this.directory = Files.createTempDirectory(parentDirectory, "logminer-buffer-");
+        }
+        catch (IOException e) {
+            throw new DebeziumException("Failed to create the buffer directory in " + parentDirectory, e);
+        }
+        this.segmentSize = segmentSize;
+        this.serializationContext = ProtobufUtil.newSerializationContext();
+
+        final LogMinerEventMarshallerImpl marshaller = new LogMinerEventMarshallerImpl();
+        marshaller.registerSchema(serializationContext);
+        marshaller.registerMarshallers(serializationContext);
+        LOGGER.info("Buffering transaction events in directory {}", directory);
+    }
+
+    /**
+     * Appends an event to the log.
+     *
+     * @param event the event, must not be {@code null}
+     * @return the position of the event in the log
+     */
+    long append(LogMinerEvent event) {
+        final byte[] data;
+        try {
+            data = ProtobufUtil.toWrappedByteArray(serializationContext, event);
+        }
+        catch (IOException e) {
+            throw new DebeziumException("Failed to serialize event " + event, e);
+        }
+
+        final int recordSize = RECORD_HEADER_SIZE + data.length;
+        if (currentSegment == null || currentSegment.remaining() < recordSize) {
+            rollSegment(Math.max(segmentSize, recordSize));
+        }
+        return position(currentSegment.id, currentSegment.write(data));
+    }
+
+    /**
+     * Reads the event at the given position, which must not have been released.
+     *
+     * @param position the position returned when appending the event
+     * @return the event, never {@code null}
+     */
+    LogMinerEvent read(long position) {
+        final byte[] data = segment(position).read(offset(position));
+        try {
+            return ProtobufUtil.fromWrappedByteArray(serializationContext, data);
+        }
+        catch (IOException e) {
+            throw new DebeziumException("Failed to deserialize event at position " + position, e);
+        }
+    }
+
+    /**
+     * Releases the event at the given position, unmapping and deleting its segment if it holds no other events.
+     *
+     * @param position the position returned when appending the event
+     */
+    void release(long position) {
+        final Segment segment = segment(position);
+        if (--segment.liveRecords == 0 && segment != currentSegment) {
+            deleteSegment(segment);
+        }
+    }
+
+    /**
+     * @return the number of segment files currently in use
+     */
+    int getSegmentCount() {
+        return segments.size();
+    }
+
+    @Override
+    public void close() {
+        segments.values().forEach(this::unmapAndDelete);
+        segments.clear();
+        currentSegment = null;
+        try {
+            Files.deleteIfExists(directory);
+        }
+        catch (IOException e) {
+            LOGGER.warn("Failed to delete buffer directory {}", directory, e);
+        }
+    }
+
+    private void rollSegment(int size) {
+        if (currentSegment != null && currentSegment.liveRecords == 0) {
+            deleteSegment(currentSegment);
+        }
+        final int id = nextSegmentId++;
+        final Path file = directory.resolve(String.format("segment-%010d", id));
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // the mapping remains valid after the channel has been closed
+            currentSegment = new Segment(id, file, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+        }
+        catch (IOException e) {
+            throw new DebeziumException("Failed to create buffer segment " + file, e);
+        }
+        segments.put(id, currentSegment);
+    }
+
+    private Segment segment(long position) {
+        final Segment segment = segments.get(segmentId(position));
+        if (segment == null) {
+            throw new IllegalStateException("No buffer segment for event at position " + position);
+        }
+        return segment;
+    }
+
+    private void deleteSegment(Segment segment) {
+        segments.remove(segment.id);
+        unmapAndDelete(segment);
+    }
+
+    private void unmapAndDelete(Segment segment) {
+        // the mapping would otherwise only be released once the buffer has been garbage collected, keeping the
+        // memory and, on some platforms, the file in use until then; the segment must not be accessed afterwards
+        try {
+            ByteBufferUnmapper.unmap(segment.file.toString(), segment.buffer);
+        }
+        catch (IOException e) {
+            LOGGER.warn("Failed to unmap buffer segment {}", segment.file, e);
+        }
+        try {
+            Files.deleteIfExists(segment.file);
+        }
+        catch (IOException e) {
+            LOGGER.warn("Failed to delete buffer segment {}", segment.file, e);
+        }
+    }
+
+    private static long position(int segmentId, int offset) {
+        return ((long) segmentId << 32) | (offset & 0xFFFFFFFFL);
+    }
+
+    private static int segmentId(long position) {
+        return (int) (position >>> 32);
+    }
+
+    private static int offset(long position) {
+        return (int) position;
+    }
+
+    /**
+     * A memory-mapped file holding length-prefixed event records.
+     */
+    private static class Segment {
+
+        private final int id;
+        private final Path file;
+        private final MappedByteBuffer buffer;
+        private int liveRecords;
+
+        Segment(int id, Path file, MappedByteBuffer buffer) {
+            this.id = id;
+            this.file = file;
+            this.buffer = buffer;
+        }
+
+        int remaining() {
+            return buffer.remaining();
+        }
+
+        int write(byte[] data) {
+            final int offset = buffer.position();
+            buffer.putInt(data.length).put(data);
+            liveRecords++;
+            return offset;
+        }
+
+        byte[] read(int offset) {
+            final byte[] data = new byte[buffer.getInt(offset)];
+            buffer.duplicate().position(offset + RECORD_HEADER_SIZE).get(data);
+            return data;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer.processor.mapped;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import io.debezium.connector.oracle.OracleConnection;
+import io.debezium.connector.oracle.OracleConnectorConfig;
+import io.debezium.connector.oracle.OracleDatabaseSchema;
+import io.debezium.connector.oracle.OracleOffsetContext;
+import io.debezium.connector.oracle.OraclePartition;
+import io.debezium.connector.oracle.OracleStreamingChangeEventSourceMetrics;
+import io.debezium.connector.oracle.Scn;
+import io.debezium.connector.oracle.logminer.events.LogMinerEventRow;
+import io.debezium.connector.oracle.logminer.processor.LogMinerEventProcessor;
+import io.debezium.connector.oracle.logminer.processor.memory.MemoryLogMinerEventProcessor;
+import io.debezium.connector.oracle.logminer.processor.memory.MemoryTransaction;
+import io.debezium.pipeline.EventDispatcher;
+import io.debezium.pipeline.source.spi.ChangeEventSource.ChangeEventSourceContext;
+import io.debezium.relational.TableId;
+
+/**
+ * A {@link LogMinerEventProcessor} that stores the events of transactions in memory-mapped files on local disk while
+ * they're being processed, keeping only the transactions and the positions of their events on the JVM heap.
+ * <p>
+ * This allows buffering large transactions without the heap requirements of the memory buffer, while avoiding the
+ * overhead of an Infinispan cache. The buffered events are not retained across restarts.
+ */
+public class MappedLogMinerEventProcessor extends MemoryLogMinerEventProcessor {
+
+    private final MappedEventLog eventLog;
+
+    public MappedLogMinerEventProcessor(ChangeEventSourceContext context,
+                                        OracleConnectorConfig connectorConfig,
+                                        OracleConnection jdbcConnection,
+                                        EventDispatcher<OraclePartition, TableId> dispatcher,
+                                        OraclePartition partition,
+                                        OracleOffsetContext offsetContext,
+                                        OracleDatabaseSchema schema,
+                                        OracleStreamingChangeEventSourceMetrics metrics) {
+        super(context, connectorConfig, jdbcConnection, dispatcher, partition, offsetContext, schema, metrics);
+        this.eventLog = new MappedEventLog(connectorConfig.getLogMiningBufferMemoryMappedDirectory(),
+                connectorConfig.getLogMiningBufferMemoryMappedSegmentSize());
+    }
+
+    @Override
+    protected MemoryTransaction createTransaction(LogMinerEventRow row) {
+        return new MappedTransaction(row.getTransactionId(), row.getScn(), row.getChangeTime(), row.getUserName(), eventLog);
+    }
+
+    @Override
+    protected void removeTransactionAndEventsFromCache(MemoryTransaction transaction) {
+        super.removeTransactionAndEventsFromCache(transaction);
+        releaseEvents(transaction);
+    }
+
+    @Override
+    protected void finalizeTransactionRollback(String transactionId, Scn rollbackScn) {
+        final MemoryTransaction transaction = getTransactionCache().get(transactionId);
+        super.finalizeTransactionRollback(transactionId, rollbackScn);
+        if (transaction != null) {
+            releaseEvents(transaction);
+        }
+    }
+
+    @Override
+    protected void abandonTransactionOverEventThreshold(MemoryTransaction transaction) {
+        super.abandonTransactionOverEventThreshold(transaction);
+        releaseEvents(transaction);
+    }
+
+    @Override
+    public void abandonTransactions(Duration retention) throws InterruptedException {
+        if (Duration.ZERO.equals(retention)) {
+            return;
+        }
+        final Map<String, MemoryTransaction> transactions = new HashMap<>(getTransactionCache());
+        super.abandonTransactions(retention);
+        transactions.forEach((transactionId, transaction) -> {
+            if (!getTransactionCache().containsKey(transactionId)) {
+                releaseEvents(transaction);
+            }
+        });
+    }
+
+    @Override
+    public void close() throws Exception {
+        super.close();
+        eventLog.close();
+    }
+
+    private void releaseEvents(MemoryTransaction transaction) {
+        // releases the events from the log without reading them
+        transaction.getEvents().clear();
+    }
+}
@@ -0,0 +1,21 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer.processor.mapped;
+
+import java.time.Instant;
+
+import io.debezium.connector.oracle.Scn;
+import io.debezium.connector.oracle.logminer.processor.memory.MemoryTransaction;
+
+/**
+ * A {@link MemoryTransaction} whose events are stored in a {@link MappedEventLog}.
+ */
+public class MappedTransaction extends MemoryTransaction {
+
+    MappedTransaction(String transactionId, Scn startScn, Instant changeTime, String userName, MappedEventLog log) {
+        super(transactionId, startScn, changeTime, userName, new MappedEventList(log));
+    }
+}
@@ -22,6 +22,7 @@
 
 import io.debezium.connector.oracle.OracleConnection;
 import io.debezium.connector.oracle.OracleConnectorConfig;
+import io.debezium.connector.oracle.OracleConnectorConfig.LogMiningBufferType;
 import io.debezium.connector.oracle.OracleDatabaseSchema;
 import io.debezium.connector.oracle.OracleOffsetContext;
 import io.debezium.connector.oracle.OraclePartition;
@@ -35,6 +36,7 @@
 import io.debezium.connector.oracle.logminer.processor.LogMinerEventProcessor;
 import io.debezium.pipeline.EventDispatcher;
 import io.debezium.pipeline.source.spi.ChangeEventSource.ChangeEventSourceContext;
+import io.debezium.relational.Table;
 import io.debezium.relational.TableId;
 
 /**
@@ -63,6 +65,7 @@ public class MemoryLogMinerEventProcessor extends AbstractLogMinerEventProcessor
     private final Map<String, Scn> recentlyProcessedTransactionsCache = new HashMap<>();
     private final Set<Scn> schemaChangesCache = new HashSet<>();
     private final Set<String> abandonedTransactionsCache = new HashSet<>();
+    private final ParallelDmlParser parallelDmlParser;
 
     public MemoryLogMinerEventProcessor(ChangeEventSourceContext context,
                                         OracleConnectorConfig connectorConfig,
@@ -78,6 +81,11 @@ public MemoryLogMinerEventProcessor(ChangeEventSourceContext context,
         this.partition = partition;
         this.offsetContext = offsetContext;
         this.metrics = metrics;
+        // events are only parsed asynchronously when buffered on the heap, other buffers serialize them when added
+        this.parallelDmlParser = connectorConfig.getLogMiningDmlParserThreads() > 0
+                && connectorConfig.getLogMiningBufferType() == LogMiningBufferType.MEMORY
+                ? new ParallelDmlParser(connectorConfig.getLogicalName(), connectorConfig.getLogMiningDmlParserThreads())
+                : null;
     }
 
     @Override
@@ -127,7 +135,10 @@ else if (!getConfig().isLobEnabled()) {
 
     @Override
     public void close() throws Exception {
-        // close any resources used here
+        super.close();
+        if (parallelDmlParser != null) {
+            parallelDmlParser.close();
+        }
     }
 
     @Override
@@ -218,6 +229,15 @@ protected void handleSchemaChange(LogMinerEventRow row) throws InterruptedExcept
         }
     }
 
+    @Override
+    protected LogMinerEvent createDataEvent(LogMinerEventRow row, Table table) {
+        if (parallelDmlParser != null) {
+            parallelDmlParser.drain(this::updateDmlParseMetrics);
+            return parallelDmlParser.parse(row, () -> parseDmlEntry(row, table));
+        }
+        return super.createDataEvent(row, table);
+    }
+
     @Override
     protected void addToTransaction(String transactionId, LogMinerEventRow row, Supplier<LogMinerEvent> eventSupplier) {
         if (abandonedTransactionsCache.contains(transactionId)) {
@@ -271,6 +291,9 @@ protected PreparedStatement createQueryStatement() throws SQLException {
 
     @Override
     protected Scn calculateNewStartScn(Scn endScn, Scn maxCommittedScn) throws InterruptedException {
+        if (parallelDmlParser != null) {
+            parallelDmlParser.drain(this::updateDmlParseMetrics);
+        }
         if (getConfig().isLobEnabled()) {
             if (transactionCache.isEmpty() && !maxCommittedScn.isNull()) {
                 offsetContext.setScn(maxCommittedScn);
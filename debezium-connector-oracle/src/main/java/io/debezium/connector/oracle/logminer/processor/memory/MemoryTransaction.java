@@ -26,11 +26,15 @@ public class MemoryTransaction extends AbstractTransaction {
     private static final Logger LOGGER = LoggerFactory.getLogger(MemoryTransaction.class);
 
     private int numberOfEvents;
-    private List<LogMinerEvent> events;
+    private final List<LogMinerEvent> events;
 
     public MemoryTransaction(String transactionId, Scn startScn, Instant changeTime, String userName) {
+        this(transactionId, startScn, changeTime, userName, new ArrayList<>());
+    }
+
+    protected MemoryTransaction(String transactionId, Scn startScn, Instant changeTime, String userName, List<LogMinerEvent> events) {
         super(transactionId, startScn, changeTime, userName);
-        this.events = new ArrayList<>();
+        this.events = events;
         start();
     }
 
@@ -0,0 +1,172 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer.processor.memory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import io.debezium.DebeziumException;
+import io.debezium.annotation.VisibleForTesting;
+import io.debezium.connector.oracle.OracleConnector;
+import io.debezium.connector.oracle.logminer.events.DmlEvent;
+import io.debezium.connector.oracle.logminer.events.LogMinerEventRow;
+import io.debezium.connector.oracle.logminer.parser.LogMinerDmlEntry;
+import io.debezium.util.Threads;
+
+/**
+ * Parses the DML statements of buffered transactions on a set of worker threads, so that the thread reading the
+ * LogMiner results only needs to append the events to their transactions.
+ * <p>
+ * Each transaction is assigned to one worker based on its identifier. The events keep their position within the
+ * transaction's buffer regardless of when they are parsed, and their DML entry is awaited when it is first accessed,
+ * i.e. when the transaction is committed.
+ * <p>
+ * Each worker queues at most a fixed number of statements; when its queue is full, the statement is parsed by the
+ * mining thread itself, which throttles mining to the rate at which the statements can be parsed.
+ * <p>
+ * The outcome of each parse is retained until it is handed to the mining thread by {@link #drain(ParseListener)},
+ * so that the streaming metrics are only updated by that thread and parse failures surface in the mining loop
+ * rather than only when the transaction is committed.
+ */
+class ParallelDmlParser implements AutoCloseable {
+
+    /**
+     * The maximum number of statements queued per worker thread.
+     */
+    private static final int DEFAULT_QUEUE_CAPACITY = 1024;
+
+    private final ThreadPoolExecutor[] workers;
+    private final Queue<ParsedStatement> parsedStatements = new ConcurrentLinkedQueue<>();
+
+    ParallelDmlParser(String connectorId, int threads) {
+        this(connectorId, threads, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    @VisibleForTesting
+    ParallelDmlParser(String connectorId, int threads, int queueCapacity) {
+        this.workers = new ThreadPoolExecutor[threads];
+        for (int i = 0; i < threads; i++) {
+            workers[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(queueCapacity),
+                    Threads.threadFactory(OracleConnector.class, connectorId, "dml-parser-" + i, false, false),
+                    // parsing on the calling thread applies back-pressure, and still completes the event once closed
+                    (task, executor) -> task.run());
+        }
+    }
+
+    /**
+     * Creates an event whose DML entry is provided by the given parser, which is run asynchronously.
+     *
+     * @param row the event row, must not be {@code null}
+     * @param parser parses the row's redo SQL statement, must not be {@code null}
+     * @return the data modification event, never {@code null}
+     */
+    DmlEvent parse(LogMinerEventRow row, Supplier<LogMinerDmlEntry> parser) {
+        final ThreadPoolExecutor worker = workers[Math.floorMod(row.getTransactionId().hashCode(), workers.length)];
+        final CompletableFuture<LogMinerDmlEntry> dmlEntry = new CompletableFuture<>();
+        worker.execute(() -> {
+            final Instant parseStart = Instant.now();
+            try {
+                final LogMinerDmlEntry entry = parser.get();
+                parsedStatements.add(new ParsedStatement(row.getRedoSql(), entry, Duration.between(parseStart, Instant.now()), null));
+                dmlEntry.complete(entry);
+            }
+            catch (Throwable e) {
+                parsedStatements.add(new ParsedStatement(row.getRedoSql(), null, null, e));
+                dmlEntry.completeExceptionally(e);
+            }
+        });
+        return new PendingDmlEvent(row, dmlEntry);
+    }
+
+    /**
+     * Hands the statements parsed since the last call to the given listener, in the order they were parsed.
+     * This method must only be called from the mining thread.
+     *
+     * @param listener the listener to notify about each parsed statement, must not be {@code null}
+     * @throws RuntimeException the failure of a statement that couldn't be parsed
+     */
+    void drain(ParseListener listener) {
+        ParsedStatement statement;
+        while ((statement = parsedStatements.poll()) != null) {
+            if (statement.failure != null) {
+                throw rethrow(statement.failure);
+            }
+            listener.parsed(statement.redoSql, statement.dmlEntry, statement.parseTime);
+        }
+    }
+
+    @Override
+    public void close() {
+        for (ThreadPoolExecutor worker : workers) {
+            worker.shutdownNow();
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable failure) {
+        if (failure instanceof RuntimeException) {
+            return (RuntimeException) failure;
+        }
+        if (failure instanceof Error) {
+            throw (Error) failure;
+        }
+        return new DebeziumException(failure);
+    }
+
+    /**
+     * Receives the outcome of each successfully parsed statement on the mining thread.
+     */
+    @FunctionalInterface
+    interface ParseListener {
+        void parsed(String redoSql, LogMinerDmlEntry dmlEntry, Duration parseTime);
+    }
+
+    private static class ParsedStatement {
+
+        private final String redoSql;
+        private final LogMinerDmlEntry dmlEntry;
+        private final Duration parseTime;
+        private final Throwable failure;
+
+        ParsedStatement(String redoSql, LogMinerDmlEntry dmlEntry, Duration parseTime, Throwable failure) {
+            this.redoSql = redoSql;
+            this.dmlEntry = dmlEntry;
+            this.parseTime = parseTime;
+            this.failure = failure;
+        }
+    }
+
+    /**
+     * A data modification event whose DML entry is still being parsed.
+     */
+    private static class PendingDmlEvent extends DmlEvent {
+
+        private final CompletableFuture<LogMinerDmlEntry> dmlEntry;
+
+        PendingDmlEvent(LogMinerEventRow row, CompletableFuture<LogMinerDmlEntry> dmlEntry) {
+            super(row, null);
+            this.dmlEntry = dmlEntry;
+        }
+
+        @Override
+        public LogMinerDmlEntry getDmlEntry() {
+            try {
+                return dmlEntry.join();
+            }
+            catch (CompletionException e) {
+                throw rethrow(e.getCause());
+            }
+        }
+    }
+}
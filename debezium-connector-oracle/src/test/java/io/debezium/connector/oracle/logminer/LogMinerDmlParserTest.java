@@ -532,4 +532,48 @@ public void shouldNotInterpretConcatenationSyntaxInSingleQuotedValuesAsConcatena
         assertThat(entry.getOldValues()[1]).isEqualTo("test||case");
         assertThat(entry.getNewValues()).isEmpty();
     }
+
+    @Test
+    public void shouldResolveColumnsListedOutOfTableOrderIgnoringCase() throws Exception {
+        final Table table = Table.editor()
+                .tableId(new TableId(null, "UNKNOWN", "TABLE"))
+                .addColumn(Column.editor().name("ID").create())
+                .addColumn(Column.editor().name("Name").create())
+                .addColumn(Column.editor().name("NOTE").create())
+                .create();
+
+        String sql = "insert into \"UNKNOWN\".\"TABLE\"(\"NOTE\",\"NAME\",\"ID\") values ('It''s','Acme','1');";
+        LogMinerDmlEntry entry = fastDmlParser.parse(sql, table);
+        assertThat(entry.getNewValues()).isEqualTo(new Object[]{ "1", "Acme", "It's" });
+
+        sql = "update \"UNKNOWN\".\"TABLE\" set \"NOTE\" = 'Bob''s' where \"NAME\" = 'Acme' and \"ID\" = '1';";
+        entry = fastDmlParser.parse(sql, table);
+        assertThat(entry.getOldValues()).isEqualTo(new Object[]{ "1", "Acme", null });
+        assertThat(entry.getNewValues()).isEqualTo(new Object[]{ "1", "Acme", "Bob's" });
+    }
+
+    @Test
+    public void shouldOnlyParseValuesOfCapturedColumns() throws Exception {
+        final Table table = Table.editor()
+                .tableId(new TableId(null, "UNKNOWN", "TABLE"))
+                .addColumn(Column.editor().name("ID").create())
+                .addColumn(Column.editor().name("SECRET").create())
+                .addColumn(Column.editor().name("TS").create())
+                .create();
+
+        final LogMinerDmlParser parser = new LogMinerDmlParser((catalog, schema, tableName, column) -> !column.equals("SECRET"));
+
+        String sql = "insert into \"UNKNOWN\".\"TABLE\"(\"ID\",\"SECRET\",\"TS\") values ('1','s3cr3t',TO_DATE('2020-02-01 00:00:00', 'YYYY-MM-DD HH24:MI:SS'));";
+        LogMinerDmlEntry entry = parser.parse(sql, table);
+        assertThat(entry.getNewValues()).isEqualTo(new Object[]{ "1", null, "TO_DATE('2020-02-01 00:00:00', 'YYYY-MM-DD HH24:MI:SS')" });
+
+        sql = "update \"UNKNOWN\".\"TABLE\" set \"SECRET\" = 'changed' where \"ID\" = '1' and \"SECRET\" = 's3cr3t' and \"TS\" IS NULL;";
+        entry = parser.parse(sql, table);
+        assertThat(entry.getOldValues()).isEqualTo(new Object[]{ "1", null, null });
+        assertThat(entry.getNewValues()).isEqualTo(new Object[]{ "1", null, null });
+
+        sql = "delete from \"UNKNOWN\".\"TABLE\" where \"ID\" = '1' and \"SECRET\" = 'changed';";
+        entry = parser.parse(sql, table);
+        assertThat(entry.getOldValues()).isEqualTo(new Object[]{ "1", null, null });
+    }
 }
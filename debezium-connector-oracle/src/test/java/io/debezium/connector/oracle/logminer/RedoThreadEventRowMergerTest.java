@@ -0,0 +1,212 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.assertions.Fail.fail;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+
+import io.debezium.DebeziumException;
+import io.debezium.connector.oracle.OracleConnection;
+import io.debezium.connector.oracle.Scn;
+import io.debezium.connector.oracle.junit.SkipTestDependingOnAdapterNameRule;
+import io.debezium.connector.oracle.junit.SkipWhenAdapterNameIsNot;
+import io.debezium.connector.oracle.logminer.events.LogMinerEventRow;
+
+/**
+ * Unit tests for the {@link RedoThreadEventRowMerger}, using mocked LogMiner query results of each redo thread.
+ */
+@SkipWhenAdapterNameIsNot(value = SkipWhenAdapterNameIsNot.AdapterName.LOGMINER)
+public class RedoThreadEventRowMergerTest {
+
+    @Rule
+    public TestRule skipRule = new SkipTestDependingOnAdapterNameRule();
+
+    private static final String CATALOG_NAME = "DEBEZIUM";
+    private static final String QUERY = "SELECT * FROM V$LOGMNR_CONTENTS";
+
+    private final List<RedoThreadMiningSession> sessions = new ArrayList<>();
+
+    @After
+    public void after() {
+        sessions.forEach(RedoThreadMiningSession::close);
+    }
+
+    @Test
+    public void shouldMergeRowsOfAllRedoThreadsByScn() throws Exception {
+        session(1, rows(1, 4, 6, 9), null);
+        session(2, rows(2, 3, 7, 8), null);
+        session(3, rows(5), null);
+
+        assertThat(scnsAndThreads(merge())).containsExactly(
+                "1@1", "2@2", "3@2", "4@1", "5@3", "6@1", "7@2", "8@2", "9@1");
+    }
+
+    @Test
+    public void shouldOrderRowsWithSameScnByRedoThreadAndKeepTheirSequenceWithinThread() throws Exception {
+        session(2, rows(3, 3, 5), null);
+        session(1, rows(3, 5, 5), null);
+
+        // rows of one thread sharing an SCN keep the order of the thread's LogMiner results
+        final List<LogMinerEventRow> rows = merge();
+        assertThat(scnsAndThreads(rows)).containsExactly("3@1", "3@2", "3@2", "5@1", "5@1", "5@2");
+        assertThat(rows.get(1).getSsn()).isEqualTo(0);
+        assertThat(rows.get(2).getSsn()).isEqualTo(1);
+        assertThat(rows.get(3).getSsn()).isEqualTo(1);
+        assertThat(rows.get(4).getSsn()).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldMergeRowsWhenRedoThreadHasNoRows() throws Exception {
+        session(1, rows(), null);
+        session(2, rows(1, 2), null);
+
+        assertThat(scnsAndThreads(merge())).containsExactly("1@2", "2@2");
+    }
+
+    @Test
+    public void shouldEndRowsWhenLogOfRedoThreadIsNoLongerAvailable() throws Exception {
+        session(1, rows(1, 2, 3, 4, 5, 6), null);
+        session(2, rows(2), new SQLException("ORA-00310: archived log contains sequence 12; sequence 11 required"));
+
+        try (RedoThreadEventRowMerger merger = new RedoThreadEventRowMerger(sessions, QUERY, 10, CATALOG_NAME, false)) {
+            final List<LogMinerEventRow> rows = new ArrayList<>();
+            LogMinerEventRow row;
+            while ((row = merger.next()) != null) {
+                rows.add(row);
+            }
+
+            // The rows end once the failing thread's rows are needed, so no row is returned out of SCN order
+            assertThat(scnsAndThreads(rows)).containsExactly("1@1", "2@1", "2@2");
+            assertThat(merger.getLogUnavailableException()).isNotNull();
+            assertThat(merger.getLogUnavailableException().getMessage()).startsWith("ORA-00310");
+            assertThat(merger.next()).isNull();
+        }
+    }
+
+    @Test
+    public void shouldRethrowOtherDatabaseExceptions() throws Exception {
+        session(1, rows(1, 2), null);
+        session(2, rows(), new SQLException("ORA-01291: missing logfile"));
+
+        try (RedoThreadEventRowMerger merger = new RedoThreadEventRowMerger(sessions, QUERY, 10, CATALOG_NAME, false)) {
+            merger.awaitFirstRows();
+            fail("Expected the failure of redo thread 2 to be rethrown");
+        }
+        catch (SQLException e) {
+            assertThat(e.getMessage()).startsWith("ORA-01291");
+        }
+    }
+
+    @Test
+    public void shouldRethrowErrorsOfReaders() throws Exception {
+        session(1, rows(1, 2), null);
+        session(2, rows(1), new LinkageError("Driver class could not be loaded"));
+
+        try (RedoThreadEventRowMerger merger = new RedoThreadEventRowMerger(sessions, QUERY, 10, CATALOG_NAME, false)) {
+            while (merger.next() != null) {
+                // read until the failure of redo thread 2 is reached
+            }
+            fail("Expected the failure of redo thread 2 to be rethrown");
+        }
+        catch (DebeziumException e) {
+            assertThat(e.getCause()).isInstanceOf(LinkageError.class);
+        }
+    }
+
+    @Test
+    public void shouldStopReadersWhenClosedBeforeAllRowsHaveBeenRead() throws Exception {
+        // more rows than the readers buffer ahead of the merge
+        final int[] scns = new int[5000];
+        for (int i = 0; i < scns.length; i++) {
+            scns[i] = i + 1;
+        }
+        session(1, rows(scns), null);
+        session(2, rows(scns), null);
+
+        try (RedoThreadEventRowMerger merger = new RedoThreadEventRowMerger(sessions, QUERY, 10, CATALOG_NAME, false)) {
+            assertThat(merger.next().getScn()).isEqualTo(Scn.valueOf(1));
+        }
+        for (RedoThreadMiningSession session : sessions) {
+            assertThat(session.getReader().submit(() -> true).get()).isTrue();
+        }
+    }
+
+    private List<LogMinerEventRow> merge() throws Exception {
+        final List<LogMinerEventRow> rows = new ArrayList<>();
+        try (RedoThreadEventRowMerger merger = new RedoThreadEventRowMerger(sessions, QUERY, 10, CATALOG_NAME, false)) {
+            LogMinerEventRow row;
+            while ((row = merger.next()) != null) {
+                rows.add(row);
+            }
+            assertThat(merger.getLogUnavailableException()).isNull();
+        }
+        return rows;
+    }
+
+    private static List<String> scnsAndThreads(List<LogMinerEventRow> rows) {
+        final List<String> result = new ArrayList<>();
+        for (LogMinerEventRow row : rows) {
+            result.add(row.getScn() + "@" + row.getThread());
+        }
+        return result;
+    }
+
+    private static List<Integer> rows(int... scns) {
+        final List<Integer> rows = new ArrayList<>();
+        Arrays.stream(scns).forEach(rows::add);
+        return rows;
+    }
+
+    /**
+     * Creates a session of the given redo thread whose LogMiner query returns rows with the given SCNs, each row
+     * having its index within the results as sequence number, and which fails with the given exception, if any,
+     * after all rows have been read.
+     */
+    private void session(int thread, List<Integer> scns, Throwable failure) throws SQLException {
+        final ResultSet resultSet = mock(ResultSet.class);
+        final int[] current = { -1 };
+        when(resultSet.next()).thenAnswer(invocation -> {
+            if (++current[0] < scns.size()) {
+                return true;
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            return false;
+        });
+        when(resultSet.getString(1)).thenAnswer(invocation -> String.valueOf(scns.get(current[0])));
+        when(resultSet.getInt(16)).thenAnswer(invocation -> current[0]);
+        when(resultSet.getInt(17)).thenReturn(thread);
+
+        final PreparedStatement statement = mock(PreparedStatement.class);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        final Connection jdbcConnection = mock(Connection.class);
+        when(jdbcConnection.prepareStatement(anyString(), anyInt(), anyInt(), anyInt())).thenReturn(statement);
+        final OracleConnection connection = mock(OracleConnection.class);
+        when(connection.connection()).thenReturn(jdbcConnection);
+
+        final RedoThreadMiningSession session = new RedoThreadMiningSession(thread, connection, "server1");
+        session.setMiningRange(Scn.valueOf(0), Scn.valueOf(10_000));
+        sessions.add(session);
+    }
+}
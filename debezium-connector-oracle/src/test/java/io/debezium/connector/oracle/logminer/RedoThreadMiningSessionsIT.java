@@ -0,0 +1,117 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+
+import io.debezium.config.Configuration;
+import io.debezium.connector.oracle.OracleConnection;
+import io.debezium.connector.oracle.OracleConnector;
+import io.debezium.connector.oracle.OracleConnectorConfig;
+import io.debezium.connector.oracle.junit.SkipTestDependingOnAdapterNameRule;
+import io.debezium.connector.oracle.junit.SkipWhenAdapterNameIsNot;
+import io.debezium.connector.oracle.util.TestHelper;
+import io.debezium.data.Envelope;
+import io.debezium.embedded.AbstractConnectorTest;
+import io.debezium.junit.logging.LogInterceptor;
+import io.debezium.util.Testing;
+
+/**
+ * Integration tests for mining each redo thread in a separate LogMiner session.
+ */
+@SkipWhenAdapterNameIsNot(value = SkipWhenAdapterNameIsNot.AdapterName.LOGMINER, reason = "Redo thread sessions only apply to LogMiner implementation")
+public class RedoThreadMiningSessionsIT extends AbstractConnectorTest {
+
+    @Rule
+    public final TestRule skipAdapterRule = new SkipTestDependingOnAdapterNameRule();
+
+    private static OracleConnection connection;
+
+    @BeforeClass
+    public static void beforeClass() throws SQLException {
+        connection = TestHelper.testConnection();
+    }
+
+    @AfterClass
+    public static void closeConnection() throws SQLException {
+        if (connection != null) {
+            connection.close();
+        }
+    }
+
+    @Before
+    public void before() throws SQLException {
+        setConsumeTimeout(TestHelper.defaultMessageConsumerPollTimeout(), TimeUnit.SECONDS);
+        initializeConnectorTestFramework();
+        Testing.Files.delete(TestHelper.SCHEMA_HISTORY_PATH);
+    }
+
+    @Test
+    public void shouldStreamChangesInOrderAcrossLogSwitches() throws Exception {
+        try {
+            TestHelper.dropTable(connection, "redo_threads");
+            connection.execute("CREATE TABLE redo_threads (id numeric(9,0), data varchar2(50), primary key(id))");
+            TestHelper.streamTable(connection, "redo_threads");
+
+            Configuration config = TestHelper.defaultConfig()
+                    .with(OracleConnectorConfig.TABLE_INCLUDE_LIST, "DEBEZIUM\\.REDO_THREADS")
+                    .with(OracleConnectorConfig.LOG_MINING_STRATEGY, "online_catalog")
+                    .with(OracleConnectorConfig.LOG_MINING_SESSION_PER_REDO_THREAD, true)
+                    .build();
+
+            final LogInterceptor logInterceptor = new LogInterceptor(LogMinerStreamingChangeEventSource.class);
+
+            start(OracleConnector.class, config);
+            assertConnectorIsRunning();
+            waitForStreamingRunning(TestHelper.CONNECTOR_NAME, TestHelper.SERVER_NAME);
+
+            assertThat(logInterceptor.containsMessage("Mining the logs of each redo thread in a separate LogMiner session.")).isTrue();
+
+            final int rowsPerLog = 10;
+            for (int i = 1; i <= rowsPerLog * 3; i++) {
+                connection.executeWithoutCommitting("INSERT INTO redo_threads (id,data) values (" + i + ",'Test')");
+                if (i % 2 == 0) {
+                    connection.commit();
+                }
+                if (i % rowsPerLog == 0) {
+                    // mining continues after the sessions register the logs of the next sequence
+                    TestHelper.forceLogfileSwitch();
+                }
+            }
+            connection.execute("UPDATE redo_threads SET data = 'Updated' WHERE id = 1");
+
+            SourceRecords records = consumeRecordsByTopic(rowsPerLog * 3 + 1);
+            List<SourceRecord> tableRecords = records.recordsForTopic("server1.DEBEZIUM.REDO_THREADS");
+            assertThat(tableRecords).hasSize(rowsPerLog * 3 + 1);
+
+            for (int i = 0; i < rowsPerLog * 3; i++) {
+                final Struct after = ((Struct) tableRecords.get(i).value()).getStruct(Envelope.FieldName.AFTER);
+                assertThat(after.get("ID")).isEqualTo(i + 1);
+            }
+            final Struct update = (Struct) tableRecords.get(rowsPerLog * 3).value();
+            assertThat(update.getString(Envelope.FieldName.OPERATION)).isEqualTo(Envelope.Operation.UPDATE.code());
+            assertThat(update.getStruct(Envelope.FieldName.AFTER).get("DATA")).isEqualTo("Updated");
+
+            assertNoRecordsToConsume();
+        }
+        finally {
+            TestHelper.dropTable(connection, "redo_threads");
+        }
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigInteger;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+
+import io.debezium.connector.oracle.OracleConnection;
+import io.debezium.connector.oracle.OracleConnectorConfig;
+import io.debezium.connector.oracle.Scn;
+import io.debezium.connector.oracle.junit.SkipTestDependingOnAdapterNameRule;
+import io.debezium.connector.oracle.junit.SkipWhenAdapterNameIsNot;
+import io.debezium.connector.oracle.util.TestHelper;
+
+/**
+ * Unit tests for the {@link RedoThreadMiningSessions}, using mocked database connections.
+ */
+@SkipWhenAdapterNameIsNot(value = SkipWhenAdapterNameIsNot.AdapterName.LOGMINER)
+public class RedoThreadMiningSessionsTest {
+
+    @Rule
+    public TestRule skipRule = new SkipTestDependingOnAdapterNameRule();
+
+    private final Map<Integer, OracleConnection> connections = new HashMap<>();
+    private final Map<Integer, Connection> jdbcConnections = new HashMap<>();
+    private RedoThreadMiningSessions sessions;
+
+    @Before
+    public void before() {
+        final OracleConnectorConfig connectorConfig = new OracleConnectorConfig(TestHelper.defaultConfig().build());
+        sessions = new RedoThreadMiningSessions(connectorConfig, null) {
+            @Override
+            RedoThreadMiningSession createSession(int thread) throws SQLException {
+                return new RedoThreadMiningSession(thread, connection(thread), connectorConfig.getLogicalName());
+            }
+        };
+    }
+
+    @After
+    public void after() {
+        sessions.close();
+    }
+
+    @Test
+    public void shouldOpenOneSessionPerRedoThreadAndRegisterOnlyItsLogs() throws Exception {
+        sessions.setLogFiles(Arrays.asList(
+                archiveLog(1, 10, 100, 200),
+                archiveLog(2, 20, 150, 250),
+                onlineLog(1, 11, 200),
+                onlineLog(2, 21, 250)));
+
+        assertThat(threads()).containsExactly(1, 2);
+        verify(jdbcConnections.get(1)).prepareCall(contains("thread1_seq10.log"));
+        verify(jdbcConnections.get(1)).prepareCall(contains("thread1_seq11.log"));
+        verify(jdbcConnections.get(1), never()).prepareCall(contains("thread2_"));
+        verify(jdbcConnections.get(2)).prepareCall(contains("thread2_seq20.log"));
+        verify(jdbcConnections.get(2)).prepareCall(contains("thread2_seq21.log"));
+        verify(jdbcConnections.get(2), never()).prepareCall(contains("thread1_"));
+    }
+
+    @Test
+    public void shouldRestrictMiningRangeToLogsOfRedoThread() throws Exception {
+        // Redo thread 2 has been closed at SCN 300, redo thread 3 has been opened at SCN 400
+        sessions.setLogFiles(Arrays.asList(
+                onlineLog(1, 11, 100),
+                archiveLog(2, 20, 100, 300),
+                onlineLog(3, 30, 400)));
+
+        final List<RedoThreadMiningSession> mining = sessions.setMiningRange(Scn.valueOf(200), Scn.valueOf(350));
+        assertThat(mining.stream().map(RedoThreadMiningSession::getThread).collect(Collectors.toList())).containsExactly(1, 2);
+        assertThat(mining.get(0).getMiningStartScn()).isEqualTo(Scn.valueOf(200));
+        assertThat(mining.get(0).getMiningEndScn()).isEqualTo(Scn.valueOf(350));
+        assertThat(mining.get(1).getMiningStartScn()).isEqualTo(Scn.valueOf(200));
+        assertThat(mining.get(1).getMiningEndScn()).isEqualTo(Scn.valueOf(300));
+        assertThat(session(3).isMining()).isFalse();
+
+        final List<RedoThreadMiningSession> later = sessions.setMiningRange(Scn.valueOf(350), Scn.valueOf(500));
+        assertThat(later.stream().map(RedoThreadMiningSession::getThread).collect(Collectors.toList())).containsExactly(1, 3);
+        assertThat(later.get(1).getMiningStartScn()).isEqualTo(Scn.valueOf(399));
+        assertThat(session(2).isMining()).isFalse();
+    }
+
+    @Test
+    public void shouldReplaceLogsOfRedoThreadsAfterArchiveLogSwitch() throws Exception {
+        sessions.setLogFiles(Arrays.asList(onlineLog(1, 11, 100), onlineLog(2, 21, 100)));
+        final RedoThreadMiningSession session = session(1);
+
+        // The online logs have been archived and the threads continue in their next online logs
+        sessions.setLogFiles(Arrays.asList(
+                archiveLog(1, 11, 100, 200),
+                onlineLog(1, 12, 200),
+                archiveLog(2, 21, 100, 220),
+                onlineLog(2, 22, 220)));
+
+        // The sessions are kept, each registering the logs of its thread anew
+        assertThat(threads()).containsExactly(1, 2);
+        assertThat(session(1)).isSameAs(session);
+        verify(connections.get(1), never()).close();
+        verify(connections.get(2), never()).close();
+        verify(jdbcConnections.get(1), times(2)).prepareStatement("SELECT FILENAME AS NAME FROM V$LOGMNR_LOGS");
+        verify(jdbcConnections.get(1)).prepareCall(contains("thread1_seq12.log"));
+        verify(jdbcConnections.get(2)).prepareCall(contains("thread2_seq22.log"));
+    }
+
+    @Test
+    public void shouldEndSessionOfRedoThreadWithoutLogsToMine() throws Exception {
+        sessions.setLogFiles(Arrays.asList(onlineLog(1, 11, 100), onlineLog(2, 21, 100)));
+
+        // Redo thread 2 has been disabled and its last log is no longer needed
+        sessions.setLogFiles(Arrays.asList(archiveLog(1, 11, 100, 200), onlineLog(1, 12, 200)));
+
+        assertThat(threads()).containsExactly(1);
+        verify(connections.get(2)).executeWithoutCommitting("BEGIN SYS.DBMS_LOGMNR.END_LOGMNR(); END;");
+        verify(connections.get(2)).close();
+        verify(connections.get(1), never()).close();
+
+        // Redo thread 2 is enabled again
+        sessions.setLogFiles(Arrays.asList(onlineLog(1, 12, 200), onlineLog(2, 22, 300)));
+        assertThat(threads()).containsExactly(1, 2);
+        assertThat(session(2).getConnection()).isSameAs(connections.get(2));
+    }
+
+    @Test
+    public void shouldEndAllSessionsWhenClosed() throws Exception {
+        sessions.setLogFiles(Arrays.asList(onlineLog(1, 11, 100), onlineLog(2, 21, 100)));
+        final OracleConnection first = connections.get(1);
+        final OracleConnection second = connections.get(2);
+
+        sessions.close();
+
+        assertThat(sessions.getSessions()).isEmpty();
+        verify(first).close();
+        verify(second).close();
+    }
+
+    private List<Integer> threads() {
+        return sessions.getSessions().stream().map(RedoThreadMiningSession::getThread).collect(Collectors.toList());
+    }
+
+    private RedoThreadMiningSession session(int thread) {
+        return sessions.getSessions().stream().filter(s -> s.getThread() == thread).findFirst().orElse(null);
+    }
+
+    private OracleConnection connection(int thread) throws SQLException {
+        final ResultSet resultSet = mock(ResultSet.class);
+        final PreparedStatement statement = mock(PreparedStatement.class);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        final Connection jdbcConnection = mock(Connection.class);
+        when(jdbcConnection.prepareStatement(anyString())).thenReturn(statement);
+        when(jdbcConnection.prepareCall(anyString())).thenReturn(mock(CallableStatement.class));
+        final OracleConnection connection = mock(OracleConnection.class);
+        when(connection.connection(false)).thenReturn(jdbcConnection);
+        when(connection.connection()).thenReturn(jdbcConnection);
+
+        connections.put(thread, connection);
+        jdbcConnections.put(thread, jdbcConnection);
+        return connection;
+    }
+
+    private static LogFile archiveLog(int thread, long sequence, long firstScn, long nextScn) {
+        return new LogFile(fileName(thread, sequence), Scn.valueOf(firstScn), Scn.valueOf(nextScn), BigInteger.valueOf(sequence),
+                LogFile.Type.ARCHIVE, thread);
+    }
+
+    private static LogFile onlineLog(int thread, long sequence, long firstScn) {
+        return new LogFile(fileName(thread, sequence), Scn.valueOf(firstScn), Scn.MAX, BigInteger.valueOf(sequence),
+                LogFile.Type.REDO, true, thread);
+    }
+
+    private static String fileName(int thread, long sequence) {
+        return "/u01/oradata/thread" + thread + "_seq" + sequence + ".log";
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer.processor;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import org.junit.Test;
+
+public class FetchSizeTunerTest {
+
+    @Test
+    public void shouldKeepFetchSizeUntilProcessingTimeIsKnown() {
+        final FetchSizeTuner tuner = new FetchSizeTuner(10, 10_000);
+        assertThat(fetchRoundTrip(tuner, 1_000_000L, 100)).isTrue();
+        assertThat(tuner.adjust(0)).isEqualTo(10);
+    }
+
+    @Test
+    public void shouldFetchEnoughRowsToCoverRoundTrips() {
+        final FetchSizeTuner tuner = new FetchSizeTuner(10, 5_000);
+
+        // a round trip of 1 ms and 10 us of processing per row requires 200 rows to be fetched per round trip
+        fetchRoundTrip(tuner, 1_000_000L, 100);
+        assertThat(tuner.adjust(10_000)).isEqualTo(200);
+
+        // slower processing needs fewer rows, but never less than the minimum
+        fetchRoundTrip(tuner, 1_000_000L, 100);
+        assertThat(tuner.adjust(1_000_000)).isEqualTo(10);
+
+        // fast processing is bounded by the maximum
+        fetchRoundTrip(tuner, 1_000_000L, 100);
+        assertThat(tuner.adjust(1)).isEqualTo(5_000);
+    }
+
+    @Test
+    public void shouldLimitFetchSizeByRowWidth() {
+        final FetchSizeTuner tuner = new FetchSizeTuner(10, 100_000);
+
+        // rows of roughly 64 KB allow for 64 rows within the targeted bytes per round trip
+        final int redoSqlLength = (int) (64 * 1024 - FetchSizeTuner.ROW_OVERHEAD_BYTES) / 2;
+        fetchRoundTrip(tuner, 1_000_000L, redoSqlLength);
+        assertThat(tuner.adjust(1)).isEqualTo(64);
+    }
+
+    private static boolean fetchRoundTrip(FetchSizeTuner tuner, long roundTripNanos, int redoSqlLength) {
+        boolean complete = tuner.rowFetched(roundTripNanos, redoSqlLength);
+        for (int i = 1; i < tuner.getFetchSize(); i++) {
+            complete = tuner.rowFetched(1_000L, redoSqlLength);
+        }
+        return complete;
+    }
+}
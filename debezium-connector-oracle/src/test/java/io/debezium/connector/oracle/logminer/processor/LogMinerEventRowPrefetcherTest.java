@@ -0,0 +1,86 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer.processor;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.assertions.Fail.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Test;
+
+import io.debezium.DebeziumException;
+import io.debezium.connector.oracle.OracleStreamingChangeEventSourceMetrics;
+import io.debezium.connector.oracle.logminer.events.LogMinerEventRow;
+
+public class LogMinerEventRowPrefetcherTest {
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private final OracleStreamingChangeEventSourceMetrics metrics = mock(OracleStreamingChangeEventSourceMetrics.class);
+
+    @After
+    public void after() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void shouldReturnRowsInOrder() throws Exception {
+        final LogMinerEventRow first = mock(LogMinerEventRow.class);
+        final LogMinerEventRow second = mock(LogMinerEventRow.class);
+        final ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(true, true, false);
+        final AtomicInteger reads = new AtomicInteger();
+
+        try (LogMinerEventRowPrefetcher prefetcher = prefetcher(resultSet, rs -> reads.getAndIncrement() == 0 ? first : second)) {
+            assertThat(prefetcher.next()).isSameAs(first);
+            assertThat(prefetcher.next()).isSameAs(second);
+            assertThat(prefetcher.next()).isNull();
+            assertThat(prefetcher.next()).isNull();
+        }
+    }
+
+    @Test
+    public void shouldRethrowReadFailure() throws Exception {
+        final ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(true).thenThrow(new SQLException("ORA-01291: missing logfile"));
+
+        try (LogMinerEventRowPrefetcher prefetcher = prefetcher(resultSet, rs -> mock(LogMinerEventRow.class))) {
+            assertThat(prefetcher.next()).isNotNull();
+            prefetcher.next();
+            fail("Expected the failure of the reader to be rethrown");
+        }
+        catch (SQLException e) {
+            assertThat(e.getMessage()).isEqualTo("ORA-01291: missing logfile");
+        }
+    }
+
+    @Test
+    public void shouldNotWaitForRowsAfterReaderFailedWithError() throws Exception {
+        final ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(true);
+
+        try (LogMinerEventRowPrefetcher prefetcher = prefetcher(resultSet, rs -> {
+            throw new StackOverflowError();
+        })) {
+            prefetcher.next();
+            fail("Expected the error of the reader to be rethrown");
+        }
+        catch (DebeziumException e) {
+            assertThat(e.getCause()).isInstanceOf(StackOverflowError.class);
+        }
+    }
+
+    private LogMinerEventRowPrefetcher prefetcher(ResultSet resultSet, LogMinerEventRowPrefetcher.RowReader rowReader) {
+        return new LogMinerEventRowPrefetcher(resultSet, rowReader, executor, 10, 1, metrics);
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer.processor;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.config.Configuration;
+import io.debezium.connector.oracle.OracleConnectorConfig;
+import io.debezium.connector.oracle.OracleConnectorConfig.LogMiningBufferType;
+import io.debezium.connector.oracle.junit.SkipWhenAdapterNameIsNot;
+import io.debezium.connector.oracle.logminer.processor.mapped.MappedLogMinerEventProcessor;
+import io.debezium.connector.oracle.util.TestHelper;
+
+@SkipWhenAdapterNameIsNot(value = SkipWhenAdapterNameIsNot.AdapterName.LOGMINER, reason = "Only applicable for LogMiner")
+public class MemoryMappedProcessorTest extends AbstractProcessorUnitTest<MappedLogMinerEventProcessor> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MemoryMappedProcessorTest.class);
+
+    @Override
+    protected Configuration.Builder getConfig() {
+        return TestHelper.defaultConfig()
+                .with(OracleConnectorConfig.LOG_MINING_BUFFER_TYPE, LogMiningBufferType.MEMORY_MAPPED)
+                .with(OracleConnectorConfig.LOG_MINING_BUFFER_MEMORY_MAPPED_DIRECTORY, "target/data/logminer-buffer")
+                .with(OracleConnectorConfig.LOG_MINING_BUFFER_DROP_ON_STOP, true);
+    }
+
+    @Override
+    protected MappedLogMinerEventProcessor getProcessor(OracleConnectorConfig connectorConfig) {
+        assertThat(connectorConfig.validateAndRecord(OracleConnectorConfig.ALL_FIELDS, LOGGER::error)).isTrue();
+        return new MappedLogMinerEventProcessor(context,
+                connectorConfig,
+                connection,
+                dispatcher,
+                partition,
+                offsetContext,
+                schema,
+                metrics);
+    }
+}
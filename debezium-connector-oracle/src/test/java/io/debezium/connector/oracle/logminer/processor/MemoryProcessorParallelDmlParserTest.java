@@ -0,0 +1,149 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer.processor;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.assertions.Fail.fail;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.awaitility.Awaitility;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import io.debezium.config.Configuration;
+import io.debezium.connector.oracle.OracleConnectorConfig;
+import io.debezium.connector.oracle.OraclePartition;
+import io.debezium.connector.oracle.Scn;
+import io.debezium.connector.oracle.junit.SkipWhenAdapterNameIsNot;
+import io.debezium.connector.oracle.logminer.events.DmlEvent;
+import io.debezium.connector.oracle.logminer.events.EventType;
+import io.debezium.connector.oracle.logminer.events.LogMinerEventRow;
+import io.debezium.connector.oracle.logminer.parser.DmlParserException;
+import io.debezium.connector.oracle.logminer.processor.memory.MemoryTransaction;
+import io.debezium.connector.oracle.util.TestHelper;
+import io.debezium.relational.TableId;
+
+/**
+ * Runs the memory processor tests with DML statements being parsed by worker threads.
+ */
+@SkipWhenAdapterNameIsNot(value = SkipWhenAdapterNameIsNot.AdapterName.LOGMINER, reason = "Only applicable for LogMiner")
+public class MemoryProcessorParallelDmlParserTest extends MemoryProcessorTest {
+
+    private static final String TRANSACTION_ID = "1234567890";
+    private static final int EVENT_COUNT = 500;
+
+    @Override
+    protected Configuration.Builder getConfig() {
+        return super.getConfig()
+                .with(OracleConnectorConfig.LOG_MINING_DML_PARSER_THREADS, 2);
+    }
+
+    @Test
+    public void testEventsKeepOrderWithinTransaction() throws Exception {
+        final OracleConnectorConfig config = new OracleConnectorConfig(getConfig().build());
+        try (AbstractLogMinerEventProcessor<MemoryTransaction> processor = getProcessor(config)) {
+            processor.handleStart(getStartRow(Scn.valueOf(1L)));
+            for (int i = 0; i < EVENT_COUNT; i++) {
+                processor.handleDataEvent(getInsertRow(Scn.valueOf(2L + i), "insert into \"DEBEZIUM\".\"TEST_TABLE\"(\"ID\",\"DATA\") values ('"
+                        + i + "','Test');"));
+            }
+
+            final List<Object> ids = processor.getTransactionCache().get(TRANSACTION_ID).getEvents().stream()
+                    .map(event -> ((DmlEvent) event).getDmlEntry().getNewValues()[0])
+                    .collect(Collectors.toList());
+            assertThat(ids).hasSize(EVENT_COUNT);
+            for (int i = 0; i < EVENT_COUNT; i++) {
+                assertThat(ids.get(i)).isEqualTo(String.valueOf(i));
+            }
+        }
+    }
+
+    @Test
+    public void testParseFailureIsRethrownByMiningLoop() throws Exception {
+        final OracleConnectorConfig config = new OracleConnectorConfig(getConfig().build());
+        try (AbstractLogMinerEventProcessor<MemoryTransaction> processor = getProcessor(config)) {
+            processor.handleStart(getStartRow(Scn.valueOf(1L)));
+            processor.handleDataEvent(getInsertRow(Scn.valueOf(2L), "not a DML statement"));
+
+            // wait for the statement to be parsed by the worker thread
+            final DmlEvent event = (DmlEvent) processor.getTransactionCache().get(TRANSACTION_ID).getEvents().get(0);
+            Awaitility.await().atMost(30, TimeUnit.SECONDS).until(() -> {
+                try {
+                    event.getDmlEntry();
+                    return false;
+                }
+                catch (DmlParserException e) {
+                    return true;
+                }
+            });
+
+            // the next row processed by the mining loop surfaces the failure, before the transaction is committed
+            try {
+                processor.handleDataEvent(getInsertRow(Scn.valueOf(3L), "insert into \"DEBEZIUM\".\"TEST_TABLE\"(\"ID\",\"DATA\") values ('1','Test');"));
+                fail("Expected the parse failure to be rethrown");
+            }
+            catch (DmlParserException e) {
+                assertThat(e.getMessage()).contains("not a DML statement");
+            }
+        }
+    }
+
+    @Test
+    public void testParseFailureIsRethrownOnCommit() throws Exception {
+        final OracleConnectorConfig config = new OracleConnectorConfig(getConfig().build());
+        final OraclePartition partition = new OraclePartition(config.getLogicalName(), config.getDatabaseName());
+        try (AbstractLogMinerEventProcessor<MemoryTransaction> processor = getProcessor(config)) {
+            processor.handleStart(getStartRow(Scn.valueOf(1L)));
+            processor.handleDataEvent(getInsertRow(Scn.valueOf(2L), "not a DML statement"));
+            try {
+                processor.handleCommit(partition, getCommitRow(Scn.valueOf(3L)));
+                fail("Expected the parse failure to be rethrown");
+            }
+            catch (DmlParserException e) {
+                assertThat(e.getMessage()).contains("not a DML statement");
+            }
+        }
+    }
+
+    private LogMinerEventRow getStartRow(Scn scn) {
+        LogMinerEventRow row = Mockito.mock(LogMinerEventRow.class);
+        Mockito.when(row.getEventType()).thenReturn(EventType.START);
+        Mockito.when(row.getTransactionId()).thenReturn(TRANSACTION_ID);
+        Mockito.when(row.getScn()).thenReturn(scn);
+        Mockito.when(row.getChangeTime()).thenReturn(Instant.now());
+        return row;
+    }
+
+    private LogMinerEventRow getCommitRow(Scn scn) {
+        LogMinerEventRow row = Mockito.mock(LogMinerEventRow.class);
+        Mockito.when(row.getEventType()).thenReturn(EventType.COMMIT);
+        Mockito.when(row.getTransactionId()).thenReturn(TRANSACTION_ID);
+        Mockito.when(row.getScn()).thenReturn(scn);
+        Mockito.when(row.getChangeTime()).thenReturn(Instant.now());
+        return row;
+    }
+
+    private LogMinerEventRow getInsertRow(Scn scn, String redoSql) {
+        LogMinerEventRow row = Mockito.mock(LogMinerEventRow.class);
+        Mockito.when(row.getEventType()).thenReturn(EventType.INSERT);
+        Mockito.when(row.getTransactionId()).thenReturn(TRANSACTION_ID);
+        Mockito.when(row.getScn()).thenReturn(scn);
+        Mockito.when(row.getChangeTime()).thenReturn(Instant.now());
+        Mockito.when(row.getRowId()).thenReturn("AAA" + scn);
+        Mockito.when(row.getOperation()).thenReturn("INSERT");
+        Mockito.when(row.getTableName()).thenReturn("TEST_TABLE");
+        Mockito.when(row.getTableId()).thenReturn(TableId.parse("ORCLPDB1.DEBEZIUM.TEST_TABLE"));
+        Mockito.when(row.getRedoSql()).thenReturn(redoSql);
+        Mockito.when(row.getRsId()).thenReturn("A.B.C");
+        Mockito.when(row.getTablespaceName()).thenReturn("DEBEZIUM");
+        Mockito.when(row.getUserName()).thenReturn(TestHelper.SCHEMA_USER);
+        return row;
+    }
+}
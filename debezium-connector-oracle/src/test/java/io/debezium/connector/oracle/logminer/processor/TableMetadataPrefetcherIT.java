@@ -0,0 +1,126 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer.processor;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+
+import io.debezium.config.Configuration;
+import io.debezium.connector.oracle.OracleConnection;
+import io.debezium.connector.oracle.OracleConnector;
+import io.debezium.connector.oracle.OracleConnectorConfig;
+import io.debezium.connector.oracle.junit.SkipTestDependingOnAdapterNameRule;
+import io.debezium.connector.oracle.junit.SkipWhenAdapterNameIsNot;
+import io.debezium.connector.oracle.util.TestHelper;
+import io.debezium.data.Envelope;
+import io.debezium.embedded.AbstractConnectorTest;
+import io.debezium.junit.logging.LogInterceptor;
+import io.debezium.relational.history.SchemaHistory;
+import io.debezium.util.Testing;
+
+/**
+ * Integration tests for prefetching the metadata of captured tables unknown to the schema.
+ */
+@SkipWhenAdapterNameIsNot(value = SkipWhenAdapterNameIsNot.AdapterName.LOGMINER, reason = "Table metadata prefetching only applies to LogMiner implementation")
+public class TableMetadataPrefetcherIT extends AbstractConnectorTest {
+
+    @Rule
+    public final TestRule skipAdapterRule = new SkipTestDependingOnAdapterNameRule();
+
+    private static OracleConnection connection;
+
+    @BeforeClass
+    public static void beforeClass() throws SQLException {
+        connection = TestHelper.testConnection();
+    }
+
+    @AfterClass
+    public static void closeConnection() throws SQLException {
+        if (connection != null) {
+            connection.close();
+        }
+    }
+
+    @Before
+    public void before() throws SQLException {
+        setConsumeTimeout(TestHelper.defaultMessageConsumerPollTimeout(), TimeUnit.SECONDS);
+        initializeConnectorTestFramework();
+        Testing.Files.delete(TestHelper.SCHEMA_HISTORY_PATH);
+    }
+
+    @Test
+    public void shouldUsePrefetchedMetadataOfTableAlteredWhileUnknownToSchema() throws Exception {
+        try {
+            TestHelper.dropTable(connection, "prefetch_a");
+            TestHelper.dropTable(connection, "prefetch_b");
+            TestHelper.dropTable(connection, "prefetch_c");
+            for (String table : new String[]{ "prefetch_a", "prefetch_b", "prefetch_c" }) {
+                connection.execute("CREATE TABLE " + table + " (id numeric(9,0) primary key, data varchar2(50))");
+                TestHelper.streamTable(connection, table);
+            }
+
+            // The schema history only knows the table captured initially
+            start(OracleConnector.class, config("DEBEZIUM\\.PREFETCH_A"));
+            assertConnectorIsRunning();
+            waitForStreamingRunning(TestHelper.CONNECTOR_NAME, TestHelper.SERVER_NAME);
+            connection.execute("INSERT INTO prefetch_a (id,data) values (1,'A')");
+            assertThat(consumeRecordsByTopic(1).recordsForTopic("server1.DEBEZIUM.PREFETCH_A")).hasSize(1);
+            stopConnector();
+
+            final LogInterceptor logInterceptor = new LogInterceptor(AbstractLogMinerEventProcessor.class);
+            start(OracleConnector.class, config("DEBEZIUM\\.PREFETCH_.*"));
+            assertConnectorIsRunning();
+            waitForStreamingRunning(TestHelper.CONNECTOR_NAME, TestHelper.SERVER_NAME);
+
+            // The DDL leaves PREFETCH_B unknown to the schema, so its metadata is prefetched after the DDL
+            connection.execute("ALTER TABLE prefetch_b ADD data2 varchar2(50)");
+            connection.execute("INSERT INTO prefetch_b (id,data,data2) values (2,'B','B2')");
+            // There is no DDL of PREFETCH_C, its metadata is not prefetched but queried when its first change is seen
+            connection.execute("INSERT INTO prefetch_c (id,data) values (3,'C')");
+
+            final SourceRecords records = consumeRecordsByTopic(2);
+            final List<SourceRecord> tableB = records.recordsForTopic("server1.DEBEZIUM.PREFETCH_B");
+            assertThat(tableB).hasSize(1);
+            final Struct afterB = ((Struct) tableB.get(0).value()).getStruct(Envelope.FieldName.AFTER);
+            assertThat(afterB.get("ID")).isEqualTo(2);
+            assertThat(afterB.get("DATA2")).isEqualTo("B2");
+
+            final List<SourceRecord> tableC = records.recordsForTopic("server1.DEBEZIUM.PREFETCH_C");
+            assertThat(tableC).hasSize(1);
+            assertThat(((Struct) tableC.get(0).value()).getStruct(Envelope.FieldName.AFTER).get("ID")).isEqualTo(3);
+
+            final String catalog = TestHelper.getDatabaseName();
+            assertThat(logInterceptor.containsMessage("Using prefetched database metadata for table '" + catalog + ".DEBEZIUM.PREFETCH_B'")).isTrue();
+            assertThat(logInterceptor.containsMessage("Getting database metadata for table '" + catalog + ".DEBEZIUM.PREFETCH_C'")).isTrue();
+            assertNoRecordsToConsume();
+        }
+        finally {
+            TestHelper.dropTable(connection, "prefetch_c");
+            TestHelper.dropTable(connection, "prefetch_b");
+            TestHelper.dropTable(connection, "prefetch_a");
+        }
+    }
+
+    private static Configuration config(String tableIncludeList) {
+        return TestHelper.defaultConfig()
+                .with(OracleConnectorConfig.TABLE_INCLUDE_LIST, tableIncludeList)
+                .with(OracleConnectorConfig.LOG_MINING_TABLE_METADATA_CACHE_SIZE, 10)
+                .with(SchemaHistory.STORE_ONLY_CAPTURED_TABLES_DDL, true)
+                .build();
+    }
+}
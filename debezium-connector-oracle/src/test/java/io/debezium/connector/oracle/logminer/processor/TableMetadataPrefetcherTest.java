@@ -0,0 +1,217 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer.processor;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.assertions.Fail.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.awaitility.Awaitility;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.mockito.Mockito;
+
+import io.debezium.connector.oracle.OracleConnection;
+import io.debezium.connector.oracle.OracleConnection.NonRelationalTableException;
+import io.debezium.connector.oracle.OracleConnectorConfig;
+import io.debezium.connector.oracle.OracleDatabaseSchema;
+import io.debezium.connector.oracle.junit.SkipTestDependingOnAdapterNameRule;
+import io.debezium.connector.oracle.junit.SkipWhenAdapterNameIsNot;
+import io.debezium.connector.oracle.util.TestHelper;
+import io.debezium.jdbc.JdbcConnection.ResultSetConsumer;
+import io.debezium.jdbc.JdbcConnection.ResultSetMapper;
+import io.debezium.jdbc.JdbcConnection.StatementPreparer;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableId;
+
+/**
+ * Unit tests for the {@link TableMetadataPrefetcher}, using a mocked database connection.
+ */
+@SkipWhenAdapterNameIsNot(value = SkipWhenAdapterNameIsNot.AdapterName.LOGMINER)
+public class TableMetadataPrefetcherTest {
+
+    @Rule
+    public TestRule skipRule = new SkipTestDependingOnAdapterNameRule();
+
+    private final AtomicLong now = new AtomicLong();
+    private final AtomicInteger connectionsCreated = new AtomicInteger();
+    private OracleConnectorConfig connectorConfig;
+    private OracleDatabaseSchema schema;
+    private OracleConnection connection;
+    private TableMetadataPrefetcher prefetcher;
+
+    @Before
+    public void before() throws SQLException {
+        connectorConfig = new OracleConnectorConfig(TestHelper.defaultConfig()
+                .with(OracleConnectorConfig.TABLE_INCLUDE_LIST, "DEBEZIUM\\..*")
+                .with(OracleConnectorConfig.LOG_MINING_TABLE_METADATA_CACHE_SIZE, 2)
+                .build());
+        schema = mock(OracleDatabaseSchema.class);
+        connection = mock(OracleConnection.class);
+        prefetcher = new TableMetadataPrefetcher(connectorConfig, schema, now::get) {
+            @Override
+            OracleConnection createConnection() {
+                connectionsCreated.incrementAndGet();
+                return connection;
+            }
+        };
+    }
+
+    @After
+    public void after() {
+        prefetcher.close();
+    }
+
+    @Test
+    public void shouldPrefetchCapturedTablesReportedAsNewlyCreated() throws Exception {
+        final ResultSet newTables = mock(ResultSet.class);
+        when(newTables.next()).thenReturn(true, true, true, false);
+        when(newTables.getString(1)).thenReturn("DEBEZIUM", "OTHER", "DEBEZIUM");
+        when(newTables.getString(2)).thenReturn("T1", "T2", "T3");
+        when(newTables.getTimestamp(3)).thenReturn(new Timestamp(20_000));
+        when(connection.queryAndMap(anyString(), any(ResultSetMapper.class))).thenReturn(new Timestamp(10_000));
+        doAnswer(invocation -> {
+            invocation.getArgument(2, ResultSetConsumer.class).accept(newTables);
+            return connection;
+        }).when(connection).prepareQuery(anyString(), any(StatementPreparer.class), any(ResultSetConsumer.class));
+        // the schema knows T3 already
+        when(schema.tableFor(tableId("T3"))).thenReturn(mock(Table.class));
+        when(connection.getTableMetadataDdl(tableId("T1"))).thenReturn("CREATE TABLE T1");
+
+        // The first poll records the time from which tables are of interest, the following one reports the new tables
+        Awaitility.await().atMost(Duration.ofSeconds(10)).until(() -> {
+            now.addAndGet(10_000);
+            prefetcher.pollNewTables();
+            return !prefetcher.getCachedTables().isEmpty();
+        });
+
+        assertThat(prefetcher.getCachedTables()).containsExactly(tableId("T1"));
+        assertThat(prefetcher.take(tableId("T1"))).isEqualTo("CREATE TABLE T1");
+        assertThat(prefetcher.getCachedTables()).isEmpty();
+        assertThat(prefetcher.toString()).contains("hits=1");
+    }
+
+    @Test
+    public void shouldNotPollAgainWithinPollInterval() throws Exception {
+        when(connection.queryAndMap(anyString(), any(ResultSetMapper.class))).thenReturn(new Timestamp(10_000));
+
+        prefetcher.pollNewTables();
+        verify(connection, timeout(5_000)).queryAndMap(anyString(), any(ResultSetMapper.class));
+
+        now.addAndGet(5_000);
+        prefetcher.pollNewTables();
+        assertThat(connectionsCreated.get()).isEqualTo(1);
+        verify(connection, Mockito.after(1_000).never()).prepareQuery(anyString(), any(StatementPreparer.class), any(ResultSetConsumer.class));
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyCachedTableWhenCacheIsFull() throws Exception {
+        when(connection.getTableMetadataDdl(any(TableId.class))).thenAnswer(invocation -> "CREATE TABLE " + invocation.getArgument(0, TableId.class).table());
+
+        prefetcher.prefetch(tableId("T1"));
+        prefetcher.prefetch(tableId("T2"));
+        prefetcher.prefetch(tableId("T3"));
+
+        assertThat(prefetcher.getCachedTables()).containsExactly(tableId("T2"), tableId("T3"));
+        // the evicted table is a miss, the processor queries its metadata itself
+        assertThat(prefetcher.take(tableId("T1"))).isNull();
+        assertThat(prefetcher.take(tableId("T2"))).isEqualTo("CREATE TABLE T2");
+        assertThat(prefetcher.take(tableId("T3"))).isEqualTo("CREATE TABLE T3");
+        assertThat(prefetcher.toString()).contains("hits=2").contains("misses=1").contains("evictions=1");
+    }
+
+    @Test
+    public void shouldNotPrefetchTablesNotCapturedOrKnownToSchema() throws Exception {
+        when(schema.tableFor(tableId("KNOWN"))).thenReturn(mock(Table.class));
+
+        prefetcher.prefetch(new TableId(connectorConfig.getCatalogName(), "OTHER", "T1"));
+        prefetcher.prefetch(tableId("KNOWN"));
+
+        assertThat(prefetcher.getCachedTables()).isEmpty();
+        assertThat(connectionsCreated.get()).isEqualTo(0);
+    }
+
+    @Test
+    public void shouldPrefetchTableAgainAfterInvalidation() throws Exception {
+        when(connection.getTableMetadataDdl(tableId("T1"))).thenReturn("CREATE TABLE T1 (ID NUMBER)", "CREATE TABLE T1 (ID NUMBER, DATA VARCHAR2(50))");
+
+        prefetcher.prefetch(tableId("T1"));
+        verify(connection, timeout(5_000)).getTableMetadataDdl(tableId("T1"));
+
+        // A DDL event of the table discards the metadata, which may predate it, and fetches it again
+        prefetcher.invalidate(tableId("T1"));
+        assertThat(prefetcher.getCachedTables()).isEmpty();
+        prefetcher.prefetch(tableId("T1"));
+
+        assertThat(prefetcher.take(tableId("T1"))).isEqualTo("CREATE TABLE T1 (ID NUMBER, DATA VARCHAR2(50))");
+    }
+
+    @Test
+    public void shouldNotPrefetchTableAgainAfterInvalidationOnceKnownToSchema() throws Exception {
+        when(connection.getTableMetadataDdl(tableId("T1"))).thenReturn("CREATE TABLE T1 (ID NUMBER)");
+
+        prefetcher.prefetch(tableId("T1"));
+        when(schema.tableFor(tableId("T1"))).thenReturn(mock(Table.class));
+        prefetcher.invalidate(tableId("T1"));
+        prefetcher.prefetch(tableId("T1"));
+
+        assertThat(prefetcher.getCachedTables()).isEmpty();
+        assertThat(prefetcher.take(tableId("T1"))).isNull();
+    }
+
+    @Test
+    public void shouldReturnNoMetadataWhenPrefetchFailed() throws Exception {
+        when(connection.getTableMetadataDdl(tableId("T1"))).thenThrow(new SQLException("ORA-03113: end-of-file on communication channel"));
+        when(connection.getTableMetadataDdl(tableId("T2"))).thenReturn("CREATE TABLE T2");
+
+        prefetcher.prefetch(tableId("T1"));
+
+        // the processor falls back to querying the metadata itself
+        assertThat(prefetcher.take(tableId("T1"))).isNull();
+        assertThat(prefetcher.toString()).contains("hits=0").contains("misses=1");
+
+        // the failed connection is closed and replaced for the next prefetch
+        verify(connection).close();
+        prefetcher.prefetch(tableId("T2"));
+        assertThat(prefetcher.take(tableId("T2"))).isEqualTo("CREATE TABLE T2");
+        assertThat(connectionsCreated.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldRethrowWhenPrefetchedTableIsNotRelational() throws Exception {
+        when(connection.getTableMetadataDdl(tableId("T1"))).thenThrow(new NonRelationalTableException("Table T1 is not a relational table"));
+
+        prefetcher.prefetch(tableId("T1"));
+
+        try {
+            prefetcher.take(tableId("T1"));
+            fail("Expected the table to be reported as not relational");
+        }
+        catch (NonRelationalTableException e) {
+            assertThat(e.getMessage()).isEqualTo("Table T1 is not a relational table");
+        }
+    }
+
+    private TableId tableId(String table) {
+        return new TableId(connectorConfig.getCatalogName(), "DEBEZIUM", table);
+    }
+}
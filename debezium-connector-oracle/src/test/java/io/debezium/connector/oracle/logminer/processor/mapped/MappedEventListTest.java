@@ -0,0 +1,113 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer.processor.mapped;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.assertions.Fail.fail;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+
+import io.debezium.connector.oracle.Scn;
+import io.debezium.connector.oracle.junit.SkipTestDependingOnAdapterNameRule;
+import io.debezium.connector.oracle.junit.SkipWhenAdapterNameIsNot;
+import io.debezium.connector.oracle.logminer.events.EventType;
+import io.debezium.connector.oracle.logminer.events.LogMinerEvent;
+import io.debezium.relational.TableId;
+import io.debezium.util.Testing;
+
+/**
+ * Unit tests for the {@link MappedEventList}.
+ */
+@SkipWhenAdapterNameIsNot(value = SkipWhenAdapterNameIsNot.AdapterName.LOGMINER)
+public class MappedEventListTest {
+
+    @Rule
+    public TestRule skipRule = new SkipTestDependingOnAdapterNameRule();
+
+    private MappedEventLog log;
+    private MappedEventList events;
+
+    @Before
+    public void before() {
+        // each event gets a segment of its own
+        log = new MappedEventLog(Testing.Files.createTestingPath("logminer-buffer"), 1);
+        events = new MappedEventList(log);
+    }
+
+    @After
+    public void after() {
+        log.close();
+    }
+
+    @Test
+    public void shouldRemoveMatchingEventsAndKeepOrderOfOthers() {
+        addEvents("r0", "r1", "r2", "r3", "r4", "r5");
+
+        final List<String> removed = Arrays.asList("r1", "r2", "r4");
+        assertThat(events.removeIf(event -> removed.contains(event.getRowId()))).isTrue();
+        assertThat(rowIds()).containsExactly("r0", "r3", "r5");
+
+        assertThat(events.removeIf(event -> event.getRowId().equals("r1"))).isFalse();
+        addEvents("r6");
+        assertThat(rowIds()).containsExactly("r0", "r3", "r5", "r6");
+    }
+
+    @Test
+    public void shouldDeleteSegmentsOfRemovedEvents() {
+        addEvents("r0", "r1", "r2");
+        assertThat(log.getSegmentCount()).isEqualTo(3);
+
+        // the segment being appended to is kept until the next one is started
+        events.removeIf(event -> !event.getRowId().equals("r1"));
+        assertThat(log.getSegmentCount()).isEqualTo(2);
+        assertThat(rowIds()).containsExactly("r1");
+
+        events.clear();
+        assertThat(log.getSegmentCount()).isEqualTo(1);
+        addEvents("r3");
+        assertThat(log.getSegmentCount()).isEqualTo(1);
+        assertThat(rowIds()).containsExactly("r3");
+    }
+
+    @Test
+    public void shouldKeepAllEventsWhenFilterFails() {
+        addEvents("r0", "r1", "r2");
+
+        try {
+            events.removeIf(event -> {
+                if (event.getRowId().equals("r1")) {
+                    throw new IllegalStateException("failed");
+                }
+                return true;
+            });
+            fail("Expected the failure of the filter to be rethrown");
+        }
+        catch (IllegalStateException e) {
+            assertThat(rowIds()).containsExactly("r0", "r1", "r2");
+            assertThat(log.getSegmentCount()).isEqualTo(3);
+        }
+    }
+
+    private void addEvents(String... rowIds) {
+        for (String rowId : rowIds) {
+            events.add(new LogMinerEvent(EventType.INSERT, Scn.valueOf(1), TableId.parse("ORCLPDB1.DEBEZIUM.TEST"), rowId, "rsId",
+                    Instant.now()));
+        }
+    }
+
+    private List<String> rowIds() {
+        return events.stream().map(LogMinerEvent::getRowId).collect(Collectors.toList());
+    }
+}
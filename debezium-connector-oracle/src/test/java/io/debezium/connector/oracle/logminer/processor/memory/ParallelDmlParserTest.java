@@ -0,0 +1,197 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer.processor.memory;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.assertions.Fail.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.mockito.Mockito;
+
+import io.debezium.connector.oracle.junit.SkipTestDependingOnAdapterNameRule;
+import io.debezium.connector.oracle.junit.SkipWhenAdapterNameIsNot;
+import io.debezium.connector.oracle.logminer.events.DmlEvent;
+import io.debezium.connector.oracle.logminer.events.LogMinerEventRow;
+import io.debezium.connector.oracle.logminer.parser.DmlParserException;
+import io.debezium.connector.oracle.logminer.parser.LogMinerDmlEntry;
+import io.debezium.connector.oracle.logminer.parser.LogMinerDmlEntryImpl;
+
+/**
+ * Unit tests for the {@link ParallelDmlParser}.
+ */
+@SkipWhenAdapterNameIsNot(value = SkipWhenAdapterNameIsNot.AdapterName.LOGMINER)
+public class ParallelDmlParserTest {
+
+    @Rule
+    public TestRule skipRule = new SkipTestDependingOnAdapterNameRule();
+
+    private ParallelDmlParser parser;
+
+    @After
+    public void after() {
+        if (parser != null) {
+            parser.close();
+        }
+    }
+
+    @Test
+    public void shouldParseStatementsOnWorkerThreads() {
+        parser = new ParallelDmlParser("test", 2);
+
+        final List<String> threadNames = new CopyOnWriteArrayList<>();
+        final DmlEvent event = parser.parse(row("tx1", "sql"), () -> {
+            threadNames.add(Thread.currentThread().getName());
+            return entry(1);
+        });
+
+        assertThat(event.getDmlEntry().getNewValues()).containsOnly(1);
+        assertThat(threadNames).hasSize(1);
+        assertThat(threadNames.get(0)).contains("dml-parser");
+    }
+
+    @Test
+    public void shouldKeepOrderOfEventsWithinTransaction() throws Exception {
+        parser = new ParallelDmlParser("test", 2);
+
+        // hold back the workers until all statements are submitted
+        final CountDownLatch submitted = new CountDownLatch(1);
+        final List<DmlEvent> tx1 = new ArrayList<>();
+        final List<DmlEvent> tx2 = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            final int value = i;
+            tx1.add(parser.parse(row("tx1", "sql"), () -> {
+                await(submitted);
+                return entry(value);
+            }));
+            tx2.add(parser.parse(row("tx2", "sql"), () -> {
+                await(submitted);
+                return entry(-value);
+            }));
+        }
+        submitted.countDown();
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(tx1.get(i).getDmlEntry().getNewValues()).containsOnly(i);
+            assertThat(tx2.get(i).getDmlEntry().getNewValues()).containsOnly(-i);
+        }
+    }
+
+    @Test
+    public void shouldParseOnCallingThreadWhenQueueIsFull() {
+        parser = new ParallelDmlParser("test", 1, 1);
+
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch released = new CountDownLatch(1);
+        final List<String> threadNames = new CopyOnWriteArrayList<>();
+        final List<DmlEvent> events = new ArrayList<>();
+
+        // the first statement blocks the worker, the second one fills its queue
+        events.add(parser.parse(row("tx1", "sql"), () -> {
+            started.countDown();
+            await(released);
+            threadNames.add(Thread.currentThread().getName());
+            return entry(0);
+        }));
+        await(started);
+        for (int i = 1; i < 3; i++) {
+            final int value = i;
+            events.add(parser.parse(row("tx1", "sql"), () -> {
+                threadNames.add(Thread.currentThread().getName());
+                return entry(value);
+            }));
+        }
+
+        // the third statement could not be queued and was parsed by this thread
+        assertThat(threadNames).containsExactly(Thread.currentThread().getName());
+        released.countDown();
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(events.get(i).getDmlEntry().getNewValues()).containsOnly(i);
+        }
+    }
+
+    @Test
+    public void shouldHandParsedStatementsToCallingThread() {
+        parser = new ParallelDmlParser("test", 2);
+
+        final List<DmlEvent> events = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            final int value = i;
+            events.add(parser.parse(row("tx1", "sql" + i), () -> entry(value)));
+        }
+        events.forEach(DmlEvent::getDmlEntry);
+
+        final List<String> statements = new ArrayList<>();
+        final List<String> threadNames = new ArrayList<>();
+        parser.drain((redoSql, dmlEntry, parseTime) -> {
+            statements.add(redoSql);
+            threadNames.add(Thread.currentThread().getName());
+            assertThat(parseTime).isNotNull();
+        });
+
+        assertThat(statements).containsExactly("sql0", "sql1", "sql2");
+        assertThat(threadNames).containsOnly(Thread.currentThread().getName());
+
+        statements.clear();
+        parser.drain((redoSql, dmlEntry, parseTime) -> statements.add(redoSql));
+        assertThat(statements).isEmpty();
+    }
+
+    @Test
+    public void shouldRethrowParseFailures() {
+        parser = new ParallelDmlParser("test", 2);
+
+        final DmlEvent event = parser.parse(row("tx1", "sql"), () -> {
+            throw new DmlParserException("Failed to parse");
+        });
+
+        try {
+            event.getDmlEntry();
+            fail("Expected the parse failure to be rethrown by the event");
+        }
+        catch (DmlParserException e) {
+            assertThat(e.getMessage()).isEqualTo("Failed to parse");
+        }
+
+        try {
+            parser.drain((redoSql, dmlEntry, parseTime) -> fail("No statement was parsed successfully"));
+            fail("Expected the parse failure to be rethrown when draining");
+        }
+        catch (DmlParserException e) {
+            assertThat(e.getMessage()).isEqualTo("Failed to parse");
+        }
+    }
+
+    private static LogMinerEventRow row(String transactionId, String redoSql) {
+        final LogMinerEventRow row = Mockito.mock(LogMinerEventRow.class);
+        Mockito.when(row.getTransactionId()).thenReturn(transactionId);
+        Mockito.when(row.getRedoSql()).thenReturn(redoSql);
+        return row;
+    }
+
+    private static LogMinerDmlEntry entry(int value) {
+        return LogMinerDmlEntryImpl.forInsert(new Object[]{ value });
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(30, TimeUnit.SECONDS)).isTrue();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
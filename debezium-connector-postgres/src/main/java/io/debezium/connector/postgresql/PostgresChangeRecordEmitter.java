@@ -173,7 +173,8 @@ private Object[] columnValues(List<ReplicationMessage.Column> columns, TableId t
             undeliveredToastableColumns.remove(columnName);
 
             int position = getPosition(columnName, table, values);
-            if (position != -1) {
+            // The values of excluded columns are not part of the change event, so they are never decoded
+            if (position != -1 && schema.isColumnIncluded(table.id(), columnName)) {
                 Object value = column.getValue(() -> (BaseConnection) connection.connection(), connectorConfig.includeUnknownDatatypes());
                 if (sourceOfToasted) {
                     cachedOldToastedValues.put(columnName, value);
@@ -469,6 +469,7 @@ public static SchemaRefreshMode parse(String value) {
     protected static final int DEFAULT_PORT = 5_432;
     protected static final int DEFAULT_SNAPSHOT_FETCH_SIZE = 10_240;
     protected static final int DEFAULT_MAX_RETRIES = 6;
+    protected static final long DEFAULT_STREAMING_BUFFER_SIZE = 64 * 1024 * 1024;
 
     public static final Field PORT = RelationalDatabaseConnectorConfig.PORT
             .withDefault(DEFAULT_PORT);
@@ -596,6 +597,43 @@ public static AutoCreateMode parse(String value, String defaultValue) {
                             "the current filter configuration (see table/database include/exclude list properties). If the publication already" +
                             " exists, it will be used. i.e CREATE PUBLICATION <publication_name> FOR TABLE <tbl1, tbl2, etc>");
 
+    public static final Field PLUGIN_BINARY_ENABLED = Field.create("plugin.binary.enabled")
+            .withDisplayName("Stream values in binary format")
+            .withType(Type.BOOLEAN)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTION_ADVANCED_REPLICATION, 10))
+            .withDefault(false)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("Applies only when streaming changes using pgoutput from PostgreSQL 14 or later. " +
+                    "Whether the values of the captured columns should be streamed in their binary instead of their text representation, " +
+                    "which avoids formatting and parsing them, e.g. for numeric and temporal values. " +
+                    "If any captured column has a type whose binary representation cannot be decoded, the text representation is streamed instead.")
+            .withValidation(Field::isBoolean);
+
+    public static final Field PLUGIN_STREAMING_ENABLED = Field.create("plugin.streaming.enabled")
+            .withDisplayName("Stream in-progress transactions")
+            .withType(Type.BOOLEAN)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTION_ADVANCED_REPLICATION, 11))
+            .withDefault(false)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("Applies only when streaming changes using pgoutput from PostgreSQL 14 or later. " +
+                    "Whether large transactions should be streamed by the server while they are in progress instead of after they have committed, " +
+                    "which avoids the server spilling them to disk and sending them all at once. " +
+                    "The connector buffers the changes of such transactions until they commit, see 'plugin.streaming.buffer.size'.")
+            .withValidation(Field::isBoolean);
+
+    public static final Field PLUGIN_STREAMING_BUFFER_SIZE = Field.create("plugin.streaming.buffer.size")
+            .withDisplayName("Buffer size for in-progress transactions")
+            .withType(Type.LONG)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTION_ADVANCED_REPLICATION, 12))
+            .withDefault(DEFAULT_STREAMING_BUFFER_SIZE)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("The maximum number of bytes of the changes of in-progress transactions which are buffered in memory " +
+                    "when 'plugin.streaming.enabled' is set. Further changes are buffered in temporary files until their transaction commits.")
+            .withValidation(Field::isPositiveLong);
+
     public static final Field STREAM_PARAMS = Field.create("slot.stream.params")
             .withDisplayName("Optional parameters to pass to the logical decoder when the stream is started.")
             .withType(Type.STRING)
@@ -902,6 +940,18 @@ protected AutoCreateMode publicationAutocreateMode() {
         return AutoCreateMode.parse(getConfig().getString(PUBLICATION_AUTOCREATE_MODE));
     }
 
+    public boolean pluginBinaryEnabled() {
+        return getConfig().getBoolean(PLUGIN_BINARY_ENABLED);
+    }
+
+    public boolean pluginStreamingEnabled() {
+        return getConfig().getBoolean(PLUGIN_STREAMING_ENABLED);
+    }
+
+    public long pluginStreamingBufferSize() {
+        return getConfig().getLong(PLUGIN_STREAMING_BUFFER_SIZE);
+    }
+
     protected String streamParams() {
         return getConfig().getString(STREAM_PARAMS);
     }
@@ -981,6 +1031,9 @@ protected SourceInfoStructMaker<? extends AbstractSourceInfo> getSourceInfoStruc
                     SLOT_NAME,
                     PUBLICATION_NAME,
                     PUBLICATION_AUTOCREATE_MODE,
+                    PLUGIN_BINARY_ENABLED,
+                    PLUGIN_STREAMING_ENABLED,
+                    PLUGIN_STREAMING_BUFFER_SIZE,
                     DROP_SLOT_ON_STOP,
                     STREAM_PARAMS,
                     ON_CONNECT_STATEMENTS,
@@ -36,6 +36,7 @@
 import io.debezium.pipeline.ErrorHandler;
 import io.debezium.pipeline.metrics.DefaultChangeEventSourceMetricsFactory;
 import io.debezium.pipeline.spi.Offsets;
+import io.debezium.relational.RelationalDatabaseConnectorConfig.QueueImplementation;
 import io.debezium.relational.TableId;
 import io.debezium.spi.topic.TopicNamingStrategy;
 import io.debezium.util.Clock;
@@ -161,6 +162,11 @@ public ChangeEventSourceCoordinator<PostgresPartition, PostgresOffsetContext> st
                     .maxBatchSize(connectorConfig.getMaxBatchSize())
                     .maxQueueSize(connectorConfig.getMaxQueueSize())
                     .maxQueueSizeInBytes(connectorConfig.getMaxQueueSizeInBytes())
+                    .adaptiveBatching(connectorConfig.isAdaptiveBatchingEnabled())
+                    .minBatchSize(connectorConfig.getAdaptiveBatchingMinBatchSize())
+                    .minPollInterval(connectorConfig.getAdaptiveBatchingMinPollInterval())
+                    .ringBuffer(connectorConfig.getQueueImplementation() == QueueImplementation.RING_BUFFER)
+                    .conversionThreads(connectorConfig.getConversionThreads(), PostgresConnector.class, connectorConfig.getLogicalName())
                     .loggingContextSupplier(() -> taskContext.configureLoggingContext(CONTEXT_NAME))
                     .build();
 
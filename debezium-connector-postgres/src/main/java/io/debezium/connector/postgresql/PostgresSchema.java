@@ -46,6 +46,8 @@ public class PostgresSchema extends RelationalDatabaseSchema {
 
     private final Map<TableId, List<String>> tableIdToToastableColumns;
     private final Map<Integer, TableId> relationIdToTableId;
+    private final Map<TableId, Map<String, Boolean>> tableIdToIncludedColumns;
+    private final Tables.ColumnNameFilter columnFilter;
     private final boolean readToastableColumns;
 
     /**
@@ -61,6 +63,8 @@ protected PostgresSchema(PostgresConnectorConfig config, PostgresDefaultValueCon
 
         this.tableIdToToastableColumns = new HashMap<>();
         this.relationIdToTableId = new HashMap<>();
+        this.tableIdToIncludedColumns = new HashMap<>();
+        this.columnFilter = config.getColumnFilter();
         this.readToastableColumns = config.skipRefreshSchemaOnMissingToastableData();
     }
 
@@ -209,6 +213,19 @@ public List<String> getToastableColumnsForTableId(TableId tableId) {
         return tableIdToToastableColumns.getOrDefault(tableId, Collections.emptyList());
     }
 
+    /**
+     * Returns whether the values of the given column are part of the change events of its table, i.e. whether the
+     * column is included by the column filter. The outcome is cached, as it is checked for each column of each change.
+     *
+     * @param tableId the table of the column
+     * @param columnName the name of the column
+     * @return {@code true} if the column is included, {@code false} otherwise
+     */
+    public boolean isColumnIncluded(TableId tableId, String columnName) {
+        return tableIdToIncludedColumns.computeIfAbsent(tableId, id -> new HashMap<>())
+                .computeIfAbsent(columnName, name -> columnFilter.matches(tableId.catalog(), tableId.schema(), tableId.table(), name));
+    }
+
     /**
      * Applies schema changes for the specified table.
      *
@@ -20,6 +20,7 @@
 import io.debezium.connector.postgresql.spi.SlotCreationResult;
 import io.debezium.connector.postgresql.spi.SlotState;
 import io.debezium.connector.postgresql.spi.Snapshotter;
+import io.debezium.jdbc.JdbcConnection;
 import io.debezium.pipeline.EventDispatcher;
 import io.debezium.pipeline.source.spi.SnapshotProgressListener;
 import io.debezium.relational.RelationalSnapshotChangeEventSource;
@@ -91,6 +92,28 @@ protected void connectionCreated(RelationalSnapshotContext<PostgresPartition, Po
         schema.refresh(jdbcConnection, false);
     }
 
+    @Override
+    protected Optional<JdbcConnection> createSnapshotWorkerConnection(RelationalSnapshotContext<PostgresPartition, PostgresOffsetContext> snapshotContext)
+            throws SQLException {
+        // The snapshot of the main transaction is exported and imported by the worker transaction,
+        // so both see exactly the same data; the main transaction must stay open while the snapshot is in use
+        final String snapshotName = jdbcConnection.queryAndMap("SELECT pg_export_snapshot()", rs -> rs.next() ? rs.getString(1) : null);
+        LOGGER.debug("Importing exported snapshot '{}' into snapshot worker connection", snapshotName);
+
+        final PostgresConnection workerConnection = new PostgresConnection(connectorConfig, jdbcConnection.getTypeRegistry(),
+                PostgresConnection.CONNECTION_SNAPSHOT_WORKER);
+        try {
+            workerConnection.setAutoCommit(false);
+            workerConnection.executeWithoutCommitting("SET TRANSACTION ISOLATION LEVEL REPEATABLE READ, READ ONLY;");
+            workerConnection.executeWithoutCommitting("SET TRANSACTION SNAPSHOT '" + snapshotName + "';");
+        }
+        catch (SQLException e) {
+            workerConnection.close();
+            throw e;
+        }
+        return Optional.of(workerConnection);
+    }
+
     @Override
     protected Set<TableId> getAllTableIds(RelationalSnapshotContext<PostgresPartition, PostgresOffsetContext> ctx)
             throws Exception {
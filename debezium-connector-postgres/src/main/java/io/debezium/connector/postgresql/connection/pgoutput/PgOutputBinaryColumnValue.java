@@ -0,0 +1,443 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql.connection.pgoutput;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import org.postgresql.geometric.PGbox;
+import org.postgresql.geometric.PGcircle;
+import org.postgresql.geometric.PGline;
+import org.postgresql.geometric.PGlseg;
+import org.postgresql.geometric.PGpath;
+import org.postgresql.geometric.PGpoint;
+import org.postgresql.geometric.PGpolygon;
+import org.postgresql.jdbc.PgArray;
+import org.postgresql.util.PGInterval;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.DebeziumException;
+import io.debezium.connector.postgresql.PostgresStreamingChangeEventSource.PgConnectionSupplier;
+import io.debezium.connector.postgresql.PostgresType;
+import io.debezium.connector.postgresql.PostgresValueConverter;
+import io.debezium.connector.postgresql.TypeRegistry;
+import io.debezium.connector.postgresql.connection.AbstractColumnValue;
+import io.debezium.data.SpecialValueDecimal;
+import io.debezium.util.HexConverter;
+
+/**
+ * A column value sent by pgoutput in the binary format of its type's {@code send} function, i.e. when the replication
+ * slot has been started with the {@code binary} option. Values are decoded directly into the representations the text
+ * format is parsed into, which avoids formatting them as text on the server and parsing that text here.
+ * <p>
+ * Only the types listed in {@link #isSupported(PostgresType)} can be decoded.
+ */
+class PgOutputBinaryColumnValue extends AbstractColumnValue<byte[]> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PgOutputBinaryColumnValue.class);
+
+    private static final LocalDate PG_EPOCH_DATE = LocalDate.of(2000, 1, 1);
+    private static final Instant PG_EPOCH = PG_EPOCH_DATE.atStartOfDay().toInstant(ZoneOffset.UTC);
+
+    private static final short NUMERIC_NEGATIVE = 0x4000;
+    private static final short NUMERIC_NAN = (short) 0xC000;
+    private static final short NUMERIC_POSITIVE_INFINITY = (short) 0xD000;
+    private static final short NUMERIC_NEGATIVE_INFINITY = (short) 0xF000;
+    private static final int NUMERIC_DIGITS_PER_WORD = 4;
+    private static final int NUMERIC_LONG_WORDS = 4;
+
+    /**
+     * The types whose binary representation is a version byte followed by the text representation.
+     */
+    private static final Set<String> VERSIONED_TEXT_TYPES = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            "jsonb", TypeRegistry.TYPE_NAME_LTREE)));
+
+    /**
+     * The types whose binary representation is their text representation.
+     */
+    private static final Set<String> TEXT_TYPES = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            "text", "varchar", "bpchar", "char", "name", "json", "xml", TypeRegistry.TYPE_NAME_CITEXT)));
+
+    private static final Set<String> SUPPORTED_TYPES;
+
+    /**
+     * The element types of arrays which the JDBC driver can decode from their binary representation.
+     */
+    private static final Set<String> SUPPORTED_ARRAY_ELEMENT_TYPES = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            "bool", "int2", "int4", "int8", "oid", "float4", "float8", "text", "varchar", "bytea")));
+
+    static {
+        final Set<String> types = new HashSet<>(Arrays.asList(
+                "bool", "int2", "int4", "int8", "oid", "float4", "float8", "numeric",
+                "date", "time", "timetz", "timestamp", "timestamptz", "interval",
+                "bytea", "uuid", "bit", "varbit", "macaddr", "macaddr8",
+                "box", "circle", "line", "lseg", "path", "point", "polygon",
+                TypeRegistry.TYPE_NAME_GEOMETRY, TypeRegistry.TYPE_NAME_GEOGRAPHY, TypeRegistry.TYPE_NAME_HSTORE));
+        types.addAll(TEXT_TYPES);
+        types.addAll(VERSIONED_TEXT_TYPES);
+        SUPPORTED_TYPES = Collections.unmodifiableSet(types);
+    }
+
+    private final byte[] value;
+    private final PostgresType type;
+
+    /**
+     * @param value the binary value as sent by the server; may not be null
+     * @param type the type of the column; may not be null
+     */
+    PgOutputBinaryColumnValue(byte[] value, PostgresType type) {
+        this.value = value;
+        this.type = type.getRootType();
+    }
+
+    /**
+     * Returns whether values of the given type can be decoded from their binary representation.
+     *
+     * @param type the column type; may not be null
+     * @return {@code true} if the type or, for domain types, the type the domain is based on can be decoded
+     */
+    static boolean isSupported(PostgresType type) {
+        final PostgresType rootType = type.getRootType();
+        if (rootType.isArrayType()) {
+            return SUPPORTED_ARRAY_ELEMENT_TYPES.contains(rootType.getElementType().getName());
+        }
+        return rootType.isEnumType() || SUPPORTED_TYPES.contains(rootType.getName());
+    }
+
+    @Override
+    public byte[] getRawValue() {
+        return value;
+    }
+
+    @Override
+    public boolean isNull() {
+        return value == null;
+    }
+
+    @Override
+    public String asString() {
+        final String typeName = type.getName();
+        if (type.isEnumType() || TEXT_TYPES.contains(typeName)) {
+            return new String(value, StandardCharsets.UTF_8);
+        }
+        else if (VERSIONED_TEXT_TYPES.contains(typeName)) {
+            return new String(value, 1, value.length - 1, StandardCharsets.UTF_8);
+        }
+        switch (typeName) {
+            case "uuid":
+                final ByteBuffer buffer = ByteBuffer.wrap(value);
+                return new UUID(buffer.getLong(), buffer.getLong()).toString();
+            case TypeRegistry.TYPE_NAME_GEOMETRY:
+            case TypeRegistry.TYPE_NAME_GEOGRAPHY:
+                // the binary representation is the EWKB the text representation is the hex encoding of
+                return HexConverter.convertToHexString(value);
+            case TypeRegistry.TYPE_NAME_HSTORE:
+                return hstoreAsString();
+            case "bit":
+            case "varbit":
+                return bitsAsString();
+            case "macaddr":
+            case "macaddr8":
+                return macAddressAsString();
+            default:
+                throw new DebeziumException("Binary values of type '" + typeName + "' cannot be decoded");
+        }
+    }
+
+    @Override
+    public Boolean asBoolean() {
+        return value[0] != 0;
+    }
+
+    @Override
+    public Integer asInteger() {
+        // both int2 and int4 are resolved as integers
+        final ByteBuffer buffer = ByteBuffer.wrap(value);
+        return value.length == Short.BYTES ? buffer.getShort() : buffer.getInt();
+    }
+
+    @Override
+    public Long asLong() {
+        // oid is an unsigned int4
+        final ByteBuffer buffer = ByteBuffer.wrap(value);
+        return value.length == Integer.BYTES ? Integer.toUnsignedLong(buffer.getInt()) : buffer.getLong();
+    }
+
+    @Override
+    public Float asFloat() {
+        return ByteBuffer.wrap(value).getFloat();
+    }
+
+    @Override
+    public Double asDouble() {
+        return ByteBuffer.wrap(value).getDouble();
+    }
+
+    @Override
+    public SpecialValueDecimal asDecimal() {
+        // ndigits, weight, sign and display scale, followed by ndigits base 10000 digits
+        final ByteBuffer buffer = ByteBuffer.wrap(value);
+        final int ndigits = buffer.getShort();
+        final int weight = buffer.getShort();
+        final short sign = buffer.getShort();
+        final int dscale = buffer.getShort();
+
+        switch (sign) {
+            case NUMERIC_NAN:
+                return SpecialValueDecimal.NOT_A_NUMBER;
+            case NUMERIC_POSITIVE_INFINITY:
+                return SpecialValueDecimal.POSITIVE_INF;
+            case NUMERIC_NEGATIVE_INFINITY:
+                return SpecialValueDecimal.NEGATIVE_INF;
+            default:
+                break;
+        }
+
+        BigDecimal decimal;
+        if (ndigits <= NUMERIC_LONG_WORDS) {
+            long unscaled = 0;
+            for (int i = 0; i < ndigits; i++) {
+                unscaled = unscaled * 10000 + buffer.getShort();
+            }
+            decimal = BigDecimal.valueOf(unscaled, (ndigits - 1 - weight) * NUMERIC_DIGITS_PER_WORD);
+        }
+        else {
+            final BigInteger base = BigInteger.valueOf(10000);
+            BigInteger unscaled = BigInteger.ZERO;
+            for (int i = 0; i < ndigits; i++) {
+                unscaled = unscaled.multiply(base).add(BigInteger.valueOf(buffer.getShort()));
+            }
+            decimal = new BigDecimal(unscaled, (ndigits - 1 - weight) * NUMERIC_DIGITS_PER_WORD);
+        }
+
+        // the words beyond the display scale only contain trailing zeros
+        decimal = decimal.setScale(dscale, RoundingMode.UNNECESSARY);
+        return new SpecialValueDecimal(sign == NUMERIC_NEGATIVE ? decimal.negate() : decimal);
+    }
+
+    @Override
+    public byte[] asByteArray() {
+        return value;
+    }
+
+    @Override
+    public LocalDate asLocalDate() {
+        final int days = ByteBuffer.wrap(value).getInt();
+        if (days == Integer.MAX_VALUE) {
+            return PostgresValueConverter.POSITIVE_INFINITY_LOCAL_DATE;
+        }
+        else if (days == Integer.MIN_VALUE) {
+            return PostgresValueConverter.NEGATIVE_INFINITY_LOCAL_DATE;
+        }
+        return PG_EPOCH_DATE.plusDays(days);
+    }
+
+    @Override
+    public Object asTime() {
+        // the value may be 24:00:00, which is not a valid local time
+        return Duration.of(ByteBuffer.wrap(value).getLong(), ChronoUnit.MICROS);
+    }
+
+    @Override
+    public Object asLocalTime() {
+        return LocalTime.ofNanoOfDay(ByteBuffer.wrap(value).getLong() * 1_000);
+    }
+
+    @Override
+    public OffsetTime asOffsetTimeUtc() {
+        // the zone is given in seconds west of UTC
+        final ByteBuffer buffer = ByteBuffer.wrap(value);
+        final LocalTime time = LocalTime.ofNanoOfDay(buffer.getLong() * 1_000);
+        return OffsetTime.of(time, ZoneOffset.ofTotalSeconds(-buffer.getInt())).withOffsetSameInstant(ZoneOffset.UTC);
+    }
+
+    @Override
+    public OffsetDateTime asOffsetDateTimeAtUtc() {
+        final long micros = ByteBuffer.wrap(value).getLong();
+        if (micros == Long.MAX_VALUE) {
+            return PostgresValueConverter.POSITIVE_INFINITY_OFFSET_DATE_TIME;
+        }
+        else if (micros == Long.MIN_VALUE) {
+            return PostgresValueConverter.NEGATIVE_INFINITY_OFFSET_DATE_TIME;
+        }
+        return OffsetDateTime.ofInstant(PG_EPOCH.plus(micros, ChronoUnit.MICROS), ZoneOffset.UTC);
+    }
+
+    @Override
+    public Instant asInstant() {
+        final long micros = ByteBuffer.wrap(value).getLong();
+        if (micros == Long.MAX_VALUE) {
+            return PostgresValueConverter.POSITIVE_INFINITY_INSTANT;
+        }
+        else if (micros == Long.MIN_VALUE) {
+            return PostgresValueConverter.NEGATIVE_INFINITY_INSTANT;
+        }
+        return PG_EPOCH.plus(micros, ChronoUnit.MICROS);
+    }
+
+    @Override
+    public Object asInterval() {
+        final ByteBuffer buffer = ByteBuffer.wrap(value);
+        final long micros = buffer.getLong();
+        final int days = buffer.getInt();
+        final int months = buffer.getInt();
+        return new PGInterval(months / 12, months % 12, days, (int) (micros / 3_600_000_000L), (int) (micros % 3_600_000_000L / 60_000_000L),
+                micros % 60_000_000L / 1_000_000.0);
+    }
+
+    @Override
+    public PGbox asBox() {
+        final ByteBuffer buffer = ByteBuffer.wrap(value);
+        return new PGbox(readPoint(buffer), readPoint(buffer));
+    }
+
+    @Override
+    public PGcircle asCircle() {
+        final ByteBuffer buffer = ByteBuffer.wrap(value);
+        return new PGcircle(readPoint(buffer), buffer.getDouble());
+    }
+
+    @Override
+    public PGline asLine() {
+        final ByteBuffer buffer = ByteBuffer.wrap(value);
+        return new PGline(buffer.getDouble(), buffer.getDouble(), buffer.getDouble());
+    }
+
+    @Override
+    public PGlseg asLseg() {
+        final ByteBuffer buffer = ByteBuffer.wrap(value);
+        return new PGlseg(readPoint(buffer), readPoint(buffer));
+    }
+
+    @Override
+    public PGpath asPath() {
+        final ByteBuffer buffer = ByteBuffer.wrap(value);
+        final boolean closed = buffer.get() != 0;
+        return new PGpath(readPoints(buffer), !closed);
+    }
+
+    @Override
+    public PGpoint asPoint() {
+        return readPoint(ByteBuffer.wrap(value));
+    }
+
+    @Override
+    public PGpolygon asPolygon() {
+        return new PGpolygon(readPoints(ByteBuffer.wrap(value)));
+    }
+
+    @Override
+    public Object asArray(String columnName, PostgresType type, String fullType, PgConnectionSupplier connection) {
+        try {
+            return new PgArray(connection.get(), type.getOid(), value);
+        }
+        catch (SQLException e) {
+            LOGGER.warn("Unexpected exception trying to process PgArray ({}) column '{}', {}", fullType, columnName, e);
+        }
+        return null;
+    }
+
+    @Override
+    public Object asDefault(TypeRegistry typeRegistry, int columnType, String columnName, String fullType, boolean includeUnknownDatatypes,
+                            PgConnectionSupplier connection) {
+        if (isSupported(type)) {
+            return super.asDefault(typeRegistry, columnType, columnName, fullType, includeUnknownDatatypes, connection);
+        }
+        throw new DebeziumException("Column '" + columnName + "' of type '" + fullType + "' was received in binary format, which cannot be decoded for this type");
+    }
+
+    private static PGpoint readPoint(ByteBuffer buffer) {
+        return new PGpoint(buffer.getDouble(), buffer.getDouble());
+    }
+
+    private static PGpoint[] readPoints(ByteBuffer buffer) {
+        final PGpoint[] points = new PGpoint[buffer.getInt()];
+        for (int i = 0; i < points.length; i++) {
+            points[i] = readPoint(buffer);
+        }
+        return points;
+    }
+
+    private String hstoreAsString() {
+        // the number of pairs, followed by the length prefixed keys and values, where a value length of -1 denotes null
+        final ByteBuffer buffer = ByteBuffer.wrap(value);
+        final int count = buffer.getInt();
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            appendHstoreString(sb, readString(buffer, buffer.getInt()));
+            sb.append("=>");
+            final int valueLength = buffer.getInt();
+            if (valueLength < 0) {
+                sb.append("NULL");
+            }
+            else {
+                appendHstoreString(sb, readString(buffer, valueLength));
+            }
+        }
+        return sb.toString();
+    }
+
+    private static void appendHstoreString(StringBuilder sb, String s) {
+        sb.append('"');
+        for (int i = 0; i < s.length(); i++) {
+            final char c = s.charAt(i);
+            if (c == '"' || c == '\\') {
+                sb.append('\\');
+            }
+            sb.append(c);
+        }
+        sb.append('"');
+    }
+
+    private static String readString(ByteBuffer buffer, int length) {
+        final String s = new String(buffer.array(), buffer.position(), length, StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length);
+        return s;
+    }
+
+    private String bitsAsString() {
+        // the number of bits, followed by the bits, most significant first
+        final ByteBuffer buffer = ByteBuffer.wrap(value);
+        final int length = buffer.getInt();
+        final char[] bits = new char[length];
+        for (int i = 0; i < length; i++) {
+            bits[i] = (value[Integer.BYTES + i / 8] & (0x80 >>> (i % 8))) != 0 ? '1' : '0';
+        }
+        return new String(bits);
+    }
+
+    private String macAddressAsString() {
+        final StringBuilder sb = new StringBuilder(value.length * 3);
+        for (int i = 0; i < value.length; i++) {
+            if (i > 0) {
+                sb.append(':');
+            }
+            sb.append(Character.forDigit((value[i] >> 4) & 0x0F, 16)).append(Character.forDigit(value[i] & 0x0F, 16));
+        }
+        return sb.toString();
+    }
+}
@@ -8,7 +8,6 @@
 import static java.util.stream.Collectors.toMap;
 
 import java.nio.ByteBuffer;
-import java.nio.charset.Charset;
 import java.sql.DatabaseMetaData;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -30,6 +29,8 @@
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.debezium.DebeziumException;
+import io.debezium.connector.postgresql.PostgresConnectorConfig;
 import io.debezium.connector.postgresql.PostgresStreamingChangeEventSource.PgConnectionSupplier;
 import io.debezium.connector.postgresql.PostgresType;
 import io.debezium.connector.postgresql.TypeRegistry;
@@ -43,6 +44,7 @@
 import io.debezium.connector.postgresql.connection.ReplicationMessage.Column;
 import io.debezium.connector.postgresql.connection.ReplicationMessage.NoopMessage;
 import io.debezium.connector.postgresql.connection.ReplicationMessage.Operation;
+import io.debezium.connector.postgresql.connection.ReplicationMessageColumnValueResolver;
 import io.debezium.connector.postgresql.connection.ReplicationStream.ReplicationMessageProcessor;
 import io.debezium.connector.postgresql.connection.TransactionMessage;
 import io.debezium.connector.postgresql.connection.WalPositionLocator;
@@ -69,6 +71,12 @@ public class PgOutputMessageDecoder extends AbstractMessageDecoder {
 
     private final MessageDecoderContext decoderContext;
     private final PostgresConnection connection;
+    private final PgOutputStreamedTransactions streamedTransactions;
+
+    /**
+     * The transaction whose chunk of streamed messages is currently received, null outside of such chunks
+     */
+    private Long streamedTransactionId;
 
     private Instant commitTimestamp;
 
@@ -87,7 +95,11 @@ public enum MessageType {
         TYPE,
         ORIGIN,
         TRUNCATE,
-        LOGICAL_DECODING_MESSAGE;
+        LOGICAL_DECODING_MESSAGE,
+        STREAM_START,
+        STREAM_STOP,
+        STREAM_COMMIT,
+        STREAM_ABORT;
 
         public static MessageType forType(char type) {
             switch (type) {
@@ -111,6 +123,14 @@ public static MessageType forType(char type) {
                     return TRUNCATE;
                 case 'M':
                     return LOGICAL_DECODING_MESSAGE;
+                case 'S':
+                    return STREAM_START;
+                case 'E':
+                    return STREAM_STOP;
+                case 'c':
+                    return STREAM_COMMIT;
+                case 'A':
+                    return STREAM_ABORT;
                 default:
                     throw new IllegalArgumentException("Unsupported message type: " + type);
             }
@@ -120,6 +140,7 @@ public static MessageType forType(char type) {
     public PgOutputMessageDecoder(MessageDecoderContext decoderContext, PostgresConnection connection) {
         this.decoderContext = decoderContext;
         this.connection = connection;
+        this.streamedTransactions = new PgOutputStreamedTransactions(decoderContext.getConfig().pluginStreamingBufferSize());
     }
 
     @Override
@@ -130,6 +151,22 @@ public boolean shouldMessageBeSkipped(ByteBuffer buffer, Lsn lastReceivedLsn, Ls
         try {
             MessageType type = MessageType.forType((char) buffer.get());
             LOGGER.trace("Message Type: {}", type);
+            if (type == MessageType.STREAM_COMMIT) {
+                // STREAM_COMMIT
+                // All messages of a streamed transaction are processed at the LSN of its commit, so the transaction
+                // is skipped as a whole if it has been processed before; its buffered messages are discarded then
+                if (super.shouldMessageBeSkipped(buffer, lastReceivedLsn, startLsn, walPosition)) {
+                    streamedTransactions.discard(Integer.toUnsignedLong(buffer.getInt()));
+                    return true;
+                }
+                return false;
+            }
+            if (isStreamMessage(type) || streamedTransactionId != null) {
+                // STREAM_START/STREAM_STOP/STREAM_ABORT and the messages of a streamed transaction
+                // These are always buffered, the transaction is checked for being skipped once it commits
+                LOGGER.trace("{} messages of streamed transactions are always buffered", type);
+                return false;
+            }
             final boolean candidateForSkipping = super.shouldMessageBeSkipped(buffer, lastReceivedLsn, startLsn, walPosition);
             switch (type) {
                 case COMMIT:
@@ -158,6 +195,11 @@ public boolean shouldMessageBeSkipped(ByteBuffer buffer, Lsn lastReceivedLsn, Ls
         }
     }
 
+    private static boolean isStreamMessage(MessageType type) {
+        return type == MessageType.STREAM_START || type == MessageType.STREAM_STOP || type == MessageType.STREAM_COMMIT
+                || type == MessageType.STREAM_ABORT;
+    }
+
     @Override
     public void processNotEmptyMessage(ByteBuffer buffer, ReplicationMessageProcessor processor, TypeRegistry typeRegistry) throws SQLException, InterruptedException {
         if (LOGGER.isTraceEnabled()) {
@@ -174,6 +216,40 @@ public void processNotEmptyMessage(ByteBuffer buffer, ReplicationMessageProcesso
         }
 
         final MessageType messageType = MessageType.forType((char) buffer.get());
+        switch (messageType) {
+            case STREAM_START:
+                handleStreamStartMessage(buffer);
+                break;
+            case STREAM_STOP:
+                LOGGER.trace("Event: {}", messageType);
+                streamedTransactionId = null;
+                break;
+            case STREAM_COMMIT:
+                handleStreamCommitMessage(buffer, processor, typeRegistry);
+                break;
+            case STREAM_ABORT:
+                handleStreamAbortMessage(buffer);
+                break;
+            default:
+                if (streamedTransactionId != null) {
+                    // Within a chunk of a streamed transaction, each message is prefixed with the id of its
+                    // (sub-)transaction; the message is buffered without it, to be decoded once the transaction commits
+                    final byte type = buffer.get(buffer.position() - 1);
+                    final long subTransactionId = Integer.toUnsignedLong(buffer.getInt());
+                    final byte[] message = new byte[1 + buffer.remaining()];
+                    message[0] = type;
+                    buffer.get(message, 1, buffer.remaining());
+                    streamedTransactions.add(streamedTransactionId, subTransactionId, message);
+                }
+                else {
+                    handleMessage(messageType, buffer, processor, typeRegistry);
+                }
+                break;
+        }
+    }
+
+    private void handleMessage(MessageType messageType, ByteBuffer buffer, ReplicationMessageProcessor processor, TypeRegistry typeRegistry)
+            throws SQLException, InterruptedException {
         switch (messageType) {
             case BEGIN:
                 handleBeginMessage(buffer, processor);
@@ -212,17 +288,50 @@ public void processNotEmptyMessage(ByteBuffer buffer, ReplicationMessageProcesso
 
     @Override
     public ChainedLogicalStreamBuilder defaultOptions(ChainedLogicalStreamBuilder builder, Function<Integer, Boolean> hasMinimumServerVersion) {
-        builder = builder.withSlotOption("proto_version", 1)
+        // A (re)started stream sends in-progress transactions again, starting with their first chunk
+        streamedTransactionId = null;
+        streamedTransactions.close();
+
+        // Protocol version 2 adds the streaming of in-progress transactions, supported as of PG14
+        final boolean streaming = decoderContext.getConfig().pluginStreamingEnabled() && hasMinimumServerVersion.apply(140000);
+        builder = builder.withSlotOption("proto_version", streaming ? 2 : 1)
                 .withSlotOption("publication_names", decoderContext.getConfig().publicationName());
 
         // DBZ-4374 Use enum once the driver got updated
         if (hasMinimumServerVersion.apply(140000)) {
             builder = builder.withSlotOption("messages", true);
+
+            if (streaming) {
+                builder = builder.withSlotOption("streaming", true);
+            }
+
+            if (decoderContext.getConfig().pluginBinaryEnabled() && isBinaryFormatSupportedByCapturedTables()) {
+                builder = builder.withSlotOption("binary", true);
+            }
         }
 
         return builder;
     }
 
+    /**
+     * Returns whether the values of all columns of the captured tables can be decoded from their binary representation.
+     * If not, the stream falls back to the text representation of all values, as the format cannot be chosen per type.
+     */
+    private boolean isBinaryFormatSupportedByCapturedTables() {
+        final TypeRegistry typeRegistry = connection.getTypeRegistry();
+        for (TableId tableId : decoderContext.getSchema().tableIds()) {
+            for (io.debezium.relational.Column column : decoderContext.getSchema().tableFor(tableId).columns()) {
+                if (!PgOutputBinaryColumnValue.isSupported(typeRegistry.get(column.typeName()))) {
+                    LOGGER.warn("Values of column '{}.{}' of type '{}' cannot be decoded from their binary representation, "
+                            + "the text representation will be streamed for all values", tableId, column.name(), column.typeName());
+                    return false;
+                }
+            }
+        }
+        LOGGER.info("Streaming values in their binary representation");
+        return true;
+    }
+
     private boolean isTruncateEventsIncluded() {
         return !decoderContext.getConfig().getSkippedOperations().contains(Envelope.Operation.TRUNCATE);
     }
@@ -263,6 +372,69 @@ private void handleCommitMessage(ByteBuffer buffer, ReplicationMessageProcessor
         processor.process(new TransactionMessage(Operation.COMMIT, transactionId, commitTimestamp));
     }
 
+    /**
+     * Callback handler for the 'S' stream start replication message.
+     *
+     * @param buffer The replication stream buffer
+     */
+    private void handleStreamStartMessage(ByteBuffer buffer) {
+        final long transactionId = Integer.toUnsignedLong(buffer.getInt());
+        final boolean firstSegment = buffer.get() == 1;
+        LOGGER.trace("Event: {}", MessageType.STREAM_START);
+        LOGGER.trace("XID of transaction: {}", transactionId);
+        LOGGER.trace("First segment: {}", firstSegment);
+        streamedTransactions.startChunk(transactionId, firstSegment);
+        streamedTransactionId = transactionId;
+    }
+
+    /**
+     * Callback handler for the 'c' stream commit replication message. The buffered messages of the transaction are
+     * processed as if they had been received in between a BEGIN and a COMMIT message at the position of this message.
+     * <p>
+     * The messages cannot be processed at the positions they have been received at, as these precede the commits of
+     * transactions which have been processed in the meantime. Only the COMMIT completes the position, so that the
+     * whole transaction is processed again if the connector is restarted before it has been processed completely.
+     *
+     * @param buffer The replication stream buffer
+     * @param processor The replication message processor
+     * @param typeRegistry The postgres type registry
+     */
+    private void handleStreamCommitMessage(ByteBuffer buffer, ReplicationMessageProcessor processor, TypeRegistry typeRegistry)
+            throws SQLException, InterruptedException {
+        final long transactionId = Integer.toUnsignedLong(buffer.getInt());
+        int flags = buffer.get(); // flags, currently unused
+        final Lsn commitLsn = Lsn.valueOf(buffer.getLong()); // LSN of the commit
+        final Lsn endLsn = Lsn.valueOf(buffer.getLong()); // End LSN of the transaction
+        final Instant commitTimestamp = PG_EPOCH.plus(buffer.getLong(), ChronoUnit.MICROS);
+        LOGGER.trace("Event: {}", MessageType.STREAM_COMMIT);
+        LOGGER.trace("XID of transaction: {}", transactionId);
+        LOGGER.trace("Flags: {} (currently unused and most likely 0)", flags);
+        LOGGER.trace("Commit LSN: {}", commitLsn);
+        LOGGER.trace("End LSN of transaction: {}", endLsn);
+        LOGGER.trace("Commit timestamp of transaction: {}", commitTimestamp);
+
+        this.transactionId = transactionId;
+        this.commitTimestamp = commitTimestamp;
+        processor.process(new TransactionMessage(Operation.BEGIN, transactionId, commitTimestamp));
+        streamedTransactions.commit(transactionId, message -> handleMessage(MessageType.forType((char) message.get()), message,
+                m -> processor.process(m.isLastEventForLsn() ? new PgOutputStreamedReplicationMessage(m) : m), typeRegistry));
+        processor.process(new TransactionMessage(Operation.COMMIT, transactionId, commitTimestamp));
+    }
+
+    /**
+     * Callback handler for the 'A' stream abort replication message.
+     *
+     * @param buffer The replication stream buffer
+     */
+    private void handleStreamAbortMessage(ByteBuffer buffer) {
+        final long transactionId = Integer.toUnsignedLong(buffer.getInt());
+        final long subTransactionId = Integer.toUnsignedLong(buffer.getInt());
+        LOGGER.trace("Event: {}", MessageType.STREAM_ABORT);
+        LOGGER.trace("XID of transaction: {}", transactionId);
+        LOGGER.trace("XID of sub-transaction: {}", subTransactionId);
+        streamedTransactions.abort(transactionId, subTransactionId);
+    }
+
     /**
      * Callback handler for the 'R' relation replication message.
      *
@@ -679,21 +851,9 @@ private static String readString(ByteBuffer buffer) {
         return sb.toString();
     }
 
-    /**
-     * Reads the replication stream where the column stream specifies a length followed by the value.
-     *
-     * @param buffer The replication stream buffer
-     * @return the column value as a string read from the replication stream
-     */
-    private static String readColumnValueAsString(ByteBuffer buffer) {
-        int length = buffer.getInt();
-        byte[] value = new byte[length];
-        buffer.get(value, 0, length);
-        return new String(value, Charset.forName("UTF-8"));
-    }
-
     /**
      * Resolve the replication stream's tuple data to a list of replication message columns.
+     * The column values are only decoded once they are requested.
      *
      * @param buffer The replication stream buffer
      * @param typeRegistry The database type registry
@@ -718,20 +878,42 @@ private static List<Column> resolveColumnsFromStreamTupleData(ByteBuffer buffer,
             // 't' : Value is represented as text
             // 'u' : An unchanged TOAST-ed value, actual value is not sent.
             // 'n' : Value is null.
+            // 'b' : Value is represented as binary, only sent if the stream was started with the binary option.
             char type = (char) buffer.get();
             if (type == 't') {
-                final String valueStr = readColumnValueAsString(buffer);
+                final PgOutputRawColumnValue value = PgOutputRawColumnValue.read(buffer);
+                columns.add(
+                        new AbstractReplicationMessageColumn(columnName, columnType, typeExpression, optional) {
+                            @Override
+                            public Object getValue(PgConnectionSupplier connection, boolean includeUnknownDatatypes) {
+                                return PgOutputReplicationMessage.getValue(columnName, columnType, typeExpression, value.asString(), connection,
+                                        includeUnknownDatatypes, typeRegistry);
+                            }
+
+                            @Override
+                            public String toString() {
+                                return columnName + "(" + typeExpression + ")=" + value.asString();
+                            }
+                        });
+            }
+            else if (type == 'b') {
+                if (!PgOutputBinaryColumnValue.isSupported(columnType)) {
+                    throw new DebeziumException("Column '" + columnName + "' of type '" + typeName + "' of table '" + table.id()
+                            + "' was received in binary format, which cannot be decoded for this type; disable the '"
+                            + PostgresConnectorConfig.PLUGIN_BINARY_ENABLED.name() + "' option to stream values of this type");
+                }
+                final PgOutputRawColumnValue value = PgOutputRawColumnValue.read(buffer);
                 columns.add(
                         new AbstractReplicationMessageColumn(columnName, columnType, typeExpression, optional) {
                             @Override
                             public Object getValue(PgConnectionSupplier connection, boolean includeUnknownDatatypes) {
-                                return PgOutputReplicationMessage.getValue(columnName, columnType, typeExpression, valueStr, connection, includeUnknownDatatypes,
-                                        typeRegistry);
+                                return ReplicationMessageColumnValueResolver.resolveValue(columnName, columnType, typeExpression,
+                                        new PgOutputBinaryColumnValue(value.asBytes(), columnType), connection, includeUnknownDatatypes, typeRegistry);
                             }
 
                             @Override
                             public String toString() {
-                                return columnName + "(" + typeExpression + ")=" + valueStr;
+                                return columnName + "(" + typeExpression + ")=<binary>";
                             }
                         });
             }
@@ -761,6 +943,7 @@ public Object getValue(PgConnectionSupplier connection, boolean includeUnknownDa
 
     @Override
     public void close() {
+        streamedTransactions.close();
         if (connection != null) {
             connection.close();
         }
@@ -0,0 +1,70 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql.connection.pgoutput;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import io.debezium.annotation.NotThreadSafe;
+
+/**
+ * The still encoded value of a column within the tuple data of a pgoutput replication message. The value refers to the
+ * bytes of the message rather than copying them, and is only decoded when requested, so that the values of columns
+ * which are never read, e.g. excluded ones, cost neither a copy nor a decoding.
+ */
+@NotThreadSafe
+class PgOutputRawColumnValue {
+
+    private final byte[] bytes;
+    private final int offset;
+    private final int length;
+    private String string;
+
+    private PgOutputRawColumnValue(byte[] bytes, int offset, int length) {
+        this.bytes = bytes;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    /**
+     * Reads a column value which is given by its length followed by its bytes, advancing the buffer past the value.
+     *
+     * @param buffer The replication stream buffer
+     * @return the column value, referring to the bytes of the buffer if it is backed by an array
+     */
+    static PgOutputRawColumnValue read(ByteBuffer buffer) {
+        final int length = buffer.getInt();
+        if (buffer.hasArray()) {
+            final PgOutputRawColumnValue value = new PgOutputRawColumnValue(buffer.array(), buffer.arrayOffset() + buffer.position(), length);
+            buffer.position(buffer.position() + length);
+            return value;
+        }
+        final byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new PgOutputRawColumnValue(bytes, 0, length);
+    }
+
+    /**
+     * @return the value decoded as UTF-8 text
+     */
+    String asString() {
+        if (string == null) {
+            string = new String(bytes, offset, length, StandardCharsets.UTF_8);
+        }
+        return string;
+    }
+
+    /**
+     * @return the bytes of the value
+     */
+    byte[] asBytes() {
+        if (offset == 0 && length == bytes.length) {
+            return bytes;
+        }
+        return Arrays.copyOfRange(bytes, offset, offset + length);
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql.connection.pgoutput;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.OptionalLong;
+
+import io.debezium.connector.postgresql.connection.ReplicationMessage;
+
+/**
+ * A change of a transaction that has been streamed by pgoutput before it committed. All changes of such a transaction
+ * are processed at the position of its commit, so none of them completes that position; only the COMMIT does.
+ *
+ * @see PgOutputStreamedTransactions
+ */
+class PgOutputStreamedReplicationMessage implements ReplicationMessage {
+
+    private final ReplicationMessage message;
+
+    PgOutputStreamedReplicationMessage(ReplicationMessage message) {
+        this.message = message;
+    }
+
+    @Override
+    public Operation getOperation() {
+        return message.getOperation();
+    }
+
+    @Override
+    public Instant getCommitTime() {
+        return message.getCommitTime();
+    }
+
+    @Override
+    public OptionalLong getTransactionId() {
+        return message.getTransactionId();
+    }
+
+    @Override
+    public String getTable() {
+        return message.getTable();
+    }
+
+    @Override
+    public List<Column> getOldTupleList() {
+        return message.getOldTupleList();
+    }
+
+    @Override
+    public List<Column> getNewTupleList() {
+        return message.getNewTupleList();
+    }
+
+    @Override
+    public boolean isLastEventForLsn() {
+        return false;
+    }
+
+    @Override
+    public boolean shouldSchemaBeSynchronized() {
+        return message.shouldSchemaBeSynchronized();
+    }
+
+    @Override
+    public boolean isTransactionalMessage() {
+        return message.isTransactionalMessage();
+    }
+
+    @Override
+    public String toString() {
+        return message.toString();
+    }
+}
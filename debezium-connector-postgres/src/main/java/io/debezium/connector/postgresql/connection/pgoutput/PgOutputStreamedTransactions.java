@@ -0,0 +1,263 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql.connection.pgoutput;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.DebeziumException;
+import io.debezium.annotation.NotThreadSafe;
+
+/**
+ * Buffers the messages of the transactions which pgoutput streams before they commit, i.e. the messages received
+ * between the <i>Stream Start</i> and <i>Stream Stop</i> messages of protocol version 2, until the transaction is
+ * committed or aborted. Several transactions may be streamed in interleaved chunks.
+ * <p>
+ * Messages are kept in memory until the messages of all buffered transactions exceed the configured number of bytes.
+ * From then on, further messages of a transaction are appended to a spill file of that transaction, so that the
+ * messages are still read back in the order in which they have been received.
+ */
+@NotThreadSafe
+class PgOutputStreamedTransactions implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PgOutputStreamedTransactions.class);
+
+    private static final byte RELATION = 'R';
+    private static final byte TYPE = 'Y';
+
+    private final long maxMemoryBytes;
+    private final Map<Long, StreamedTransaction> transactions = new HashMap<>();
+    private long memoryBytes;
+
+    /**
+     * @param maxMemoryBytes the maximum number of bytes of the messages kept in memory for all transactions
+     */
+    PgOutputStreamedTransactions(long maxMemoryBytes) {
+        this.maxMemoryBytes = maxMemoryBytes;
+    }
+
+    /**
+     * Starts a chunk of messages of the given transaction.
+     *
+     * @param transactionId the id of the top-level transaction
+     * @param firstSegment whether this is the first chunk of the transaction
+     */
+    void startChunk(long transactionId, boolean firstSegment) {
+        if (firstSegment) {
+            // the transaction is streamed again, e.g. after the replication stream has been restarted
+            discard(transactionId);
+            transactions.put(transactionId, new StreamedTransaction(transactionId));
+        }
+        else if (!transactions.containsKey(transactionId)) {
+            LOGGER.warn("Received a subsequent chunk of streamed transaction {} without its first chunk", transactionId);
+            transactions.put(transactionId, new StreamedTransaction(transactionId));
+        }
+    }
+
+    /**
+     * Buffers a message of a streamed transaction. Relation and type messages are kept even if the sub-transaction
+     * they have been sent in aborts, as pgoutput considers them sent for the whole transaction and will not send them
+     * again before it commits.
+     *
+     * @param transactionId the id of the top-level transaction
+     * @param subTransactionId the id of the (sub-)transaction of the message
+     * @param bytes the message without the transaction id, starting with its type
+     */
+    void add(long transactionId, long subTransactionId, byte[] bytes) {
+        final StreamedTransaction transaction = transactions.get(transactionId);
+        if (transaction == null) {
+            throw new DebeziumException("Received a message of streamed transaction " + transactionId + " outside of a chunk");
+        }
+        if (bytes[0] == RELATION || bytes[0] == TYPE) {
+            subTransactionId = transactionId;
+        }
+        if (transaction.spillOutput == null && memoryBytes + bytes.length <= maxMemoryBytes) {
+            transaction.messages.add(new BufferedMessage(subTransactionId, bytes));
+            transaction.memoryBytes += bytes.length;
+            memoryBytes += bytes.length;
+        }
+        else {
+            transaction.spill(subTransactionId, bytes);
+        }
+    }
+
+    /**
+     * Aborts the given transaction or one of its sub-transactions, discarding their buffered messages.
+     */
+    void abort(long transactionId, long subTransactionId) {
+        if (transactionId == subTransactionId) {
+            discard(transactionId);
+            return;
+        }
+        final StreamedTransaction transaction = transactions.get(transactionId);
+        if (transaction != null) {
+            transaction.abortedSubTransactions.add(subTransactionId);
+        }
+    }
+
+    /**
+     * Passes the messages of the given committed transaction to the consumer in the order in which they have been
+     * received, omitting those of aborted sub-transactions, and discards them afterwards.
+     */
+    void commit(long transactionId, BufferedMessageConsumer consumer) throws SQLException, InterruptedException {
+        final StreamedTransaction transaction = transactions.get(transactionId);
+        if (transaction == null) {
+            return;
+        }
+        try {
+            for (BufferedMessage message : transaction.messages) {
+                if (!transaction.abortedSubTransactions.contains(message.subTransactionId)) {
+                    consumer.accept(ByteBuffer.wrap(message.bytes));
+                }
+            }
+            transaction.readSpilled(consumer);
+        }
+        finally {
+            discard(transactionId);
+        }
+    }
+
+    /**
+     * @return whether any messages are buffered for the given transaction
+     */
+    boolean contains(long transactionId) {
+        return transactions.containsKey(transactionId);
+    }
+
+    /**
+     * @return the number of bytes of the messages currently kept in memory
+     */
+    long getMemoryBytes() {
+        return memoryBytes;
+    }
+
+    /**
+     * Discards all buffered transactions and deletes their spill files.
+     */
+    @Override
+    public void close() {
+        for (Long transactionId : new ArrayList<>(transactions.keySet())) {
+            discard(transactionId);
+        }
+    }
+
+    /**
+     * Discards the buffered messages of the given transaction, e.g. as it has been processed before.
+     */
+    void discard(long transactionId) {
+        final StreamedTransaction transaction = transactions.remove(transactionId);
+        if (transaction != null) {
+            memoryBytes -= transaction.memoryBytes;
+            transaction.deleteSpillFile();
+        }
+    }
+
+    /**
+     * Consumes a buffered message.
+     */
+    @FunctionalInterface
+    interface BufferedMessageConsumer {
+        void accept(ByteBuffer message) throws SQLException, InterruptedException;
+    }
+
+    private static final class BufferedMessage {
+
+        private final long subTransactionId;
+        private final byte[] bytes;
+
+        BufferedMessage(long subTransactionId, byte[] bytes) {
+            this.subTransactionId = subTransactionId;
+            this.bytes = bytes;
+        }
+    }
+
+    private static final class StreamedTransaction {
+
+        private final long transactionId;
+        private final List<BufferedMessage> messages = new ArrayList<>();
+        private final Set<Long> abortedSubTransactions = new HashSet<>();
+        private long memoryBytes;
+        private Path spillFile;
+        private DataOutputStream spillOutput;
+        private int spilledMessages;
+
+        StreamedTransaction(long transactionId) {
+            this.transactionId = transactionId;
+        }
+
+        void spill(long subTransactionId, byte[] bytes) {
+            try {
+                if (spillOutput == null) {
+                    spillFile = Files.createTempFile("debezium-pgoutput-" + transactionId + "-", ".spill");
+                    spillOutput = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(spillFile)));
+                    LOGGER.info("Spilling messages of streamed transaction {} to {}", transactionId, spillFile);
+                }
+                spillOutput.writeLong(subTransactionId);
+                spillOutput.writeInt(bytes.length);
+                spillOutput.write(bytes);
+                spilledMessages++;
+            }
+            catch (IOException e) {
+                throw new DebeziumException("Failed to spill message of streamed transaction " + transactionId + " to " + spillFile, e);
+            }
+        }
+
+        void readSpilled(BufferedMessageConsumer consumer) throws SQLException, InterruptedException {
+            if (spillOutput == null) {
+                return;
+            }
+            try {
+                spillOutput.close();
+                spillOutput = null;
+                try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(spillFile)))) {
+                    for (int i = 0; i < spilledMessages; i++) {
+                        final long subTransactionId = input.readLong();
+                        final byte[] bytes = new byte[input.readInt()];
+                        input.readFully(bytes);
+                        if (!abortedSubTransactions.contains(subTransactionId)) {
+                            consumer.accept(ByteBuffer.wrap(bytes));
+                        }
+                    }
+                }
+            }
+            catch (IOException e) {
+                throw new DebeziumException("Failed to read spilled messages of streamed transaction " + transactionId + " from " + spillFile, e);
+            }
+        }
+
+        void deleteSpillFile() {
+            if (spillFile == null) {
+                return;
+            }
+            try {
+                if (spillOutput != null) {
+                    spillOutput.close();
+                    spillOutput = null;
+                }
+                Files.deleteIfExists(spillFile);
+            }
+            catch (IOException e) {
+                LOGGER.warn("Failed to delete spill file {} of streamed transaction {}", spillFile, transactionId, e);
+            }
+        }
+    }
+}
@@ -14,6 +14,7 @@
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -261,6 +262,45 @@ public void shouldGenerateSnapshotAndContinueStreaming() throws Exception {
         assertSourceInfo(second, TestHelper.TEST_DATABASE, "s2", "a");
     }
 
+    @Test
+    public void shouldGenerateSnapshotUsingMultipleThreads() throws Exception {
+        TestHelper.dropAllSchemas();
+
+        final int tableCount = 3;
+        final int recordsPerTable = 100;
+        final StringBuilder statements = new StringBuilder();
+        for (int i = 1; i <= tableCount; i++) {
+            statements.append("CREATE SCHEMA s").append(i).append("; ")
+                    .append("CREATE TABLE s").append(i).append(".a (pk SERIAL, aa integer, PRIMARY KEY(pk));")
+                    .append("INSERT INTO s").append(i).append(".a (aa) SELECT generate_series(1, ").append(recordsPerTable).append(");");
+        }
+        TestHelper.execute(statements.toString());
+
+        buildNoStreamProducer(TestHelper.defaultConfig().with(PostgresConnectorConfig.SNAPSHOT_MAX_THREADS, tableCount));
+
+        final TestConsumer consumer = testConsumer(tableCount * recordsPerTable, "s1", "s2", "s3");
+        consumer.await(TestHelper.waitTimeForRecords() * 30, TimeUnit.SECONDS);
+
+        final Map<String, Integer> lastPkByTopic = new HashMap<>();
+        final List<SnapshotRecord> snapshotRecords = new ArrayList<>();
+        consumer.process(record -> {
+            final int pk = ((Struct) record.key()).getInt32(PK_FIELD);
+            VerifyRecord.isValidRead(record, PK_FIELD, pk);
+
+            // the records of each table are still emitted in the order they were read
+            final Integer previousPk = lastPkByTopic.put(record.topic(), pk);
+            assertEquals(previousPk == null ? 1 : previousPk + 1, pk);
+
+            snapshotRecords.add(SnapshotRecord.fromSource(((Struct) record.value()).getStruct(Envelope.FieldName.SOURCE)));
+        });
+
+        assertThat(lastPkByTopic.values()).containsOnly(recordsPerTable);
+        assertThat(snapshotRecords.get(0)).isEqualTo(SnapshotRecord.FIRST);
+        assertThat(snapshotRecords.get(snapshotRecords.size() - 1)).isEqualTo(SnapshotRecord.LAST);
+        assertThat(snapshotRecords.stream().filter(r -> r == SnapshotRecord.LAST).count()).isEqualTo(1);
+        assertThat(snapshotRecords.stream().filter(r -> r == SnapshotRecord.LAST_IN_DATA_COLLECTION).count()).isEqualTo(tableCount - 1);
+    }
+
     @Test
     @FixFor("DBZ-1564")
     public void shouldCloseTransactionsAfterSnapshot() throws Exception {
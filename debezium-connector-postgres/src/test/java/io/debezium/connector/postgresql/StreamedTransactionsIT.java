@@ -0,0 +1,134 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.debezium.connector.postgresql;
+
+import static io.debezium.connector.postgresql.TestHelper.topicName;
+import static io.debezium.junit.EqualityCheck.LESS_THAN;
+import static org.fest.assertions.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+
+import io.debezium.config.Configuration;
+import io.debezium.connector.postgresql.PostgresConnectorConfig.SnapshotMode;
+import io.debezium.connector.postgresql.connection.PostgresConnection;
+import io.debezium.connector.postgresql.junit.SkipTestDependingOnDecoderPluginNameRule;
+import io.debezium.connector.postgresql.junit.SkipWhenDecoderPluginNameIsNot;
+import io.debezium.embedded.AbstractConnectorTest;
+import io.debezium.junit.SkipWhenDatabaseVersion;
+
+/**
+ * Integration test for the streaming of large in-progress transactions by pgoutput.
+ */
+@SkipWhenDecoderPluginNameIsNot(value = SkipWhenDecoderPluginNameIsNot.DecoderPluginName.PGOUTPUT, reason = "Only supported on PgOutput")
+@SkipWhenDatabaseVersion(check = LESS_THAN, major = 14, minor = 0, reason = "Streaming of in-progress transactions is supported as of PG14")
+public class StreamedTransactionsIT extends AbstractConnectorTest {
+
+    private static final String SETUP_TABLES_STMT = "DROP SCHEMA IF EXISTS s1 CASCADE;" +
+            "CREATE SCHEMA s1; " +
+            "CREATE TABLE s1.a (pk integer, data text, PRIMARY KEY(pk));" +
+            "CREATE TABLE s1.b (pk integer, PRIMARY KEY(pk));";
+
+    private static final int STREAMED_ROWS = 1000;
+
+    @Rule
+    public final TestRule skipName = new SkipTestDependingOnDecoderPluginNameRule();
+
+    @BeforeClass
+    public static void beforeClass() throws SQLException {
+        TestHelper.dropAllSchemas();
+    }
+
+    @Before
+    public void before() {
+        initializeConnectorTestFramework();
+        // the smallest possible limit, so that pgoutput streams the transactions of the test while they are in progress
+        TestHelper.execute("ALTER ROLE CURRENT_USER SET logical_decoding_work_mem = '64kB';");
+    }
+
+    @After
+    public void after() {
+        stopConnector();
+        TestHelper.dropDefaultReplicationSlot();
+        TestHelper.dropPublication();
+        TestHelper.execute("ALTER ROLE CURRENT_USER RESET logical_decoding_work_mem;");
+    }
+
+    @Test
+    public void shouldEmitStreamedTransactionAgainWhenRestartedBeforeItHasBeenEmittedCompletely() throws Exception {
+        TestHelper.execute(SETUP_TABLES_STMT);
+        final Configuration config = TestHelper.defaultConfig()
+                .with(PostgresConnectorConfig.SNAPSHOT_MODE, SnapshotMode.NEVER.getValue())
+                .with(PostgresConnectorConfig.PLUGIN_STREAMING_ENABLED, true)
+                .with(PostgresConnectorConfig.DROP_SLOT_ON_STOP, Boolean.FALSE)
+                .build();
+
+        final CountDownLatch latch = new CountDownLatch(1);
+        start(PostgresConnector.class, config, (success, message, error) -> latch.countDown(),
+                record -> topicName("s1.a").equals(record.topic()) && pk(record) == STREAMED_ROWS / 2);
+        assertConnectorIsRunning();
+        TestHelper.waitForDefaultReplicationSlotBeActive();
+
+        try (PostgresConnection connection = TestHelper.create()) {
+            connection.setAutoCommit(false);
+            connection.executeWithoutCommitting("INSERT INTO s1.a (pk, data) SELECT i, repeat('x', 500) FROM generate_series(1, "
+                    + STREAMED_ROWS + ") i;");
+            // committed while the first transaction is streamed, its commit precedes the one of the first transaction
+            TestHelper.execute("INSERT INTO s1.b (pk) VALUES (1);");
+            connection.commit();
+        }
+
+        // the connector stops in the middle of the changes of the streamed transaction
+        if (!latch.await(TestHelper.waitTimeForRecords() * 5, TimeUnit.SECONDS)) {
+            fail("did not reach stop condition in time");
+        }
+        final List<SourceRecord> records = new ArrayList<>();
+        consumeAvailableRecords(records::add);
+        stopConnector();
+
+        assertThat(records).hasSize(1 + STREAMED_ROWS / 2 - 1);
+        assertThat(records.get(0).topic()).isEqualTo(topicName("s1.b"));
+        for (int i = 1; i < records.size(); i++) {
+            assertThat(pk(records.get(i))).isEqualTo(i);
+        }
+
+        // all changes of the streamed transaction are emitted again, the transaction committed before it is not
+        start(PostgresConnector.class, config);
+        assertConnectorIsRunning();
+
+        final SourceRecords restarted = consumeRecordsByTopic(STREAMED_ROWS);
+        assertThat(restarted.recordsForTopic(topicName("s1.b"))).isNull();
+        final List<SourceRecord> streamed = restarted.recordsForTopic(topicName("s1.a"));
+        assertThat(streamed).hasSize(STREAMED_ROWS);
+        for (int i = 0; i < STREAMED_ROWS; i++) {
+            assertThat(pk(streamed.get(i))).isEqualTo(i + 1);
+        }
+
+        // and streaming continues after the transaction
+        TestHelper.execute("INSERT INTO s1.b (pk) VALUES (2);");
+        final List<SourceRecord> next = consumeRecordsByTopic(1).recordsForTopic(topicName("s1.b"));
+        assertThat(next).hasSize(1);
+        assertThat(pk(next.get(0))).isEqualTo(2);
+    }
+
+    private static int pk(SourceRecord record) {
+        return ((Struct) record.key()).getInt32("pk");
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql.connection.pgoutput;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import io.debezium.connector.postgresql.PostgresType;
+import io.debezium.connector.postgresql.PostgresValueConverter;
+import io.debezium.connector.postgresql.TypeRegistry;
+import io.debezium.data.SpecialValueDecimal;
+
+public class PgOutputBinaryColumnValueTest {
+
+    private static final long MICROS_2022_10_01 = 717_897_600_000_000L;
+
+    @Test
+    public void shouldDecodeNumeric() {
+        // 12345.6789 is 1 2345 . 6789 in base 10000 digits
+        assertThat(decimal(numeric(1, 0, 4, 1, 2345, 6789)).getDecimalValue().get()).isEqualTo(new BigDecimal("12345.6789"));
+        assertThat(decimal(numeric(1, 0x4000, 2, 1, 2345, 6700)).getDecimalValue().get()).isEqualTo(new BigDecimal("-12345.67"));
+        assertThat(decimal(numeric(2, 0, 0, 12)).getDecimalValue().get()).isEqualTo(new BigDecimal("1200000000"));
+        assertThat(decimal(numeric(-1, 0, 6, 50)).getDecimalValue().get()).isEqualTo(new BigDecimal("0.005000"));
+        assertThat(decimal(numeric(0, 0, 3)).getDecimalValue().get()).isEqualTo(new BigDecimal("0.000"));
+        assertThat(decimal(numeric(5, 0, 8, 1, 2, 3, 4, 5, 6, 7, 8)).getDecimalValue().get())
+                .isEqualTo(new BigDecimal("100020003000400050006.00070008"));
+    }
+
+    @Test
+    public void shouldDecodeSpecialNumericValues() {
+        assertThat(decimal(numeric(0, 0xC000, 0))).isEqualTo(SpecialValueDecimal.NOT_A_NUMBER);
+        assertThat(decimal(numeric(0, 0xD000, 0))).isEqualTo(SpecialValueDecimal.POSITIVE_INF);
+        assertThat(decimal(numeric(0, 0xF000, 0))).isEqualTo(SpecialValueDecimal.NEGATIVE_INF);
+    }
+
+    @Test
+    public void shouldDecodeTemporalValues() {
+        final Instant instant = OffsetDateTime.of(2022, 10, 1, 0, 0, 0, 0, ZoneOffset.UTC).toInstant();
+        assertThat(value("timestamp", longBytes(MICROS_2022_10_01 + 123_456)).asInstant()).isEqualTo(instant.plusNanos(123_456_000));
+        assertThat(value("timestamptz", longBytes(MICROS_2022_10_01)).asOffsetDateTimeAtUtc()).isEqualTo(instant.atOffset(ZoneOffset.UTC));
+        assertThat(value("date", intBytes(-1)).asLocalDate()).isEqualTo(LocalDate.of(1999, 12, 31));
+        assertThat(value("time", longBytes(86_400_000_000L)).asTime()).isEqualTo(Duration.ofHours(24));
+
+        // 10:00:00+02, with the zone given in seconds west of UTC
+        final byte[] timetz = ByteBuffer.allocate(12).putLong(36_000_000_000L).putInt(-7200).array();
+        assertThat(value("timetz", timetz).asOffsetTimeUtc()).isEqualTo(OffsetTime.of(8, 0, 0, 0, ZoneOffset.UTC));
+    }
+
+    @Test
+    public void shouldDecodeInfiniteTemporalValues() {
+        assertThat(value("timestamp", longBytes(Long.MAX_VALUE)).asInstant()).isEqualTo(PostgresValueConverter.POSITIVE_INFINITY_INSTANT);
+        assertThat(value("timestamptz", longBytes(Long.MIN_VALUE)).asOffsetDateTimeAtUtc())
+                .isEqualTo(PostgresValueConverter.NEGATIVE_INFINITY_OFFSET_DATE_TIME);
+        assertThat(value("date", intBytes(Integer.MAX_VALUE)).asLocalDate()).isEqualTo(PostgresValueConverter.POSITIVE_INFINITY_LOCAL_DATE);
+    }
+
+    @Test
+    public void shouldDecodeIntegerValues() {
+        assertThat(value("int2", ByteBuffer.allocate(2).putShort((short) -7).array()).asInteger()).isEqualTo(-7);
+        assertThat(value("int4", intBytes(123_456)).asInteger()).isEqualTo(123_456);
+        assertThat(value("int8", longBytes(-5_000_000_000L)).asLong()).isEqualTo(-5_000_000_000L);
+        assertThat(value("oid", intBytes(-1)).asLong()).isEqualTo(4_294_967_295L);
+    }
+
+    @Test
+    public void shouldDecodeValuesAsString() {
+        assertThat(value("varchar", "d\u00e9b\u00e9zium".getBytes(StandardCharsets.UTF_8)).asString()).isEqualTo("d\u00e9b\u00e9zium");
+        assertThat(value("jsonb", "\u0001{\"a\": 1}".getBytes(StandardCharsets.UTF_8)).asString()).isEqualTo("{\"a\": 1}");
+        assertThat(value("uuid", ByteBuffer.allocate(16).putLong(0x123e4567e89b12d3L).putLong(0xa456426614174000L).array()).asString())
+                .isEqualTo("123e4567-e89b-12d3-a456-426614174000");
+        assertThat(value("varbit", new byte[]{ 0, 0, 0, 10, (byte) 0b1011_0000, (byte) 0b1100_0000 }).asString()).isEqualTo("1011000011");
+        assertThat(value("macaddr", new byte[]{ 0x08, 0x00, 0x2b, 0x01, 0x02, (byte) 0xa3 }).asString()).isEqualTo("08:00:2b:01:02:a3");
+    }
+
+    @Test
+    public void shouldDecodeHstoreAsString() {
+        final ByteBuffer buffer = ByteBuffer.allocate(64).putInt(2);
+        putString(buffer, "key");
+        putString(buffer, "va\"lue");
+        putString(buffer, "empty");
+        buffer.putInt(-1);
+
+        assertThat(value(TypeRegistry.TYPE_NAME_HSTORE, Arrays.copyOf(buffer.array(), buffer.position())).asString())
+                .isEqualTo("\"key\"=>\"va\\\"lue\", \"empty\"=>NULL");
+    }
+
+    @Test
+    public void shouldOnlySupportTypesWithBinaryDecoding() {
+        assertThat(PgOutputBinaryColumnValue.isSupported(type("numeric"))).isTrue();
+        assertThat(PgOutputBinaryColumnValue.isSupported(type(TypeRegistry.TYPE_NAME_GEOMETRY))).isTrue();
+        assertThat(PgOutputBinaryColumnValue.isSupported(type("money"))).isFalse();
+        assertThat(PgOutputBinaryColumnValue.isSupported(type("int4range"))).isFalse();
+    }
+
+    private static SpecialValueDecimal decimal(byte[] value) {
+        return value("numeric", value).asDecimal();
+    }
+
+    private static PgOutputBinaryColumnValue value(String typeName, byte[] value) {
+        return new PgOutputBinaryColumnValue(value, type(typeName));
+    }
+
+    private static PostgresType type(String name) {
+        return new PostgresType.Builder(null, name, 0, Types.OTHER, TypeRegistry.NO_TYPE_MODIFIER, null).build();
+    }
+
+    private static byte[] numeric(int weight, int sign, int dscale, int... digits) {
+        final ByteBuffer buffer = ByteBuffer.allocate(8 + 2 * digits.length)
+                .putShort((short) digits.length)
+                .putShort((short) weight)
+                .putShort((short) sign)
+                .putShort((short) dscale);
+        for (int digit : digits) {
+            buffer.putShort((short) digit);
+        }
+        return buffer.array();
+    }
+
+    private static byte[] intBytes(int value) {
+        return ByteBuffer.allocate(4).putInt(value).array();
+    }
+
+    private static byte[] longBytes(long value) {
+        return ByteBuffer.allocate(8).putLong(value).array();
+    }
+
+    private static void putString(ByteBuffer buffer, String s) {
+        final byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        buffer.putInt(bytes.length).put(bytes);
+    }
+}
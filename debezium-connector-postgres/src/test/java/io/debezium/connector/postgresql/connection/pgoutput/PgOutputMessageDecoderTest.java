@@ -0,0 +1,198 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql.connection.pgoutput;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.debezium.connector.postgresql.PostgresConnectorConfig;
+import io.debezium.connector.postgresql.TestHelper;
+import io.debezium.connector.postgresql.connection.LogicalDecodingMessage;
+import io.debezium.connector.postgresql.connection.Lsn;
+import io.debezium.connector.postgresql.connection.MessageDecoderContext;
+import io.debezium.connector.postgresql.connection.ReplicationMessage;
+import io.debezium.connector.postgresql.connection.ReplicationMessage.Operation;
+import io.debezium.connector.postgresql.connection.TransactionMessage;
+import io.debezium.connector.postgresql.connection.WalPositionLocator;
+
+/**
+ * Unit tests for the decoding of streamed transactions by the {@link PgOutputMessageDecoder}, using transactional
+ * logical decoding messages as changes as these are decoded without a database schema.
+ */
+public class PgOutputMessageDecoderTest {
+
+    private final List<ReplicationMessage> received = new ArrayList<>();
+    private PgOutputMessageDecoder decoder;
+
+    @Before
+    public void before() {
+        final PostgresConnectorConfig config = new PostgresConnectorConfig(TestHelper.defaultConfig().build());
+        decoder = new PgOutputMessageDecoder(new MessageDecoderContext(config, null), null);
+    }
+
+    @After
+    public void after() {
+        decoder.close();
+    }
+
+    @Test
+    public void shouldProcessStreamedTransactionOnceCommitted() throws Exception {
+        process(streamStart(1, true));
+        process(message(1, 1, "first"));
+        process(streamStop());
+
+        // A transaction committing in between the chunks of the streamed transaction
+        process(begin(2));
+        process(message(null, null, "other"));
+        process(commit());
+
+        process(streamStart(1, false));
+        process(message(1, 1, "second"));
+        process(streamStop());
+
+        assertThat(describe(received)).containsExactly("BEGIN 2", "other", "COMMIT 2");
+        received.clear();
+
+        process(streamCommit(1));
+
+        assertThat(describe(received)).containsExactly("BEGIN 1", "first", "second", "COMMIT 1");
+        // Only the COMMIT completes the position of the transaction
+        assertThat(received.get(0).isLastEventForLsn()).isFalse();
+        assertThat(received.get(1).isLastEventForLsn()).isFalse();
+        assertThat(received.get(2).isLastEventForLsn()).isFalse();
+        assertThat(received.get(3).isLastEventForLsn()).isTrue();
+    }
+
+    @Test
+    public void shouldDiscardAbortedStreamedTransaction() throws Exception {
+        process(streamStart(1, true));
+        process(message(1, 1, "aborted"));
+        process(streamStop());
+        process(streamStart(3, true));
+        process(message(3, 3, "committed"));
+        process(streamStop());
+
+        process(streamAbort(1, 1));
+        process(streamCommit(3));
+
+        assertThat(describe(received)).containsExactly("BEGIN 3", "committed", "COMMIT 3");
+    }
+
+    @Test
+    public void shouldOmitMessagesOfAbortedSubTransaction() throws Exception {
+        process(streamStart(1, true));
+        process(message(1, 1, "before"));
+        process(message(1, 2, "rolled back"));
+        process(streamStop());
+        process(streamAbort(1, 2));
+        process(streamStart(1, false));
+        process(message(1, 1, "after"));
+        process(streamStop());
+
+        process(streamCommit(1));
+
+        assertThat(describe(received)).containsExactly("BEGIN 1", "before", "after", "COMMIT 1");
+    }
+
+    @Test
+    public void shouldSkipStreamedTransactionCommittedBeforeRestartPosition() throws Exception {
+        // Restarting after the commit at LSN 100 has been processed, located at the commit at LSN 200
+        final WalPositionLocator locator = new WalPositionLocator(Lsn.valueOf(100L), Lsn.valueOf(100L));
+        locator.resumeFromLsn(Lsn.valueOf(100L), new TransactionMessage(Operation.COMMIT, 1L, null));
+        assertThat(locator.resumeFromLsn(Lsn.valueOf(200L), new TransactionMessage(Operation.COMMIT, 3L, null)).get())
+                .isEqualTo(Lsn.valueOf(200L));
+        locator.enableFiltering();
+
+        // The chunks are received at positions before the restart position, which have not been seen while locating it
+        final Lsn chunkLsn = Lsn.valueOf(50L);
+        for (ByteBuffer buffer : new ByteBuffer[]{ streamStart(1, true), message(1, 1, "processed"), streamStop(),
+                streamStart(3, true), message(3, 3, "not processed"), streamStop() }) {
+            assertThat(decoder.shouldMessageBeSkipped(buffer, chunkLsn, Lsn.valueOf(100L), locator)).isFalse();
+            process(buffer);
+        }
+
+        final ByteBuffer processedCommit = streamCommit(1);
+        assertThat(decoder.shouldMessageBeSkipped(processedCommit, Lsn.valueOf(100L), Lsn.valueOf(100L), locator)).isTrue();
+        final ByteBuffer notProcessedCommit = streamCommit(3);
+        assertThat(decoder.shouldMessageBeSkipped(notProcessedCommit, Lsn.valueOf(200L), Lsn.valueOf(100L), locator)).isFalse();
+        process(notProcessedCommit);
+
+        assertThat(describe(received)).containsExactly("BEGIN 3", "not processed", "COMMIT 3");
+        received.clear();
+
+        // The messages of the skipped transaction have been discarded
+        process(streamCommit(1));
+        assertThat(describe(received)).containsExactly("BEGIN 1", "COMMIT 1");
+    }
+
+    private void process(ByteBuffer buffer) throws Exception {
+        decoder.processMessage(buffer, received::add, null);
+    }
+
+    private static List<String> describe(List<ReplicationMessage> messages) {
+        final List<String> result = new ArrayList<>();
+        for (ReplicationMessage message : messages) {
+            if (message instanceof LogicalDecodingMessage) {
+                result.add(new String(((LogicalDecodingMessage) message).getContent(), StandardCharsets.UTF_8));
+            }
+            else {
+                result.add(message.getOperation() + " " + message.getTransactionId().getAsLong());
+            }
+        }
+        return result;
+    }
+
+    private static ByteBuffer begin(int transactionId) {
+        return buffer(ByteBuffer.allocate(21).put((byte) 'B').putLong(1L).putLong(0L).putInt(transactionId));
+    }
+
+    private static ByteBuffer commit() {
+        return buffer(ByteBuffer.allocate(26).put((byte) 'C').put((byte) 0).putLong(1L).putLong(2L).putLong(0L));
+    }
+
+    private static ByteBuffer streamStart(int transactionId, boolean firstSegment) {
+        return buffer(ByteBuffer.allocate(6).put((byte) 'S').putInt(transactionId).put((byte) (firstSegment ? 1 : 0)));
+    }
+
+    private static ByteBuffer streamStop() {
+        return buffer(ByteBuffer.allocate(1).put((byte) 'E'));
+    }
+
+    private static ByteBuffer streamCommit(int transactionId) {
+        return buffer(ByteBuffer.allocate(30).put((byte) 'c').putInt(transactionId).put((byte) 0).putLong(1L).putLong(2L).putLong(0L));
+    }
+
+    private static ByteBuffer streamAbort(int transactionId, int subTransactionId) {
+        return buffer(ByteBuffer.allocate(9).put((byte) 'A').putInt(transactionId).putInt(subTransactionId));
+    }
+
+    /**
+     * Creates a transactional logical decoding message, which is prefixed with the id of its (sub-)transaction when
+     * it is sent within a chunk of a streamed transaction.
+     */
+    private static ByteBuffer message(Integer transactionId, Integer subTransactionId, String content) {
+        final byte[] prefix = "test".getBytes(StandardCharsets.UTF_8);
+        final byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        final ByteBuffer buffer = ByteBuffer.allocate(1 + 4 + 1 + 8 + prefix.length + 1 + 4 + bytes.length).put((byte) 'M');
+        if (subTransactionId != null) {
+            buffer.putInt(subTransactionId);
+        }
+        return buffer(buffer.put((byte) 1).putLong(1L).put(prefix).put((byte) 0).putInt(bytes.length).put(bytes));
+    }
+
+    private static ByteBuffer buffer(ByteBuffer buffer) {
+        buffer.flip();
+        return buffer;
+    }
+}
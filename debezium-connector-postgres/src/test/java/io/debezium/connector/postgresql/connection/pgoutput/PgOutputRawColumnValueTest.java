@@ -0,0 +1,54 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql.connection.pgoutput;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+public class PgOutputRawColumnValueTest {
+
+    @Test
+    public void shouldReadValuesWithoutDecodingThem() {
+        final ByteBuffer buffer = tupleData(ByteBuffer.allocate(64));
+
+        final PgOutputRawColumnValue first = PgOutputRawColumnValue.read(buffer);
+        final PgOutputRawColumnValue second = PgOutputRawColumnValue.read(buffer);
+
+        assertThat(buffer.remaining()).isEqualTo(1);
+        assertThat(second.asString()).isEqualTo("d\u00e9b\u00e9zium");
+        assertThat(first.asString()).isEqualTo("42");
+        assertThat(first.asString()).isSameAs(first.asString());
+        assertThat(first.asBytes()).isEqualTo("42".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void shouldReadValuesFromSlicedAndDirectBuffers() {
+        final ByteBuffer sliced = ByteBuffer.allocate(64);
+        sliced.put((byte) 'x');
+        assertThat(PgOutputRawColumnValue.read(tupleData(sliced.slice())).asString()).isEqualTo("42");
+
+        final ByteBuffer direct = tupleData(ByteBuffer.allocateDirect(64));
+        PgOutputRawColumnValue.read(direct);
+        assertThat(PgOutputRawColumnValue.read(direct).asBytes()).isEqualTo("d\u00e9b\u00e9zium".getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static ByteBuffer tupleData(ByteBuffer buffer) {
+        putValue(buffer, "42");
+        putValue(buffer, "d\u00e9b\u00e9zium");
+        buffer.put((byte) 'n');
+        buffer.flip();
+        return buffer;
+    }
+
+    private static void putValue(ByteBuffer buffer, String value) {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        buffer.putInt(bytes.length).put(bytes);
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql.connection.pgoutput;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+public class PgOutputStreamedTransactionsTest {
+
+    private final List<String> received = new ArrayList<>();
+
+    @Test
+    public void shouldReplayMessagesInOrderAcrossMemoryAndSpillFile() throws Exception {
+        try (PgOutputStreamedTransactions transactions = new PgOutputStreamedTransactions(11)) {
+            transactions.startChunk(1, true);
+            add(transactions, 1, 1, "first");
+            add(transactions, 1, 1, "second");
+            add(transactions, 1, 1, "third");
+
+            transactions.startChunk(1, false);
+            add(transactions, 1, 1, "fourth");
+
+            assertThat(transactions.getMemoryBytes()).isEqualTo(11L);
+            assertThat(transactions.contains(1)).isTrue();
+
+            transactions.commit(1, message -> received.add(StandardCharsets.UTF_8.decode(message).toString()));
+
+            assertThat(received).containsExactly("first", "second", "third", "fourth");
+            assertThat(transactions.getMemoryBytes()).isEqualTo(0L);
+            assertThat(transactions.contains(1)).isFalse();
+        }
+    }
+
+    @Test
+    public void shouldOmitMessagesOfAbortedSubTransactions() throws Exception {
+        try (PgOutputStreamedTransactions transactions = new PgOutputStreamedTransactions(8)) {
+            transactions.startChunk(1, true);
+            add(transactions, 1, 1, "kept");
+            add(transactions, 1, 2, "lost");
+            add(transactions, 1, 3, "spilled");
+            add(transactions, 1, 2, "lost");
+            transactions.abort(1, 2);
+
+            transactions.commit(1, message -> received.add(StandardCharsets.UTF_8.decode(message).toString()));
+
+            assertThat(received).containsExactly("kept", "spilled");
+        }
+    }
+
+    @Test
+    public void shouldKeepRelationAndTypeMessagesOfAbortedSubTransactions() throws Exception {
+        try (PgOutputStreamedTransactions transactions = new PgOutputStreamedTransactions(1024)) {
+            transactions.startChunk(1, true);
+            add(transactions, 1, 2, "Ytype");
+            add(transactions, 1, 2, "Rrelation");
+            add(transactions, 1, 2, "Iinsert");
+            transactions.abort(1, 2);
+
+            transactions.commit(1, message -> received.add(StandardCharsets.UTF_8.decode(message).toString()));
+
+            assertThat(received).containsExactly("Ytype", "Rrelation");
+        }
+    }
+
+    @Test
+    public void shouldDiscardAbortedTransaction() throws Exception {
+        try (PgOutputStreamedTransactions transactions = new PgOutputStreamedTransactions(1024)) {
+            transactions.startChunk(1, true);
+            add(transactions, 1, 1, "aborted");
+            transactions.startChunk(2, true);
+            add(transactions, 2, 2, "committed");
+
+            transactions.abort(1, 1);
+            assertThat(transactions.contains(1)).isFalse();
+            assertThat(transactions.getMemoryBytes()).isEqualTo(9L);
+
+            transactions.commit(1, message -> received.add("unexpected"));
+            transactions.commit(2, message -> received.add(StandardCharsets.UTF_8.decode(message).toString()));
+
+            assertThat(received).containsExactly("committed");
+        }
+    }
+
+    private static void add(PgOutputStreamedTransactions transactions, long transactionId, long subTransactionId, String message) {
+        transactions.add(transactionId, subTransactionId, message.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.sqlserver;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.DebeziumException;
+import io.debezium.jdbc.JdbcConnection.BlockingMultiResultSetConsumer;
+import io.debezium.util.Threads;
+
+/**
+ * Queries the change tables of a database concurrently, each thread using its own connection. The threads take the
+ * change tables one after another from a shared index, so that the time spent querying all tables is bounded by the
+ * slowest tables rather than by the sum of all tables. Once all queries are executed, the result sets are handed over
+ * to the consumer on the calling thread, which merges them in LSN order just as for the sequential queries.
+ *
+ * @see SqlServerConnection#getChangesForTables(String, SqlServerChangeTable[], Lsn, Lsn, BlockingMultiResultSetConsumer)
+ */
+public class ParallelChangeTableReader implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ParallelChangeTableReader.class);
+
+    private final ExecutorService executor;
+    private final SqlServerConnection[] connections;
+    private final Supplier<SqlServerConnection> connectionFactory;
+
+    public ParallelChangeTableReader(SqlServerConnectorConfig connectorConfig, Supplier<SqlServerConnection> connectionFactory) {
+        final int threads = connectorConfig.getStreamingFetchThreads();
+        this.executor = Threads.newFixedThreadPool(SqlServerConnector.class, connectorConfig.getLogicalName(), "change-table-reader", threads);
+        this.connections = new SqlServerConnection[threads];
+        this.connectionFactory = connectionFactory;
+    }
+
+    /**
+     * Provides all changes recorded by the SQL Server CDC capture process for a set of tables.
+     *
+     * @param databaseName - the name of the database to query
+     * @param changeTables - the requested tables to obtain changes for
+     * @param intervalFromLsn - closed lower bound of interval of changes to be provided
+     * @param intervalToLsn  - closed upper bound of interval  of changes to be provided
+     * @param consumer - the change processor, invoked on the calling thread
+     * @throws SQLException
+     */
+    public void getChangesForTables(String databaseName, SqlServerChangeTable[] changeTables, Lsn intervalFromLsn,
+                                    Lsn intervalToLsn, BlockingMultiResultSetConsumer consumer)
+            throws SQLException, InterruptedException {
+        final ResultSet[] resultSets = new ResultSet[changeTables.length];
+        final AtomicInteger nextTable = new AtomicInteger();
+        final List<Future<?>> futures = new ArrayList<>(connections.length);
+
+        for (int i = 0; i < Math.min(connections.length, changeTables.length); i++) {
+            final int connectionIndex = i;
+            futures.add(executor.submit(() -> {
+                final SqlServerConnection connection = getConnection(connectionIndex);
+                int table;
+                while ((table = nextTable.getAndIncrement()) < changeTables.length) {
+                    resultSets[table] = connection.getChangesForTable(databaseName, changeTables[table], intervalFromLsn, intervalToLsn);
+                }
+                return null;
+            }));
+        }
+
+        try {
+            awaitQueries(futures);
+            consumer.accept(resultSets);
+        }
+        finally {
+            // after a failure, stop taking further tables and wait for the queries in progress so no result set is left open
+            nextTable.set(changeTables.length);
+            awaitTermination(futures);
+            for (ResultSet rs : resultSets) {
+                if (rs != null) {
+                    try {
+                        rs.close();
+                    }
+                    catch (SQLException e) {
+                        LOGGER.error("Exception while closing change table result set", e);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Terminates the transactions of all connections, as otherwise CDC could not be disabled for the tables.
+     */
+    public void rollback() throws SQLException {
+        for (SqlServerConnection connection : connections) {
+            if (connection != null) {
+                connection.rollback();
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+        try {
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        for (SqlServerConnection connection : connections) {
+            if (connection != null) {
+                try {
+                    connection.close();
+                }
+                catch (SQLException e) {
+                    LOGGER.error("Exception while closing JDBC change table reader connection", e);
+                }
+            }
+        }
+    }
+
+    private SqlServerConnection getConnection(int index) {
+        // a connection is only used by the task with the same index, and calls do not overlap
+        if (connections[index] == null) {
+            connections[index] = connectionFactory.get();
+        }
+        return connections[index];
+    }
+
+    private void awaitQueries(List<Future<?>> futures) throws SQLException, InterruptedException {
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            }
+            catch (ExecutionException e) {
+                if (e.getCause() instanceof SQLException) {
+                    throw (SQLException) e.getCause();
+                }
+                throw new DebeziumException("Failed to query change tables", e.getCause());
+            }
+        }
+    }
+
+    private void awaitTermination(List<Future<?>> futures) {
+        boolean interrupted = false;
+        for (Future<?> future : futures) {
+            for (;;) {
+                try {
+                    future.get();
+                    break;
+                }
+                catch (InterruptedException e) {
+                    interrupted = true;
+                }
+                catch (ExecutionException | CancellationException e) {
+                    // already reported by awaitQueries()
+                    break;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
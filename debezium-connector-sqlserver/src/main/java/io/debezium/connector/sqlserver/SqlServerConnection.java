@@ -8,6 +8,7 @@
 
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
@@ -315,26 +316,58 @@ public void getChangesForTables(String databaseName, SqlServerChangeTable[] chan
 
         int idx = 0;
         for (SqlServerChangeTable changeTable : changeTables) {
-            final String query = replaceDatabaseNamePlaceholder(getAllChangesForTable, databaseName)
-                    .replace(STATEMENTS_PLACEHOLDER, changeTable.getCaptureInstance());
-            queries[idx] = query;
-            // If the table was added in the middle of queried buffer we need
-            // to adjust from to the first LSN available
-            final Lsn fromLsn = getFromLsn(databaseName, changeTable, intervalFromLsn);
-            LOGGER.trace("Getting changes for table {} in range[{}, {}]", changeTable, fromLsn, intervalToLsn);
-            preparers[idx] = statement -> {
-                if (queryFetchSize > 0) {
-                    statement.setFetchSize(queryFetchSize);
-                }
-                statement.setBytes(1, fromLsn.getBinary());
-                statement.setBytes(2, intervalToLsn.getBinary());
-            };
-
+            queries[idx] = getChangesQuery(databaseName, changeTable);
+            preparers[idx] = getChangesPreparer(databaseName, changeTable, intervalFromLsn, intervalToLsn);
             idx++;
         }
         prepareQuery(queries, preparers, consumer);
     }
 
+    /**
+     * Provides the changes recorded by the SQL Server CDC capture process for a single table. The returned result set
+     * must be closed by the caller.
+     *
+     * @param databaseName - the name of the database to query
+     * @param changeTable - the requested table to obtain changes for
+     * @param intervalFromLsn - closed lower bound of interval of changes to be provided
+     * @param intervalToLsn  - closed upper bound of interval  of changes to be provided
+     * @return the result set of the changes
+     * @throws SQLException
+     */
+    public ResultSet getChangesForTable(String databaseName, SqlServerChangeTable changeTable, Lsn intervalFromLsn, Lsn intervalToLsn)
+            throws SQLException {
+        final PreparedStatement statement = connection().prepareStatement(getChangesQuery(databaseName, changeTable));
+        try {
+            getChangesPreparer(databaseName, changeTable, intervalFromLsn, intervalToLsn).accept(statement);
+            statement.closeOnCompletion();
+            return statement.executeQuery();
+        }
+        catch (SQLException e) {
+            statement.close();
+            throw e;
+        }
+    }
+
+    private String getChangesQuery(String databaseName, SqlServerChangeTable changeTable) {
+        return replaceDatabaseNamePlaceholder(getAllChangesForTable, databaseName)
+                .replace(STATEMENTS_PLACEHOLDER, changeTable.getCaptureInstance());
+    }
+
+    private StatementPreparer getChangesPreparer(String databaseName, SqlServerChangeTable changeTable, Lsn intervalFromLsn, Lsn intervalToLsn)
+            throws SQLException {
+        // If the table was added in the middle of queried buffer we need
+        // to adjust from to the first LSN available
+        final Lsn fromLsn = getFromLsn(databaseName, changeTable, intervalFromLsn);
+        LOGGER.trace("Getting changes for table {} in range[{}, {}]", changeTable, fromLsn, intervalToLsn);
+        return statement -> {
+            if (queryFetchSize > 0) {
+                statement.setFetchSize(queryFetchSize);
+            }
+            statement.setBytes(1, fromLsn.getBinary());
+            statement.setBytes(2, intervalToLsn.getBinary());
+        };
+    }
+
     private Lsn getFromLsn(String databaseName, SqlServerChangeTable changeTable, Lsn intervalFromLsn) throws SQLException {
         Lsn fromLsn = changeTable.getStartLsn().compareTo(intervalFromLsn) > 0 ? changeTable.getStartLsn() : intervalFromLsn;
         return fromLsn.getBinary() != null ? fromLsn : getMinLsn(databaseName, changeTable.getCaptureInstance());
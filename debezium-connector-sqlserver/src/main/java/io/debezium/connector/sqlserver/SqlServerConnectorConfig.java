@@ -254,6 +254,18 @@ public static SnapshotIsolationMode parse(String value, String defaultValue) {
             .withValidation(Field::isNonNegativeInteger)
             .withDescription("This property can be used to reduce the connector memory usage footprint when changes are streamed from multiple tables per database.");
 
+    public static final Field STREAMING_FETCH_THREADS = Field.create("streaming.fetch.threads")
+            .withDisplayName("Number of threads querying change tables")
+            .withDefault(1)
+            .withType(Type.INT)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_ADVANCED, 2))
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withValidation(Field::isPositiveInteger)
+            .withDescription("The number of threads, each using its own database connection, that query the change tables of the captured "
+                    + "tables concurrently in each streaming iteration. The changes of all tables are still emitted in LSN order. "
+                    + "Defaults to 1, meaning that all change tables are queried one after another on a single connection.");
+
     public static final Field SNAPSHOT_MODE = Field.create("snapshot.mode")
             .withDisplayName("Snapshot mode")
             .withEnum(SnapshotMode.class, SnapshotMode.INITIAL)
@@ -306,6 +318,7 @@ public static SnapshotIsolationMode parse(String value, String defaultValue) {
                     SNAPSHOT_MODE,
                     SNAPSHOT_ISOLATION_MODE,
                     MAX_TRANSACTIONS_PER_ITERATION,
+                    STREAMING_FETCH_THREADS,
                     BINARY_HANDLING_MODE,
                     SCHEMA_NAME_ADJUSTMENT_MODE,
                     INCREMENTAL_SNAPSHOT_OPTION_RECOMPILE,
@@ -331,6 +344,7 @@ public static ConfigDef configDef() {
     private final SnapshotIsolationMode snapshotIsolationMode;
     private final boolean readOnlyDatabaseConnection;
     private final int maxTransactionsPerIteration;
+    private final int streamingFetchThreads;
     private final boolean optionRecompile;
 
     public SqlServerConnectorConfig(Configuration config) {
@@ -365,6 +379,7 @@ public SqlServerConnectorConfig(Configuration config) {
         }
 
         this.maxTransactionsPerIteration = config.getInteger(MAX_TRANSACTIONS_PER_ITERATION);
+        this.streamingFetchThreads = config.getInteger(STREAMING_FETCH_THREADS);
 
         if (!config.getBoolean(MAX_LSN_OPTIMIZATION)) {
             LOGGER.warn("The option '{}' is no longer taken into account. The optimization is always enabled.", MAX_LSN_OPTIMIZATION.name());
@@ -412,6 +427,10 @@ public int getMaxTransactionsPerIteration() {
         return maxTransactionsPerIteration;
     }
 
+    public int getStreamingFetchThreads() {
+        return streamingFetchThreads;
+    }
+
     public boolean getOptionRecompile() {
         return optionRecompile;
     }
@@ -24,6 +24,7 @@
 import io.debezium.pipeline.ErrorHandler;
 import io.debezium.pipeline.EventDispatcher;
 import io.debezium.pipeline.spi.Offsets;
+import io.debezium.relational.RelationalDatabaseConnectorConfig.QueueImplementation;
 import io.debezium.relational.TableId;
 import io.debezium.spi.topic.TopicNamingStrategy;
 import io.debezium.util.Clock;
@@ -45,6 +46,7 @@ public class SqlServerConnectorTask extends BaseSourceTask<SqlServerPartition, S
     private volatile ChangeEventQueue<DataChangeEvent> queue;
     private volatile SqlServerConnection dataConnection;
     private volatile SqlServerConnection metadataConnection;
+    private volatile ParallelChangeTableReader changeTableReader;
     private volatile ErrorHandler errorHandler;
     private volatile SqlServerDatabaseSchema schema;
 
@@ -75,6 +77,11 @@ public ChangeEventSourceCoordinator<SqlServerPartition, SqlServerOffsetContext>
                 connectorConfig.getOptionRecompile());
         metadataConnection = new SqlServerConnection(connectorConfig.getJdbcConfig(), valueConverters,
                 connectorConfig.getSkippedOperations(), connectorConfig.useSingleDatabase());
+        if (connectorConfig.getStreamingFetchThreads() > 1) {
+            changeTableReader = new ParallelChangeTableReader(connectorConfig, () -> new SqlServerConnection(connectorConfig.getJdbcConfig(), valueConverters,
+                    connectorConfig.getSkippedOperations(), connectorConfig.useSingleDatabase(),
+                    connectorConfig.getOptionRecompile()));
+        }
 
         this.schema = new SqlServerDatabaseSchema(connectorConfig, metadataConnection.getDefaultValueConverter(), valueConverters, topicNamingStrategy,
                 schemaNameAdjuster);
@@ -94,6 +101,11 @@ public ChangeEventSourceCoordinator<SqlServerPartition, SqlServerOffsetContext>
                 .maxBatchSize(connectorConfig.getMaxBatchSize())
                 .maxQueueSize(connectorConfig.getMaxQueueSize())
                 .maxQueueSizeInBytes(connectorConfig.getMaxQueueSizeInBytes())
+                .adaptiveBatching(connectorConfig.isAdaptiveBatchingEnabled())
+                .minBatchSize(connectorConfig.getAdaptiveBatchingMinBatchSize())
+                .minPollInterval(connectorConfig.getAdaptiveBatchingMinPollInterval())
+                .ringBuffer(connectorConfig.getQueueImplementation() == QueueImplementation.RING_BUFFER)
+                .conversionThreads(connectorConfig.getConversionThreads(), SqlServerConnector.class, connectorConfig.getLogicalName())
                 .loggingContextSupplier(() -> taskContext.configureLoggingContext(CONTEXT_NAME))
                 .build();
 
@@ -116,7 +128,8 @@ public ChangeEventSourceCoordinator<SqlServerPartition, SqlServerOffsetContext>
                 errorHandler,
                 SqlServerConnector.class,
                 connectorConfig,
-                new SqlServerChangeEventSourceFactory(connectorConfig, dataConnection, metadataConnection, errorHandler, dispatcher, clock, schema),
+                new SqlServerChangeEventSourceFactory(connectorConfig, dataConnection, metadataConnection, changeTableReader, errorHandler, dispatcher, clock,
+                        schema),
                 new SqlServerMetricsFactory(offsets.getPartitions()),
                 dispatcher,
                 schema,
@@ -149,6 +162,10 @@ protected void doStop() {
             LOGGER.error("Exception while closing JDBC connection", e);
         }
 
+        if (changeTableReader != null) {
+            changeTableReader.close();
+        }
+
         try {
             if (metadataConnection != null) {
                 metadataConnection.close();
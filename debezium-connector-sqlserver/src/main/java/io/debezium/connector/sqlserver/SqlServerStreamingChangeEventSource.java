@@ -26,6 +26,7 @@
 import org.slf4j.LoggerFactory;
 
 import io.debezium.connector.sqlserver.SqlServerConnectorConfig.SnapshotMode;
+import io.debezium.jdbc.JdbcConnection.BlockingMultiResultSetConsumer;
 import io.debezium.pipeline.ErrorHandler;
 import io.debezium.pipeline.EventDispatcher;
 import io.debezium.pipeline.source.spi.StreamingChangeEventSource;
@@ -78,6 +79,12 @@ public class SqlServerStreamingChangeEventSource implements StreamingChangeEvent
      */
     private final SqlServerConnection metadataConnection;
 
+    /**
+     * Reader querying the change tables concurrently on separate connections, or {@code null} when they are queried
+     * one after another on the data connection.
+     */
+    private final ParallelChangeTableReader changeTableReader;
+
     private final EventDispatcher<SqlServerPartition, TableId> dispatcher;
     private final ErrorHandler errorHandler;
     private final Clock clock;
@@ -91,12 +98,13 @@ public class SqlServerStreamingChangeEventSource implements StreamingChangeEvent
     private boolean checkAgent;
 
     public SqlServerStreamingChangeEventSource(SqlServerConnectorConfig connectorConfig, SqlServerConnection dataConnection,
-                                               SqlServerConnection metadataConnection,
+                                               SqlServerConnection metadataConnection, ParallelChangeTableReader changeTableReader,
                                                EventDispatcher<SqlServerPartition, TableId> dispatcher,
                                                ErrorHandler errorHandler, Clock clock, SqlServerDatabaseSchema schema) {
         this.connectorConfig = connectorConfig;
         this.dataConnection = dataConnection;
         this.metadataConnection = metadataConnection;
+        this.changeTableReader = changeTableReader;
         this.dispatcher = dispatcher;
         this.errorHandler = errorHandler;
         this.clock = clock;
@@ -208,7 +216,7 @@ else if (!checkAgent) {
                     tablesSlot.set(getChangeTablesToQuery(partition, offsetContext, toLsn));
                 }
                 try {
-                    dataConnection.getChangesForTables(databaseName, tablesSlot.get(), fromLsn, toLsn, resultSets -> {
+                    getChangesForTables(databaseName, tablesSlot.get(), fromLsn, toLsn, resultSets -> {
 
                         long eventSerialNoInInitialTx = 1;
                         final int tableCount = resultSets.length;
@@ -327,6 +335,13 @@ else if (!checkAgent) {
                 catch (SQLException e) {
                     tablesSlot.set(processErrorFromChangeTableQuery(databaseName, e, tablesSlot.get()));
                 }
+                finally {
+                    // The reader connections are not committed along with the data connection, so their transactions
+                    // are terminated also after a failed query
+                    if (changeTableReader != null) {
+                        changeTableReader.rollback();
+                    }
+                }
             }
         }
         catch (Exception e) {
@@ -363,6 +378,17 @@ private void migrateTable(SqlServerPartition partition, final Queue<SqlServerCha
         newTable.setSourceTable(tableSchema);
     }
 
+    private void getChangesForTables(String databaseName, SqlServerChangeTable[] changeTables, Lsn fromLsn, Lsn toLsn,
+                                     BlockingMultiResultSetConsumer consumer)
+            throws SQLException, InterruptedException {
+        if (changeTableReader != null) {
+            changeTableReader.getChangesForTables(databaseName, changeTables, fromLsn, toLsn, consumer);
+        }
+        else {
+            dataConnection.getChangesForTables(databaseName, changeTables, fromLsn, toLsn, consumer);
+        }
+    }
+
     private SqlServerChangeTable[] processErrorFromChangeTableQuery(String databaseName, SQLException exception,
                                                                     SqlServerChangeTable[] currentChangeTables)
             throws Exception {
@@ -117,6 +117,16 @@ public long getCurrentQueueSizeInBytes() {
         return changeEventQueueMetrics.currentQueueSizeInBytes();
     }
 
+    @Override
+    public int getCurrentBatchSize() {
+        return changeEventQueueMetrics.currentBatchSize();
+    }
+
+    @Override
+    public long getCurrentPollIntervalInMillis() {
+        return changeEventQueueMetrics.currentPollIntervalInMillis();
+    }
+
     protected void onPartitionEvent(SqlServerPartition partition, Consumer<B> handler) {
         B bean = beans.get(partition);
         if (bean == null) {
@@ -0,0 +1,149 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.sqlserver;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.debezium.config.Configuration;
+import io.debezium.connector.sqlserver.SqlServerConnectorConfig.SnapshotMode;
+import io.debezium.connector.sqlserver.util.TestHelper;
+import io.debezium.data.Envelope;
+import io.debezium.embedded.AbstractConnectorTest;
+import io.debezium.util.Testing;
+
+/**
+ * Integration test for querying the change tables concurrently with {@link ParallelChangeTableReader}.
+ */
+public class ParallelChangeTableReaderIT extends AbstractConnectorTest {
+
+    private static final String[] TABLES = { "tablea", "tableb", "tablec", "tabled" };
+
+    private SqlServerConnection connection;
+
+    @Before
+    public void before() throws SQLException {
+        TestHelper.createTestDatabase();
+        connection = TestHelper.testConnection();
+        for (String table : TABLES) {
+            connection.execute("CREATE TABLE " + table + " (id int primary key, data varchar(30))");
+            TestHelper.enableTableCdc(connection, table);
+        }
+
+        initializeConnectorTestFramework();
+        Testing.Files.delete(TestHelper.SCHEMA_HISTORY_PATH);
+    }
+
+    @After
+    public void after() throws SQLException {
+        if (connection != null) {
+            connection.close();
+        }
+    }
+
+    @Test
+    public void shouldEmitChangesOfAllTablesInLsnOrder() throws Exception {
+        final int transactions = 20;
+        final Configuration config = TestHelper.defaultConfig()
+                .with(SqlServerConnectorConfig.SNAPSHOT_MODE, SnapshotMode.SCHEMA_ONLY)
+                .with(SqlServerConnectorConfig.STREAMING_FETCH_THREADS, 3)
+                .build();
+
+        start(SqlServerConnector.class, config);
+        assertConnectorIsRunning();
+        TestHelper.waitForStreamingStarted();
+
+        // transactions changing a single table alternate with transactions changing all tables
+        int id = 0;
+        for (int i = 0; i < transactions; i++) {
+            if (i % 2 == 0) {
+                connection.execute("INSERT INTO " + TABLES[i % TABLES.length] + " VALUES(" + ++id + ", 'single')");
+            }
+            else {
+                final List<String> statements = new ArrayList<>();
+                for (String table : TABLES) {
+                    statements.add("INSERT INTO " + table + " VALUES(" + ++id + ", 'all')");
+                }
+                connection.execute(statements.toArray(new String[0]));
+            }
+        }
+
+        final int expected = transactions / 2 + transactions / 2 * TABLES.length;
+        final List<SourceRecord> records = consumeRecordsByTopic(expected).allRecordsInOrder();
+        assertThat(records).hasSize(expected);
+
+        Lsn previousCommitLsn = Lsn.NULL;
+        Lsn previousChangeLsn = Lsn.NULL;
+        for (int i = 0; i < records.size(); i++) {
+            final Struct value = (Struct) records.get(i).value();
+            final Struct source = value.getStruct(Envelope.FieldName.SOURCE);
+            final Lsn commitLsn = Lsn.valueOf(source.getString(SourceInfo.COMMIT_LSN_KEY));
+            final Lsn changeLsn = Lsn.valueOf(source.getString(SourceInfo.CHANGE_LSN_KEY));
+            assertThat(commitLsn.compareTo(previousCommitLsn) >= 0).isTrue();
+            if (commitLsn.equals(previousCommitLsn)) {
+                assertThat(changeLsn.compareTo(previousChangeLsn) > 0).isTrue();
+            }
+            previousCommitLsn = commitLsn;
+            previousChangeLsn = changeLsn;
+
+            // the changes are emitted in the order in which they have been executed
+            assertThat(value.getStruct(Envelope.FieldName.AFTER).getInt32("id")).isEqualTo(i + 1);
+        }
+    }
+
+    @Test
+    public void shouldContinueStreamingAfterFailedChangeTableQuery() throws Exception {
+        final int recordsPerTable = 5;
+        final Configuration config = TestHelper.defaultConfig()
+                .with(SqlServerConnectorConfig.SNAPSHOT_MODE, SnapshotMode.SCHEMA_ONLY)
+                .with(SqlServerConnectorConfig.STREAMING_FETCH_THREADS, 2)
+                .build();
+
+        start(SqlServerConnector.class, config);
+        assertConnectorIsRunning();
+        TestHelper.waitForStreamingStarted();
+
+        insertIntoAllTables(10, recordsPerTable);
+        SourceRecords records = consumeRecordsByTopic(recordsPerTable * TABLES.length);
+        for (String table : TABLES) {
+            assertThat(records.recordsForTopic(TestHelper.topicName(TestHelper.TEST_DATABASE_1, table))).hasSize(recordsPerTable);
+        }
+
+        // The query of the change table of a table no longer captured fails, the table is removed from the queried ones
+        TestHelper.disableTableCdc(connection, "tableb");
+        insertIntoAllTables(100, recordsPerTable);
+        records = consumeRecordsByTopic(recordsPerTable * (TABLES.length - 1));
+        assertThat(records.recordsForTopic(TestHelper.topicName(TestHelper.TEST_DATABASE_1, "tablea"))).hasSize(recordsPerTable);
+        assertThat(records.recordsForTopic(TestHelper.topicName(TestHelper.TEST_DATABASE_1, "tableb"))).isNullOrEmpty();
+        assertThat(records.recordsForTopic(TestHelper.topicName(TestHelper.TEST_DATABASE_1, "tablec"))).hasSize(recordsPerTable);
+        assertThat(records.recordsForTopic(TestHelper.topicName(TestHelper.TEST_DATABASE_1, "tabled"))).hasSize(recordsPerTable);
+
+        // CDC can still be disabled, as the transactions of the reader connections have been terminated
+        TestHelper.disableTableCdc(connection, "tablec");
+        insertIntoAllTables(200, recordsPerTable);
+        records = consumeRecordsByTopic(recordsPerTable * 2);
+        assertThat(records.recordsForTopic(TestHelper.topicName(TestHelper.TEST_DATABASE_1, "tablea"))).hasSize(recordsPerTable);
+        assertThat(records.recordsForTopic(TestHelper.topicName(TestHelper.TEST_DATABASE_1, "tabled"))).hasSize(recordsPerTable);
+        assertConnectorIsRunning();
+    }
+
+    private void insertIntoAllTables(int idStart, int recordsPerTable) throws SQLException {
+        for (int i = 0; i < recordsPerTable; i++) {
+            for (String table : TABLES) {
+                connection.execute("INSERT INTO " + table + " VALUES(" + (idStart + i) + ", 'data')");
+            }
+        }
+    }
+}
@@ -382,6 +382,39 @@ public static SchemaNameAdjustmentMode parse(String value) {
             .withDefault(DEFAULT_POLL_INTERVAL_MILLIS)
             .withValidation(Field::isPositiveInteger);
 
+    public static final Field ADAPTIVE_BATCHING_ENABLED = Field.create("adaptive.batching.enabled")
+            .withDisplayName("Adaptive batching")
+            .withType(Type.BOOLEAN)
+            .withGroup(Field.createGroupEntry(Field.Group.ADVANCED, 22))
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDefault(false)
+            .withValidation(Field::isBoolean)
+            .withDescription("Whether the size of each batch of source records and the time to wait for new change events are adjusted to the "
+                    + "observed event rate and downstream latency. The batch size is kept between 'adaptive.batching.min.batch.size' and "
+                    + "'max.batch.size', the wait time between 'adaptive.batching.min.poll.interval.ms' and 'poll.interval.ms'. Defaults to false.");
+
+    public static final Field ADAPTIVE_BATCHING_MIN_BATCH_SIZE = Field.create("adaptive.batching.min.batch.size")
+            .withDisplayName("Adaptive batching minimum batch size")
+            .withType(Type.INT)
+            .withGroup(Field.createGroupEntry(Field.Group.ADVANCED, 23))
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("Minimum size of each batch of source records when adaptive batching is enabled. Defaults to 1.")
+            .withDefault(1)
+            .withValidation(CommonConnectorConfig::validateAdaptiveBatchingMinBatchSize);
+
+    public static final Field ADAPTIVE_BATCHING_MIN_POLL_INTERVAL_MS = Field.create("adaptive.batching.min.poll.interval.ms")
+            .withDisplayName("Adaptive batching minimum poll interval (ms)")
+            .withType(Type.LONG)
+            .withGroup(Field.createGroupEntry(Field.Group.ADVANCED, 24))
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("Minimum time to wait for new change events to appear when adaptive batching is enabled, given in milliseconds. "
+                    + "Defaults to 10 ms.")
+            .withDefault(10L)
+            .withValidation(CommonConnectorConfig::validateAdaptiveBatchingMinPollInterval);
+
     public static final Field MAX_QUEUE_SIZE_IN_BYTES = Field.create("max.queue.size.in.bytes")
             .withDisplayName("Change event buffer size in bytes")
             .withType(Type.LONG)
@@ -571,6 +604,9 @@ public static SchemaNameAdjustmentMode parse(String value) {
                     MAX_QUEUE_SIZE,
                     POLL_INTERVAL_MS,
                     MAX_QUEUE_SIZE_IN_BYTES,
+                    ADAPTIVE_BATCHING_ENABLED,
+                    ADAPTIVE_BATCHING_MIN_BATCH_SIZE,
+                    ADAPTIVE_BATCHING_MIN_POLL_INTERVAL_MS,
                     PROVIDE_TRANSACTION_METADATA,
                     SKIPPED_OPERATIONS,
                     SNAPSHOT_DELAY_MS,
@@ -595,6 +631,9 @@ public static SchemaNameAdjustmentMode parse(String value) {
     private final int maxBatchSize;
     private final long maxQueueSizeInBytes;
     private final Duration pollInterval;
+    private final boolean adaptiveBatchingEnabled;
+    private final int adaptiveBatchingMinBatchSize;
+    private final Duration adaptiveBatchingMinPollInterval;
     protected final String logicalName;
     private final String heartbeatTopicsPrefix;
     private final Duration heartbeatInterval;
@@ -623,6 +662,9 @@ protected CommonConnectorConfig(Configuration config, int defaultSnapshotFetchSi
         this.maxBatchSize = config.getInteger(MAX_BATCH_SIZE);
         this.pollInterval = config.getDuration(POLL_INTERVAL_MS, ChronoUnit.MILLIS);
         this.maxQueueSizeInBytes = config.getLong(MAX_QUEUE_SIZE_IN_BYTES);
+        this.adaptiveBatchingEnabled = config.getBoolean(ADAPTIVE_BATCHING_ENABLED);
+        this.adaptiveBatchingMinBatchSize = config.getInteger(ADAPTIVE_BATCHING_MIN_BATCH_SIZE);
+        this.adaptiveBatchingMinPollInterval = config.getDuration(ADAPTIVE_BATCHING_MIN_POLL_INTERVAL_MS, ChronoUnit.MILLIS);
         this.logicalName = config.getString(CommonConnectorConfig.TOPIC_PREFIX);
         this.heartbeatTopicsPrefix = config.getString(Heartbeat.HEARTBEAT_TOPICS_PREFIX);
         this.heartbeatInterval = config.getDuration(Heartbeat.HEARTBEAT_INTERVAL, ChronoUnit.MILLIS);
@@ -692,6 +734,18 @@ public Duration getPollInterval() {
         return pollInterval;
     }
 
+    public boolean isAdaptiveBatchingEnabled() {
+        return adaptiveBatchingEnabled;
+    }
+
+    public int getAdaptiveBatchingMinBatchSize() {
+        return adaptiveBatchingMinBatchSize;
+    }
+
+    public Duration getAdaptiveBatchingMinPollInterval() {
+        return adaptiveBatchingMinPollInterval;
+    }
+
     public String getLogicalName() {
         return logicalName;
     }
@@ -871,6 +925,36 @@ private static int validateMaxQueueSize(Configuration config, Field field, Field
         return count;
     }
 
+    private static int validateAdaptiveBatchingMinBatchSize(Configuration config, Field field, Field.ValidationOutput problems) {
+        int minBatchSize = config.getInteger(field);
+        int maxBatchSize = config.getInteger(MAX_BATCH_SIZE);
+        int count = 0;
+        if (minBatchSize <= 0) {
+            problems.accept(field, minBatchSize, "A positive batch size is required");
+            ++count;
+        }
+        if (minBatchSize > maxBatchSize) {
+            problems.accept(field, minBatchSize, "Must not be larger than the maximum batch size");
+            ++count;
+        }
+        return count;
+    }
+
+    private static int validateAdaptiveBatchingMinPollInterval(Configuration config, Field field, Field.ValidationOutput problems) {
+        long minPollInterval = config.getLong(field);
+        long pollInterval = config.getLong(POLL_INTERVAL_MS);
+        int count = 0;
+        if (minPollInterval < 0) {
+            problems.accept(field, minPollInterval, "A non-negative poll interval is required");
+            ++count;
+        }
+        if (minPollInterval > pollInterval) {
+            problems.accept(field, minPollInterval, "Must not be larger than the poll interval");
+            ++count;
+        }
+        return count;
+    }
+
     protected static int validateSkippedOperation(Configuration config, Field field, ValidationOutput problems) {
         String operations = config.getString(field);
 
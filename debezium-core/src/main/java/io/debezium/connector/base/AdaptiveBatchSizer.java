@@ -0,0 +1,113 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.base;
+
+import java.time.Duration;
+
+import io.debezium.annotation.SingleThreadAccess;
+import io.debezium.annotation.ThreadSafe;
+import io.debezium.util.Clock;
+
+/**
+ * Adjusts the effective batch size and poll interval of a {@link ChangeEventQueue} to the observed load, within the
+ * configured bounds.
+ * <p>
+ * The sizer keeps moving averages of the rate at which records are enqueued and of the time the consumer spends
+ * between two subsequent polls, i.e. the latency of the downstream pipeline. The batch size is set to the number of
+ * records expected to arrive while the consumer processes a batch and waits for the minimum poll interval, plus any
+ * records still remaining in the queue, so that a backlog is drained with large batches. The poll interval is set to
+ * the time it is expected to take to fill a batch. At low event rates, this results in small batches which are
+ * returned as soon as the first records arrive, while at high event rates, large batches are returned without waiting
+ * longer than needed for them to fill up.
+ */
+@ThreadSafe
+class AdaptiveBatchSizer {
+
+    /**
+     * Weight of the latest observation in the moving averages.
+     */
+    private static final double SMOOTHING_FACTOR = 0.2;
+
+    private final Clock clock;
+    private final int minBatchSize;
+    private final int maxBatchSize;
+    private final long minPollIntervalNanos;
+    private final long maxPollIntervalNanos;
+
+    private volatile int batchSize;
+    private volatile long pollIntervalNanos;
+
+    @SingleThreadAccess("consumer thread")
+    private long lastPollCompleted = -1;
+
+    @SingleThreadAccess("consumer thread")
+    private int lastQueueSize;
+
+    @SingleThreadAccess("consumer thread")
+    private double enqueuedRecords = -1;
+
+    @SingleThreadAccess("consumer thread")
+    private double pollCycleNanos = -1;
+
+    @SingleThreadAccess("consumer thread")
+    private double downstreamLatencyNanos = -1;
+
+    AdaptiveBatchSizer(Clock clock, int minBatchSize, int maxBatchSize, Duration minPollInterval, Duration maxPollInterval) {
+        this.clock = clock;
+        this.minBatchSize = Math.min(minBatchSize, maxBatchSize);
+        this.maxBatchSize = maxBatchSize;
+        this.maxPollIntervalNanos = maxPollInterval.toNanos();
+        this.minPollIntervalNanos = Math.min(minPollInterval.toNanos(), maxPollIntervalNanos);
+        this.batchSize = maxBatchSize;
+        this.pollIntervalNanos = maxPollIntervalNanos;
+    }
+
+    /**
+     * Records that the consumer has started to poll for a new batch.
+     */
+    void pollStarted() {
+        if (lastPollCompleted >= 0) {
+            downstreamLatencyNanos = average(downstreamLatencyNanos, clock.currentTimeInNanos() - lastPollCompleted);
+        }
+    }
+
+    /**
+     * Records that the consumer has obtained a batch of the given size, leaving the given number of records in the
+     * queue, and adjusts the batch size and poll interval for the next poll.
+     */
+    void pollCompleted(int records, int queueSize) {
+        final long now = clock.currentTimeInNanos();
+        if (lastPollCompleted >= 0) {
+            enqueuedRecords = average(enqueuedRecords, Math.max(records + queueSize - lastQueueSize, 0));
+            pollCycleNanos = average(pollCycleNanos, Math.max(now - lastPollCompleted, 1));
+            adjust(queueSize);
+        }
+        lastPollCompleted = now;
+        lastQueueSize = queueSize;
+    }
+
+    private void adjust(int queueSize) {
+        final double enqueuedPerNano = enqueuedRecords / pollCycleNanos;
+        final double expectedRecords = enqueuedPerNano * (Math.max(downstreamLatencyNanos, 0) + minPollIntervalNanos) + queueSize;
+        final int newBatchSize = (int) Math.max(minBatchSize, Math.min(maxBatchSize, Math.ceil(expectedRecords)));
+
+        final double fillTimeNanos = enqueuedPerNano > 0 ? newBatchSize / enqueuedPerNano : maxPollIntervalNanos;
+        pollIntervalNanos = (long) Math.max(minPollIntervalNanos, Math.min(maxPollIntervalNanos, fillTimeNanos));
+        batchSize = newBatchSize;
+    }
+
+    private static double average(double average, double sample) {
+        return average < 0 ? sample : average + SMOOTHING_FACTOR * (sample - average);
+    }
+
+    int batchSize() {
+        return batchSize;
+    }
+
+    Duration pollInterval() {
+        return Duration.ofNanos(pollIntervalNanos);
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.base;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.annotation.ThreadSafe;
+import io.debezium.pipeline.Sizeable;
+import io.debezium.util.LoggingContext;
+import io.debezium.util.Threads.Timer;
+
+/**
+ * A {@link ChangeEventQueue} which guards its elements with a lock, allowing for any number of producer and consumer
+ * threads.
+ *
+ * @param <T> the type of events in this queue
+ */
+@ThreadSafe
+public class BlockingChangeEventQueue<T extends Sizeable> extends ChangeEventQueue<T> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BlockingChangeEventQueue.class);
+
+    private final Lock lock;
+    private final Condition isFull;
+    private final Condition isNotFull;
+
+    private final Queue<T> queue;
+    private final Queue<Long> sizeInBytesQueue;
+    private long currentQueueSizeInBytes = 0;
+
+    BlockingChangeEventQueue(Duration pollInterval, int maxQueueSize, int maxBatchSize, Supplier<LoggingContext.PreviousContext> loggingContextSupplier,
+                             long maxQueueSizeInBytes, boolean buffering, AdaptiveBatchSizer batchSizer,
+                             ExecutorService conversionExecutor) {
+        super(pollInterval, maxQueueSize, maxBatchSize, loggingContextSupplier, maxQueueSizeInBytes, buffering, batchSizer, conversionExecutor);
+
+        this.lock = new ReentrantLock();
+        this.isFull = lock.newCondition();
+        this.isNotFull = lock.newCondition();
+
+        this.queue = new ArrayDeque<>(maxQueueSize);
+        this.sizeInBytesQueue = new ArrayDeque<>(maxQueueSize);
+    }
+
+    @Override
+    protected void doEnqueue(T record) throws InterruptedException {
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace("Enqueuing source record '{}'", record);
+        }
+
+        try {
+            this.lock.lock();
+
+            while (queue.size() >= maxQueueSize || (maxQueueSizeInBytes > 0 && currentQueueSizeInBytes >= maxQueueSizeInBytes)) {
+                // signal poll() to drain queue
+                this.isFull.signalAll();
+                // queue size or queue sizeInBytes threshold reached, so wait a bit
+                this.isNotFull.await(pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+            }
+
+            queue.add(record);
+            // If we pass a positiveLong max.queue.size.in.bytes to enable handling queue size in bytes feature
+            if (maxQueueSizeInBytes > 0) {
+                long messageSize = record.objectSize();
+                sizeInBytesQueue.add(messageSize);
+                currentQueueSizeInBytes += messageSize;
+            }
+
+            // batch size or queue sizeInBytes threshold reached
+            if (queue.size() >= currentBatchSize() || (maxQueueSizeInBytes > 0 && currentQueueSizeInBytes >= maxQueueSizeInBytes)) {
+                // signal poll() to start draining queue and do not wait
+                this.isFull.signalAll();
+            }
+        }
+        finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    protected List<T> doPoll(Timer timeout, int batchSize) throws InterruptedException {
+        try {
+            this.lock.lock();
+            List<T> records = new ArrayList<>(Math.min(batchSize, queue.size()));
+            while (drainRecords(records, batchSize - records.size()) < batchSize
+                    && (maxQueueSizeInBytes == 0 || currentQueueSizeInBytes < maxQueueSizeInBytes)
+                    && !timeout.expired()) {
+                throwProducerExceptionIfPresent();
+
+                LOGGER.debug("no records available or batch size not reached yet, sleeping a bit...");
+                long remainingTimeoutMills = timeout.remaining().toMillis();
+                if (remainingTimeoutMills > 0) {
+                    // signal doEnqueue() to add more records
+                    this.isNotFull.signalAll();
+                    // no records available or batch size not reached yet, so wait a bit
+                    this.isFull.await(remainingTimeoutMills, TimeUnit.MILLISECONDS);
+                }
+                LOGGER.debug("checking for more records...");
+            }
+            // signal doEnqueue() to add more records
+            this.isNotFull.signalAll();
+            return records;
+        }
+        finally {
+            this.lock.unlock();
+        }
+    }
+
+    private long drainRecords(List<T> records, int maxElements) {
+        int queueSize = queue.size();
+        if (queueSize == 0) {
+            return records.size();
+        }
+        int recordsToDrain = Math.min(queueSize, maxElements);
+        T[] drainedRecords = (T[]) new Sizeable[recordsToDrain];
+        for (int i = 0; i < recordsToDrain; i++) {
+            T record = queue.poll();
+            drainedRecords[i] = record;
+        }
+        if (maxQueueSizeInBytes > 0) {
+            for (int i = 0; i < recordsToDrain; i++) {
+                long objectSize = sizeInBytesQueue.poll();
+                currentQueueSizeInBytes -= objectSize;
+            }
+        }
+        records.addAll(Arrays.asList(drainedRecords));
+        return records.size();
+    }
+
+    @Override
+    public int remainingCapacity() {
+        return maxQueueSize - queue.size();
+    }
+
+    @Override
+    public long currentQueueSizeInBytes() {
+        return currentQueueSizeInBytes;
+    }
+}
@@ -6,18 +6,14 @@
 package io.debezium.connector.base;
 
 import java.time.Duration;
-import java.util.ArrayDeque;
-import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
-import java.util.Queue;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.locks.Condition;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
+import org.apache.kafka.connect.source.SourceConnector;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -48,6 +44,18 @@
  * operation. Upon the next call to {@link #poll()}, that exception will be
  * raised, causing Kafka Connect to stop the connector and mark it as
  * {@code FAILED}.
+ * <p>
+ * Two implementations are available: {@link BlockingChangeEventQueue}, which guards its elements with a lock and
+ * supports any number of producer threads, and {@link RingBufferChangeEventQueue}, a lock-free ring buffer which
+ * requires that events are enqueued by a single thread at a time.
+ * <p>
+ * By default, {@link #poll()} waits for up to the configured poll interval for a batch of the maximum batch size. If
+ * adaptive batching is enabled, the effective batch size and poll interval are adjusted to the observed load instead,
+ * see {@link AdaptiveBatchSizer}.
+ * <p>
+ * Records enqueued via {@link #enqueue(Sizeable, Supplier)} are completed by a conversion before they become
+ * available for polling. If conversion threads are configured, these conversions run in parallel, while all records
+ * still become available in the order in which they have been enqueued, see {@link OrderedConversionStage}.
  *
  * @author Gunnar Morling
  *
@@ -58,23 +66,18 @@
  *            may be used.
  */
 @ThreadSafe
-public class ChangeEventQueue<T extends Sizeable> implements ChangeEventQueueMetrics {
+public abstract class ChangeEventQueue<T extends Sizeable> implements ChangeEventQueueMetrics {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ChangeEventQueue.class);
 
-    private final Duration pollInterval;
-    private final int maxBatchSize;
-    private final int maxQueueSize;
-    private final long maxQueueSizeInBytes;
-
-    private final Lock lock;
-    private final Condition isFull;
-    private final Condition isNotFull;
+    protected final Duration pollInterval;
+    protected final int maxBatchSize;
+    protected final int maxQueueSize;
+    protected final long maxQueueSizeInBytes;
 
-    private final Queue<T> queue;
     private final Supplier<PreviousContext> loggingContextSupplier;
-    private final Queue<Long> sizeInBytesQueue;
-    private long currentQueueSizeInBytes = 0;
+    private final AdaptiveBatchSizer batchSizer;
+    private final OrderedConversionStage<T> conversionStage;
 
     // Sometimes it is necessary to update the record before it is delivered depending on the content
     // of the following record. In that cases the easiest solution is to provide a single cell buffer
@@ -89,21 +92,18 @@
 
     private volatile RuntimeException producerException;
 
-    private ChangeEventQueue(Duration pollInterval, int maxQueueSize, int maxBatchSize, Supplier<LoggingContext.PreviousContext> loggingContextSupplier,
-                             long maxQueueSizeInBytes, boolean buffering) {
+    protected ChangeEventQueue(Duration pollInterval, int maxQueueSize, int maxBatchSize, Supplier<LoggingContext.PreviousContext> loggingContextSupplier,
+                               long maxQueueSizeInBytes, boolean buffering, AdaptiveBatchSizer batchSizer, ExecutorService conversionExecutor) {
         this.pollInterval = pollInterval;
         this.maxBatchSize = maxBatchSize;
         this.maxQueueSize = maxQueueSize;
-
-        this.lock = new ReentrantLock();
-        this.isFull = lock.newCondition();
-        this.isNotFull = lock.newCondition();
-
-        this.queue = new ArrayDeque<>(maxQueueSize);
         this.loggingContextSupplier = loggingContextSupplier;
-        this.sizeInBytesQueue = new ArrayDeque<>(maxQueueSize);
         this.maxQueueSizeInBytes = maxQueueSizeInBytes;
         this.buffering = buffering;
+        this.batchSizer = batchSizer;
+        this.conversionStage = conversionExecutor != null
+                ? new OrderedConversionStage<>(conversionExecutor, maxBatchSize, this::doEnqueue, this::producerException)
+                : null;
     }
 
     public static class Builder<T extends Sizeable> {
@@ -114,6 +114,13 @@ private ChangeEventQueue(Duration pollInterval, int maxQueueSize, int maxBatchSi
         private Supplier<LoggingContext.PreviousContext> loggingContextSupplier;
         private long maxQueueSizeInBytes;
         private boolean buffering;
+        private boolean ringBuffer;
+        private boolean adaptiveBatching;
+        private int minBatchSize = 1;
+        private Duration minPollInterval = Duration.ZERO;
+        private int conversionThreads;
+        private Class<? extends SourceConnector> connector;
+        private String connectorId;
 
         public Builder<T> pollInterval(Duration pollInterval) {
             this.pollInterval = pollInterval;
@@ -145,8 +152,60 @@ public Builder<T> buffering() {
             return this;
         }
 
+        /**
+         * Whether to use a {@link RingBufferChangeEventQueue}, which may only be used if events are enqueued by a
+         * single thread at a time.
+         */
+        public Builder<T> ringBuffer(boolean ringBuffer) {
+            this.ringBuffer = ringBuffer;
+            return this;
+        }
+
+        /**
+         * Whether to adjust the effective batch size and poll interval to the observed load, between
+         * {@link #minBatchSize(int)} and {@link #maxBatchSize(int)}, and {@link #minPollInterval(Duration)} and
+         * {@link #pollInterval(Duration)}, respectively.
+         */
+        public Builder<T> adaptiveBatching(boolean adaptiveBatching) {
+            this.adaptiveBatching = adaptiveBatching;
+            return this;
+        }
+
+        public Builder<T> minBatchSize(int minBatchSize) {
+            this.minBatchSize = minBatchSize;
+            return this;
+        }
+
+        public Builder<T> minPollInterval(Duration minPollInterval) {
+            this.minPollInterval = minPollInterval;
+            return this;
+        }
+
+        /**
+         * The number of threads running the conversions of records passed to
+         * {@link ChangeEventQueue#enqueue(Sizeable, Supplier)}; if {@code 0}, conversions are run by the
+         * enqueueing thread.
+         */
+        public Builder<T> conversionThreads(int conversionThreads, Class<? extends SourceConnector> connector, String connectorId) {
+            this.conversionThreads = conversionThreads;
+            this.connector = connector;
+            this.connectorId = connectorId;
+            return this;
+        }
+
         public ChangeEventQueue<T> build() {
-            return new ChangeEventQueue<T>(pollInterval, maxQueueSize, maxBatchSize, loggingContextSupplier, maxQueueSizeInBytes, buffering);
+            final AdaptiveBatchSizer batchSizer = adaptiveBatching
+                    ? new AdaptiveBatchSizer(Clock.SYSTEM, minBatchSize, maxBatchSize, minPollInterval, pollInterval)
+                    : null;
+            final ExecutorService conversionExecutor = conversionThreads > 0
+                    ? Threads.newFixedThreadPool(connector, connectorId, "record-conversion", conversionThreads)
+                    : null;
+            if (ringBuffer) {
+                return new RingBufferChangeEventQueue<T>(pollInterval, maxQueueSize, maxBatchSize, loggingContextSupplier, maxQueueSizeInBytes, buffering,
+                        batchSizer, conversionExecutor);
+            }
+            return new BlockingChangeEventQueue<T>(pollInterval, maxQueueSize, maxBatchSize, loggingContextSupplier, maxQueueSizeInBytes, buffering,
+                    batchSizer, conversionExecutor);
         }
     }
 
@@ -179,7 +238,75 @@ public void enqueue(T record) throws InterruptedException {
             }
         }
 
-        doEnqueue(record);
+        handOver(record);
+    }
+
+    /**
+     * Enqueues a record which is completed by the given conversion, so that it can be obtained via {@link #poll()}
+     * once the conversion has been run. If conversion threads are configured, the conversion is run asynchronously;
+     * the record nevertheless becomes available only after all records enqueued before it. This method will block if
+     * the queue is full.
+     *
+     * @param record
+     *            the record to be enqueued
+     * @param conversion
+     *            returns the step completing the record, which is run once all records enqueued before have become
+     *            available; if it returns {@code null} the record is discarded, if it fails neither the record nor
+     *            any record enqueued after it becomes available and the exception is raised by the next call to
+     *            {@link #poll()} and to this method
+     * @throws InterruptedException
+     *             if this thread has been interrupted
+     */
+    public void enqueue(T record, Supplier<Runnable> conversion) throws InterruptedException {
+        enqueueAll(Collections.singletonList(record), conversion);
+    }
+
+    /**
+     * Enqueues records which are completed by a single conversion, e.g. a delete event and its tombstone, as per
+     * {@link #enqueue(Sizeable, Supplier)}; the records become available one after another, or are all discarded
+     * if the conversion returns {@code null}.
+     *
+     * @param records
+     *            the records to be enqueued in the given order; must not be empty
+     * @param conversion
+     *            returns the step completing the records
+     * @throws InterruptedException
+     *             if this thread has been interrupted
+     */
+    public void enqueueAll(List<T> records, Supplier<Runnable> conversion) throws InterruptedException {
+        if (conversionStage == null || buffering) {
+            final Runnable completion = conversion.get();
+            if (completion != null) {
+                completion.run();
+                for (T record : records) {
+                    enqueue(record);
+                }
+            }
+            return;
+        }
+
+        // The calling thread has been interrupted, let's abort
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+
+        conversionStage.submit(records, conversion);
+    }
+
+    /**
+     * Whether records enqueued via {@link #enqueue(Sizeable, Supplier)} are currently converted asynchronously.
+     */
+    public boolean isAsynchronousConversionEnabled() {
+        return conversionStage != null && !buffering;
+    }
+
+    private void handOver(T record) throws InterruptedException {
+        if (conversionStage != null) {
+            conversionStage.submit(Collections.singletonList(record), null);
+        }
+        else {
+            doEnqueue(record);
+        }
     }
 
     /**
@@ -191,7 +318,7 @@ public void enqueue(T record) throws InterruptedException {
     public void flushBuffer(Function<T, T> recordModifier) throws InterruptedException {
         assert buffering : "Unsuported for queues with disabled buffering";
         if (bufferedEvent != null) {
-            doEnqueue(recordModifier.apply(bufferedEvent));
+            handOver(recordModifier.apply(bufferedEvent));
             bufferedEvent = null;
         }
     }
@@ -204,39 +331,10 @@ public void disableBuffering() {
         buffering = false;
     }
 
-    protected void doEnqueue(T record) throws InterruptedException {
-        if (LOGGER.isTraceEnabled()) {
-            LOGGER.trace("Enqueuing source record '{}'", record);
-        }
-
-        try {
-            this.lock.lock();
-
-            while (queue.size() >= maxQueueSize || (maxQueueSizeInBytes > 0 && currentQueueSizeInBytes >= maxQueueSizeInBytes)) {
-                // signal poll() to drain queue
-                this.isFull.signalAll();
-                // queue size or queue sizeInBytes threshold reached, so wait a bit
-                this.isNotFull.await(pollInterval.toMillis(), TimeUnit.MILLISECONDS);
-            }
-
-            queue.add(record);
-            // If we pass a positiveLong max.queue.size.in.bytes to enable handling queue size in bytes feature
-            if (maxQueueSizeInBytes > 0) {
-                long messageSize = record.objectSize();
-                sizeInBytesQueue.add(messageSize);
-                currentQueueSizeInBytes += messageSize;
-            }
-
-            // batch size or queue sizeInBytes threshold reached
-            if (queue.size() >= maxBatchSize || (maxQueueSizeInBytes > 0 && currentQueueSizeInBytes >= maxQueueSizeInBytes)) {
-                // signal poll() to start draining queue and do not wait
-                this.isFull.signalAll();
-            }
-        }
-        finally {
-            this.lock.unlock();
-        }
-    }
+    /**
+     * Adds the given record to the queue, blocking while the queue is full.
+     */
+    protected abstract void doEnqueue(T record) throws InterruptedException;
 
     /**
      * Returns the next batch of elements from this queue. May be empty in case no
@@ -251,64 +349,42 @@ public List<T> poll() throws InterruptedException {
 
         try {
             LOGGER.debug("polling records...");
-            final Timer timeout = Threads.timer(Clock.SYSTEM, Temporals.min(pollInterval, ConfigurationDefaults.RETURN_CONTROL_INTERVAL));
-            try {
-                this.lock.lock();
-                List<T> records = new ArrayList<>(Math.min(maxBatchSize, queue.size()));
-                while (drainRecords(records, maxBatchSize - records.size()) < maxBatchSize
-                        && (maxQueueSizeInBytes == 0 || currentQueueSizeInBytes < maxQueueSizeInBytes)
-                        && !timeout.expired()) {
-                    throwProducerExceptionIfPresent();
-
-                    LOGGER.debug("no records available or batch size not reached yet, sleeping a bit...");
-                    long remainingTimeoutMills = timeout.remaining().toMillis();
-                    if (remainingTimeoutMills > 0) {
-                        // signal doEnqueue() to add more records
-                        this.isNotFull.signalAll();
-                        // no records available or batch size not reached yet, so wait a bit
-                        this.isFull.await(remainingTimeoutMills, TimeUnit.MILLISECONDS);
-                    }
-                    LOGGER.debug("checking for more records...");
-                }
-                // signal doEnqueue() to add more records
-                this.isNotFull.signalAll();
-                return records;
-            }
-            finally {
-                this.lock.unlock();
+            if (batchSizer == null) {
+                final Timer timeout = Threads.timer(Clock.SYSTEM, Temporals.min(pollInterval, ConfigurationDefaults.RETURN_CONTROL_INTERVAL));
+                return doPoll(timeout, maxBatchSize);
             }
+
+            batchSizer.pollStarted();
+            final Timer timeout = Threads.timer(Clock.SYSTEM, Temporals.min(batchSizer.pollInterval(), ConfigurationDefaults.RETURN_CONTROL_INTERVAL));
+            final List<T> records = doPoll(timeout, batchSizer.batchSize());
+            batchSizer.pollCompleted(records.size(), maxQueueSize - remainingCapacity());
+            return records;
         }
         finally {
             previousContext.restore();
         }
     }
 
-    private long drainRecords(List<T> records, int maxElements) {
-        int queueSize = queue.size();
-        if (queueSize == 0) {
-            return records.size();
-        }
-        int recordsToDrain = Math.min(queueSize, maxElements);
-        T[] drainedRecords = (T[]) new Sizeable[recordsToDrain];
-        for (int i = 0; i < recordsToDrain; i++) {
-            T record = queue.poll();
-            drainedRecords[i] = record;
-        }
-        if (maxQueueSizeInBytes > 0) {
-            for (int i = 0; i < recordsToDrain; i++) {
-                long objectSize = sizeInBytesQueue.poll();
-                currentQueueSizeInBytes -= objectSize;
-            }
-        }
-        records.addAll(Arrays.asList(drainedRecords));
-        return records.size();
-    }
+    /**
+     * Removes up to {@code batchSize} elements from the queue, waiting until either the batch is complete, the
+     * maximum queue size in bytes has been reached or the given timeout has expired.
+     */
+    protected abstract List<T> doPoll(Timer timeout, int batchSize) throws InterruptedException;
 
     public void producerException(final RuntimeException producerException) {
         this.producerException = producerException;
     }
 
-    private void throwProducerExceptionIfPresent() {
+    /**
+     * Stops the threads converting records, if any. Records whose conversion has not completed yet are discarded.
+     */
+    public void close() {
+        if (conversionStage != null) {
+            conversionStage.stop();
+        }
+    }
+
+    protected void throwProducerExceptionIfPresent() {
         if (producerException != null) {
             throw producerException;
         }
@@ -320,17 +396,17 @@ public int totalCapacity() {
     }
 
     @Override
-    public int remainingCapacity() {
-        return maxQueueSize - queue.size();
+    public long maxQueueSizeInBytes() {
+        return maxQueueSizeInBytes;
     }
 
     @Override
-    public long maxQueueSizeInBytes() {
-        return maxQueueSizeInBytes;
+    public int currentBatchSize() {
+        return batchSizer != null ? batchSizer.batchSize() : maxBatchSize;
     }
 
     @Override
-    public long currentQueueSizeInBytes() {
-        return currentQueueSizeInBytes;
+    public long currentPollIntervalInMillis() {
+        return (batchSizer != null ? batchSizer.pollInterval() : pollInterval).toMillis();
     }
 }
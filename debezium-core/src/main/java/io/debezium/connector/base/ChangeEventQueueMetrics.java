@@ -14,4 +14,8 @@ public interface ChangeEventQueueMetrics {
     long maxQueueSizeInBytes();
 
     long currentQueueSizeInBytes();
+
+    int currentBatchSize();
+
+    long currentPollIntervalInMillis();
 }
@@ -0,0 +1,186 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.base;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.annotation.GuardedBy;
+import io.debezium.annotation.ThreadSafe;
+import io.debezium.function.BlockingConsumer;
+
+/**
+ * Hands over records to a {@link ChangeEventQueue} in the order in which they have been submitted, while allowing the
+ * records to be completed by conversions running on a pool of worker threads. A record is handed over once its own
+ * conversion and those of all the records submitted before it have completed; records without a conversion merely
+ * keep their position in that order. Records submitted together, e.g. a delete event and its tombstone, share a
+ * single conversion and are handed over or discarded together.
+ * <p>
+ * A conversion does not modify its record, but returns the step completing it, which is run right before the record
+ * is handed over. Records are completed and handed over while holding this stage's lock, i.e. by a single thread at a
+ * time, so that a record is never modified concurrently with the thread which has submitted it.
+ * <p>
+ * Once a conversion has failed, no further records are handed over, as their offsets would pass the failed record,
+ * and submitting records fails with the exception raised by the conversion.
+ *
+ * @param <T> the type of records handed over
+ */
+@ThreadSafe
+class OrderedConversionStage<T> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OrderedConversionStage.class);
+
+    private static final Runnable NO_COMPLETION = () -> {
+    };
+
+    private final ExecutorService executor;
+    private final int maxPendingRecords;
+    private final Semaphore pendingPermits;
+    private final BlockingConsumer<T> handOver;
+    private final Consumer<RuntimeException> failureHandler;
+
+    @GuardedBy("this")
+    private final Deque<PendingRecord<T>> pendingRecords = new ArrayDeque<>();
+
+    @GuardedBy("this")
+    private RuntimeException failure;
+
+    /**
+     * @param executor the executor running the conversions
+     * @param maxPendingRecords the maximum number of records submitted but not handed over yet; submitting further
+     *            records blocks until earlier ones have been handed over
+     * @param handOver receives the records in submission order
+     * @param failureHandler receives the exception raised by the first failed conversion
+     */
+    OrderedConversionStage(ExecutorService executor, int maxPendingRecords, BlockingConsumer<T> handOver, Consumer<RuntimeException> failureHandler) {
+        this.executor = executor;
+        this.maxPendingRecords = maxPendingRecords;
+        this.pendingPermits = new Semaphore(maxPendingRecords);
+        this.handOver = handOver;
+        this.failureHandler = failureHandler;
+    }
+
+    /**
+     * Submits records to be handed over in the given order after the given conversion has completed. If the
+     * conversion returns {@code null}, the records are discarded; if it fails, neither the records nor any record
+     * submitted after them are handed over.
+     *
+     * @param records the records completed by the conversion, must not be empty
+     * @param conversion the conversion returning the step completing the records, may be {@code null}
+     * @throws RuntimeException the exception raised by a failed conversion of a record submitted earlier
+     */
+    void submit(List<T> records, Supplier<Runnable> conversion) throws InterruptedException {
+        throwFailureIfPresent();
+        pendingPermits.acquire();
+        final PendingRecord<T> pending = new PendingRecord<>(records);
+        synchronized (this) {
+            if (failure != null) {
+                throw failure;
+            }
+            pendingRecords.add(pending);
+        }
+
+        if (conversion == null) {
+            complete(pending, NO_COMPLETION, null);
+            return;
+        }
+
+        try {
+            executor.execute(() -> {
+                Runnable completion = null;
+                RuntimeException conversionFailure = null;
+                try {
+                    completion = conversion.get();
+                }
+                catch (RuntimeException e) {
+                    conversionFailure = e;
+                }
+                try {
+                    complete(pending, completion, conversionFailure);
+                }
+                catch (InterruptedException e) {
+                    LOGGER.debug("Interrupted while handing over converted records");
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        catch (RejectedExecutionException e) {
+            // the stage has been stopped
+            throw new InterruptedException("Record conversion has been stopped");
+        }
+    }
+
+    private synchronized void complete(PendingRecord<T> pending, Runnable completion, RuntimeException conversionFailure)
+            throws InterruptedException {
+        pending.completed = true;
+        pending.completion = completion;
+        pending.failure = conversionFailure;
+
+        PendingRecord<T> head;
+        while (failure == null && (head = pendingRecords.peek()) != null && head.completed) {
+            if (head.failure != null) {
+                fail(head.failure);
+                return;
+            }
+            if (head.completion != null) {
+                try {
+                    head.completion.run();
+                }
+                catch (RuntimeException e) {
+                    fail(e);
+                    return;
+                }
+                for (T record : head.records) {
+                    handOver.accept(record);
+                }
+            }
+            pendingRecords.poll();
+            pendingPermits.release();
+        }
+    }
+
+    @GuardedBy("this")
+    private void fail(RuntimeException conversionFailure) {
+        failure = conversionFailure;
+        failureHandler.accept(conversionFailure);
+        // wake up a submitter waiting for records to be handed over, so that it fails as well
+        pendingPermits.release(maxPendingRecords);
+    }
+
+    private synchronized void throwFailureIfPresent() {
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Stops the worker threads; records which have not been handed over yet are discarded.
+     */
+    void stop() {
+        executor.shutdownNow();
+    }
+
+    private static class PendingRecord<T> {
+
+        private final List<T> records;
+        private boolean completed;
+        private Runnable completion;
+        private RuntimeException failure;
+
+        PendingRecord(List<T> records) {
+            this.records = records;
+        }
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.base;
+
+import java.lang.invoke.VarHandle;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.annotation.ThreadSafe;
+import io.debezium.pipeline.Sizeable;
+import io.debezium.util.LoggingContext;
+import io.debezium.util.Threads.Timer;
+
+/**
+ * A {@link ChangeEventQueue} backed by a lock-free single-producer/single-consumer ring buffer.
+ * <p>
+ * Records are handed over through an array whose slots are published by advancing the producer's position, so
+ * neither enqueueing nor polling requires a lock. Record sizes are tracked in a primitive array when
+ * {@code max.queue.size.in.bytes} is enabled. Back-pressure is applied by parking the producer while the queue is
+ * full and the consumer while no complete batch is available, each side waking up the other one once it has made
+ * progress.
+ * <p>
+ * Events must be enqueued by a single thread at a time, and polled by a single thread at a time.
+ *
+ * @param <T> the type of events in this queue
+ */
+@ThreadSafe
+public class RingBufferChangeEventQueue<T extends Sizeable> extends ChangeEventQueue<T> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RingBufferChangeEventQueue.class);
+
+    private final Object[] buffer;
+    private final long[] sizes;
+    private final int mask;
+
+    /**
+     * Position of the next record to be polled, only advanced by the consumer.
+     */
+    private final AtomicLong head = new AtomicLong();
+
+    /**
+     * Position of the next record to be enqueued, only advanced by the producer.
+     */
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong currentQueueSizeInBytes = new AtomicLong();
+
+    /**
+     * Records drained by the current poll, only accessed by the consumer and reused across polls.
+     */
+    private final ArrayList<T> drainBuffer = new ArrayList<>();
+
+    private volatile Thread waitingProducer;
+    private volatile Thread waitingConsumer;
+
+    RingBufferChangeEventQueue(Duration pollInterval, int maxQueueSize, int maxBatchSize, Supplier<LoggingContext.PreviousContext> loggingContextSupplier,
+                               long maxQueueSizeInBytes, boolean buffering, AdaptiveBatchSizer batchSizer,
+                               ExecutorService conversionExecutor) {
+        super(pollInterval, maxQueueSize, maxBatchSize, loggingContextSupplier, maxQueueSizeInBytes, buffering, batchSizer, conversionExecutor);
+
+        final int capacity = Integer.highestOneBit(Math.max(maxQueueSize - 1, 1)) << 1;
+        this.buffer = new Object[capacity];
+        this.sizes = maxQueueSizeInBytes > 0 ? new long[capacity] : null;
+        this.mask = capacity - 1;
+    }
+
+    @Override
+    protected void doEnqueue(T record) throws InterruptedException {
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace("Enqueuing source record '{}'", record);
+        }
+
+        final long position = tail.get();
+        while (isFull(position)) {
+            waitingProducer = Thread.currentThread();
+            VarHandle.fullFence();
+            if (isFull(position)) {
+                // signal poll() to drain queue
+                signalConsumer();
+                // queue size or queue sizeInBytes threshold reached, so wait a bit
+                LockSupport.parkNanos(this, pollInterval.toNanos());
+            }
+            waitingProducer = null;
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+
+        final int index = (int) position & mask;
+        buffer[index] = record;
+        long queueSizeInBytes = 0;
+        if (sizes != null) {
+            final long messageSize = record.objectSize();
+            sizes[index] = messageSize;
+            queueSizeInBytes = currentQueueSizeInBytes.addAndGet(messageSize);
+        }
+        tail.lazySet(position + 1);
+
+        // batch size or queue sizeInBytes threshold reached
+        if (position + 1 - head.get() >= currentBatchSize() || (sizes != null && queueSizeInBytes >= maxQueueSizeInBytes)) {
+            // signal poll() to start draining queue and do not wait
+            VarHandle.fullFence();
+            signalConsumer();
+        }
+    }
+
+    @Override
+    protected List<T> doPoll(Timer timeout, int batchSize) throws InterruptedException {
+        final List<T> records = drainBuffer;
+        records.clear();
+        while (drainRecords(records, batchSize - records.size()) < batchSize
+                && (sizes == null || currentQueueSizeInBytes.get() < maxQueueSizeInBytes)
+                && !timeout.expired()) {
+            throwProducerExceptionIfPresent();
+
+            LOGGER.debug("no records available or batch size not reached yet, sleeping a bit...");
+            final long remainingTimeoutNanos = timeout.remaining().toNanos();
+            if (remainingTimeoutNanos > 0) {
+                // signal doEnqueue() to add more records
+                signalProducer();
+                waitingConsumer = Thread.currentThread();
+                VarHandle.fullFence();
+                if (records.size() + size() < batchSize && (sizes == null || currentQueueSizeInBytes.get() < maxQueueSizeInBytes)) {
+                    // no records available or batch size not reached yet, so wait a bit
+                    LockSupport.parkNanos(this, remainingTimeoutNanos);
+                }
+                waitingConsumer = null;
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
+                }
+            }
+            LOGGER.debug("checking for more records...");
+        }
+        // signal doEnqueue() to add more records
+        VarHandle.fullFence();
+        signalProducer();
+
+        // the buffer keeps its capacity for the next poll, the caller gets an exactly sized copy it may retain
+        final List<T> batch = new ArrayList<>(records);
+        records.clear();
+        return batch;
+    }
+
+    @SuppressWarnings("unchecked")
+    private int drainRecords(List<T> records, int maxElements) {
+        final long position = head.get();
+        final int recordsToDrain = (int) Math.min(tail.get() - position, maxElements);
+        if (recordsToDrain <= 0) {
+            return records.size();
+        }
+
+        long drainedBytes = 0;
+        for (int i = 0; i < recordsToDrain; i++) {
+            final int index = (int) (position + i) & mask;
+            records.add((T) buffer[index]);
+            buffer[index] = null;
+            if (sizes != null) {
+                drainedBytes += sizes[index];
+            }
+        }
+        if (sizes != null) {
+            currentQueueSizeInBytes.addAndGet(-drainedBytes);
+        }
+        head.lazySet(position + recordsToDrain);
+        return records.size();
+    }
+
+    private boolean isFull(long position) {
+        return position - head.get() >= maxQueueSize || (sizes != null && currentQueueSizeInBytes.get() >= maxQueueSizeInBytes);
+    }
+
+    private long size() {
+        return tail.get() - head.get();
+    }
+
+    private void signalConsumer() {
+        final Thread consumer = waitingConsumer;
+        if (consumer != null) {
+            LockSupport.unpark(consumer);
+        }
+    }
+
+    private void signalProducer() {
+        final Thread producer = waitingProducer;
+        if (producer != null) {
+            LockSupport.unpark(producer);
+        }
+    }
+
+    @Override
+    public int remainingCapacity() {
+        return (int) (maxQueueSize - size());
+    }
+
+    @Override
+    public long currentQueueSizeInBytes() {
+        return currentQueueSizeInBytes.get();
+    }
+}
@@ -6,8 +6,10 @@
 package io.debezium.pipeline;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.EnumSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Supplier;
@@ -244,6 +246,32 @@ public void changeRecord(P partition,
                             streamingReceiver.changeRecord(partition, schema, operation, key, value, offset, headers);
                         }
                     }
+
+                    @Override
+                    public void changeRecord(P partition,
+                                             DataCollectionSchema schema,
+                                             Operation operation,
+                                             Object key, Struct value,
+                                             OffsetContext offset,
+                                             ConnectHeaders headers,
+                                             Supplier<Runnable> valueConversion)
+                            throws InterruptedException {
+                        // signals are processed based on the converted value
+                        if (!queue.isAsynchronousConversionEnabled() || signal.isSignal(dataCollectionId)) {
+                            valueConversion.get().run();
+                            changeRecord(partition, schema, operation, key, value, offset, headers);
+                            return;
+                        }
+
+                        if (neverSkip || !skippedOperations.contains(operation)) {
+                            transactionMonitor.dataEvent(partition, dataCollectionId, offset, key, value);
+                            eventListener.onEvent(partition, dataCollectionId, offset, key, value, operation);
+                            if (incrementalSnapshotChangeEventSource != null) {
+                                incrementalSnapshotChangeEventSource.processMessage(partition, dataCollectionId, key, offset);
+                            }
+                            streamingReceiver.changeRecord(partition, schema, operation, key, value, offset, headers, valueConversion);
+                        }
+                    }
                 });
                 handled = true;
             }
@@ -399,6 +427,57 @@ public void changeRecord(P partition,
                                  ConnectHeaders headers)
                 throws InterruptedException {
 
+            SourceRecord record = createRecord(partition, dataCollectionSchema, operation, key, value, offsetContext, headers);
+            queue.enqueue(changeEventCreator.createDataChangeEvent(record));
+            enqueueTombstone(record, operation);
+        }
+
+        /**
+         * Enqueues the record once its value has been completed by the given conversion, which may be run
+         * asynchronously by the queue; the value is only modified by the queue when handing over the record, after
+         * the transaction monitor and the listeners have been notified by the streaming thread. Failures of the
+         * conversion are handled as per the configured {@link CommonConnectorConfig.EventProcessingFailureHandlingMode}.
+         * The tombstone of a delete event is enqueued together with the event, so that it is discarded as well if
+         * the conversion of the event fails.
+         */
+        @Override
+        public void changeRecord(P partition,
+                                 DataCollectionSchema dataCollectionSchema,
+                                 Operation operation,
+                                 Object key, Struct value,
+                                 OffsetContext offsetContext,
+                                 ConnectHeaders headers,
+                                 Supplier<Runnable> valueConversion)
+                throws InterruptedException {
+
+            SourceRecord record = createRecord(partition, dataCollectionSchema, operation, key, value, offsetContext, headers);
+            final List<DataChangeEvent> events = new ArrayList<>(2);
+            events.add(changeEventCreator.createDataChangeEvent(record));
+            if (isTombstoneEmitted(operation)) {
+                events.add(changeEventCreator.createDataChangeEvent(createTombstone(record)));
+            }
+            queue.enqueueAll(events, () -> {
+                try {
+                    return valueConversion.get();
+                }
+                catch (RuntimeException e) {
+                    switch (connectorConfig.getEventProcessingFailureHandlingMode()) {
+                        case FAIL:
+                            throw new ConnectException("Error while processing event at offset " + record.sourceOffset(), e);
+                        case WARN:
+                            LOGGER.warn("Error while processing event at offset {}", record.sourceOffset(), e);
+                            break;
+                        case SKIP:
+                            LOGGER.debug("Error while processing event at offset {}", record.sourceOffset(), e);
+                            break;
+                    }
+                    return null;
+                }
+            });
+        }
+
+        private SourceRecord createRecord(P partition, DataCollectionSchema dataCollectionSchema, Operation operation, Object key,
+                                          Struct value, OffsetContext offsetContext, ConnectHeaders headers) {
             Objects.requireNonNull(value, "value must not be null");
 
             LOGGER.trace("Received change record for {} operation on key {}", operation, key);
@@ -408,7 +487,7 @@ public void changeRecord(P partition,
                     : dataCollectionSchema.keySchema();
             String topicName = topicNamingStrategy.dataChangeTopic((T) dataCollectionSchema.id());
 
-            SourceRecord record = new SourceRecord(partition.getSourcePartition(),
+            return new SourceRecord(partition.getSourcePartition(),
                     offsetContext.getOffset(),
                     topicName, null,
                     keySchema, key,
@@ -416,23 +495,29 @@ public void changeRecord(P partition,
                     value,
                     null,
                     headers);
+        }
 
-            queue.enqueue(changeEventCreator.createDataChangeEvent(record));
-
-            if (emitTombstonesOnDelete && operation == Operation.DELETE) {
-                SourceRecord tombStone = record.newRecord(
-                        record.topic(),
-                        record.kafkaPartition(),
-                        record.keySchema(),
-                        record.key(),
-                        null, // value schema
-                        null, // value
-                        record.timestamp(),
-                        record.headers());
-
-                queue.enqueue(changeEventCreator.createDataChangeEvent(tombStone));
+        private void enqueueTombstone(SourceRecord record, Operation operation) throws InterruptedException {
+            if (isTombstoneEmitted(operation)) {
+                queue.enqueue(changeEventCreator.createDataChangeEvent(createTombstone(record)));
             }
         }
+
+        private boolean isTombstoneEmitted(Operation operation) {
+            return emitTombstonesOnDelete && operation == Operation.DELETE;
+        }
+
+        private SourceRecord createTombstone(SourceRecord record) {
+            return record.newRecord(
+                    record.topic(),
+                    record.kafkaPartition(),
+                    record.keySchema(),
+                    record.key(),
+                    null, // value schema
+                    null, // value
+                    record.timestamp(),
+                    record.headers());
+        }
     }
 
     private final class BufferingSnapshotChangeRecordReceiver implements SnapshotReceiver<P> {
@@ -611,5 +696,6 @@ public void close() {
         if (heartbeatsEnabled()) {
             heartbeat.close();
         }
+        queue.close();
     }
 }
@@ -150,4 +150,14 @@ public long getCurrentQueueSizeInBytes() {
         return changeEventQueueMetrics.currentQueueSizeInBytes();
     }
 
+    @Override
+    public int getCurrentBatchSize() {
+        return changeEventQueueMetrics.currentBatchSize();
+    }
+
+    @Override
+    public long getCurrentPollIntervalInMillis() {
+        return changeEventQueueMetrics.currentPollIntervalInMillis();
+    }
+
 }
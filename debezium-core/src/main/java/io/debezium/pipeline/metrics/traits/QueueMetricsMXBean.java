@@ -17,4 +17,8 @@ public interface QueueMetricsMXBean {
     long getMaxQueueSizeInBytes();
 
     long getCurrentQueueSizeInBytes();
+
+    int getCurrentBatchSize();
+
+    long getCurrentPollIntervalInMillis();
 }
@@ -0,0 +1,192 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.pipeline.source.snapshot;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.debezium.DebeziumException;
+import io.debezium.annotation.ThreadSafe;
+
+/**
+ * Keeps track of the primary key ranges of the tables whose data has already been exported by an initial snapshot
+ * that splits tables into chunks, so that a snapshot which got interrupted can be resumed at the level of chunks
+ * instead of starting all tables over.
+ * <p>
+ * Ranges are closed intervals of the (integral) primary key value; a range of
+ * {@code [Long.MIN_VALUE, Long.MAX_VALUE]} denotes a table which has been exported entirely.
+ */
+@ThreadSafe
+public class ChunkedSnapshotContext {
+
+    public static final String SNAPSHOT_CHUNKS_KEY = "snapshot_chunks";
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final TypeReference<Map<String, List<long[]>>> MAPPER_TYPE_REF = new TypeReference<>() {
+    };
+
+    /**
+     * Completed ranges per table, keyed by the lower bound of each range; adjacent ranges are merged.
+     */
+    private final Map<String, NavigableMap<Long, Long>> completedRanges = new HashMap<>();
+
+    /**
+     * The serialized ranges, as offsets are stored for every snapshot record; {@code null} when they have changed since.
+     */
+    private String json;
+
+    public ChunkedSnapshotContext() {
+    }
+
+    /**
+     * Records that all rows of the given table having a primary key value within the given closed range have been
+     * exported.
+     */
+    public synchronized void rangeCompleted(String tableId, long lowerBound, long upperBound) {
+        if (lowerBound > upperBound) {
+            throw new IllegalArgumentException("Invalid range [" + lowerBound + ", " + upperBound + "]");
+        }
+        final NavigableMap<Long, Long> ranges = completedRanges.computeIfAbsent(tableId, k -> new TreeMap<>());
+
+        long start = lowerBound;
+        long end = upperBound;
+
+        // merge with a preceding range which overlaps or is adjacent
+        final Map.Entry<Long, Long> floor = ranges.floorEntry(start);
+        if (floor != null && (floor.getValue() == Long.MAX_VALUE || floor.getValue() + 1 >= start)) {
+            start = floor.getKey();
+            end = Math.max(end, floor.getValue());
+            ranges.remove(floor.getKey());
+        }
+
+        // merge with all following ranges which overlap or are adjacent
+        Map.Entry<Long, Long> next = ranges.ceilingEntry(start);
+        while (next != null && (end == Long.MAX_VALUE || next.getKey() <= end + 1)) {
+            end = Math.max(end, next.getValue());
+            ranges.remove(next.getKey());
+            next = ranges.ceilingEntry(start);
+        }
+
+        ranges.put(start, end);
+        json = null;
+    }
+
+    /**
+     * Records that all rows of the given table have been exported.
+     */
+    public void tableCompleted(String tableId) {
+        rangeCompleted(tableId, Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    /**
+     * Whether all rows of the given table have been exported.
+     */
+    public synchronized boolean isTableCompleted(String tableId) {
+        final NavigableMap<Long, Long> ranges = completedRanges.get(tableId);
+        return ranges != null && ranges.size() == 1 && ranges.firstKey() == Long.MIN_VALUE && ranges.firstEntry().getValue() == Long.MAX_VALUE;
+    }
+
+    /**
+     * Returns the parts of the given closed range of the given table which have not been exported yet, in ascending
+     * order.
+     */
+    public synchronized List<long[]> pendingRanges(String tableId, long lowerBound, long upperBound) {
+        final List<long[]> pending = new ArrayList<>();
+        final NavigableMap<Long, Long> ranges = completedRanges.get(tableId);
+        if (ranges == null) {
+            pending.add(new long[]{ lowerBound, upperBound });
+            return pending;
+        }
+
+        long position = lowerBound;
+        boolean exhausted = false;
+
+        final Map.Entry<Long, Long> floor = ranges.floorEntry(position);
+        if (floor != null && floor.getValue() >= position) {
+            if (floor.getValue() >= upperBound) {
+                return pending;
+            }
+            position = floor.getValue() + 1;
+        }
+
+        for (Map.Entry<Long, Long> range : ranges.tailMap(position, true).entrySet()) {
+            if (range.getKey() > upperBound) {
+                break;
+            }
+            if (range.getKey() > position) {
+                pending.add(new long[]{ position, range.getKey() - 1 });
+            }
+            if (range.getValue() >= upperBound) {
+                exhausted = true;
+                break;
+            }
+            position = range.getValue() + 1;
+        }
+
+        if (!exhausted) {
+            pending.add(new long[]{ position, upperBound });
+        }
+        return pending;
+    }
+
+    public synchronized Map<String, Object> store(Map<String, Object> offset) {
+        if (completedRanges.isEmpty()) {
+            return offset;
+        }
+        if (json == null) {
+            final Map<String, List<long[]>> serializable = new HashMap<>();
+            completedRanges.forEach((tableId, ranges) -> {
+                final List<long[]> tableRanges = new ArrayList<>(ranges.size());
+                ranges.forEach((start, end) -> tableRanges.add(new long[]{ start, end }));
+                serializable.put(tableId, tableRanges);
+            });
+            try {
+                json = MAPPER.writeValueAsString(serializable);
+            }
+            catch (IOException e) {
+                throw new DebeziumException("Cannot serialize snapshot chunk information", e);
+            }
+        }
+        offset.put(SNAPSHOT_CHUNKS_KEY, json);
+        return offset;
+    }
+
+    public static ChunkedSnapshotContext load(Map<String, ?> offset) {
+        final ChunkedSnapshotContext context = new ChunkedSnapshotContext();
+        final String chunks = (String) offset.get(SNAPSHOT_CHUNKS_KEY);
+        if (chunks == null) {
+            return context;
+        }
+        try {
+            final Map<String, List<long[]>> serialized = MAPPER.readValue(chunks, MAPPER_TYPE_REF);
+            serialized.forEach((tableId, ranges) -> ranges.forEach(range -> context.rangeCompleted(tableId, range[0], range[1])));
+        }
+        catch (IOException e) {
+            throw new DebeziumException("Cannot de-serialize snapshot chunk information", e);
+        }
+        return context;
+    }
+
+    @Override
+    public synchronized String toString() {
+        final StringBuilder sb = new StringBuilder("ChunkedSnapshotContext [");
+        completedRanges.forEach((tableId, ranges) -> {
+            sb.append(tableId).append('=');
+            ranges.forEach((start, end) -> sb.append(Arrays.toString(new long[]{ start, end })));
+            sb.append(' ');
+        });
+        return sb.append(']').toString();
+    }
+}
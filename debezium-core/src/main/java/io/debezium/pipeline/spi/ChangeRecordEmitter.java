@@ -5,6 +5,8 @@
  */
 package io.debezium.pipeline.spi;
 
+import java.util.function.Supplier;
+
 import org.apache.kafka.connect.data.Struct;
 import org.apache.kafka.connect.header.ConnectHeaders;
 
@@ -49,5 +51,18 @@
         void changeRecord(P partition, DataCollectionSchema schema, Operation operation, Object key, Struct value,
                           OffsetContext offset, ConnectHeaders headers)
                 throws InterruptedException;
+
+        /**
+         * Receives a change record whose value is completed by the given conversion, which converts the row state
+         * without modifying the value and returns the step populating the row state fields of the value. Receivers
+         * may run the conversion asynchronously, as long as the step is run and the record is handed over only after
+         * the conversion has completed; by default, both are run right away.
+         */
+        default void changeRecord(P partition, DataCollectionSchema schema, Operation operation, Object key, Struct value,
+                                  OffsetContext offset, ConnectHeaders headers, Supplier<Runnable> valueConversion)
+                throws InterruptedException {
+            valueConversion.get().run();
+            changeRecord(partition, schema, operation, key, value, offset, headers);
+        }
     }
 }
@@ -12,6 +12,7 @@
 import org.apache.kafka.connect.data.Struct;
 
 import io.debezium.connector.SnapshotRecord;
+import io.debezium.pipeline.source.snapshot.ChunkedSnapshotContext;
 import io.debezium.pipeline.source.snapshot.incremental.IncrementalSnapshotChangeEventSource;
 import io.debezium.pipeline.source.snapshot.incremental.IncrementalSnapshotContext;
 import io.debezium.pipeline.txmetadata.TransactionContext;
@@ -95,4 +96,14 @@ default void incrementalSnapshotEvents() {
     default IncrementalSnapshotContext<?> getIncrementalSnapshotContext() {
         return null;
     };
+
+    /**
+     * Provide a context used by the initial snapshot to persist the table chunks it has exported into offsets, so that
+     * an interrupted snapshot can be resumed without exporting these chunks again.
+     *
+     * @return chunked snapshot context or {@code null} if the connector cannot resume snapshots at chunk level
+     */
+    default ChunkedSnapshotContext getChunkedSnapshotContext() {
+        return null;
+    }
 }
@@ -0,0 +1,167 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.relational;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.annotation.ThreadSafe;
+import io.debezium.pipeline.source.snapshot.ChunkedSnapshotContext;
+import io.debezium.relational.RelationalSnapshotChangeEventSource.SnapshotChunk;
+
+/**
+ * Tracks the tables and chunks that are still being exported by a parallel snapshot and serializes the dispatching
+ * of their events, so that the first and last snapshot records are marked as if the tables were exported
+ * sequentially. Completed chunks are recorded in the given context, if any, in order to be persisted with the
+ * offsets of the subsequent events.
+ * <p>
+ * As the chunks of a table complete in any order, the latest record of each table is held back until either the
+ * next record of the table arrives or all chunks of the table have completed, in which case it is dispatched as the
+ * last record of the table, also if the chunk completing last is empty. A chunk is only recorded as completed once
+ * its last record has been dispatched.
+ */
+@ThreadSafe
+final class ParallelSnapshotProgress {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ParallelSnapshotProgress.class);
+
+    private final ChunkedSnapshotContext chunkedSnapshotContext;
+    private final Callback callback;
+    private final Map<TableId, TableProgress> tables = new HashMap<>();
+    private int remainingTables;
+    private boolean recordDispatched;
+
+    ParallelSnapshotProgress(int tableCount, ChunkedSnapshotContext chunkedSnapshotContext, Callback callback) {
+        this.remainingTables = tableCount;
+        this.chunkedSnapshotContext = chunkedSnapshotContext;
+        this.callback = callback;
+    }
+
+    synchronized void tableStarted(TableId tableId, int chunkCount) {
+        tables.put(tableId, new TableProgress(chunkCount));
+    }
+
+    /**
+     * Dispatches the previous record of the given table, if any, and holds back the given one.
+     */
+    synchronized void dispatch(Table table, SnapshotChunk chunk, Object[] row, Instant sourceTableSnapshotTimestamp,
+                               boolean lastRecordInChunk)
+            throws InterruptedException {
+        final TableProgress tableProgress = tables.get(table.id());
+        dispatchPendingRecord(tableProgress, false);
+
+        tableProgress.pendingTable = table;
+        tableProgress.pendingRow = row;
+        tableProgress.pendingTimestamp = sourceTableSnapshotTimestamp;
+        tableProgress.rows++;
+        if (lastRecordInChunk) {
+            tableProgress.pendingChunk = chunk;
+            chunkCompleted(table.id(), chunk, tableProgress);
+        }
+    }
+
+    /**
+     * Records the completion of a chunk that contained no records.
+     */
+    synchronized void emptyChunkCompleted(TableId tableId, SnapshotChunk chunk) throws InterruptedException {
+        rangeCompleted(tableId, chunk);
+        chunkCompleted(tableId, chunk, tables.get(tableId));
+    }
+
+    /**
+     * Records the completion of a table that was skipped or contained no records.
+     */
+    synchronized void tableCompleted() {
+        if (remainingTables == 1) {
+            callback.markLastSnapshotRecord();
+        }
+        remainingTables--;
+    }
+
+    private void chunkCompleted(TableId tableId, SnapshotChunk chunk, TableProgress tableProgress) throws InterruptedException {
+        if (--tableProgress.remainingChunks > 0) {
+            return;
+        }
+        if (tableProgress.pendingRow != null) {
+            dispatchPendingRecord(tableProgress, true);
+            remainingTables--;
+        }
+        else {
+            tableCompleted();
+        }
+        if (chunk.count > 1) {
+            LOGGER.info("\t Finished exporting {} records for table '{}' in {} chunks", tableProgress.rows, tableId, chunk.count);
+        }
+        callback.tableCompleted(tableId, tableProgress.rows);
+    }
+
+    private void dispatchPendingRecord(TableProgress tableProgress, boolean lastRecordInTable) throws InterruptedException {
+        if (tableProgress.pendingRow == null) {
+            return;
+        }
+
+        final Table table = tableProgress.pendingTable;
+        callback.dispatch(table, tableProgress.pendingRow, tableProgress.pendingTimestamp, !recordDispatched,
+                remainingTables == 1, !tableProgress.recordDispatched, lastRecordInTable);
+        recordDispatched = true;
+        tableProgress.recordDispatched = true;
+        tableProgress.pendingRow = null;
+        tableProgress.pendingTimestamp = null;
+
+        if (tableProgress.pendingChunk != null) {
+            rangeCompleted(table.id(), tableProgress.pendingChunk);
+            tableProgress.pendingChunk = null;
+        }
+    }
+
+    private void rangeCompleted(TableId tableId, SnapshotChunk chunk) {
+        if (chunkedSnapshotContext != null) {
+            chunkedSnapshotContext.rangeCompleted(tableId.toString(), chunk.lowerBound, chunk.upperBound);
+        }
+    }
+
+    /**
+     * Receives the events of a parallel snapshot, one at a time.
+     */
+    interface Callback {
+
+        /**
+         * Dispatches the event of the given record, whose position is given as if the tables were exported sequentially.
+         */
+        void dispatch(Table table, Object[] row, Instant sourceTableSnapshotTimestamp, boolean firstTable, boolean lastTable,
+                      boolean firstRecordInTable, boolean lastRecordInTable)
+                throws InterruptedException;
+
+        /**
+         * Marks the last snapshot record, as the last table has been completed without any records.
+         */
+        void markLastSnapshotRecord();
+
+        /**
+         * Notifies that all records of the given table have been dispatched.
+         */
+        void tableCompleted(TableId tableId, long rows);
+    }
+
+    private static final class TableProgress {
+
+        private int remainingChunks;
+        private long rows;
+        private boolean recordDispatched;
+        private Table pendingTable;
+        private Object[] pendingRow;
+        private Instant pendingTimestamp;
+        private SnapshotChunk pendingChunk;
+
+        TableProgress(int chunkCount) {
+            this.remainingChunks = chunkCount;
+        }
+    }
+}
@@ -12,6 +12,7 @@
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.debezium.data.Envelope;
 import io.debezium.data.Envelope.Operation;
 import io.debezium.pipeline.AbstractChangeRecordEmitter;
 import io.debezium.pipeline.spi.ChangeRecordEmitter;
@@ -22,6 +23,11 @@
 
 /**
  * Base class for {@link ChangeRecordEmitter} implementations based on a relational database.
+ * <p>
+ * The row state of the emitted values is converted from the column values by a conversion passed to the
+ * {@link Receiver}, which may run it on another thread, so implementations must not modify the column value
+ * arrays once they have been obtained. The conversion only stores the row state in the emitted value in a separate
+ * step, run by the receiver once the value is no longer accessed by the emitting thread.
  *
  * @author Gunnar Morling
  */
@@ -68,15 +74,19 @@ protected void emitCreateRecord(Receiver<P> receiver, TableSchema tableSchema)
             throws InterruptedException {
         Object[] newColumnValues = getNewColumnValues();
         Struct newKey = tableSchema.keyFromColumnData(newColumnValues);
-        Struct newValue = tableSchema.valueFromColumnData(newColumnValues);
-        Struct envelope = tableSchema.getEnvelopeSchema().create(newValue, getOffset().getSourceInfo(), getClock().currentTimeAsInstant());
 
         if (skipEmptyMessages() && (newColumnValues == null || newColumnValues.length == 0)) {
             // This case can be hit on UPDATE / DELETE when there's no primary key defined while using certain decoders
             LOGGER.warn("no new values found for table '{}' from create message at '{}'; skipping record", tableSchema, getOffset().getSourceInfo());
             return;
         }
-        receiver.changeRecord(getPartition(), tableSchema, Operation.CREATE, newKey, envelope, getOffset(), null);
+
+        Struct envelope = tableSchema.getEnvelopeSchema().create(null, getOffset().getSourceInfo(), getClock().currentTimeAsInstant());
+        receiver.changeRecord(getPartition(), tableSchema, Operation.CREATE, newKey, envelope, getOffset(), null,
+                () -> {
+                    Struct newValue = tableSchema.valueFromColumnData(newColumnValues);
+                    return () -> envelope.put(Envelope.FieldName.AFTER, newValue);
+                });
     }
 
     @Override
@@ -84,10 +94,13 @@ protected void emitReadRecord(Receiver<P> receiver, TableSchema tableSchema)
             throws InterruptedException {
         Object[] newColumnValues = getNewColumnValues();
         Struct newKey = tableSchema.keyFromColumnData(newColumnValues);
-        Struct newValue = tableSchema.valueFromColumnData(newColumnValues);
-        Struct envelope = tableSchema.getEnvelopeSchema().read(newValue, getOffset().getSourceInfo(), getClock().currentTimeAsInstant());
+        Struct envelope = tableSchema.getEnvelopeSchema().read(null, getOffset().getSourceInfo(), getClock().currentTimeAsInstant());
 
-        receiver.changeRecord(getPartition(), tableSchema, Operation.READ, newKey, envelope, getOffset(), null);
+        receiver.changeRecord(getPartition(), tableSchema, Operation.READ, newKey, envelope, getOffset(), null,
+                () -> {
+                    Struct newValue = tableSchema.valueFromColumnData(newColumnValues);
+                    return () -> envelope.put(Envelope.FieldName.AFTER, newValue);
+                });
     }
 
     @Override
@@ -99,9 +112,6 @@ protected void emitUpdateRecord(Receiver<P> receiver, TableSchema tableSchema)
         Struct oldKey = tableSchema.keyFromColumnData(oldColumnValues);
         Struct newKey = tableSchema.keyFromColumnData(newColumnValues);
 
-        Struct newValue = tableSchema.valueFromColumnData(newColumnValues);
-        Struct oldValue = tableSchema.valueFromColumnData(oldColumnValues);
-
         if (skipEmptyMessages() && (newColumnValues == null || newColumnValues.length == 0)) {
             LOGGER.warn("no new values found for table '{}' from update message at '{}'; skipping record", tableSchema, getOffset().getSourceInfo());
             return;
@@ -109,11 +119,22 @@ protected void emitUpdateRecord(Receiver<P> receiver, TableSchema tableSchema)
         // some configurations does not provide old values in case of updates
         // in this case we handle all updates as regular ones
         if (oldKey == null || Objects.equals(oldKey, newKey)) {
-            Struct envelope = tableSchema.getEnvelopeSchema().update(oldValue, newValue, getOffset().getSourceInfo(), getClock().currentTimeAsInstant());
-            receiver.changeRecord(getPartition(), tableSchema, Operation.UPDATE, newKey, envelope, getOffset(), null);
+            Struct envelope = tableSchema.getEnvelopeSchema().update(null, null, getOffset().getSourceInfo(), getClock().currentTimeAsInstant());
+            receiver.changeRecord(getPartition(), tableSchema, Operation.UPDATE, newKey, envelope, getOffset(), null, () -> {
+                Struct oldValue = tableSchema.valueFromColumnData(oldColumnValues);
+                Struct newValue = tableSchema.valueFromColumnData(newColumnValues);
+                return () -> {
+                    if (oldValue != null) {
+                        envelope.put(Envelope.FieldName.BEFORE, oldValue);
+                    }
+                    envelope.put(Envelope.FieldName.AFTER, newValue);
+                };
+            });
         }
         // PK update -> emit as delete and re-insert with new key
         else {
+            Struct newValue = tableSchema.valueFromColumnData(newColumnValues);
+            Struct oldValue = tableSchema.valueFromColumnData(oldColumnValues);
             emitUpdateAsPrimaryKeyChangeRecord(receiver, tableSchema, oldKey, newKey, oldValue, newValue);
         }
     }
@@ -122,15 +143,21 @@ protected void emitUpdateRecord(Receiver<P> receiver, TableSchema tableSchema)
     protected void emitDeleteRecord(Receiver<P> receiver, TableSchema tableSchema) throws InterruptedException {
         Object[] oldColumnValues = getOldColumnValues();
         Struct oldKey = tableSchema.keyFromColumnData(oldColumnValues);
-        Struct oldValue = tableSchema.valueFromColumnData(oldColumnValues);
 
         if (skipEmptyMessages() && (oldColumnValues == null || oldColumnValues.length == 0)) {
             LOGGER.warn("no old values found for table '{}' from delete message at '{}'; skipping record", tableSchema, getOffset().getSourceInfo());
             return;
         }
 
-        Struct envelope = tableSchema.getEnvelopeSchema().delete(oldValue, getOffset().getSourceInfo(), getClock().currentTimeAsInstant());
-        receiver.changeRecord(getPartition(), tableSchema, Operation.DELETE, oldKey, envelope, getOffset(), null);
+        Struct envelope = tableSchema.getEnvelopeSchema().delete(null, getOffset().getSourceInfo(), getClock().currentTimeAsInstant());
+        receiver.changeRecord(getPartition(), tableSchema, Operation.DELETE, oldKey, envelope, getOffset(), null, () -> {
+            Struct oldValue = tableSchema.valueFromColumnData(oldColumnValues);
+            return () -> {
+                if (oldValue != null) {
+                    envelope.put(Envelope.FieldName.BEFORE, oldValue);
+                }
+            };
+        });
     }
 
     protected void emitTruncateRecord(Receiver<P> receiver, TableSchema schema) throws InterruptedException {
@@ -145,6 +145,51 @@ public static DecimalHandlingMode parse(String value, String defaultValue) {
         }
     }
 
+    /**
+     * The set of predefined implementations of the queue handing over change events to Kafka Connect.
+     */
+    public enum QueueImplementation implements EnumeratedValue {
+        /**
+         * A queue guarded by a lock.
+         */
+        BLOCKING("blocking"),
+
+        /**
+         * A lock-free single-producer/single-consumer ring buffer.
+         */
+        RING_BUFFER("ring_buffer");
+
+        private final String value;
+
+        QueueImplementation(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public String getValue() {
+            return value;
+        }
+
+        /**
+         * Determine if the supplied value is one of the predefined options.
+         *
+         * @param value the configuration property value; may not be null
+         * @return the matching option, or null if no match is found
+         */
+        public static QueueImplementation parse(String value) {
+            if (value == null) {
+                return null;
+            }
+            value = value.trim();
+            for (QueueImplementation option : QueueImplementation.values()) {
+                if (option.getValue().equalsIgnoreCase(value)) {
+                    return option;
+                }
+            }
+            return null;
+        }
+    }
+
     public static final Field HOSTNAME = Field.create(DATABASE_CONFIG_PREFIX + JdbcConfiguration.HOSTNAME)
             .withDisplayName("Hostname")
             .withType(Type.STRING)
@@ -376,6 +421,20 @@ public static DecimalHandlingMode parse(String value, String defaultValue) {
             .withDescription("The maximum number of millis to wait for table locks at the beginning of a snapshot. If locks cannot be acquired in this " +
                     "time frame, the snapshot will be aborted. Defaults to 10 seconds");
 
+    public static final Field SNAPSHOT_CHUNK_SIZE = Field.create("snapshot.chunk.size")
+            .withDisplayName("Snapshot chunk size")
+            .withType(Type.INT)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_SNAPSHOT, 9))
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDefault(0)
+            .withValidation(Field::isNonNegativeInteger)
+            .withDescription("The approximate number of rows of a chunk when the initial snapshot splits tables with a single-column "
+                    + "integral primary key into primary key ranges, which are exported concurrently as per '" + SNAPSHOT_MAX_THREADS.name() + "'. "
+                    + "Tables are split into at most 1000 chunks. "
+                    + "The chunks of a table which were completely exported are recorded in the offsets where supported by the connector, "
+                    + "so that an interrupted snapshot does not export them again. Defaults to 0, which disables splitting tables into chunks.");
+
     // TODO - belongs to HistorizedRelationalDatabaseConnectorConfig but should be move there
     // after MySQL rewrite
     public static final Field INCLUDE_SCHEMA_CHANGES = Field.create("include.schema.changes")
@@ -464,13 +523,40 @@ public static DecimalHandlingMode parse(String value, String defaultValue) {
             .withDescription("Specify the constant that will be provided by Debezium to indicate that " +
                     "the original value is unavailable and not provided by the database.");
 
+    public static final Field QUEUE_IMPLEMENTATION = Field.create("queue.implementation")
+            .withDisplayName("Change event queue implementation")
+            .withGroup(Field.createGroupEntry(Field.Group.ADVANCED, 19))
+            .withEnum(QueueImplementation.class, QueueImplementation.BLOCKING)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("The implementation of the queue which hands over change events to Kafka Connect, including: "
+                    + "'blocking' (the default) uses a queue guarded by a lock; "
+                    + "'ring_buffer' uses a lock-free ring buffer, which reduces the overhead of handing over each event at high event rates.");
+
+    public static final Field CONVERSION_THREADS = Field.create("conversion.threads")
+            .withDisplayName("Record conversion threads")
+            .withType(Type.INT)
+            .withGroup(Field.createGroupEntry(Field.Group.ADVANCED, 25))
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDefault(0)
+            .withValidation(Field::isNonNegativeInteger)
+            .withDescription("The number of threads converting captured rows into change event values while streaming. "
+                    + "Change events are emitted in their original order regardless of the number of threads, "
+                    + "with at most 'max.batch.size' events being converted at a time. "
+                    + "Any custom converters must be thread-safe when this is enabled. "
+                    + "Defaults to 0, meaning rows are converted by the thread reading the changes from the database.");
+
     protected static final ConfigDefinition CONFIG_DEFINITION = CommonConnectorConfig.CONFIG_DEFINITION.edit()
             .type(
                     CommonConnectorConfig.TOPIC_PREFIX)
             .connector(
                     DECIMAL_HANDLING_MODE,
                     TIME_PRECISION_MODE,
-                    SNAPSHOT_LOCK_TIMEOUT_MS)
+                    SNAPSHOT_LOCK_TIMEOUT_MS,
+                    SNAPSHOT_CHUNK_SIZE,
+                    QUEUE_IMPLEMENTATION,
+                    CONVERSION_THREADS)
             .events(
                     COLUMN_INCLUDE_LIST,
                     COLUMN_EXCLUDE_LIST,
@@ -576,6 +662,18 @@ public byte[] getUnavailableValuePlaceholder() {
         return getConfig().getString(UNAVAILABLE_VALUE_PLACEHOLDER).getBytes();
     }
 
+    public QueueImplementation getQueueImplementation() {
+        return QueueImplementation.parse(getConfig().getString(QUEUE_IMPLEMENTATION));
+    }
+
+    public int getConversionThreads() {
+        return getConfig().getInteger(CONVERSION_THREADS);
+    }
+
+    public int getSnapshotChunkSize() {
+        return getConfig().getInteger(SNAPSHOT_CHUNK_SIZE);
+    }
+
     public Duration snapshotLockTimeout() {
         return Duration.ofMillis(getConfig().getLong(SNAPSHOT_LOCK_TIMEOUT_MS));
     }
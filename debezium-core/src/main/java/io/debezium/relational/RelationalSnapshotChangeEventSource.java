@@ -5,19 +5,32 @@
  */
 package io.debezium.relational;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Timestamp;
+import java.sql.Types;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.OptionalLong;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -25,14 +38,17 @@
 import org.apache.kafka.connect.errors.ConnectException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
 
 import io.debezium.DebeziumException;
+import io.debezium.config.CommonConnectorConfig;
 import io.debezium.connector.SnapshotRecord;
 import io.debezium.jdbc.CancellableResultSet;
 import io.debezium.jdbc.JdbcConnection;
 import io.debezium.pipeline.EventDispatcher;
 import io.debezium.pipeline.EventDispatcher.SnapshotReceiver;
 import io.debezium.pipeline.source.AbstractSnapshotChangeEventSource;
+import io.debezium.pipeline.source.snapshot.ChunkedSnapshotContext;
 import io.debezium.pipeline.source.spi.SnapshotChangeEventSource;
 import io.debezium.pipeline.source.spi.SnapshotProgressListener;
 import io.debezium.pipeline.source.spi.StreamingChangeEventSource;
@@ -61,6 +77,11 @@
 
     public static final Pattern SELECT_ALL_PATTERN = Pattern.compile("\\*");
 
+    /**
+     * The maximum number of chunks a table is split into, larger tables are split into chunks of more rows.
+     */
+    private static final int MAX_CHUNKS_PER_TABLE = 1000;
+
     private final RelationalDatabaseConnectorConfig connectorConfig;
     private final JdbcConnection jdbcConnection;
     private final RelationalDatabaseSchema schema;
@@ -87,6 +108,7 @@ public SnapshotResult<O> doExecute(ChangeEventSourceContext context, O previousO
         final RelationalSnapshotContext<P, O> ctx = (RelationalSnapshotContext<P, O>) snapshotContext;
 
         Connection connection = null;
+        List<JdbcConnection> workerConnections = Collections.emptyList();
         try {
             LOGGER.info("Snapshot step 1 - Preparing");
 
@@ -116,6 +138,12 @@ public SnapshotResult<O> doExecute(ChangeEventSourceContext context, O previousO
             LOGGER.info("Snapshot step 5 - Reading structure of captured tables");
             readTableStructure(context, ctx, previousOffset);
 
+            if (snapshottingTask.snapshotData()) {
+                // worker connections must be opened before the schema snapshot locks are released,
+                // so they can be tied to the same consistent point as the main connection
+                workerConnections = createSnapshotWorkerConnections(ctx);
+            }
+
             if (snapshottingTask.snapshotSchema()) {
                 LOGGER.info("Snapshot step 6 - Persisting schema history");
 
@@ -130,7 +158,7 @@ public SnapshotResult<O> doExecute(ChangeEventSourceContext context, O previousO
 
             if (snapshottingTask.snapshotData()) {
                 LOGGER.info("Snapshot step 7 - Snapshotting data");
-                createDataEvents(context, ctx);
+                createDataEvents(context, ctx, workerConnections);
             }
             else {
                 LOGGER.info("Snapshot step 7 - Skipping snapshotting of data");
@@ -144,6 +172,7 @@ public SnapshotResult<O> doExecute(ChangeEventSourceContext context, O previousO
             return SnapshotResult.completed(ctx.offset);
         }
         finally {
+            closeSnapshotWorkerConnections(workerConnections);
             rollbackTransaction(connection);
         }
     }
@@ -160,6 +189,60 @@ public Connection createSnapshotConnection() throws SQLException {
     protected void connectionCreated(RelationalSnapshotContext<P, O> snapshotContext) throws Exception {
     }
 
+    /**
+     * Creates an additional connection used by a worker thread when the data of multiple tables is exported
+     * concurrently, as configured via {@link CommonConnectorConfig#SNAPSHOT_MAX_THREADS}. It is invoked after the
+     * snapshot offset has been determined and while the schema snapshot locks are still held.
+     * <p>
+     * The returned connection must read the data at the same consistent point as the main snapshot connection, e.g.
+     * by importing an exported snapshot or by starting a consistent-read transaction while writes are blocked.
+     * Connectors that cannot guarantee this return an empty value, in which case all tables are exported
+     * sequentially on the main connection.
+     */
+    protected Optional<JdbcConnection> createSnapshotWorkerConnection(RelationalSnapshotContext<P, O> snapshotContext) throws Exception {
+        return Optional.empty();
+    }
+
+    private List<JdbcConnection> createSnapshotWorkerConnections(RelationalSnapshotContext<P, O> snapshotContext) throws Exception {
+        final int snapshotMaxThreads = Math.min(connectorConfig.getSnapshotMaxThreads(), snapshotContext.capturedTables.size());
+        if (snapshotMaxThreads <= 1) {
+            return Collections.emptyList();
+        }
+
+        final List<JdbcConnection> workerConnections = new ArrayList<>(snapshotMaxThreads - 1);
+        try {
+            for (int i = 1; i < snapshotMaxThreads; i++) {
+                final Optional<JdbcConnection> workerConnection = createSnapshotWorkerConnection(snapshotContext);
+                if (!workerConnection.isPresent()) {
+                    LOGGER.warn("A consistent snapshot cannot be taken using multiple connections, the data of all tables will be exported by a single thread");
+                    closeSnapshotWorkerConnections(workerConnections);
+                    return Collections.emptyList();
+                }
+                workerConnections.add(workerConnection.get());
+            }
+        }
+        catch (Exception e) {
+            closeSnapshotWorkerConnections(workerConnections);
+            throw e;
+        }
+
+        LOGGER.info("Created {} additional connection(s) for exporting the data of {} tables", workerConnections.size(),
+                snapshotContext.capturedTables.size());
+        return workerConnections;
+    }
+
+    private void closeSnapshotWorkerConnections(List<JdbcConnection> workerConnections) {
+        for (JdbcConnection workerConnection : workerConnections) {
+            try {
+                workerConnection.rollback();
+                workerConnection.close();
+            }
+            catch (SQLException e) {
+                LOGGER.warn("Failed to close snapshot worker connection", e);
+            }
+        }
+    }
+
     private Stream<TableId> toTableIds(Set<TableId> tableIds, Pattern pattern) {
         return tableIds
                 .stream()
@@ -296,26 +379,33 @@ protected abstract SchemaChangeEvent getCreateTableEvent(RelationalSnapshotConte
             throws Exception;
 
     private void createDataEvents(ChangeEventSourceContext sourceContext,
-                                  RelationalSnapshotContext<P, O> snapshotContext)
+                                  RelationalSnapshotContext<P, O> snapshotContext,
+                                  List<JdbcConnection> workerConnections)
             throws Exception {
         SnapshotReceiver<P> snapshotReceiver = dispatcher.getSnapshotChangeEventReceiver();
         tryStartingSnapshot(snapshotContext);
 
         final int tableCount = snapshotContext.capturedTables.size();
-        int tableOrder = 1;
-        LOGGER.info("Snapshotting contents of {} tables while still in transaction", tableCount);
-        for (Iterator<TableId> tableIdIterator = snapshotContext.capturedTables.iterator(); tableIdIterator.hasNext();) {
-            final TableId tableId = tableIdIterator.next();
-            snapshotContext.firstTable = tableOrder == 1;
-            snapshotContext.lastTable = !tableIdIterator.hasNext();
-
-            if (!sourceContext.isRunning()) {
-                throw new InterruptedException("Interrupted while snapshotting table " + tableId);
-            }
+        if (workerConnections.isEmpty() && connectorConfig.getSnapshotChunkSize() == 0) {
+            int tableOrder = 1;
+            LOGGER.info("Snapshotting contents of {} tables while still in transaction", tableCount);
+            for (Iterator<TableId> tableIdIterator = snapshotContext.capturedTables.iterator(); tableIdIterator.hasNext();) {
+                final TableId tableId = tableIdIterator.next();
+                snapshotContext.firstTable = tableOrder == 1;
+                snapshotContext.lastTable = !tableIdIterator.hasNext();
+
+                if (!sourceContext.isRunning()) {
+                    throw new InterruptedException("Interrupted while snapshotting table " + tableId);
+                }
 
-            LOGGER.debug("Snapshotting table {}", tableId);
+                LOGGER.debug("Snapshotting table {}", tableId);
 
-            createDataEventsForTable(sourceContext, snapshotContext, snapshotReceiver, snapshotContext.tables.forTable(tableId), tableOrder++, tableCount);
+                createDataEventsForTable(sourceContext, snapshotContext, snapshotReceiver, snapshotContext.tables.forTable(tableId), tableOrder++, tableCount);
+            }
+        }
+        else {
+            LOGGER.info("Snapshotting contents of {} tables using {} threads while still in transaction", tableCount, workerConnections.size() + 1);
+            createDataEventsInParallel(sourceContext, snapshotContext, snapshotReceiver, workerConnections);
         }
 
         releaseDataSnapshotLocks(snapshotContext);
@@ -324,6 +414,270 @@ private void createDataEvents(ChangeEventSourceContext sourceContext,
         snapshotContext.offset.postSnapshotCompletion();
     }
 
+    /**
+     * Exports the captured tables concurrently, each worker thread taking a connection from a pool formed by the main
+     * connection and the given worker connections. If {@link RelationalDatabaseConnectorConfig#SNAPSHOT_CHUNK_SIZE} is
+     * set, tables are split into primary key ranges which are exported as separate chunks. The events are dispatched
+     * one at a time, as the offset and the snapshot receiver are shared by all workers.
+     */
+    private void createDataEventsInParallel(ChangeEventSourceContext sourceContext,
+                                            RelationalSnapshotContext<P, O> snapshotContext,
+                                            SnapshotReceiver<P> snapshotReceiver,
+                                            List<JdbcConnection> workerConnections)
+            throws Exception {
+        final int tableCount = snapshotContext.capturedTables.size();
+        final BlockingQueue<JdbcConnection> connectionPool = new ArrayBlockingQueue<>(workerConnections.size() + 1);
+        connectionPool.add(jdbcConnection);
+        connectionPool.addAll(workerConnections);
+
+        final ChunkedSnapshotContext chunkedSnapshotContext = connectorConfig.getSnapshotChunkSize() > 0
+                ? snapshotContext.offset.getChunkedSnapshotContext()
+                : null;
+        final ParallelSnapshotProgress progress = new ParallelSnapshotProgress(tableCount, chunkedSnapshotContext,
+                new ParallelSnapshotProgress.Callback() {
+                    @Override
+                    public void dispatch(Table table, Object[] row, Instant sourceTableSnapshotTimestamp, boolean firstTable,
+                                         boolean lastTable, boolean firstRecordInTable, boolean lastRecordInTable)
+                            throws InterruptedException {
+                        snapshotContext.firstTable = firstTable;
+                        snapshotContext.lastTable = lastTable;
+                        dispatchSnapshotRecord(snapshotContext, snapshotReceiver, table, row, sourceTableSnapshotTimestamp,
+                                firstRecordInTable, lastRecordInTable);
+                    }
+
+                    @Override
+                    public void markLastSnapshotRecord() {
+                        lastSnapshotRecord(snapshotContext);
+                    }
+
+                    @Override
+                    public void tableCompleted(TableId tableId, long rows) {
+                        snapshotProgressListener.dataCollectionSnapshotCompleted(snapshotContext.partition, tableId, rows);
+                    }
+                });
+        final List<Callable<Void>> chunkExports = new ArrayList<>(tableCount);
+
+        // select statements, chunks, row counts and source timestamps are determined on the main connection up front,
+        // so that each worker only ever uses the connection it took from the pool
+        int tableOrder = 1;
+        for (TableId tableId : snapshotContext.capturedTables) {
+            if (!sourceContext.isRunning()) {
+                throw new InterruptedException("Interrupted while preparing snapshot of table " + tableId);
+            }
+
+            final Table table = snapshotContext.tables.forTable(tableId);
+            final int order = tableOrder++;
+            if (chunkedSnapshotContext != null && chunkedSnapshotContext.isTableCompleted(tableId.toString())) {
+                LOGGER.info("The data of table '{}' has been exported by a previous snapshot, skipping table", tableId);
+                snapshotProgressListener.dataCollectionSnapshotCompleted(snapshotContext.partition, tableId, 0);
+                progress.tableCompleted();
+                continue;
+            }
+            final Optional<String> selectStatement = determineSnapshotSelect(snapshotContext, tableId);
+            if (!selectStatement.isPresent()) {
+                LOGGER.warn("For table '{}' the select statement was not provided, skipping table", tableId);
+                snapshotProgressListener.dataCollectionSnapshotCompleted(snapshotContext.partition, tableId, 0);
+                progress.tableCompleted();
+                continue;
+            }
+            final OptionalLong rowCount = rowCountForTable(tableId);
+            final Instant sourceTableSnapshotTimestamp = getSnapshotSourceTimestamp(snapshotContext, tableId);
+
+            final List<SnapshotChunk> chunks = determineSnapshotChunks(snapshotContext, table, selectStatement.get(), rowCount,
+                    chunkedSnapshotContext);
+            if (chunks.isEmpty()) {
+                LOGGER.info("All chunks of table '{}' have been exported by a previous snapshot, skipping table", tableId);
+                chunkedSnapshotContext.tableCompleted(tableId.toString());
+                snapshotProgressListener.dataCollectionSnapshotCompleted(snapshotContext.partition, tableId, 0);
+                progress.tableCompleted();
+                continue;
+            }
+            progress.tableStarted(tableId, chunks.size());
+
+            final OptionalLong chunkRowCount = chunks.size() > 1 && rowCount.isPresent()
+                    ? OptionalLong.of(rowCount.getAsLong() / chunks.size())
+                    : rowCount;
+            for (SnapshotChunk chunk : chunks) {
+                chunkExports.add(() -> {
+                    final JdbcConnection connection = connectionPool.take();
+                    try {
+                        exportTable(sourceContext, snapshotContext, snapshotReceiver, connection, table, chunk, chunkRowCount,
+                                sourceTableSnapshotTimestamp, order, tableCount, progress);
+                    }
+                    finally {
+                        connectionPool.add(connection);
+                    }
+                    return null;
+                });
+            }
+        }
+
+        final Map<String, String> loggingContext = MDC.getCopyOfContextMap();
+        final ExecutorService executor = Threads.newFixedThreadPool(connectorConfig.getConnectorName(), connectorConfig.getLogicalName(),
+                "snapshot-worker", connectionPool.size());
+        final CompletionService<Void> completionService = new ExecutorCompletionService<>(executor);
+        try {
+            for (Callable<Void> chunkExport : chunkExports) {
+                completionService.submit(() -> {
+                    if (loggingContext != null) {
+                        MDC.setContextMap(loggingContext);
+                    }
+                    return chunkExport.call();
+                });
+            }
+            for (int i = 0; i < chunkExports.size(); i++) {
+                completionService.take().get();
+            }
+        }
+        catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof InterruptedException) {
+                throw (InterruptedException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new DebeziumException("Snapshotting of tables failed", cause);
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Splits the given table into chunks of primary key ranges of about {@link RelationalDatabaseConnectorConfig#SNAPSHOT_CHUNK_SIZE}
+     * rows, but into no more than {@link #MAX_CHUNKS_PER_TABLE} chunks, leaving out the ranges which have been exported by
+     * a previous snapshot as per the given context. A single chunk covering the whole table is returned if the table
+     * cannot be split.
+     *
+     * @return the chunks to export, empty if all rows of the table have been exported already
+     */
+    private List<SnapshotChunk> determineSnapshotChunks(RelationalSnapshotContext<P, O> snapshotContext, Table table,
+                                                        String selectStatement, OptionalLong rowCount,
+                                                        ChunkedSnapshotContext chunkedSnapshotContext)
+            throws SQLException {
+        final SnapshotChunk wholeTable = new SnapshotChunk(selectStatement, Long.MIN_VALUE, Long.MAX_VALUE, 1, 1);
+        final int chunkSize = connectorConfig.getSnapshotChunkSize();
+        if (chunkSize == 0) {
+            return Collections.singletonList(wholeTable);
+        }
+
+        final Optional<String> chunkColumn = determineChunkColumn(snapshotContext, table);
+        if (!chunkColumn.isPresent()) {
+            LOGGER.info("\t Table '{}' has no single-column integral primary key, it is exported as a single chunk", table.id());
+            return Collections.singletonList(wholeTable);
+        }
+
+        // the key span is no estimate of the row count for sparse keys, so rows are counted without statistics
+        final boolean countRows = !rowCount.isPresent() || rowCount.getAsLong() <= 0;
+        final BigDecimal[] bounds = jdbcConnection.queryAndMap(
+                "SELECT MIN(" + chunkColumn.get() + "), MAX(" + chunkColumn.get() + ")" + (countRows ? ", COUNT(*)" : "")
+                        + " FROM (" + selectStatement + ") dbz_chunk",
+                rs -> rs.next() ? new BigDecimal[]{ rs.getBigDecimal(1), rs.getBigDecimal(2), countRows ? rs.getBigDecimal(3) : null } : null);
+        if (bounds == null || bounds[0] == null || bounds[1] == null) {
+            return Collections.singletonList(wholeTable);
+        }
+        final long min;
+        final long max;
+        try {
+            min = bounds[0].longValueExact();
+            max = bounds[1].longValueExact();
+        }
+        catch (ArithmeticException e) {
+            LOGGER.info("\t The primary key values of table '{}' exceed the range of supported chunk bounds, it is exported as a single chunk", table.id());
+            return Collections.singletonList(wholeTable);
+        }
+
+        final BigInteger span = BigInteger.valueOf(max).subtract(BigInteger.valueOf(min)).add(BigInteger.ONE);
+        final BigInteger expectedRows = countRows ? bounds[2].toBigInteger() : BigInteger.valueOf(rowCount.getAsLong());
+        final BigInteger chunkCount = expectedRows.add(BigInteger.valueOf(chunkSize - 1)).divide(BigInteger.valueOf(chunkSize))
+                .min(BigInteger.valueOf(MAX_CHUNKS_PER_TABLE))
+                .max(BigInteger.ONE);
+        final BigInteger width = span.add(chunkCount).subtract(BigInteger.ONE).divide(chunkCount).max(BigInteger.ONE);
+
+        final List<long[]> ranges = new ArrayList<>();
+        final List<long[]> pendingRanges = chunkedSnapshotContext != null
+                ? chunkedSnapshotContext.pendingRanges(table.id().toString(), Long.MIN_VALUE, Long.MAX_VALUE)
+                : Collections.singletonList(new long[]{ Long.MIN_VALUE, Long.MAX_VALUE });
+        for (long[] pendingRange : pendingRanges) {
+            final long rangeStart = Math.max(pendingRange[0], min);
+            final long rangeEnd = Math.min(pendingRange[1], max);
+            if (rangeStart > rangeEnd) {
+                // no rows within this range
+                continue;
+            }
+            final int firstOfRange = ranges.size();
+            BigInteger chunkStart = BigInteger.valueOf(rangeStart);
+            while (chunkStart.compareTo(BigInteger.valueOf(rangeEnd)) <= 0) {
+                final BigInteger chunkEnd = chunkStart.add(width).subtract(BigInteger.ONE).min(BigInteger.valueOf(rangeEnd));
+                ranges.add(new long[]{ chunkStart.longValue(), chunkEnd.longValue() });
+                chunkStart = chunkEnd.add(BigInteger.ONE);
+            }
+            // the outermost chunks of a range also cover the rows beyond the observed minimum and maximum
+            ranges.get(firstOfRange)[0] = pendingRange[0];
+            ranges.get(ranges.size() - 1)[1] = pendingRange[1];
+        }
+
+        final List<SnapshotChunk> chunks = new ArrayList<>(ranges.size());
+        for (long[] range : ranges) {
+            chunks.add(new SnapshotChunk(chunkSelect(selectStatement, chunkColumn.get(), range[0], range[1]), range[0], range[1],
+                    chunks.size() + 1, ranges.size()));
+        }
+        if (chunks.size() > 1 || (chunks.size() == 1 && !chunks.get(0).isWholeTable())) {
+            LOGGER.info("\t Table '{}' is exported in {} chunks of primary key ranges of '{}'", table.id(), chunks.size(), chunkColumn.get());
+        }
+        return chunks;
+    }
+
+    /**
+     * Returns the quoted name of the column by which the given table can be split into chunks, i.e. its primary key if
+     * that is made up of a single column of an integral type which is contained in the default snapshot select.
+     */
+    private Optional<String> determineChunkColumn(RelationalSnapshotContext<P, O> snapshotContext, Table table) {
+        if (getSnapshotSelectOverride(table.id()) != null) {
+            return Optional.empty();
+        }
+        final List<Column> primaryKeyColumns = table.primaryKeyColumns();
+        if (primaryKeyColumns.size() != 1) {
+            return Optional.empty();
+        }
+        final Column column = primaryKeyColumns.get(0);
+        switch (column.jdbcType()) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+            case Types.BIGINT:
+                break;
+            case Types.NUMERIC:
+            case Types.DECIMAL:
+                if (column.scale().isPresent() && column.scale().get() == 0) {
+                    break;
+                }
+                return Optional.empty();
+            default:
+                return Optional.empty();
+        }
+        final String quotedColumnName = jdbcConnection.quotedColumnIdString(column.name());
+        if (!getPreparedColumnNames(snapshotContext.partition, table).contains(quotedColumnName)) {
+            return Optional.empty();
+        }
+        return Optional.of(quotedColumnName);
+    }
+
+    private String chunkSelect(String selectStatement, String chunkColumn, long lowerBound, long upperBound) {
+        final List<String> conditions = new ArrayList<>(2);
+        if (lowerBound != Long.MIN_VALUE) {
+            conditions.add(chunkColumn + " >= " + lowerBound);
+        }
+        if (upperBound != Long.MAX_VALUE) {
+            conditions.add(chunkColumn + " <= " + upperBound);
+        }
+        if (conditions.isEmpty()) {
+            return selectStatement;
+        }
+        return "SELECT * FROM (" + selectStatement + ") dbz_chunk WHERE " + String.join(" AND ", conditions);
+    }
+
     protected void tryStartingSnapshot(RelationalSnapshotContext<P, O> snapshotContext) {
         if (!snapshotContext.offset.isSnapshotRunning()) {
             snapshotContext.offset.preSnapshotStart();
@@ -358,35 +712,60 @@ private void createDataEventsForTable(ChangeEventSourceContext sourceContext,
                                           int tableCount)
             throws InterruptedException {
 
-        long exportStart = clock.currentTimeInMillis();
-        LOGGER.info("Exporting data from table '{}' ({} of {} tables)", table.id(), tableOrder, tableCount);
-
         final Optional<String> selectStatement = determineSnapshotSelect(snapshotContext, table.id());
         if (!selectStatement.isPresent()) {
             LOGGER.warn("For table '{}' the select statement was not provided, skipping table", table.id());
             snapshotProgressListener.dataCollectionSnapshotCompleted(snapshotContext.partition, table.id(), 0);
             return;
         }
-        LOGGER.info("\t For table '{}' using select statement: '{}'", table.id(), selectStatement.get());
         final OptionalLong rowCount = rowCountForTable(table.id());
         Instant sourceTableSnapshotTimestamp = getSnapshotSourceTimestamp(snapshotContext, table.id());
 
-        try (Statement statement = readTableStatement(rowCount);
-                ResultSet rs = CancellableResultSet.from(statement.executeQuery(selectStatement.get()))) {
+        exportTable(sourceContext, snapshotContext, snapshotReceiver, jdbcConnection, table,
+                new SnapshotChunk(selectStatement.get(), Long.MIN_VALUE, Long.MAX_VALUE, 1, 1), rowCount,
+                sourceTableSnapshotTimestamp, tableOrder, tableCount, null);
+    }
+
+    /**
+     * Reads the records of a single table or of one chunk of a table using the given connection and dispatches their
+     * data change events.
+     *
+     * @param rowCount the expected number of records of the table or chunk
+     * @param progress the progress shared by all workers of a parallel snapshot, {@code null} if tables are exported sequentially
+     */
+    private void exportTable(ChangeEventSourceContext sourceContext,
+                             RelationalSnapshotContext<P, O> snapshotContext,
+                             SnapshotReceiver<P> snapshotReceiver, JdbcConnection connection, Table table,
+                             SnapshotChunk chunk, OptionalLong rowCount, Instant sourceTableSnapshotTimestamp,
+                             int tableOrder, int tableCount, ParallelSnapshotProgress progress)
+            throws InterruptedException {
+
+        long exportStart = clock.currentTimeInMillis();
+        if (chunk.isWholeTable()) {
+            LOGGER.info("Exporting data from table '{}' ({} of {} tables)", table.id(), tableOrder, tableCount);
+        }
+        else {
+            LOGGER.info("Exporting chunk {} of {} of table '{}' ({} of {} tables)", chunk.index, chunk.count, table.id(),
+                    tableOrder, tableCount);
+        }
+        LOGGER.info("\t For table '{}' using select statement: '{}'", table.id(), chunk.selectStatement);
+
+        try (Statement statement = readTableStatement(connection, rowCount);
+                ResultSet rs = CancellableResultSet.from(statement.executeQuery(chunk.selectStatement))) {
 
             ColumnUtils.ColumnArray columnArray = ColumnUtils.toArray(rs, table);
             long rows = 0;
             Timer logTimer = getTableScanLogTimer();
-            snapshotContext.lastRecordInTable = false;
+            boolean lastRecord = false;
 
             if (rs.next()) {
-                while (!snapshotContext.lastRecordInTable) {
+                while (!lastRecord) {
                     if (!sourceContext.isRunning()) {
                         throw new InterruptedException("Interrupted while snapshotting table " + table.id());
                     }
 
                     rows++;
-                    final Object[] row = jdbcConnection.rowToArray(table, rs, columnArray);
+                    final Object[] row = connection.rowToArray(table, rs, columnArray);
 
                     if (logTimer.expired()) {
                         long stop = clock.currentTimeInMillis();
@@ -402,27 +781,53 @@ private void createDataEventsForTable(ChangeEventSourceContext sourceContext,
                         logTimer = getTableScanLogTimer();
                     }
 
-                    snapshotContext.firstRecordInTable = rows == 1;
-                    snapshotContext.lastRecordInTable = !rs.next();
-                    setSnapshotMarker(snapshotContext);
+                    lastRecord = !rs.next();
 
-                    dispatcher.dispatchSnapshotEvent(snapshotContext.partition, table.id(),
-                            getChangeRecordEmitter(snapshotContext, table.id(), row, sourceTableSnapshotTimestamp), snapshotReceiver);
+                    if (progress == null) {
+                        dispatchSnapshotRecord(snapshotContext, snapshotReceiver, table, row, sourceTableSnapshotTimestamp,
+                                rows == 1, lastRecord);
+                    }
+                    else {
+                        progress.dispatch(table, chunk, row, sourceTableSnapshotTimestamp, lastRecord);
+                    }
                 }
             }
+            else if (progress != null) {
+                progress.emptyChunkCompleted(table.id(), chunk);
+            }
             else if (snapshotContext.lastTable) {
                 lastSnapshotRecord(snapshotContext);
             }
 
-            LOGGER.info("\t Finished exporting {} records for table '{}'; total duration '{}'", rows,
-                    table.id(), Strings.duration(clock.currentTimeInMillis() - exportStart));
-            snapshotProgressListener.dataCollectionSnapshotCompleted(snapshotContext.partition, table.id(), rows);
+            if (chunk.isWholeTable()) {
+                LOGGER.info("\t Finished exporting {} records for table '{}' ({} of {} tables); total duration '{}'", rows,
+                        table.id(), tableOrder, tableCount, Strings.duration(clock.currentTimeInMillis() - exportStart));
+            }
+            else {
+                LOGGER.info("\t Finished exporting {} records of chunk {} of {} of table '{}'; total duration '{}'", rows,
+                        chunk.index, chunk.count, table.id(), Strings.duration(clock.currentTimeInMillis() - exportStart));
+            }
+            if (progress == null) {
+                snapshotProgressListener.dataCollectionSnapshotCompleted(snapshotContext.partition, table.id(), rows);
+            }
         }
         catch (SQLException e) {
             throw new ConnectException("Snapshotting of table " + table.id() + " failed", e);
         }
     }
 
+    private void dispatchSnapshotRecord(RelationalSnapshotContext<P, O> snapshotContext, SnapshotReceiver<P> snapshotReceiver,
+                                        Table table, Object[] row, Instant sourceTableSnapshotTimestamp,
+                                        boolean firstRecordInTable, boolean lastRecordInTable)
+            throws InterruptedException {
+        snapshotContext.firstRecordInTable = firstRecordInTable;
+        snapshotContext.lastRecordInTable = lastRecordInTable;
+        setSnapshotMarker(snapshotContext);
+
+        dispatcher.dispatchSnapshotEvent(snapshotContext.partition, table.id(),
+                getChangeRecordEmitter(snapshotContext, table.id(), row, sourceTableSnapshotTimestamp), snapshotReceiver);
+    }
+
     private void setSnapshotMarker(RelationalSnapshotContext<P, O> snapshotContext) {
         if (snapshotContext.lastRecordInTable && snapshotContext.lastTable) {
             snapshotContext.offset.markSnapshotRecord(SnapshotRecord.LAST); // Absolute last record
@@ -477,12 +882,7 @@ protected ChangeRecordEmitter<P> getChangeRecordEmitter(SnapshotContext<P, O> sn
      * @return a valid query string or empty if table will not be snapshotted
      */
     private Optional<String> determineSnapshotSelect(RelationalSnapshotContext<P, O> snapshotContext, TableId tableId) {
-        String overriddenSelect = connectorConfig.getSnapshotSelectOverridesByTable().get(tableId);
-
-        // try without catalog id, as this might or might not be populated based on the given connector
-        if (overriddenSelect == null) {
-            overriddenSelect = connectorConfig.getSnapshotSelectOverridesByTable().get(new TableId(null, tableId.schema(), tableId.table()));
-        }
+        String overriddenSelect = getSnapshotSelectOverride(tableId);
 
         if (overriddenSelect != null) {
             return Optional.of(enhanceOverriddenSelect(snapshotContext, overriddenSelect, tableId));
@@ -493,6 +893,16 @@ private Optional<String> determineSnapshotSelect(RelationalSnapshotContext<P, O>
         return getSnapshotSelect(snapshotContext, tableId, columns);
     }
 
+    private String getSnapshotSelectOverride(TableId tableId) {
+        String overriddenSelect = connectorConfig.getSnapshotSelectOverridesByTable().get(tableId);
+
+        // try without catalog id, as this might or might not be populated based on the given connector
+        if (overriddenSelect == null) {
+            overriddenSelect = connectorConfig.getSnapshotSelectOverridesByTable().get(new TableId(null, tableId.schema(), tableId.table()));
+        }
+        return overriddenSelect;
+    }
+
     /**
      * Prepares a list of columns to be used in the snapshot select.
      * The selected columns are based on the column include/exclude filters and if all columns are excluded,
@@ -559,6 +969,17 @@ protected Statement readTableStatement(OptionalLong tableSize) throws SQLExcepti
         return jdbcConnection.readTableStatement(connectorConfig, tableSize);
     }
 
+    /**
+     * Creates the statement for reading a table on the given connection, which is either the main snapshot connection
+     * or a connection obtained via {@link #createSnapshotWorkerConnection(RelationalSnapshotContext)}.
+     */
+    protected Statement readTableStatement(JdbcConnection connection, OptionalLong tableSize) throws SQLException {
+        if (connection == jdbcConnection) {
+            return readTableStatement(tableSize);
+        }
+        return connection.readTableStatement(connectorConfig, tableSize);
+    }
+
     private void rollbackTransaction(Connection connection) {
         if (connection != null) {
             try {
@@ -592,6 +1013,30 @@ public RelationalSnapshotContext(P partition, String catalogName) throws SQLExce
         }
     }
 
+    /**
+     * A part of a table exported by a single query, either a range of primary key values or the whole table.
+     */
+    static final class SnapshotChunk {
+
+        final String selectStatement;
+        final long lowerBound;
+        final long upperBound;
+        final int index;
+        final int count;
+
+        SnapshotChunk(String selectStatement, long lowerBound, long upperBound, int index, int count) {
+            this.selectStatement = selectStatement;
+            this.lowerBound = lowerBound;
+            this.upperBound = upperBound;
+            this.index = index;
+            this.count = count;
+        }
+
+        boolean isWholeTable() {
+            return lowerBound == Long.MIN_VALUE && upperBound == Long.MAX_VALUE;
+        }
+    }
+
     protected Clock getClock() {
         return clock;
     }
@@ -0,0 +1,143 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.relational;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.kafka.connect.data.Field;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.errors.ConnectException;
+import org.apache.kafka.connect.errors.DataException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.annotation.Immutable;
+
+/**
+ * The conversion of a row's values into a key or value {@link Struct}, compiled once per {@link TableSchema}.
+ * <p>
+ * Columns that are excluded by a column filter or that have no converter or no field in the schema are resolved when
+ * the plan is compiled, so that converting a row only iterates over flat arrays of the remaining columns' row
+ * indexes, converters and fields, and checks the length of the row once instead of for each column.
+ */
+@Immutable
+final class StructConversionPlan {
+
+    // failures are logged under the category of the builder that compiles the plans
+    private static final Logger LOGGER = LoggerFactory.getLogger(TableSchemaBuilder.class);
+
+    private final TableId tableId;
+    private final Schema schema;
+    private final Column[] columns;
+    private final int[] recordIndexes;
+    private final Field[] fields;
+    private final ValueConverter[] converters;
+    private final int requiredRowLength;
+
+    private StructConversionPlan(TableId tableId, Schema schema, Column[] columns, int[] recordIndexes, Field[] fields,
+                                 ValueConverter[] converters) {
+        this.tableId = tableId;
+        this.schema = schema;
+        this.columns = columns;
+        this.recordIndexes = recordIndexes;
+        this.fields = fields;
+        this.converters = converters;
+
+        int maxRecordIndex = -1;
+        for (int recordIndex : recordIndexes) {
+            maxRecordIndex = Math.max(maxRecordIndex, recordIndex);
+        }
+        this.requiredRowLength = maxRecordIndex + 1;
+    }
+
+    /**
+     * Compiles the plan for the given columns, skipping those without a converter or field.
+     *
+     * @param tableId the identifier of the table, used in error messages; may not be null
+     * @param schema the key or value schema; may not be null
+     * @param columns the columns to be converted; may not be null
+     * @param fields the schema field of each column, may contain nulls; may not be null
+     * @param converters the converter of each column, may contain nulls; may not be null
+     * @return the conversion plan; never null
+     */
+    static StructConversionPlan compile(TableId tableId, Schema schema, List<Column> columns, Field[] fields, ValueConverter[] converters) {
+        final List<Integer> included = new ArrayList<>(columns.size());
+        for (int i = 0; i < columns.size(); i++) {
+            if (converters[i] == null) {
+                continue;
+            }
+            if (fields[i] == null) {
+                LOGGER.debug("No field for column {}.{}, the column will not be part of change events for that table", tableId, columns.get(i).name());
+                continue;
+            }
+            included.add(i);
+        }
+
+        final int size = included.size();
+        final Column[] planColumns = new Column[size];
+        final int[] planRecordIndexes = new int[size];
+        final Field[] planFields = new Field[size];
+        final ValueConverter[] planConverters = new ValueConverter[size];
+        for (int i = 0; i < size; i++) {
+            final int index = included.get(i);
+            planColumns[i] = columns.get(index);
+            planRecordIndexes[i] = planColumns[i].position() - 1; // position is 1-based, indexes 0-based
+            planFields[i] = fields[index];
+            planConverters[i] = converters[index];
+        }
+        return new StructConversionPlan(tableId, schema, planColumns, planRecordIndexes, planFields, planConverters);
+    }
+
+    /**
+     * Converts the given row into a key struct; key values which cannot be converted are logged and omitted.
+     */
+    Struct convertKey(Object[] row) {
+        validateRowLength(row);
+        final Struct result = new Struct(schema);
+        for (int i = 0; i < recordIndexes.length; i++) {
+            // A component of primary key must be not-null.
+            // It is possible for some databases and values (MySQL and all-zero datetime)
+            // to be reported as null by JDBC or streaming reader.
+            // It thus makes sense to convert them to a sensible default replacement value.
+            final Object value = converters[i].convert(row[recordIndexes[i]]);
+            try {
+                result.put(fields[i], value);
+            }
+            catch (DataException e) {
+                LOGGER.error("Failed to properly convert key value for '{}.{}' of type {} for row {}:",
+                        tableId, columns[i].name(), columns[i].typeName(), row, e);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Converts the given row into a value struct; values which cannot be converted are logged and omitted.
+     */
+    Struct convertValue(Object[] row) {
+        validateRowLength(row);
+        final Struct result = new Struct(schema);
+        for (int i = 0; i < recordIndexes.length; i++) {
+            try {
+                result.put(fields[i], converters[i].convert(row[recordIndexes[i]]));
+            }
+            catch (final Exception e) {
+                LOGGER.error("Failed to properly convert data value for '{}.{}' of type {} for row {}:",
+                        tableId, columns[i].name(), columns[i].typeName(), row, e);
+            }
+        }
+        return result;
+    }
+
+    private void validateRowLength(Object[] row) {
+        if (row.length < requiredRowLength) {
+            LOGGER.error("Error requesting a row value, row: {}, requested index: {}", row.length, requiredRowLength - 1);
+            throw new ConnectException("Data row is smaller than a column index, internal schema representation is probably out of sync with real database schema");
+        }
+    }
+}
@@ -16,8 +16,6 @@
 import org.apache.kafka.connect.data.Schema;
 import org.apache.kafka.connect.data.SchemaBuilder;
 import org.apache.kafka.connect.data.Struct;
-import org.apache.kafka.connect.errors.ConnectException;
-import org.apache.kafka.connect.errors.DataException;
 import org.apache.kafka.connect.errors.SchemaBuilderException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -185,32 +183,11 @@ public boolean isMultiPartitionMode() {
     protected StructGenerator createKeyGenerator(Schema schema, TableId columnSetName, List<Column> columns,
                                                  TopicNamingStrategy topicNamingStrategy) {
         if (schema != null) {
-            int[] recordIndexes = indexesForColumns(columns);
             Field[] fields = fieldsForColumns(schema, columns);
-            int numFields = recordIndexes.length;
             ValueConverter[] converters = convertersForColumns(schema, columnSetName, columns, null);
+            StructConversionPlan plan = StructConversionPlan.compile(columnSetName, schema, columns, fields, converters);
             return (row) -> {
-                Struct result = new Struct(schema);
-                for (int i = 0; i != numFields; ++i) {
-                    validateIncomingRowToInternalMetadata(recordIndexes, fields, converters, row, i);
-                    Object value = row[recordIndexes[i]];
-                    ValueConverter converter = converters[i];
-                    if (converter != null) {
-                        // A component of primary key must be not-null.
-                        // It is possible for some databases and values (MySQL and all-zero datetime)
-                        // to be reported as null by JDBC or streaming reader.
-                        // It thus makes sense to convert them to a sensible default replacement value.
-                        value = converter.convert(value);
-                        try {
-                            result.put(fields[i], value);
-                        }
-                        catch (DataException e) {
-                            Column col = columns.get(i);
-                            LOGGER.error("Failed to properly convert key value for '{}.{}' of type {} for row {}:",
-                                    columnSetName, col.name(), col.typeName(), row, e);
-                        }
-                    }
-                }
+                Struct result = plan.convertKey(row);
                 topicNamingStrategy.keyValueAugment().augment(columnSetName, schema, result);
                 return result;
             };
@@ -218,23 +195,6 @@ protected StructGenerator createKeyGenerator(Schema schema, TableId columnSetNam
         return null;
     }
 
-    private void validateIncomingRowToInternalMetadata(int[] recordIndexes, Field[] fields, ValueConverter[] converters,
-                                                       Object[] row, int position) {
-        if (position >= converters.length) {
-            LOGGER.error("Error requesting a converter, converters: {}, requested index: {}", converters.length, position);
-            throw new ConnectException(
-                    "Column indexing array is larger than number of converters, internal schema representation is probably out of sync with real database schema");
-        }
-        if (position >= fields.length) {
-            LOGGER.error("Error requesting a field, fields: {}, requested index: {}", fields.length, position);
-            throw new ConnectException("Too few schema fields, internal schema representation is probably out of sync with real database schema");
-        }
-        if (recordIndexes[position] >= row.length) {
-            LOGGER.error("Error requesting a row value, row: {}, requested index: {} at position {}", row.length, recordIndexes[position], position);
-            throw new ConnectException("Data row is smaller than a column index, internal schema representation is probably out of sync with real database schema");
-        }
-    }
-
     /**
      * Creates the function that produces a Kafka Connect value object for a row of data.
      *
@@ -253,57 +213,13 @@ protected StructGenerator createValueGenerator(Schema schema, TableId tableId, L
             List<Column> columnsThatShouldBeAdded = columns.stream()
                     .filter(column -> filter == null || filter.matches(tableId.catalog(), tableId.schema(), tableId.table(), column.name()))
                     .collect(Collectors.toList());
-            int[] recordIndexes = indexesForColumns(columnsThatShouldBeAdded);
             Field[] fields = fieldsForColumns(schema, columnsThatShouldBeAdded);
-            int numFields = recordIndexes.length;
             ValueConverter[] converters = convertersForColumns(schema, tableId, columnsThatShouldBeAdded, mappers);
-            return (row) -> {
-                Struct result = new Struct(schema);
-                for (int i = 0; i != numFields; ++i) {
-                    validateIncomingRowToInternalMetadata(recordIndexes, fields, converters, row, i);
-                    Object value = row[recordIndexes[i]];
-
-                    ValueConverter converter = converters[i];
-
-                    if (converter != null) {
-                        LOGGER.trace("converter for value object: *** {} ***", converter);
-                    }
-                    else {
-                        LOGGER.trace("converter is null...");
-                    }
-
-                    if (converter != null) {
-                        try {
-                            value = converter.convert(value);
-                            result.put(fields[i], value);
-                        }
-                        catch (DataException | IllegalArgumentException e) {
-                            Column col = columns.get(i);
-                            LOGGER.error("Failed to properly convert data value for '{}.{}' of type {} for row {}:",
-                                    tableId, col.name(), col.typeName(), row, e);
-                        }
-                        catch (final Exception e) {
-                            Column col = columns.get(i);
-                            LOGGER.error("Failed to properly convert data value for '{}.{}' of type {} for row {}:",
-                                    tableId, col.name(), col.typeName(), row, e);
-                        }
-                    }
-                }
-                return result;
-            };
+            return StructConversionPlan.compile(tableId, schema, columnsThatShouldBeAdded, fields, converters)::convertValue;
         }
         return null;
     }
 
-    protected int[] indexesForColumns(List<Column> columns) {
-        int[] recordIndexes = new int[columns.size()];
-        AtomicInteger i = new AtomicInteger(0);
-        columns.forEach(column -> {
-            recordIndexes[i.getAndIncrement()] = column.position() - 1; // position is 1-based, indexes 0-based
-        });
-        return recordIndexes;
-    }
-
     protected Field[] fieldsForColumns(Schema schema, List<Column> columns) {
         Field[] fields = new Field[columns.size()];
         AtomicInteger i = new AtomicInteger(0);
@@ -112,14 +112,22 @@ protected static final class HashValueConverter implements ValueConverter {
 
         private static final Logger LOGGER = LoggerFactory.getLogger(HashValueConverter.class);
         private final byte[] salt;
-        private final MessageDigest hashAlgorithm;
+        // values may be converted concurrently, so each thread gets a digest of its own
+        private final ThreadLocal<MessageDigest> hashAlgorithm;
         private final HashingByteArrayStrategy hashingByteArrayStrategy;
 
         public HashValueConverter(byte[] salt, String hashAlgorithm, HashingByteArrayStrategy hashingByteArrayStrategy) {
             this.salt = salt;
             this.hashingByteArrayStrategy = hashingByteArrayStrategy;
+            // fails for unknown algorithms when the converter is created rather than on first use
+            final MessageDigest digest = getDigest(hashAlgorithm);
+            this.hashAlgorithm = ThreadLocal.withInitial(() -> getDigest(hashAlgorithm));
+            this.hashAlgorithm.set(digest);
+        }
+
+        private static MessageDigest getDigest(String hashAlgorithm) {
             try {
-                this.hashAlgorithm = MessageDigest.getInstance(hashAlgorithm);
+                return MessageDigest.getInstance(hashAlgorithm);
             }
             catch (NoSuchAlgorithmException e) {
                 throw new IllegalArgumentException(e);
@@ -142,10 +150,11 @@ public Object convert(Object value) {
         }
 
         private String toHash(Serializable value) throws IOException {
-            hashAlgorithm.reset();
-            hashAlgorithm.update(salt);
+            final MessageDigest digest = hashAlgorithm.get();
+            digest.reset();
+            digest.update(salt);
             byte[] valueToByteArray = hashingByteArrayStrategy.toByteArray(value);
-            return convertToHexadecimalFormat(hashAlgorithm.digest(valueToByteArray));
+            return convertToHexadecimalFormat(digest.digest(valueToByteArray));
         }
 
         private String convertToHexadecimalFormat(byte[] bytes) {
@@ -266,8 +266,26 @@ public static ThreadFactory threadFactory(Class<? extends SourceConnector> conne
      */
     public static ThreadFactory threadFactory(Class<? extends SourceConnector> connector, String connectorId, String name, boolean indexed, boolean daemon,
                                               Consumer<Thread> callback) {
+        return threadFactory(connector.getSimpleName(), connectorId, name, indexed, daemon, callback);
+    }
+
+    /**
+     * Returns a thread factory that creates threads conforming to Debezium thread naming
+     * pattern {@code debezium-<connector name>-<connector-id>-<thread-name>}.
+     * Intended for code that is shared by all connectors and thus doesn't know the connector class.
+     *
+     * @param connectorName - the name of the source connector, e.g. as returned by {@code CommonConnectorConfig#getConnectorName()}
+     * @param connectorId - the identifier to differentiate between connector instances
+     * @param name - the name of the thread
+     * @param indexed - true if the thread name should be appended with an index
+     * @param daemon - true if the thread should be a daemon thread
+     * @param callback - a callback called on every thread created
+     * @return the thread factory setting the correct name
+     */
+    public static ThreadFactory threadFactory(String connectorName, String connectorId, String name, boolean indexed, boolean daemon,
+                                              Consumer<Thread> callback) {
         if (LOGGER.isInfoEnabled()) {
-            LOGGER.info("Requested thread factory for connector {}, id = {} named = {}", connector.getSimpleName(), connectorId, name);
+            LOGGER.info("Requested thread factory for connector {}, id = {} named = {}", connectorName, connectorId, name);
         }
 
         return new ThreadFactory() {
@@ -276,7 +294,7 @@ public static ThreadFactory threadFactory(Class<? extends SourceConnector> conne
             @Override
             public Thread newThread(Runnable r) {
                 StringBuilder threadName = new StringBuilder(DEBEZIUM_THREAD_NAME_PREFIX)
-                        .append(connector.getSimpleName().toLowerCase())
+                        .append(connectorName.toLowerCase())
                         .append('-')
                         .append(connectorId)
                         .append('-')
@@ -306,4 +324,8 @@ public static ExecutorService newFixedThreadPool(Class<? extends SourceConnector
     public static ExecutorService newSingleThreadExecutor(Class<? extends SourceConnector> connector, String connectorId, String name) {
         return newSingleThreadExecutor(connector, connectorId, name, false);
     }
+
+    public static ExecutorService newFixedThreadPool(String connectorName, String connectorId, String name, int threadCount) {
+        return Executors.newFixedThreadPool(threadCount, threadFactory(connectorName, connectorId, name, true, false, null));
+    }
 }
@@ -0,0 +1,152 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.base;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.Test;
+
+import io.debezium.pipeline.Sizeable;
+import io.debezium.util.Clock;
+import io.debezium.util.LoggingContext;
+
+public class AdaptiveBatchSizerTest {
+
+    private static final Duration MIN_POLL_INTERVAL = Duration.ofMillis(10);
+    private static final Duration MAX_POLL_INTERVAL = Duration.ofMillis(500);
+
+    private long nanos = 0;
+    private double backlog = 0;
+    private final Clock clock = new Clock() {
+        @Override
+        public long currentTimeInMillis() {
+            return nanos / 1_000_000;
+        }
+
+        @Override
+        public long currentTimeInNanos() {
+            return nanos;
+        }
+    };
+
+    @Test
+    public void shouldStartWithMaximumValues() {
+        final AdaptiveBatchSizer sizer = new AdaptiveBatchSizer(clock, 1, 2048, MIN_POLL_INTERVAL, MAX_POLL_INTERVAL);
+        assertThat(sizer.batchSize()).isEqualTo(2048);
+        assertThat(sizer.pollInterval()).isEqualTo(MAX_POLL_INTERVAL);
+    }
+
+    @Test
+    public void shouldShrinkBatchesAtLowEventRate() {
+        final AdaptiveBatchSizer sizer = new AdaptiveBatchSizer(clock, 1, 2048, MIN_POLL_INTERVAL, MAX_POLL_INTERVAL);
+
+        // one record every 200 ms, processed downstream within 5 ms
+        simulate(sizer, 0.005, 5, 100);
+
+        assertThat(sizer.batchSize()).isEqualTo(1);
+        assertThat(sizer.pollInterval().toMillis()).isGreaterThan(150);
+        assertThat(sizer.pollInterval().toMillis()).isLessThan(250);
+    }
+
+    @Test
+    public void shouldMatchBatchSizeToDownstreamLatency() {
+        final AdaptiveBatchSizer sizer = new AdaptiveBatchSizer(clock, 1, 2048, MIN_POLL_INTERVAL, MAX_POLL_INTERVAL);
+
+        // 10 records per ms, processed downstream within 50 ms per batch
+        simulate(sizer, 10, 50, 100);
+
+        // records arriving during 50 ms downstream latency plus 10 ms minimum poll interval
+        assertThat(sizer.batchSize()).isGreaterThan(550);
+        assertThat(sizer.batchSize()).isLessThan(650);
+        assertThat(sizer.pollInterval().toMillis()).isGreaterThan(50);
+        assertThat(sizer.pollInterval().toMillis()).isLessThan(70);
+    }
+
+    @Test
+    public void shouldDrainBacklogWithLargeBatches() {
+        final AdaptiveBatchSizer sizer = new AdaptiveBatchSizer(clock, 1, 2048, MIN_POLL_INTERVAL, MAX_POLL_INTERVAL);
+        simulate(sizer, 0.005, 5, 100);
+        assertThat(sizer.batchSize()).isEqualTo(1);
+
+        backlog += 10_000;
+        simulate(sizer, 0.005, 5, 1);
+        assertThat(sizer.batchSize()).isEqualTo(2048);
+    }
+
+    @Test
+    public void shouldKeepValuesWithinBounds() {
+        final AdaptiveBatchSizer sizer = new AdaptiveBatchSizer(clock, 1, 16, MIN_POLL_INTERVAL, MAX_POLL_INTERVAL);
+
+        // 1000 records per ms, filling any batch within microseconds
+        simulate(sizer, 1000, 1, 50);
+
+        assertThat(sizer.batchSize()).isEqualTo(16);
+        assertThat(sizer.pollInterval()).isEqualTo(MIN_POLL_INTERVAL);
+    }
+
+    @Test
+    public void shouldExposeAdaptedValuesAsMetrics() throws InterruptedException {
+        final ChangeEventQueue<Event> queue = new ChangeEventQueue.Builder<Event>()
+                .pollInterval(MAX_POLL_INTERVAL)
+                .maxQueueSize(100)
+                .maxBatchSize(50)
+                .loggingContextSupplier(() -> LoggingContext.forConnector("a", "b", "c"))
+                .adaptiveBatching(true)
+                .minBatchSize(5)
+                .minPollInterval(MIN_POLL_INTERVAL)
+                .build();
+        assertThat(queue.currentBatchSize()).isEqualTo(50);
+        assertThat(queue.currentPollIntervalInMillis()).isEqualTo(500);
+
+        for (int i = 0; i < 50; i++) {
+            queue.enqueue(new Event());
+        }
+        assertThat(queue.poll()).hasSize(50);
+
+        // the second poll is the first one to be evaluated, it waits for the full poll interval to receive one event
+        queue.enqueue(new Event());
+        final List<Event> events = queue.poll();
+        assertThat(events).hasSize(1);
+        assertThat(queue.currentBatchSize()).isEqualTo(5);
+        assertThat(queue.currentPollIntervalInMillis()).isEqualTo(500);
+    }
+
+    /**
+     * Simulates a queue receiving {@code recordsPerMilli} records per millisecond, whose batches take
+     * {@code downstreamMillis} each to be processed by the downstream pipeline.
+     */
+    private void simulate(AdaptiveBatchSizer sizer, double recordsPerMilli, long downstreamMillis, int polls) {
+        for (int i = 0; i < polls; i++) {
+            advance(Duration.ofMillis(downstreamMillis).toNanos(), recordsPerMilli);
+            sizer.pollStarted();
+
+            final int batchSize = sizer.batchSize();
+            if (backlog < batchSize) {
+                final double fillTimeNanos = (batchSize - backlog) / recordsPerMilli * 1_000_000;
+                advance((long) Math.ceil(Math.min(fillTimeNanos, sizer.pollInterval().toNanos())), recordsPerMilli);
+            }
+            final int records = (int) Math.min(Math.floor(backlog), batchSize);
+            backlog -= records;
+            sizer.pollCompleted(records, (int) backlog);
+        }
+    }
+
+    private void advance(long elapsedNanos, double recordsPerMilli) {
+        nanos += elapsedNanos;
+        backlog += recordsPerMilli * elapsedNanos / 1_000_000;
+    }
+
+    private static class Event implements Sizeable {
+
+        @Override
+        public long objectSize() {
+            return 0;
+        }
+    }
+}
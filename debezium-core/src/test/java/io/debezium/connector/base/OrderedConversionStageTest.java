@@ -0,0 +1,245 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.base;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.connect.source.SourceConnector;
+import org.junit.After;
+import org.junit.Test;
+
+import io.debezium.DebeziumException;
+import io.debezium.pipeline.Sizeable;
+import io.debezium.util.LoggingContext;
+
+public class OrderedConversionStageTest {
+
+    private static final Runnable NO_COMPLETION = () -> {
+    };
+
+    private ChangeEventQueue<Event> queue;
+
+    @After
+    public void closeQueue() {
+        if (queue != null) {
+            queue.close();
+        }
+    }
+
+    @Test
+    public void shouldHandOverConvertedEventsInOrder() throws InterruptedException {
+        queue = queue(4, 10);
+        assertThat(queue.isAsynchronousConversionEnabled()).isTrue();
+
+        final int totalEvents = 1_000;
+        final Thread producer = new Thread(() -> {
+            try {
+                for (int i = 0; i < totalEvents; i++) {
+                    final Event event = new Event(i);
+                    queue.enqueue(event, () -> {
+                        // complete the conversions out of order
+                        sleep(ThreadLocalRandom.current().nextInt(5));
+                        return () -> event.converted = true;
+                    });
+                }
+            }
+            catch (InterruptedException e) {
+                // exit thread
+            }
+        });
+        producer.start();
+
+        final List<Event> events = pollEvents(totalEvents);
+        for (int i = 0; i < totalEvents; i++) {
+            assertThat(events.get(i).id).isEqualTo(i);
+            assertThat(events.get(i).converted).isTrue();
+        }
+        producer.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    @Test
+    public void shouldKeepEventsWithoutConversionInOrder() throws InterruptedException {
+        queue = queue(2, 10);
+
+        queue.enqueue(new Event(0), () -> {
+            sleep(50);
+            return NO_COMPLETION;
+        });
+        queue.enqueue(new Event(1));
+        queue.enqueue(new Event(2), () -> NO_COMPLETION);
+
+        final List<Event> events = pollEvents(3);
+        assertThat(events.get(0).id).isEqualTo(0);
+        assertThat(events.get(1).id).isEqualTo(1);
+        assertThat(events.get(2).id).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldDiscardEventsWhoseConversionIsRejected() throws InterruptedException {
+        queue = queue(2, 10);
+
+        queue.enqueue(new Event(0), () -> NO_COMPLETION);
+        queue.enqueue(new Event(1), () -> null);
+        queue.enqueue(new Event(2), () -> NO_COMPLETION);
+
+        final List<Event> events = pollEvents(2);
+        assertThat(events.get(0).id).isEqualTo(0);
+        assertThat(events.get(1).id).isEqualTo(2);
+    }
+
+    @Test(expected = DebeziumException.class)
+    public void shouldRethrowConversionException() throws InterruptedException {
+        queue = queue(2, 10);
+
+        queue.enqueue(new Event(0), () -> {
+            throw new DebeziumException("Conversion failed");
+        });
+        pollEvents(1);
+    }
+
+    @Test
+    public void shouldStopHandingOverEventsAfterFailedConversion() throws InterruptedException {
+        queue = queue(2, 10);
+
+        queue.enqueue(new Event(0), () -> NO_COMPLETION);
+        queue.enqueue(new Event(1), () -> {
+            sleep(50);
+            throw new DebeziumException("Conversion failed");
+        });
+        queue.enqueue(new Event(2), () -> NO_COMPLETION);
+
+        final List<Event> events = new ArrayList<>();
+        boolean failed = false;
+        final long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(30);
+        while (!failed && System.currentTimeMillis() < deadline) {
+            try {
+                events.addAll(queue.poll());
+            }
+            catch (DebeziumException e) {
+                failed = true;
+            }
+        }
+        assertThat(failed).isTrue();
+
+        // the events following the failed one must not pass it, so that it is replayed after a restart
+        for (Event event : events) {
+            assertThat(event.id).isEqualTo(0);
+        }
+
+        try {
+            queue.enqueue(new Event(3), () -> NO_COMPLETION);
+            fail("Enqueueing after a failed conversion should fail");
+        }
+        catch (DebeziumException e) {
+            assertThat(e.getMessage()).isEqualTo("Conversion failed");
+        }
+    }
+
+    @Test
+    public void shouldCompleteEventsWhenHandingThemOver() throws InterruptedException {
+        queue = queue(2, 10);
+
+        final Event event = new Event(0);
+        final CountDownLatch converted = new CountDownLatch(1);
+        final CountDownLatch released = new CountDownLatch(1);
+        queue.enqueue(new Event(1), () -> {
+            await(released);
+            return NO_COMPLETION;
+        });
+        queue.enqueue(event, () -> {
+            converted.countDown();
+            return () -> event.converted = true;
+        });
+
+        // the conversion has run, but the event is only completed once it is handed over
+        assertThat(converted.await(5, TimeUnit.SECONDS)).isTrue();
+        sleep(50);
+        assertThat(event.converted).isFalse();
+
+        released.countDown();
+        final List<Event> events = pollEvents(2);
+        assertThat(events.get(1).converted).isTrue();
+    }
+
+    @Test
+    public void shouldConvertSynchronouslyWithoutConversionThreads() throws InterruptedException {
+        queue = queue(0, 10);
+        assertThat(queue.isAsynchronousConversionEnabled()).isFalse();
+
+        final Thread caller = Thread.currentThread();
+        final Event event = new Event(0);
+        queue.enqueue(event, () -> {
+            final boolean converted = Thread.currentThread() == caller;
+            return () -> event.converted = converted;
+        });
+        queue.enqueue(new Event(1), () -> null);
+
+        final List<Event> events = queue.poll();
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).converted).isTrue();
+    }
+
+    private List<Event> pollEvents(int count) throws InterruptedException {
+        final List<Event> events = new ArrayList<>(count);
+        final long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(30);
+        while (events.size() < count && System.currentTimeMillis() < deadline) {
+            events.addAll(queue.poll());
+        }
+        assertThat(events).hasSize(count);
+        return events;
+    }
+
+    private static ChangeEventQueue<Event> queue(int conversionThreads, int maxBatchSize) {
+        return new ChangeEventQueue.Builder<Event>()
+                .pollInterval(Duration.ofMillis(10))
+                .maxQueueSize(maxBatchSize * 2)
+                .maxBatchSize(maxBatchSize)
+                .loggingContextSupplier(() -> LoggingContext.forConnector("a", "b", "c"))
+                .conversionThreads(conversionThreads, SourceConnector.class, "test")
+                .build();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class Event implements Sizeable {
+
+        private final long id;
+        private volatile boolean converted;
+
+        Event(long id) {
+            this.id = id;
+        }
+
+        @Override
+        public long objectSize() {
+            return 0;
+        }
+    }
+}
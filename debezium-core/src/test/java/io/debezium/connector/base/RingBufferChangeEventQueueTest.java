@@ -0,0 +1,171 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.base;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+import io.debezium.DebeziumException;
+import io.debezium.pipeline.Sizeable;
+import io.debezium.util.LoggingContext;
+
+public class RingBufferChangeEventQueueTest {
+
+    private static final int EVENT_SIZE = 100;
+
+    @Test
+    public void shouldHandOverEventsInOrder() throws InterruptedException {
+        final ChangeEventQueue<Event> queue = queue(1024, 256, 0);
+        assertThat(queue).isInstanceOf(RingBufferChangeEventQueue.class);
+
+        final int totalEvents = 1_000_000;
+        final AtomicReference<Throwable> producerFailure = new AtomicReference<>();
+        final Thread producer = new Thread(() -> {
+            try {
+                for (int i = 0; i < totalEvents; i++) {
+                    queue.enqueue(new Event(i));
+                }
+            }
+            catch (Throwable e) {
+                producerFailure.set(e);
+            }
+        });
+        producer.start();
+
+        long expected = 0;
+        while (expected < totalEvents) {
+            final List<Event> events = queue.poll();
+            assertThat(events.size()).isLessThanOrEqualTo(256);
+            for (Event event : events) {
+                assertThat(event.id).isEqualTo(expected++);
+            }
+        }
+        producer.join(TimeUnit.SECONDS.toMillis(10));
+        assertThat(producerFailure.get()).isNull();
+        assertThat(queue.remainingCapacity()).isEqualTo(1024);
+    }
+
+    @Test
+    public void shouldBlockProducerWhileQueueIsFull() throws InterruptedException {
+        final ChangeEventQueue<Event> queue = queue(4, 4, 0);
+        for (int i = 0; i < 4; i++) {
+            queue.enqueue(new Event(i));
+        }
+        assertThat(queue.remainingCapacity()).isEqualTo(0);
+
+        final Thread producer = new Thread(() -> {
+            try {
+                queue.enqueue(new Event(4));
+            }
+            catch (InterruptedException e) {
+                // exit thread
+            }
+        });
+        producer.start();
+        producer.join(200);
+        assertThat(producer.isAlive()).isTrue();
+
+        assertThat(queue.poll()).hasSize(4);
+        producer.join(TimeUnit.SECONDS.toMillis(5));
+        assertThat(producer.isAlive()).isFalse();
+        assertThat(queue.poll()).hasSize(1);
+    }
+
+    @Test
+    public void shouldLimitQueueSizeInBytes() throws InterruptedException {
+        final ChangeEventQueue<Event> queue = queue(100, 100, 3 * EVENT_SIZE);
+        for (int i = 0; i < 3; i++) {
+            queue.enqueue(new Event(i));
+        }
+        assertThat(queue.currentQueueSizeInBytes()).isEqualTo(3 * EVENT_SIZE);
+
+        // the maximum size in bytes has been reached, so the batch is returned right away
+        final List<Event> events = queue.poll();
+        assertThat(events).hasSize(3);
+        assertThat(queue.currentQueueSizeInBytes()).isEqualTo(0);
+    }
+
+    @Test
+    public void shouldFlushBufferedEvent() throws InterruptedException {
+        final ChangeEventQueue<Event> queue = new ChangeEventQueue.Builder<Event>()
+                .pollInterval(Duration.ofMillis(10))
+                .maxQueueSize(10)
+                .maxBatchSize(10)
+                .loggingContextSupplier(() -> LoggingContext.forConnector("a", "b", "c"))
+                .buffering()
+                .ringBuffer(true)
+                .build();
+        queue.enqueue(new Event(1));
+        queue.enqueue(new Event(2));
+        assertThat(queue.poll()).hasSize(1);
+
+        queue.flushBuffer(event -> new Event(event.id * 10));
+        final List<Event> events = queue.poll();
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).id).isEqualTo(20);
+    }
+
+    @Test
+    public void shouldReturnBatchesUnaffectedByLaterPolls() throws InterruptedException {
+        final ChangeEventQueue<Event> queue = queue(10, 2, 0);
+        for (int i = 0; i < 4; i++) {
+            queue.enqueue(new Event(i));
+        }
+
+        final List<Event> first = queue.poll();
+        final List<Event> second = queue.poll();
+        assertThat(second).isNotSameAs(first);
+        assertThat(first).hasSize(2);
+        assertThat(first.get(0).id).isEqualTo(0);
+        assertThat(first.get(1).id).isEqualTo(1);
+        assertThat(second).hasSize(2);
+        assertThat(second.get(0).id).isEqualTo(2);
+        assertThat(second.get(1).id).isEqualTo(3);
+
+        // the caller may modify the batch it received
+        first.clear();
+        assertThat(queue.poll()).isEmpty();
+        assertThat(second).hasSize(2);
+    }
+
+    @Test(expected = DebeziumException.class)
+    public void shouldRethrowProducerException() throws InterruptedException {
+        final ChangeEventQueue<Event> queue = queue(10, 10, 0);
+        queue.producerException(new DebeziumException("Producer failed"));
+        queue.poll();
+    }
+
+    private static ChangeEventQueue<Event> queue(int maxQueueSize, int maxBatchSize, long maxQueueSizeInBytes) {
+        return new ChangeEventQueue.Builder<Event>()
+                .pollInterval(Duration.ofMillis(10))
+                .maxQueueSize(maxQueueSize)
+                .maxBatchSize(maxBatchSize)
+                .maxQueueSizeInBytes(maxQueueSizeInBytes)
+                .loggingContextSupplier(() -> LoggingContext.forConnector("a", "b", "c"))
+                .ringBuffer(true)
+                .build();
+    }
+
+    private static class Event implements Sizeable {
+
+        private final long id;
+
+        Event(long id) {
+            this.id = id;
+        }
+
+        @Override
+        public long objectSize() {
+            return EVENT_SIZE;
+        }
+    }
+}
@@ -0,0 +1,309 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.pipeline;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceConnector;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.debezium.DebeziumException;
+import io.debezium.config.CommonConnectorConfig;
+import io.debezium.config.CommonConnectorConfig.EventProcessingFailureHandlingMode;
+import io.debezium.config.Configuration;
+import io.debezium.connector.AbstractSourceInfo;
+import io.debezium.connector.SnapshotRecord;
+import io.debezium.connector.SourceInfoStructMaker;
+import io.debezium.connector.base.ChangeEventQueue;
+import io.debezium.data.Envelope;
+import io.debezium.data.Envelope.Operation;
+import io.debezium.heartbeat.Heartbeat;
+import io.debezium.pipeline.source.spi.EventMetadataProvider;
+import io.debezium.pipeline.spi.ChangeRecordEmitter;
+import io.debezium.pipeline.spi.OffsetContext;
+import io.debezium.pipeline.spi.Partition;
+import io.debezium.pipeline.txmetadata.TransactionContext;
+import io.debezium.relational.TableId;
+import io.debezium.schema.DataCollectionId;
+import io.debezium.schema.DataCollectionSchema;
+import io.debezium.schema.DatabaseSchema;
+import io.debezium.schema.DefaultTopicNamingStrategy;
+import io.debezium.util.LoggingContext;
+import io.debezium.util.SchemaNameAdjuster;
+
+/**
+ * Tests the dispatching of change events whose values are converted asynchronously.
+ */
+public class EventDispatcherTest {
+
+    private static final TableId TABLE_ID = new TableId("db", null, "table");
+    private static final Schema KEY_SCHEMA = SchemaBuilder.struct().name("key").field("id", Schema.INT32_SCHEMA).build();
+    private static final Envelope ENVELOPE = Envelope.defineSchema()
+            .withName("envelope")
+            .withRecord(SchemaBuilder.struct().name("value").field("id", Schema.INT32_SCHEMA).optional().build())
+            .withSource(SchemaBuilder.struct().name("source").optional().build())
+            .build();
+
+    private ChangeEventQueue<DataChangeEvent> queue;
+    private EventDispatcher<TestPartition, DataCollectionId> dispatcher;
+
+    @Before
+    public void before() {
+        final CommonConnectorConfig connectorConfig = config(EventProcessingFailureHandlingMode.SKIP);
+        queue = new ChangeEventQueue.Builder<DataChangeEvent>()
+                .pollInterval(Duration.ofMillis(10))
+                .maxQueueSize(20)
+                .maxBatchSize(10)
+                .loggingContextSupplier(() -> LoggingContext.forConnector("a", "b", "c"))
+                .conversionThreads(2, SourceConnector.class, "test")
+                .build();
+        dispatcher = new EventDispatcher<>(connectorConfig,
+                DefaultTopicNamingStrategy.create(connectorConfig),
+                new TestSchema(),
+                queue,
+                id -> true,
+                DataChangeEvent::new,
+                new TestMetadataProvider(),
+                Heartbeat.DEFAULT_NOOP_HEARTBEAT,
+                SchemaNameAdjuster.NO_OP);
+    }
+
+    @After
+    public void after() {
+        queue.close();
+    }
+
+    @Test
+    public void shouldDiscardTombstoneOfDeleteWhoseConversionFailed() throws InterruptedException {
+        dispatcher.dispatchDataChangeEvent(new TestPartition(), TABLE_ID, new TestEmitter(Operation.DELETE, 1, () -> {
+            throw new DebeziumException("Conversion failed");
+        }));
+        dispatcher.dispatchDataChangeEvent(new TestPartition(), TABLE_ID, new TestEmitter(Operation.DELETE, 2, () -> () -> {
+        }));
+        dispatcher.dispatchDataChangeEvent(new TestPartition(), TABLE_ID, new TestEmitter(Operation.CREATE, 3, () -> () -> {
+        }));
+
+        final List<SourceRecord> records = pollRecords(3);
+        assertThat(((Struct) records.get(0).key()).get("id")).isEqualTo(2);
+        assertThat(records.get(0).value()).isNotNull();
+        assertThat(((Struct) records.get(1).key()).get("id")).isEqualTo(2);
+        assertThat(records.get(1).value()).isNull();
+        assertThat(((Struct) records.get(2).key()).get("id")).isEqualTo(3);
+        assertThat(records.get(2).value()).isNotNull();
+    }
+
+    private List<SourceRecord> pollRecords(int count) throws InterruptedException {
+        final List<SourceRecord> records = new ArrayList<>(count);
+        final long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(30);
+        while (records.size() < count && System.currentTimeMillis() < deadline) {
+            queue.poll().forEach(event -> records.add(event.getRecord()));
+        }
+        assertThat(records).hasSize(count);
+
+        // no further records, such as a tombstone of the failed delete, are available
+        assertThat(queue.poll()).isEmpty();
+        return records;
+    }
+
+    private static CommonConnectorConfig config(EventProcessingFailureHandlingMode failureHandlingMode) {
+        return new CommonConnectorConfig(Configuration.create()
+                .with(CommonConnectorConfig.TOPIC_PREFIX, "core")
+                .with(CommonConnectorConfig.EVENT_PROCESSING_FAILURE_HANDLING_MODE, failureHandlingMode.getValue())
+                .build(), 0) {
+            @Override
+            protected SourceInfoStructMaker<?> getSourceInfoStructMaker(Version version) {
+                return new SourceInfoStructMaker<AbstractSourceInfo>() {
+                    @Override
+                    public Schema schema() {
+                        return SchemaBuilder.struct().name("source").build();
+                    }
+
+                    @Override
+                    public Struct struct(AbstractSourceInfo sourceInfo) {
+                        return null;
+                    }
+                };
+            }
+
+            @Override
+            public String getContextName() {
+                return "core";
+            }
+
+            @Override
+            public String getConnectorName() {
+                return "core";
+            }
+        };
+    }
+
+    private static class TestEmitter implements ChangeRecordEmitter<TestPartition> {
+
+        private final Operation operation;
+        private final int id;
+        private final Supplier<Runnable> valueConversion;
+
+        TestEmitter(Operation operation, int id, Supplier<Runnable> valueConversion) {
+            this.operation = operation;
+            this.id = id;
+            this.valueConversion = valueConversion;
+        }
+
+        @Override
+        public void emitChangeRecords(DataCollectionSchema schema, Receiver<TestPartition> receiver) throws InterruptedException {
+            final Struct value = new Struct(ENVELOPE.schema()).put(Envelope.FieldName.OPERATION, operation.code());
+            receiver.changeRecord(getPartition(), schema, operation, new Struct(KEY_SCHEMA).put("id", id), value, getOffset(), null,
+                    valueConversion);
+        }
+
+        @Override
+        public TestPartition getPartition() {
+            return new TestPartition();
+        }
+
+        @Override
+        public OffsetContext getOffset() {
+            return new TestOffsetContext(id);
+        }
+
+        @Override
+        public Operation getOperation() {
+            return operation;
+        }
+    }
+
+    private static class TestSchema implements DatabaseSchema<DataCollectionId> {
+
+        @Override
+        public DataCollectionSchema schemaFor(DataCollectionId id) {
+            return new DataCollectionSchema() {
+                @Override
+                public DataCollectionId id() {
+                    return id;
+                }
+
+                @Override
+                public Schema keySchema() {
+                    return KEY_SCHEMA;
+                }
+
+                @Override
+                public Envelope getEnvelopeSchema() {
+                    return ENVELOPE;
+                }
+            };
+        }
+
+        @Override
+        public boolean tableInformationComplete() {
+            return true;
+        }
+
+        @Override
+        public boolean isHistorized() {
+            return false;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    private static class TestMetadataProvider implements EventMetadataProvider {
+
+        @Override
+        public Instant getEventTimestamp(DataCollectionId source, OffsetContext offset, Object key, Struct value) {
+            return null;
+        }
+
+        @Override
+        public Map<String, String> getEventSourcePosition(DataCollectionId source, OffsetContext offset, Object key, Struct value) {
+            return null;
+        }
+
+        @Override
+        public String getTransactionId(DataCollectionId source, OffsetContext offset, Object key, Struct value) {
+            return null;
+        }
+    }
+
+    private static class TestOffsetContext implements OffsetContext {
+
+        private final int position;
+
+        TestOffsetContext(int position) {
+            this.position = position;
+        }
+
+        @Override
+        public Map<String, ?> getOffset() {
+            return Collections.singletonMap("position", position);
+        }
+
+        @Override
+        public Schema getSourceInfoSchema() {
+            return null;
+        }
+
+        @Override
+        public Struct getSourceInfo() {
+            return null;
+        }
+
+        @Override
+        public boolean isSnapshotRunning() {
+            return false;
+        }
+
+        @Override
+        public void markSnapshotRecord(SnapshotRecord record) {
+        }
+
+        @Override
+        public void preSnapshotStart() {
+        }
+
+        @Override
+        public void preSnapshotCompletion() {
+        }
+
+        @Override
+        public void postSnapshotCompletion() {
+        }
+
+        @Override
+        public void event(DataCollectionId collectionId, Instant timestamp) {
+        }
+
+        @Override
+        public TransactionContext getTransactionContext() {
+            return null;
+        }
+    }
+
+    private static class TestPartition implements Partition {
+
+        @Override
+        public Map<String, String> getSourcePartition() {
+            return Collections.singletonMap("server", "core");
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.pipeline.source.snapshot;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+public class ChunkedSnapshotContextTest {
+
+    private static final String TABLE = "db.table1";
+
+    @Test
+    public void shouldMergeAdjacentAndOverlappingRanges() {
+        final ChunkedSnapshotContext context = new ChunkedSnapshotContext();
+        context.rangeCompleted(TABLE, 101, 200);
+        context.rangeCompleted(TABLE, 1, 100);
+        context.rangeCompleted(TABLE, 150, 250);
+        context.rangeCompleted(TABLE, 400, 500);
+
+        final List<long[]> pending = context.pendingRanges(TABLE, 1, 1000);
+        assertThat(pending).hasSize(2);
+        assertThat(pending.get(0)).isEqualTo(new long[]{ 251, 399 });
+        assertThat(pending.get(1)).isEqualTo(new long[]{ 501, 1000 });
+    }
+
+    @Test
+    public void shouldReturnPendingRangesAtDomainBounds() {
+        final ChunkedSnapshotContext context = new ChunkedSnapshotContext();
+        context.rangeCompleted(TABLE, Long.MIN_VALUE, 100);
+        context.rangeCompleted(TABLE, 1000, Long.MAX_VALUE);
+
+        final List<long[]> pending = context.pendingRanges(TABLE, Long.MIN_VALUE, Long.MAX_VALUE);
+        assertThat(pending).hasSize(1);
+        assertThat(pending.get(0)).isEqualTo(new long[]{ 101, 999 });
+        assertThat(context.isTableCompleted(TABLE)).isFalse();
+
+        context.rangeCompleted(TABLE, 101, 999);
+        assertThat(context.pendingRanges(TABLE, Long.MIN_VALUE, Long.MAX_VALUE)).isEmpty();
+        assertThat(context.isTableCompleted(TABLE)).isTrue();
+    }
+
+    @Test
+    public void shouldReturnWholeRangeForUnknownTable() {
+        final ChunkedSnapshotContext context = new ChunkedSnapshotContext();
+        context.tableCompleted("db.table2");
+
+        final List<long[]> pending = context.pendingRanges(TABLE, Long.MIN_VALUE, Long.MAX_VALUE);
+        assertThat(pending).hasSize(1);
+        assertThat(pending.get(0)).isEqualTo(new long[]{ Long.MIN_VALUE, Long.MAX_VALUE });
+        assertThat(context.isTableCompleted("db.table2")).isTrue();
+        assertThat(context.isTableCompleted(TABLE)).isFalse();
+    }
+
+    @Test
+    public void shouldStoreAndLoadCompletedRanges() {
+        final ChunkedSnapshotContext context = new ChunkedSnapshotContext();
+        context.rangeCompleted(TABLE, Long.MIN_VALUE, 100);
+        context.rangeCompleted(TABLE, 201, 300);
+        context.tableCompleted("db.table2");
+
+        final Map<String, Object> offset = context.store(new HashMap<>());
+        assertThat(offset.get(ChunkedSnapshotContext.SNAPSHOT_CHUNKS_KEY)).isNotNull();
+
+        final ChunkedSnapshotContext loaded = ChunkedSnapshotContext.load(offset);
+        assertThat(loaded.isTableCompleted("db.table2")).isTrue();
+        final List<long[]> pending = loaded.pendingRanges(TABLE, Long.MIN_VALUE, Long.MAX_VALUE);
+        assertThat(pending).hasSize(2);
+        assertThat(pending.get(0)).isEqualTo(new long[]{ 101, 200 });
+        assertThat(pending.get(1)).isEqualTo(new long[]{ 301, Long.MAX_VALUE });
+    }
+
+    @Test
+    public void shouldUpdateStoredRanges() {
+        final ChunkedSnapshotContext context = new ChunkedSnapshotContext();
+        context.rangeCompleted(TABLE, 1, 100);
+        final Object before = context.store(new HashMap<>()).get(ChunkedSnapshotContext.SNAPSHOT_CHUNKS_KEY);
+        assertThat(context.store(new HashMap<>()).get(ChunkedSnapshotContext.SNAPSHOT_CHUNKS_KEY)).isSameAs(before);
+
+        context.rangeCompleted(TABLE, 101, 200);
+        final Map<String, Object> offset = context.store(new HashMap<>());
+        assertThat(offset.get(ChunkedSnapshotContext.SNAPSHOT_CHUNKS_KEY)).isNotEqualTo(before);
+        assertThat(ChunkedSnapshotContext.load(offset).pendingRanges(TABLE, 1, 300)).hasSize(1);
+        assertThat(ChunkedSnapshotContext.load(offset).pendingRanges(TABLE, 1, 300).get(0)).isEqualTo(new long[]{ 201, 300 });
+    }
+
+    @Test
+    public void shouldNotStoreEmptyContext() {
+        final Map<String, Object> offset = new ChunkedSnapshotContext().store(new HashMap<>());
+        assertThat(offset).isEmpty();
+        assertThat(ChunkedSnapshotContext.load(offset).pendingRanges(TABLE, 1, 10)).hasSize(1);
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.relational;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import io.debezium.pipeline.source.snapshot.ChunkedSnapshotContext;
+import io.debezium.relational.RelationalSnapshotChangeEventSource.SnapshotChunk;
+
+public class ParallelSnapshotProgressTest {
+
+    private static final Table TABLE_A = table("db.a");
+    private static final Table TABLE_B = table("db.b");
+    private static final SnapshotChunk FIRST_CHUNK = new SnapshotChunk("SELECT", Long.MIN_VALUE, 10, 1, 2);
+    private static final SnapshotChunk SECOND_CHUNK = new SnapshotChunk("SELECT", 11, Long.MAX_VALUE, 2, 2);
+    private static final SnapshotChunk WHOLE_TABLE = new SnapshotChunk("SELECT", Long.MIN_VALUE, Long.MAX_VALUE, 1, 1);
+
+    private final List<DispatchedRecord> records = new ArrayList<>();
+    private final List<String> completedTables = new ArrayList<>();
+    private ChunkedSnapshotContext chunkedSnapshotContext;
+    private boolean lastSnapshotRecordMarked;
+
+    @Before
+    public void before() {
+        chunkedSnapshotContext = new ChunkedSnapshotContext();
+    }
+
+    @Test
+    public void shouldMarkLastRecordOfTableWhenTrailingChunkIsEmpty() throws InterruptedException {
+        final ParallelSnapshotProgress progress = progress(2);
+        progress.tableStarted(TABLE_A.id(), 2);
+        progress.tableStarted(TABLE_B.id(), 1);
+
+        progress.dispatch(TABLE_A, FIRST_CHUNK, row(1), Instant.now(), false);
+        progress.dispatch(TABLE_A, FIRST_CHUNK, row(2), Instant.now(), true);
+
+        // the last record of the first chunk is held back, so its chunk is not completed yet
+        assertThat(records).hasSize(1);
+        assertThat(chunkedSnapshotContext.pendingRanges("db.a", Long.MIN_VALUE, Long.MAX_VALUE)).hasSize(1);
+
+        progress.emptyChunkCompleted(TABLE_A.id(), SECOND_CHUNK);
+        assertThat(records).hasSize(2);
+        assertRecord(records.get(0), "db.a", 1, true, false, true, false);
+        assertRecord(records.get(1), "db.a", 2, false, false, false, true);
+        assertThat(chunkedSnapshotContext.isTableCompleted("db.a")).isTrue();
+        assertThat(completedTables).containsExactly("db.a");
+
+        progress.dispatch(TABLE_B, WHOLE_TABLE, row(3), Instant.now(), true);
+        assertThat(records).hasSize(3);
+        assertRecord(records.get(2), "db.b", 3, false, true, true, true);
+        assertThat(completedTables).containsExactly("db.a", "db.b");
+        assertThat(lastSnapshotRecordMarked).isFalse();
+    }
+
+    @Test
+    public void shouldMarkLastRecordOfTableWhenChunksCompleteOutOfOrder() throws InterruptedException {
+        final ParallelSnapshotProgress progress = progress(1);
+        progress.tableStarted(TABLE_A.id(), 2);
+
+        progress.dispatch(TABLE_A, SECOND_CHUNK, row(20), Instant.now(), true);
+        progress.dispatch(TABLE_A, FIRST_CHUNK, row(1), Instant.now(), false);
+
+        // the second chunk is completed once its last record has been dispatched
+        assertThat(records).hasSize(1);
+        final List<long[]> pendingRanges = chunkedSnapshotContext.pendingRanges("db.a", Long.MIN_VALUE, Long.MAX_VALUE);
+        assertThat(pendingRanges).hasSize(1);
+        assertThat(pendingRanges.get(0)).isEqualTo(new long[]{ Long.MIN_VALUE, 10 });
+
+        progress.dispatch(TABLE_A, FIRST_CHUNK, row(2), Instant.now(), true);
+        assertThat(records).hasSize(3);
+        assertRecord(records.get(0), "db.a", 20, true, true, true, false);
+        assertRecord(records.get(1), "db.a", 1, false, true, false, false);
+        assertRecord(records.get(2), "db.a", 2, false, true, false, true);
+        assertThat(chunkedSnapshotContext.isTableCompleted("db.a")).isTrue();
+        assertThat(completedTables).containsExactly("db.a");
+    }
+
+    @Test
+    public void shouldMarkLastSnapshotRecordWhenLastTableIsEmpty() throws InterruptedException {
+        final ParallelSnapshotProgress progress = progress(2);
+        progress.tableStarted(TABLE_A.id(), 1);
+        progress.tableStarted(TABLE_B.id(), 2);
+
+        progress.dispatch(TABLE_A, WHOLE_TABLE, row(1), Instant.now(), true);
+        progress.emptyChunkCompleted(TABLE_B.id(), FIRST_CHUNK);
+        assertThat(lastSnapshotRecordMarked).isFalse();
+        progress.emptyChunkCompleted(TABLE_B.id(), SECOND_CHUNK);
+
+        assertThat(records).hasSize(1);
+        assertRecord(records.get(0), "db.a", 1, true, false, true, true);
+        assertThat(lastSnapshotRecordMarked).isTrue();
+        assertThat(completedTables).containsExactly("db.a", "db.b");
+    }
+
+    private ParallelSnapshotProgress progress(int tableCount) {
+        return new ParallelSnapshotProgress(tableCount, chunkedSnapshotContext, new ParallelSnapshotProgress.Callback() {
+            @Override
+            public void dispatch(Table table, Object[] row, Instant sourceTableSnapshotTimestamp, boolean firstTable,
+                                 boolean lastTable, boolean firstRecordInTable, boolean lastRecordInTable) {
+                records.add(new DispatchedRecord(table.id().toString(), (int) row[0], firstTable, lastTable, firstRecordInTable,
+                        lastRecordInTable));
+            }
+
+            @Override
+            public void markLastSnapshotRecord() {
+                lastSnapshotRecordMarked = true;
+            }
+
+            @Override
+            public void tableCompleted(TableId tableId, long rows) {
+                completedTables.add(tableId.toString());
+            }
+        });
+    }
+
+    private static void assertRecord(DispatchedRecord record, String tableId, int id, boolean firstTable, boolean lastTable,
+                                     boolean firstRecordInTable, boolean lastRecordInTable) {
+        assertThat(record.tableId).isEqualTo(tableId);
+        assertThat(record.id).isEqualTo(id);
+        assertThat(record.firstTable).isEqualTo(firstTable);
+        assertThat(record.lastTable).isEqualTo(lastTable);
+        assertThat(record.firstRecordInTable).isEqualTo(firstRecordInTable);
+        assertThat(record.lastRecordInTable).isEqualTo(lastRecordInTable);
+    }
+
+    private static Table table(String tableId) {
+        return Table.editor()
+                .tableId(TableId.parse(tableId))
+                .addColumn(Column.editor().name("id").create())
+                .create();
+    }
+
+    private static Object[] row(int id) {
+        return new Object[]{ id };
+    }
+
+    private static class DispatchedRecord {
+
+        private final String tableId;
+        private final int id;
+        private final boolean firstTable;
+        private final boolean lastTable;
+        private final boolean firstRecordInTable;
+        private final boolean lastRecordInTable;
+
+        DispatchedRecord(String tableId, int id, boolean firstTable, boolean lastTable, boolean firstRecordInTable,
+                         boolean lastRecordInTable) {
+            this.tableId = tableId;
+            this.id = id;
+            this.firstTable = firstTable;
+            this.lastTable = lastTable;
+            this.firstRecordInTable = firstRecordInTable;
+            this.lastRecordInTable = lastRecordInTable;
+        }
+    }
+}
@@ -18,6 +18,7 @@
 import org.apache.kafka.connect.data.Schema;
 import org.apache.kafka.connect.data.SchemaBuilder;
 import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.errors.ConnectException;
 import org.apache.kafka.connect.source.SourceRecord;
 import org.junit.Before;
 import org.junit.Test;
@@ -516,4 +517,25 @@ public void mapperConvertersShouldLeaveEmptyDatesAsZero() {
         assertThat(value.get("C1")).isEqualTo(0);
     }
 
+    @Test(expected = ConnectException.class)
+    public void shouldFailToConvertRowShorterThanColumnPositions() {
+        schema = new TableSchemaBuilder(new JdbcValueConverters(), null, adjuster, customConverterRegistry,
+                SchemaBuilder.struct().build(), false, false)
+                        .create(topicNamingStrategy, table, null, null, null);
+
+        schema.valueFromColumnData(new Object[]{ "c1value", 3.142d });
+    }
+
+    @Test
+    public void shouldConvertOnlyColumnsIncludedByColumnFilter() {
+        schema = new TableSchemaBuilder(new JdbcValueConverters(), null, adjuster, customConverterRegistry,
+                SchemaBuilder.struct().build(), false, false)
+                        .create(topicNamingStrategy, table, (catalog, schemaName, tableName, columnName) -> !"C3".equals(columnName), null, null);
+
+        Struct value = schema.valueFromColumnData(data);
+        assertThat(value.schema().field("C3")).isNull();
+        assertThat(value.get("C2")).isEqualTo(BigDecimal.valueOf(3.142d));
+        assertThat(value.get("C4")).isEqualTo(4);
+    }
+
 }
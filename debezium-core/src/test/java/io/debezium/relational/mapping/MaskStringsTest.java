@@ -8,6 +8,12 @@
 import static org.fest.assertions.Assertions.assertThat;
 
 import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.junit.Test;
 
@@ -67,4 +73,33 @@ public void shouldTransformSameInputsToSameResultsForCharsetTypeWithMD5AndV2() {
         assertThat(converter.convert("hello")).isEqualTo("06decc8b095724f80103712c235586be");
         assertThat(converter.convert("world")).isEqualTo("172c8e95398cc72ab5358ead6981e7e5");
     }
+
+    @Test
+    public void shouldTransformInputsToSameResultsWhenHashingConcurrently() throws Exception {
+        converter = new MaskStrings("salt".getBytes(), "SHA-256", MaskStrings.HashingByteArrayStrategy.V2).create(column);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Callable<Boolean>> tasks = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                final String value = i % 2 == 0 ? "hello" : "world";
+                final String expected = i % 2 == 0 ? "cd31b3b98ece60cb739c0bf770b2de892ae0ad133f645513c3d83f08757a843a"
+                        : "e84ac3142870113ddc6710c06f76421befc8e8ca6de64e98d2993ed8d41f4085";
+                tasks.add(() -> {
+                    for (int j = 0; j < 10_000; j++) {
+                        if (!expected.equals(converter.convert(value))) {
+                            return false;
+                        }
+                    }
+                    return true;
+                });
+            }
+            for (Future<Boolean> result : executor.invokeAll(tasks)) {
+                assertThat(result.get()).isTrue();
+            }
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
 }
@@ -46,9 +46,17 @@ public static class ParserState {
         @Param({ "1", "2", "5", "10", "20", "50" })
         public int columnCount;
 
+        /**
+         * Whether every other column is excluded, in which case the parser skips creating strings for its values.
+         */
+        @Param({ "false", "true" })
+        public boolean excludeColumns;
+
         @Setup(Level.Trial)
         public void doSetup() {
-            dmlParser = new LogMinerDmlParser();
+            dmlParser = excludeColumns
+                    ? new LogMinerDmlParser((catalog, schema, table, column) -> !column.startsWith("COL") || Integer.parseInt(column.substring(3)) % 2 == 0)
+                    : new LogMinerDmlParser();
             this.table = createTable();
             this.insertDml = insertStatement();
             this.updateDml = updateStatement();
@@ -129,7 +137,7 @@ public void testInserts(ParserState state) {
     @Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
     @Measurement(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
     public void testUpdates(ParserState state) {
-        state.dmlParser.parse(state.deleteDml, state.table);
+        state.dmlParser.parse(state.updateDml, state.table);
     }
 
     @Benchmark
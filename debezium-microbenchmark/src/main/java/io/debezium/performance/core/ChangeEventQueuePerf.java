@@ -31,8 +31,13 @@
 
 import io.debezium.connector.base.ChangeEventQueue;
 import io.debezium.pipeline.DataChangeEvent;
+import io.debezium.relational.RelationalDatabaseConnectorConfig.QueueImplementation;
 import io.debezium.util.LoggingContext;
 
+/**
+ * Compares the throughput of the {@link ChangeEventQueue} implementations. The ring buffer only supports a single
+ * producer, so it is not part of {@link MultiWriterQueuePerf}.
+ */
 public class ChangeEventQueuePerf {
 
     @Fork(1)
@@ -49,6 +54,9 @@ public static class ProducerPerf {
         @Param({ "10", "50", "500" })
         private long pollIntervalMillis;
 
+        @Param({ "BLOCKING", "RING_BUFFER" })
+        private QueueImplementation queueImplementation;
+
         private ChangeEventQueue<DataChangeEvent> changeEventQueue;
         private Thread consumer;
 
@@ -58,7 +66,8 @@ public void setup() {
                     .pollInterval(Duration.ofMillis(pollIntervalMillis))
                     .maxQueueSize(DEFAULT_MAX_QUEUE_SIZE).maxBatchSize(DEFAULT_MAX_BATCH_SIZE)
                     .loggingContextSupplier(() -> LoggingContext.forConnector("a", "b", "c"))
-                    .maxQueueSizeInBytes(DEFAULT_MAX_QUEUE_SIZE_IN_BYTES).build();
+                    .maxQueueSizeInBytes(DEFAULT_MAX_QUEUE_SIZE_IN_BYTES)
+                    .ringBuffer(queueImplementation == QueueImplementation.RING_BUFFER).build();
             consumer = new Thread(() -> {
                 try {
                     while (true) {
@@ -98,6 +107,9 @@ public static class ConsumerPerf {
         @Param({ "10", "50", "500" })
         private long pollIntervalMillis;
 
+        @Param({ "BLOCKING", "RING_BUFFER" })
+        private QueueImplementation queueImplementation;
+
         private ChangeEventQueue<DataChangeEvent> changeEventQueue;
         private Thread producer;
 
@@ -107,7 +119,8 @@ public void setup() {
                     .pollInterval(Duration.ofMillis(pollIntervalMillis))
                     .maxQueueSize(DEFAULT_MAX_QUEUE_SIZE).maxBatchSize(DEFAULT_MAX_BATCH_SIZE)
                     .loggingContextSupplier(() -> LoggingContext.forConnector("a", "b", "c"))
-                    .maxQueueSizeInBytes(DEFAULT_MAX_QUEUE_SIZE_IN_BYTES).build();
+                    .maxQueueSizeInBytes(DEFAULT_MAX_QUEUE_SIZE_IN_BYTES)
+                    .ringBuffer(queueImplementation == QueueImplementation.RING_BUFFER).build();
             producer = new Thread(() -> {
                 try {
                     for (;;) {
@@ -148,6 +161,9 @@ public static class QueuePerf {
         @Param({ "10", "50", "500" })
         long pollIntervalMillis;
 
+        @Param({ "BLOCKING", "RING_BUFFER" })
+        QueueImplementation queueImplementation;
+
         private ChangeEventQueue<DataChangeEvent> changeEventQueue;
         private Thread producer;
         private Thread consumer;
@@ -158,7 +174,8 @@ public void setupInvocation() {
                     .pollInterval(Duration.ofMillis(pollIntervalMillis))
                     .maxQueueSize(DEFAULT_MAX_QUEUE_SIZE).maxBatchSize(DEFAULT_MAX_BATCH_SIZE)
                     .loggingContextSupplier(() -> LoggingContext.forConnector("a", "b", "c"))
-                    .maxQueueSizeInBytes(DEFAULT_MAX_QUEUE_SIZE_IN_BYTES).build();
+                    .maxQueueSizeInBytes(DEFAULT_MAX_QUEUE_SIZE_IN_BYTES)
+                    .ringBuffer(queueImplementation == QueueImplementation.RING_BUFFER).build();
         }
 
         @Setup(Level.Invocation)
@@ -0,0 +1,310 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.performance.core;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.connect.data.Struct;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.debezium.config.CommonConnectorConfig;
+import io.debezium.config.Configuration;
+import io.debezium.connector.base.ChangeEventQueue;
+import io.debezium.connector.mysql.MySqlChangeRecordEmitter;
+import io.debezium.connector.mysql.MySqlConnectorConfig;
+import io.debezium.connector.mysql.MySqlDatabaseSchema;
+import io.debezium.connector.mysql.MySqlOffsetContext;
+import io.debezium.connector.mysql.MySqlPartition;
+import io.debezium.connector.mysql.MySqlValueConverters;
+import io.debezium.data.Envelope;
+import io.debezium.jdbc.JdbcValueConverters.BigIntUnsignedMode;
+import io.debezium.jdbc.JdbcValueConverters.DecimalMode;
+import io.debezium.jdbc.TemporalPrecisionMode;
+import io.debezium.pipeline.DataChangeEvent;
+import io.debezium.pipeline.EventDispatcher;
+import io.debezium.pipeline.source.spi.EventMetadataProvider;
+import io.debezium.pipeline.spi.OffsetContext;
+import io.debezium.relational.Column;
+import io.debezium.relational.ColumnEditor;
+import io.debezium.relational.HistorizedRelationalDatabaseConnectorConfig;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableEditor;
+import io.debezium.relational.TableId;
+import io.debezium.relational.history.MemorySchemaHistory;
+import io.debezium.spi.schema.DataCollectionId;
+import io.debezium.spi.topic.TopicNamingStrategy;
+import io.debezium.util.Clock;
+import io.debezium.util.LoggingContext;
+import io.debezium.util.SchemaNameAdjuster;
+
+/**
+ * Measures the construction of change event records from captured rows, i.e. the path from a row's column values
+ * through the {@link io.debezium.relational.RelationalChangeRecordEmitter} and the table schema's value generators to
+ * the {@link EventDispatcher} enqueueing the records. The MySQL connector's implementations are used for the
+ * connector-specific parts, while the rows are synthetic and vary in width and column types.
+ * <p>
+ * The allocation rate per event is reported when running with the GC profiler, e.g. with {@code -prof gc} or by
+ * running this class' {@link #main(String[])} method.
+ */
+@Fork(1)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@BenchmarkMode({ Mode.Throughput })
+public class EventDispatcherPerf {
+
+    private static final int BATCH_SIZE = 2048;
+    private static final TableId TABLE_ID = new TableId("inventory", null, "perf");
+
+    public enum TypeMix {
+        NUMERIC,
+        TEXT,
+        MIXED
+    }
+
+    public enum Change {
+        INSERT,
+        UPDATE,
+        DELETE,
+        DELETE_WITH_TOMBSTONE
+    }
+
+    @Param({ "5", "20", "100" })
+    private int columns;
+
+    @Param({ "NUMERIC", "TEXT", "MIXED" })
+    private TypeMix typeMix;
+
+    @Param({ "INSERT", "UPDATE", "DELETE", "DELETE_WITH_TOMBSTONE" })
+    private Change change;
+
+    private MySqlDatabaseSchema schema;
+    private ChangeEventQueue<DataChangeEvent> queue;
+    private EventDispatcher<MySqlPartition, TableId> dispatcher;
+    private MySqlPartition partition;
+    private MySqlOffsetContext offsetContext;
+    private Envelope.Operation operation;
+    private Serializable[] before;
+    private Serializable[] after;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final MySqlConnectorConfig connectorConfig = new MySqlConnectorConfig(Configuration.create()
+                .with(CommonConnectorConfig.TOPIC_PREFIX, "perf")
+                .with(CommonConnectorConfig.TOMBSTONES_ON_DELETE, change == Change.DELETE_WITH_TOMBSTONE)
+                .with(HistorizedRelationalDatabaseConnectorConfig.SCHEMA_HISTORY, MemorySchemaHistory.class.getName())
+                .build());
+        @SuppressWarnings("unchecked")
+        final TopicNamingStrategy<TableId> topicNamingStrategy = connectorConfig.getTopicNamingStrategy(MySqlConnectorConfig.TOPIC_NAMING_STRATEGY);
+        final SchemaNameAdjuster schemaNameAdjuster = SchemaNameAdjuster.create();
+        final MySqlValueConverters valueConverters = new MySqlValueConverters(
+                DecimalMode.PRECISE,
+                TemporalPrecisionMode.ADAPTIVE_TIME_MICROSECONDS,
+                BigIntUnsignedMode.LONG,
+                CommonConnectorConfig.BinaryHandlingMode.BYTES,
+                MySqlValueConverters::adjustTemporal,
+                MySqlValueConverters::defaultParsingErrorHandler);
+
+        schema = new MySqlDatabaseSchema(connectorConfig, valueConverters, topicNamingStrategy, schemaNameAdjuster, false);
+        schema.refresh(createTable());
+
+        queue = new ChangeEventQueue.Builder<DataChangeEvent>()
+                .pollInterval(Duration.ofMillis(10))
+                .maxBatchSize(BATCH_SIZE)
+                .maxQueueSize(BATCH_SIZE * 2)
+                .loggingContextSupplier(() -> LoggingContext.forConnector("a", "b", "c"))
+                .build();
+        dispatcher = new EventDispatcher<>(
+                connectorConfig,
+                topicNamingStrategy,
+                schema,
+                queue,
+                connectorConfig.getTableFilters().dataCollectionFilter(),
+                DataChangeEvent::new,
+                new NoOpEventMetadataProvider(),
+                schemaNameAdjuster);
+
+        partition = new MySqlPartition("perf", "inventory");
+        offsetContext = MySqlOffsetContext.initial(connectorConfig);
+
+        switch (change) {
+            case INSERT:
+                operation = Envelope.Operation.CREATE;
+                after = createRow(1);
+                break;
+            case UPDATE:
+                operation = Envelope.Operation.UPDATE;
+                before = createRow(1);
+                after = createRow(2);
+                after[0] = before[0];
+                break;
+            default:
+                operation = Envelope.Operation.DELETE;
+                before = createRow(1);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() {
+        dispatcher.close();
+        schema.close();
+    }
+
+    @Benchmark
+    public void dispatchDataChangeEvent(Blackhole blackhole) throws InterruptedException {
+        dispatcher.dispatchDataChangeEvent(partition, TABLE_ID,
+                new MySqlChangeRecordEmitter(partition, offsetContext, Clock.SYSTEM, operation, before, after));
+
+        // drain the queue on this thread, so that only the construction of the records is measured
+        if (queue.remainingCapacity() <= BATCH_SIZE) {
+            blackhole.consume(queue.poll());
+        }
+    }
+
+    private Table createTable() {
+        final TableEditor editor = Table.editor().tableId(TABLE_ID);
+        for (int i = 0; i < columns; i++) {
+            editor.addColumn(createColumn(i));
+        }
+        return editor.setPrimaryKeyNames("c0").create();
+    }
+
+    private Column createColumn(int index) {
+        final ColumnType type = index == 0 ? ColumnType.INT : columnType(index);
+        return type.apply(Column.editor().name("c" + index).position(index + 1).optional(index > 0)).create();
+    }
+
+    private ColumnType columnType(int index) {
+        switch (typeMix) {
+            case NUMERIC:
+                return ColumnType.NUMERIC[index % ColumnType.NUMERIC.length];
+            case TEXT:
+                return ColumnType.TEXT[index % ColumnType.TEXT.length];
+            default:
+                return ColumnType.values()[index % ColumnType.values().length];
+        }
+    }
+
+    private Serializable[] createRow(int seed) {
+        final Table table = schema.tableFor(TABLE_ID);
+        final Serializable[] row = new Serializable[columns];
+        for (int i = 0; i < columns; i++) {
+            row[i] = ColumnType.valueFor(table.columns().get(i), seed + i);
+        }
+        return row;
+    }
+
+    /**
+     * The column types of the synthetic tables, along with values of the type delivered by the binlog client.
+     */
+    private enum ColumnType {
+        INT("INT", Types.INTEGER, 11, 0),
+        BIGINT("BIGINT", Types.BIGINT, 20, 0),
+        DOUBLE("DOUBLE", Types.DOUBLE, 22, 0),
+        DECIMAL("DECIMAL", Types.DECIMAL, 10, 2),
+        VARCHAR("VARCHAR", Types.VARCHAR, 255, 0),
+        LONG_TEXT("TEXT", Types.LONGVARCHAR, 65535, 0),
+        DATETIME("DATETIME", Types.TIMESTAMP, 6, 0);
+
+        private static final ColumnType[] NUMERIC = { INT, BIGINT, DOUBLE, DECIMAL };
+        private static final ColumnType[] TEXT = { VARCHAR, LONG_TEXT };
+
+        private final String typeName;
+        private final int jdbcType;
+        private final int length;
+        private final int scale;
+
+        ColumnType(String typeName, int jdbcType, int length, int scale) {
+            this.typeName = typeName;
+            this.jdbcType = jdbcType;
+            this.length = length;
+            this.scale = scale;
+        }
+
+        ColumnEditor apply(ColumnEditor editor) {
+            editor.type(typeName).jdbcType(jdbcType).length(length);
+            if (scale > 0) {
+                editor.scale(scale);
+            }
+            if (jdbcType == Types.VARCHAR || jdbcType == Types.LONGVARCHAR) {
+                editor.charsetName("utf8mb4");
+            }
+            return editor;
+        }
+
+        static Serializable valueFor(Column column, int seed) {
+            switch (column.jdbcType()) {
+                case Types.INTEGER:
+                    return seed;
+                case Types.BIGINT:
+                    return seed * 1_000_000_007L;
+                case Types.DOUBLE:
+                    return seed / 3.0;
+                case Types.DECIMAL:
+                    return BigDecimal.valueOf(seed * 100L + 99, 2);
+                case Types.TIMESTAMP:
+                    return LocalDateTime.of(2022, 10, 1, 12, 0).plusSeconds(seed);
+                default:
+                    return ("Change Data Capture via Debezium " + seed).getBytes(StandardCharsets.UTF_8);
+            }
+        }
+    }
+
+    /**
+     * Transaction metadata is not enabled, so the event metadata is never requested.
+     */
+    private static class NoOpEventMetadataProvider implements EventMetadataProvider {
+
+        @Override
+        public Instant getEventTimestamp(DataCollectionId source, OffsetContext offset, Object key, Struct value) {
+            return null;
+        }
+
+        @Override
+        public Map<String, String> getEventSourcePosition(DataCollectionId source, OffsetContext offset, Object key, Struct value) {
+            return Collections.emptyMap();
+        }
+
+        @Override
+        public String getTransactionId(DataCollectionId source, OffsetContext offset, Object key, Struct value) {
+            return null;
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(EventDispatcherPerf.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
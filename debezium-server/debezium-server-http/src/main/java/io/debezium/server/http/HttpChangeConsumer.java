@@ -9,14 +9,20 @@
 import static java.net.HttpURLConnection.HTTP_NO_CONTENT;
 import static java.net.HttpURLConnection.HTTP_OK;
 
-import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import javax.annotation.PostConstruct;
 import javax.enterprise.context.Dependent;
@@ -31,11 +37,13 @@
 import io.debezium.engine.ChangeEvent;
 import io.debezium.engine.DebeziumEngine;
 import io.debezium.server.BaseChangeConsumer;
-import io.debezium.util.Clock;
-import io.debezium.util.Metronome;
 
 /**
  * Implementation of the consumer that delivers the messages to an HTTP Webhook destination.
+ * <p>
+ * Requests are sent asynchronously, with up to {@code max.in.flight.requests} requests awaiting their response at a
+ * time. Each request carries up to {@code batch.size} events, packed into a JSON array or newline-delimited JSON if more
+ * than one per request. Regardless of the order in which responses arrive, events are marked as processed in their original order.
  *
  * @author Chris Baumbauer
  */
@@ -49,14 +57,24 @@ public class HttpChangeConsumer extends BaseChangeConsumer implements DebeziumEn
     private static final String PROP_CLIENT_TIMEOUT = "timeout.ms";
     private static final String PROP_RETRIES = "retries";
     private static final String PROP_RETRY_INTERVAL = "retry.interval.ms";
+    private static final String PROP_MAX_IN_FLIGHT_REQUESTS = "max.in.flight.requests";
+    private static final String PROP_BATCH_SIZE = "batch.size";
+    private static final String PROP_BATCH_FORMAT = "batch.format";
 
     private static final Long HTTP_TIMEOUT = Integer.toUnsignedLong(60000); // Default to 60s
     private static final int DEFAULT_RETRIES = 5;
     private static final Long RETRY_INTERVAL = Integer.toUnsignedLong(1_000); // Default to 1s
+    private static final int DEFAULT_MAX_IN_FLIGHT_REQUESTS = 1;
+    private static final int DEFAULT_BATCH_SIZE = 1;
+    private static final String BATCH_FORMAT_JSON = "json";
+    private static final String BATCH_FORMAT_NDJSON = "ndjson";
 
     private static Duration timeoutDuration;
     private static int retries;
     private static Duration retryInterval;
+    private static int maxInFlightRequests;
+    private static int batchSize;
+    private static boolean ndjson;
 
     private HttpClient client;
     private HttpRequest.Builder requestBuilder;
@@ -65,15 +83,21 @@ public class HttpChangeConsumer extends BaseChangeConsumer implements DebeziumEn
     // as per https://knative.dev/development/eventing/custom-event-source/sinkbinding/
     @PostConstruct
     void connect() throws URISyntaxException {
+        connect(ConfigProvider.getConfig());
+    }
+
+    void connect(Config config) throws URISyntaxException {
         String sinkUrl;
         String contentType;
+        String format;
 
         client = HttpClient.newHttpClient();
-        final Config config = ConfigProvider.getConfig();
         String sink = System.getenv("K_SINK");
         timeoutDuration = Duration.ofMillis(HTTP_TIMEOUT);
         retries = DEFAULT_RETRIES;
         retryInterval = Duration.ofMillis(RETRY_INTERVAL);
+        maxInFlightRequests = DEFAULT_MAX_IN_FLIGHT_REQUESTS;
+        batchSize = DEFAULT_BATCH_SIZE;
 
         if (sink != null) {
             sinkUrl = sink;
@@ -91,7 +115,26 @@ void connect() throws URISyntaxException {
         config.getOptionalValue(PROP_PREFIX + PROP_RETRY_INTERVAL, String.class)
                 .ifPresent(t -> retryInterval = Duration.ofMillis(Long.parseLong(t)));
 
-        switch (config.getValue("debezium.format.value", String.class)) {
+        config.getOptionalValue(PROP_PREFIX + PROP_MAX_IN_FLIGHT_REQUESTS, String.class)
+                .ifPresent(n -> maxInFlightRequests = Integer.parseInt(n));
+
+        config.getOptionalValue(PROP_PREFIX + PROP_BATCH_SIZE, String.class)
+                .ifPresent(n -> batchSize = Integer.parseInt(n));
+
+        if (maxInFlightRequests < 1 || batchSize < 1) {
+            throw new DebeziumException("Both '" + PROP_PREFIX + PROP_MAX_IN_FLIGHT_REQUESTS + "' and '" + PROP_PREFIX + PROP_BATCH_SIZE
+                    + "' must be positive");
+        }
+
+        final String batchFormat = config.getOptionalValue(PROP_PREFIX + PROP_BATCH_FORMAT, String.class).orElse(BATCH_FORMAT_JSON);
+        if (!BATCH_FORMAT_JSON.equals(batchFormat) && !BATCH_FORMAT_NDJSON.equals(batchFormat)) {
+            throw new DebeziumException("Unsupported batch format '" + batchFormat + "', must be one of '" + BATCH_FORMAT_JSON + "' or '"
+                    + BATCH_FORMAT_NDJSON + "'");
+        }
+        ndjson = BATCH_FORMAT_NDJSON.equals(batchFormat);
+
+        format = config.getValue("debezium.format.value", String.class);
+        switch (format) {
             case "avro":
                 contentType = "avro/bytes";
                 break;
@@ -103,8 +146,22 @@ void connect() throws URISyntaxException {
                 contentType = "application/json";
         }
 
+        if (batchSize > 1) {
+            if ("avro".equals(format)) {
+                throw new DebeziumException("Sending multiple events per request is not supported for the Avro format");
+            }
+            if (ndjson) {
+                contentType = "application/x-ndjson";
+            }
+            else if ("cloudevents".equals(format)) {
+                // batched content mode as per the CloudEvents HTTP protocol binding
+                contentType = "application/cloudevents-batch+json";
+            }
+        }
+
         LOGGER.info("Using http content-type type {}", contentType);
         LOGGER.info("Using sink URL: {}", sinkUrl);
+        LOGGER.info("Sending up to {} events per request with up to {} requests in flight", batchSize, maxInFlightRequests);
         requestBuilder = HttpRequest.newBuilder(new URI(sinkUrl)).timeout(timeoutDuration);
         requestBuilder.setHeader("content-type", contentType);
     }
@@ -112,46 +169,113 @@ void connect() throws URISyntaxException {
     @Override
     public void handleBatch(List<ChangeEvent<Object, Object>> records, DebeziumEngine.RecordCommitter<ChangeEvent<Object, Object>> committer)
             throws InterruptedException {
+        final Deque<InFlightRequest> inFlightRequests = new ArrayDeque<>(maxInFlightRequests);
+        List<ChangeEvent<Object, Object>> events = new ArrayList<>(batchSize);
+
         for (ChangeEvent<Object, Object> record : records) {
             LOGGER.trace("Received event '{}'", record);
 
             if (record.value() != null) {
-                int attempts = 0;
-                while (!recordSent(record)) {
-                    attempts++;
-                    if (attempts >= retries) {
-                        throw new DebeziumException("Exceeded maximum number of attempts to publish event " + record);
-                    }
-                    Metronome.sleeper(retryInterval, Clock.SYSTEM).pause();
+                events.add(record);
+                if (events.size() == batchSize) {
+                    send(events, inFlightRequests, committer);
+                    events = new ArrayList<>(batchSize);
                 }
-                committer.markProcessed(record);
             }
         }
+        if (!events.isEmpty()) {
+            send(events, inFlightRequests, committer);
+        }
+
+        while (!inFlightRequests.isEmpty()) {
+            awaitOldestRequest(inFlightRequests, committer);
+        }
 
         committer.markBatchFinished();
     }
 
-    private boolean recordSent(ChangeEvent<Object, Object> record) throws InterruptedException {
-        boolean sent = false;
-        String value = (String) record.value();
-        HttpResponse r;
+    private void send(List<ChangeEvent<Object, Object>> events, Deque<InFlightRequest> inFlightRequests,
+                      DebeziumEngine.RecordCommitter<ChangeEvent<Object, Object>> committer)
+            throws InterruptedException {
+        while (inFlightRequests.size() >= maxInFlightRequests) {
+            awaitOldestRequest(inFlightRequests, committer);
+        }
 
-        HttpRequest request = requestBuilder.POST(HttpRequest.BodyPublishers.ofString(value)).build();
+        final HttpRequest request = requestBuilder.copy().POST(HttpRequest.BodyPublishers.ofString(requestBody(events))).build();
+        inFlightRequests.add(new InFlightRequest(events, sendWithRetries(request, events, 1)));
+    }
 
+    /**
+     * Waits for the oldest request in flight to complete and marks its events as processed, so that events are always
+     * committed in their original order.
+     */
+    private void awaitOldestRequest(Deque<InFlightRequest> inFlightRequests, DebeziumEngine.RecordCommitter<ChangeEvent<Object, Object>> committer)
+            throws InterruptedException {
+        final InFlightRequest inFlightRequest = inFlightRequests.poll();
         try {
-            r = client.send(request, HttpResponse.BodyHandlers.ofString());
+            inFlightRequest.response.get();
         }
-        catch (IOException ioe) {
-            throw new InterruptedException(ioe.toString());
+        catch (ExecutionException e) {
+            inFlightRequests.forEach(r -> r.response.cancel(true));
+            if (e.getCause() instanceof DebeziumException) {
+                throw (DebeziumException) e.getCause();
+            }
+            throw new InterruptedException(e.getCause().toString());
+        }
+        catch (InterruptedException e) {
+            inFlightRequests.forEach(r -> r.response.cancel(true));
+            throw e;
         }
 
-        if ((r.statusCode() == HTTP_OK) || (r.statusCode() == HTTP_NO_CONTENT) || (r.statusCode() == HTTP_ACCEPTED)) {
-            sent = true;
+        for (ChangeEvent<Object, Object> event : inFlightRequest.events) {
+            committer.markProcessed(event);
         }
-        else {
-            LOGGER.info("Failed to publish event: " + r.body());
+    }
+
+    private CompletableFuture<Void> sendWithRetries(HttpRequest request, List<ChangeEvent<Object, Object>> events, int attempt) {
+        return client.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                .thenCompose(r -> {
+                    if ((r.statusCode() == HTTP_OK) || (r.statusCode() == HTTP_NO_CONTENT) || (r.statusCode() == HTTP_ACCEPTED)) {
+                        return CompletableFuture.completedFuture(null);
+                    }
+                    LOGGER.info("Failed to publish event: " + r.body());
+                    if (attempt >= retries) {
+                        throw new CompletionException(new DebeziumException("Exceeded maximum number of attempts to publish event "
+                                + (events.size() == 1 ? events.get(0) : events)));
+                    }
+                    return CompletableFuture.supplyAsync(() -> request,
+                            CompletableFuture.delayedExecutor(retryInterval.toMillis(), TimeUnit.MILLISECONDS))
+                            .thenCompose(retry -> sendWithRetries(retry, events, attempt + 1));
+                });
+    }
+
+    private String requestBody(List<ChangeEvent<Object, Object>> events) {
+        if (batchSize == 1) {
+            return (String) events.get(0).value();
         }
 
-        return sent;
+        final StringBuilder body = new StringBuilder();
+        if (!ndjson) {
+            body.append('[');
+        }
+        for (int i = 0; i < events.size(); i++) {
+            if (i > 0) {
+                body.append(ndjson ? '\n' : ',');
+            }
+            body.append((String) events.get(i).value());
+        }
+        body.append(ndjson ? '\n' : ']');
+        return body.toString();
+    }
+
+    private static class InFlightRequest {
+
+        private final List<ChangeEvent<Object, Object>> events;
+        private final CompletableFuture<Void> response;
+
+        InFlightRequest(List<ChangeEvent<Object, Object>> events, CompletableFuture<Void> response) {
+            this.events = events;
+            this.response = response;
+        }
     }
 }
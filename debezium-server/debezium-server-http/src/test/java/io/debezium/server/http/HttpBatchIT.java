@@ -0,0 +1,95 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.server.http;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.configureFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.getAllServeEvents;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import javax.enterprise.event.Observes;
+
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import com.github.tomakehurst.wiremock.verification.LoggedRequest;
+
+import io.debezium.server.events.ConnectorCompletedEvent;
+import io.debezium.testing.testcontainers.PostgresTestResourceLifecycleManager;
+import io.debezium.util.Testing;
+import io.quarkus.test.common.QuarkusTestResource;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+
+/**
+ * Integration test that verifies that events streamed from PostgreSQL are sent to an HTTP Server in batches
+ */
+@QuarkusTest
+@QuarkusTestResource(PostgresTestResourceLifecycleManager.class)
+@QuarkusTestResource(HttpTestResourceLifecycleManager.class)
+@TestProfile(HttpBatchTestProfile.class)
+public class HttpBatchIT {
+
+    private static final int MESSAGE_COUNT = 4;
+
+    {
+        Testing.Files.delete(HttpBatchTestProfile.OFFSET_STORE_PATH);
+        Testing.Files.createTestingFile(HttpBatchTestProfile.OFFSET_STORE_PATH);
+    }
+
+    void connectorCompleted(@Observes ConnectorCompletedEvent event) throws Exception {
+        if (!event.isSuccess()) {
+            throw (Exception) event.getError().get();
+        }
+    }
+
+    @Test
+    public void testHttpServerBatches() {
+        Testing.Print.enable();
+
+        configureFor(HttpTestResourceLifecycleManager.getHost(), HttpTestResourceLifecycleManager.getPort());
+        stubFor(post("/").willReturn(aResponse().withStatus(200)));
+
+        final List<LoggedRequest> requests = new ArrayList<>();
+        final List<Map<String, Object>> events = new ArrayList<>();
+        Awaitility.await().atMost(Duration.ofSeconds(60)).until(() -> {
+            // requests sent before the endpoint was stubbed have been rejected and are retried
+            requests.clear();
+            requests.addAll(getAllServeEvents().stream()
+                    .filter(e -> e.getResponse().getStatus() == 200)
+                    .map(ServeEvent::getRequest)
+                    .collect(Collectors.toList()));
+            events.clear();
+            for (LoggedRequest request : requests) {
+                final List<Map<String, Object>> batch = new ObjectMapper().readValue(request.getBody(), new TypeReference<>() {
+                });
+                Assertions.assertTrue(batch.size() <= HttpBatchTestProfile.BATCH_SIZE);
+                events.addAll(batch);
+            }
+            return events.size() == MESSAGE_COUNT;
+        });
+
+        for (LoggedRequest request : requests) {
+            Assertions.assertEquals("application/cloudevents-batch+json", request.getHeader("content-type"));
+        }
+        Assertions.assertTrue(requests.size() >= MESSAGE_COUNT / HttpBatchTestProfile.BATCH_SIZE);
+        for (Map<String, Object> event : events) {
+            Assertions.assertEquals("io.debezium.postgresql.datachangeevent", event.get("type"));
+            Assertions.assertEquals("customers", event.get("iodebeziumtable"));
+        }
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.server.http;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.kafka.connect.runtime.standalone.StandaloneConfig;
+
+import io.debezium.util.Testing;
+import io.quarkus.test.junit.QuarkusTestProfile;
+
+public class HttpBatchTestProfile implements QuarkusTestProfile {
+
+    public static final int BATCH_SIZE = 2;
+    public static final Path OFFSET_STORE_PATH = Testing.Files.createTestingPath("file-connector-batch-offsets.txt").toAbsolutePath();
+
+    @Override
+    public Map<String, String> getConfigOverrides() {
+        Map<String, String> config = new HashMap<>();
+        config.put("debezium.source." + StandaloneConfig.OFFSET_STORAGE_FILE_FILENAME_CONFIG, OFFSET_STORE_PATH.toString());
+        config.put("debezium.sink.http.batch.size", String.valueOf(BATCH_SIZE));
+        config.put("debezium.sink.http.max.in.flight.requests", "2");
+        // keep retrying until the test has stubbed the endpoint
+        config.put("debezium.sink.http.retries", "60");
+        return config;
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.server.http;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import io.debezium.DebeziumException;
+import io.debezium.engine.ChangeEvent;
+import io.debezium.engine.DebeziumEngine;
+import io.smallrye.config.PropertiesConfigSource;
+import io.smallrye.config.SmallRyeConfigBuilder;
+
+/**
+ * Tests of the batched and asynchronous sending of {@link HttpChangeConsumer} against an in-process HTTP server.
+ */
+public class HttpChangeConsumerTest {
+
+    private HttpServer server;
+    private ExecutorService executor;
+    private final List<String> requestBodies = Collections.synchronizedList(new ArrayList<>());
+    private final List<String> contentTypes = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicInteger activeRequests = new AtomicInteger();
+    private final AtomicInteger maxActiveRequests = new AtomicInteger();
+    private volatile Predicate<String> failingBody = body -> false;
+    private volatile long responseDelayMs = 0;
+
+    @BeforeEach
+    public void startServer() throws IOException {
+        executor = Executors.newCachedThreadPool();
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", this::handle);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    @AfterEach
+    public void stopServer() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void shouldSendEventsInBatches() throws Exception {
+        final HttpChangeConsumer consumer = consumer(Map.of("debezium.sink.http.batch.size", "2"));
+        final List<ChangeEvent<Object, Object>> events = events(5);
+        final TestCommitter committer = new TestCommitter();
+
+        consumer.handleBatch(events, committer);
+
+        Assertions.assertEquals(List.of("[{\"id\":1},{\"id\":2}]", "[{\"id\":3},{\"id\":4}]", "[{\"id\":5}]"), requestBodies);
+        Assertions.assertEquals(List.of("application/json", "application/json", "application/json"), contentTypes);
+        Assertions.assertEquals(events, committer.processed);
+        Assertions.assertTrue(committer.batchFinished);
+    }
+
+    @Test
+    public void shouldSendNewlineDelimitedBatches() throws Exception {
+        final HttpChangeConsumer consumer = consumer(Map.of(
+                "debezium.sink.http.batch.size", "3",
+                "debezium.sink.http.batch.format", "ndjson"));
+        final List<ChangeEvent<Object, Object>> events = events(3);
+        final TestCommitter committer = new TestCommitter();
+
+        consumer.handleBatch(events, committer);
+
+        Assertions.assertEquals(List.of("{\"id\":1}\n{\"id\":2}\n{\"id\":3}\n"), requestBodies);
+        Assertions.assertEquals(List.of("application/x-ndjson"), contentTypes);
+        Assertions.assertEquals(events, committer.processed);
+        Assertions.assertTrue(committer.batchFinished);
+    }
+
+    @Test
+    public void shouldLimitRequestsInFlight() throws Exception {
+        responseDelayMs = 200;
+        final HttpChangeConsumer consumer = consumer(Map.of("debezium.sink.http.max.in.flight.requests", "2"));
+        final List<ChangeEvent<Object, Object>> events = events(6);
+        final TestCommitter committer = new TestCommitter();
+
+        consumer.handleBatch(events, committer);
+
+        Assertions.assertEquals(6, requestBodies.size());
+        Assertions.assertEquals(2, maxActiveRequests.get());
+        Assertions.assertEquals(events, committer.processed);
+        Assertions.assertTrue(committer.batchFinished);
+    }
+
+    @Test
+    public void shouldFailAfterExceedingRetries() throws Exception {
+        failingBody = body -> true;
+        final HttpChangeConsumer consumer = consumer(Map.of(
+                "debezium.sink.http.batch.size", "2",
+                "debezium.sink.http.retries", "3"));
+        final TestCommitter committer = new TestCommitter();
+
+        final DebeziumException e = Assertions.assertThrows(DebeziumException.class, () -> consumer.handleBatch(events(2), committer));
+
+        Assertions.assertTrue(e.getMessage().startsWith("Exceeded maximum number of attempts to publish event"));
+        Assertions.assertEquals(3, requestBodies.size());
+        Assertions.assertTrue(committer.processed.isEmpty());
+        Assertions.assertFalse(committer.batchFinished);
+    }
+
+    @Test
+    public void shouldNotCommitEventsFollowingFailedRequest() throws Exception {
+        failingBody = body -> body.contains("\"id\":2");
+        final HttpChangeConsumer consumer = consumer(Map.of(
+                "debezium.sink.http.max.in.flight.requests", "3",
+                "debezium.sink.http.retries", "2"));
+        final List<ChangeEvent<Object, Object>> events = events(4);
+        final TestCommitter committer = new TestCommitter();
+
+        Assertions.assertThrows(DebeziumException.class, () -> consumer.handleBatch(events, committer));
+
+        // the third event may well have been delivered in the meantime, but must not be committed ahead of the second one
+        Assertions.assertEquals(List.of(events.get(0)), committer.processed);
+        Assertions.assertFalse(committer.batchFinished);
+    }
+
+    private HttpChangeConsumer consumer(Map<String, String> properties) throws Exception {
+        final Map<String, String> config = new HashMap<>();
+        config.put("debezium.sink.http.url", "http://localhost:" + server.getAddress().getPort());
+        config.put("debezium.sink.http.retry.interval.ms", "10");
+        config.put("debezium.format.value", "json");
+        config.putAll(properties);
+
+        final HttpChangeConsumer consumer = new HttpChangeConsumer();
+        consumer.connect(new SmallRyeConfigBuilder()
+                .withSources(new PropertiesConfigSource(config, "test", 1000))
+                .build());
+        return consumer;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        final int active = activeRequests.incrementAndGet();
+        maxActiveRequests.accumulateAndGet(active, Math::max);
+        try (InputStream in = exchange.getRequestBody()) {
+            final String body = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            requestBodies.add(body);
+            contentTypes.add(exchange.getRequestHeaders().getFirst("content-type"));
+            if (responseDelayMs > 0) {
+                Thread.sleep(responseDelayMs);
+            }
+            activeRequests.decrementAndGet();
+            exchange.sendResponseHeaders(failingBody.test(body) ? 500 : 200, -1);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        finally {
+            exchange.close();
+        }
+    }
+
+    private static List<ChangeEvent<Object, Object>> events(int count) {
+        final List<ChangeEvent<Object, Object>> events = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            events.add(new TestChangeEvent("{\"id\":" + i + "}"));
+        }
+        return events;
+    }
+
+    private static class TestChangeEvent implements ChangeEvent<Object, Object> {
+
+        private final String value;
+
+        TestChangeEvent(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public Object key() {
+            return null;
+        }
+
+        @Override
+        public Object value() {
+            return value;
+        }
+
+        @Override
+        public String destination() {
+            return "test";
+        }
+
+        @Override
+        public String toString() {
+            return "TestChangeEvent [value=" + value + "]";
+        }
+    }
+
+    private static class TestCommitter implements DebeziumEngine.RecordCommitter<ChangeEvent<Object, Object>> {
+
+        private final List<ChangeEvent<Object, Object>> processed = new ArrayList<>();
+        private boolean batchFinished;
+
+        @Override
+        public void markProcessed(ChangeEvent<Object, Object> record) {
+            processed.add(record);
+        }
+
+        @Override
+        public void markBatchFinished() {
+            batchFinished = true;
+        }
+
+        @Override
+        public void markProcessed(ChangeEvent<Object, Object> record, DebeziumEngine.Offsets sourceOffsets) {
+            processed.add(record);
+        }
+
+        @Override
+        public DebeziumEngine.Offsets buildOffsets() {
+            return null;
+        }
+    }
+}